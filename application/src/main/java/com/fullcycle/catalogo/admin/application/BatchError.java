@@ -0,0 +1,24 @@
+package com.fullcycle.catalogo.admin.application;
+
+import com.fullcycle.catalogo.admin.domain.validation.Error;
+import com.fullcycle.catalogo.admin.domain.validation.ValidationHandler;
+
+import java.util.List;
+
+/**
+ * Erros de uma gravação em lote: com index são os erros de validação do item naquela posição,
+ * sem index é uma falha do lote inteiro, que não foi gravado.
+ */
+public record BatchError(Integer index, List<Error> errors) {
+    public static BatchError item(final int anIndex, final ValidationHandler aHandler) {
+        return new BatchError(anIndex, List.copyOf(aHandler.getErrors()));
+    }
+
+    public static BatchError batch(final Error anError) {
+        return new BatchError(null, List.of(anError));
+    }
+
+    public static BatchError batch(final Throwable anError) {
+        return batch(new Error(anError.getMessage()));
+    }
+}
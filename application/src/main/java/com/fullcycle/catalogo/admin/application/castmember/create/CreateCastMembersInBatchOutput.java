@@ -0,0 +1,11 @@
+package com.fullcycle.catalogo.admin.application.castmember.create;
+
+import com.fullcycle.catalogo.admin.domain.castmember.CastMember;
+
+import java.util.List;
+
+public record CreateCastMembersInBatchOutput(List<CreateCastMemberOutput> items) {
+    public static CreateCastMembersInBatchOutput from(final List<CastMember> aMembers) {
+        return new CreateCastMembersInBatchOutput(aMembers.stream().map(CreateCastMemberOutput::from).toList());
+    }
+}
@@ -0,0 +1,12 @@
+package com.fullcycle.catalogo.admin.application.castmember.create;
+
+import com.fullcycle.catalogo.admin.application.BatchError;
+import com.fullcycle.catalogo.admin.application.UseCase;
+import io.vavr.control.Either;
+
+import java.util.List;
+
+public sealed abstract class CreateCastMembersInBatchUseCase
+    extends UseCase<List<CreateCastMemberCommand>, Either<List<BatchError>, CreateCastMembersInBatchOutput>>
+    permits DefaultCreateCastMembersInBatchUseCase {
+}
@@ -0,0 +1,59 @@
+package com.fullcycle.catalogo.admin.application.castmember.create;
+
+import com.fullcycle.catalogo.admin.application.BatchError;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMember;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberGateway;
+import com.fullcycle.catalogo.admin.domain.validation.Error;
+import com.fullcycle.catalogo.admin.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static io.vavr.API.*;
+
+/**
+ * Valida todos os membros do elenco antes de gravar qualquer um: com algum item inválido nada é gravado
+ * e os erros são devolvidos por posição, senão o lote é gravado de uma vez só.
+ */
+public non-sealed class DefaultCreateCastMembersInBatchUseCase extends CreateCastMembersInBatchUseCase {
+    public static final int MAX_ITEMS = 1000;
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultCreateCastMembersInBatchUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public Either<List<BatchError>, CreateCastMembersInBatchOutput> execute(final List<CreateCastMemberCommand> aCommands) {
+        if (aCommands == null || aCommands.isEmpty() || aCommands.size() > MAX_ITEMS) {
+            return Left(List.of(BatchError.batch(new Error("'items' must have between 1 and %d items".formatted(MAX_ITEMS)))));
+        }
+
+        final var members = new ArrayList<CastMember>(aCommands.size());
+        final var errors = new ArrayList<BatchError>();
+
+        for (int index = 0; index < aCommands.size(); index++) {
+            final var aCommand = aCommands.get(index);
+            final var notification = Notification.create();
+            final var aMember =
+                notification.validate(() -> CastMember.newMember(aCommand.name(), aCommand.type()));
+
+            if (notification.hasErrors()) {
+                errors.add(BatchError.item(index, notification));
+            } else {
+                members.add(aMember);
+            }
+        }
+
+        return errors.isEmpty() ? create(members) : Left(errors);
+    }
+
+    private Either<List<BatchError>, CreateCastMembersInBatchOutput> create(final List<CastMember> aMembers) {
+        return Try(() -> castMemberGateway.createAll(aMembers))
+            .toEither()
+            .bimap(t -> List.of(BatchError.batch(t)), CreateCastMembersInBatchOutput::from);
+    }
+}
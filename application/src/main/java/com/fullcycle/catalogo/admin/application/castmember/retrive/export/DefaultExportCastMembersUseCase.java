@@ -0,0 +1,20 @@
+package com.fullcycle.catalogo.admin.application.castmember.retrive.export;
+
+import com.fullcycle.catalogo.admin.application.castmember.retrive.get.CastMemberOutput;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public non-sealed class DefaultExportCastMembersUseCase extends ExportCastMembersUseCase {
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultExportCastMembersUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<CastMemberOutput> aConsumer) {
+        castMemberGateway.exportAll(it -> aConsumer.accept(CastMemberOutput.from(it)));
+    }
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.catalogo.admin.application.castmember.retrive.export;
+
+import com.fullcycle.catalogo.admin.application.UnitUseCase;
+import com.fullcycle.catalogo.admin.application.castmember.retrive.get.CastMemberOutput;
+
+import java.util.function.Consumer;
+
+public sealed abstract class ExportCastMembersUseCase
+    extends UnitUseCase<Consumer<CastMemberOutput>>
+    permits DefaultExportCastMembersUseCase {
+}
@@ -0,0 +1,81 @@
+package com.fullcycle.catalogo.admin.application.castmember.update;
+
+import com.fullcycle.catalogo.admin.application.BatchError;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMember;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberGateway;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberID;
+import com.fullcycle.catalogo.admin.domain.validation.Error;
+import com.fullcycle.catalogo.admin.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static io.vavr.API.*;
+
+/**
+ * Busca todos os membros do elenco do lote em uma consulta e valida todos antes de gravar qualquer um:
+ * com algum item inválido ou inexistente nada é gravado e os erros são devolvidos por posição,
+ * senão o lote é gravado de uma vez só.
+ */
+public non-sealed class DefaultUpdateCastMembersInBatchUseCase extends UpdateCastMembersInBatchUseCase {
+    public static final int MAX_ITEMS = 1000;
+
+    private final CastMemberGateway castMemberGateway;
+
+    public DefaultUpdateCastMembersInBatchUseCase(final CastMemberGateway castMemberGateway) {
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+    }
+
+    @Override
+    public Either<List<BatchError>, UpdateCastMembersInBatchOutput> execute(final List<UpdateCastMemberCommand> aCommands) {
+        if (aCommands == null || aCommands.isEmpty() || aCommands.size() > MAX_ITEMS) {
+            return Left(List.of(BatchError.batch(new Error("'items' must have between 1 and %d items".formatted(MAX_ITEMS)))));
+        }
+
+        final var ids = aCommands.stream()
+            .map(aCommand -> Objects.nonNull(aCommand.id()) ? CastMemberID.from(aCommand.id()) : null)
+            .toList();
+        final var existing = castMemberGateway.findAllById(ids.stream().filter(Objects::nonNull).toList()).stream()
+            .collect(Collectors.toMap(CastMember::getId, Function.identity()));
+
+        final var members = new ArrayList<CastMember>(aCommands.size());
+        final var errors = new ArrayList<BatchError>();
+
+        for (int index = 0; index < aCommands.size(); index++) {
+            final var aCommand = aCommands.get(index);
+            final var anId = ids.get(index);
+            final var aMember = Objects.nonNull(anId) ? existing.get(anId) : null;
+            final var notification = Notification.create();
+
+            if (anId == null) {
+                notification.append(new Error("'id' should not be null"));
+            } else if (aMember == null) {
+                notification.append(notFound(anId));
+            } else {
+                notification.validate(() -> aMember.update(aCommand.name(), aCommand.type()));
+            }
+
+            if (notification.hasErrors()) {
+                errors.add(BatchError.item(index, notification));
+            } else {
+                members.add(aMember);
+            }
+        }
+
+        return errors.isEmpty() ? update(members) : Left(errors);
+    }
+
+    private Either<List<BatchError>, UpdateCastMembersInBatchOutput> update(final List<CastMember> aMembers) {
+        return Try(() -> castMemberGateway.updateAll(aMembers))
+            .toEither()
+            .bimap(t -> List.of(BatchError.batch(t)), UpdateCastMembersInBatchOutput::from);
+    }
+
+    private static Error notFound(final CastMemberID anId) {
+        return new Error("%s with ID %s was not found".formatted(CastMember.class.getSimpleName(), anId.getValue()));
+    }
+}
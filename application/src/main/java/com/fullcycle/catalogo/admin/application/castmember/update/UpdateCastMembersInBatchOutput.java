@@ -0,0 +1,11 @@
+package com.fullcycle.catalogo.admin.application.castmember.update;
+
+import com.fullcycle.catalogo.admin.domain.castmember.CastMember;
+
+import java.util.List;
+
+public record UpdateCastMembersInBatchOutput(List<UpdateCastMemberOutput> items) {
+    public static UpdateCastMembersInBatchOutput from(final List<CastMember> aMembers) {
+        return new UpdateCastMembersInBatchOutput(aMembers.stream().map(UpdateCastMemberOutput::from).toList());
+    }
+}
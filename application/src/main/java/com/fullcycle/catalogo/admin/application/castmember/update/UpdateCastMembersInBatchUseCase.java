@@ -0,0 +1,12 @@
+package com.fullcycle.catalogo.admin.application.castmember.update;
+
+import com.fullcycle.catalogo.admin.application.BatchError;
+import com.fullcycle.catalogo.admin.application.UseCase;
+import io.vavr.control.Either;
+
+import java.util.List;
+
+public sealed abstract class UpdateCastMembersInBatchUseCase
+    extends UseCase<List<UpdateCastMemberCommand>, Either<List<BatchError>, UpdateCastMembersInBatchOutput>>
+    permits DefaultUpdateCastMembersInBatchUseCase {
+}
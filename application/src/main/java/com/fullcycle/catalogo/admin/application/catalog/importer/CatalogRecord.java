@@ -0,0 +1,61 @@
+package com.fullcycle.catalogo.admin.application.catalog.importer;
+
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberType;
+
+import java.util.Set;
+
+/**
+ * Uma linha do arquivo de importação do catálogo, com o número da linha usado no checkpoint.
+ * Os ids são os do arquivo, o que permite referenciar registros de linhas anteriores.
+ */
+public sealed interface CatalogRecord {
+    long line();
+
+    record CategoryRecord(
+        long line,
+        String id,
+        String name,
+        String description,
+        boolean isActive
+    ) implements CatalogRecord {
+    }
+
+    record GenreRecord(
+        long line,
+        String id,
+        String name,
+        boolean isActive,
+        Set<String> categories
+    ) implements CatalogRecord {
+    }
+
+    record CastMemberRecord(
+        long line,
+        String id,
+        String name,
+        CastMemberType type
+    ) implements CatalogRecord {
+    }
+
+    record VideoRecord(
+        long line,
+        String id,
+        String title,
+        String description,
+        Integer launchedAt,
+        double duration,
+        String rating,
+        boolean opened,
+        boolean published,
+        Set<String> categories,
+        Set<String> genres,
+        Set<String> members
+    ) implements CatalogRecord {
+    }
+
+    /**
+     * Linha que não pôde ser lida, rejeitada sem interromper a importação.
+     */
+    record MalformedRecord(long line, String message) implements CatalogRecord {
+    }
+}
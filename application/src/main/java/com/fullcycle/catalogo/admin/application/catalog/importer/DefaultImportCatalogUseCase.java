@@ -0,0 +1,455 @@
+package com.fullcycle.catalogo.admin.application.catalog.importer;
+
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.CastMemberRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.CategoryRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.GenreRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.MalformedRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.VideoRecord;
+import com.fullcycle.catalogo.admin.domain.AggregateRoot;
+import com.fullcycle.catalogo.admin.domain.Identifier;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMember;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberGateway;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberID;
+import com.fullcycle.catalogo.admin.domain.catalog.CatalogImport;
+import com.fullcycle.catalogo.admin.domain.catalog.CatalogImportGateway;
+import com.fullcycle.catalogo.admin.domain.catalog.CatalogImportID;
+import com.fullcycle.catalogo.admin.domain.category.Category;
+import com.fullcycle.catalogo.admin.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.admin.domain.category.CategoryID;
+import com.fullcycle.catalogo.admin.domain.exceptions.NotFoundException;
+import com.fullcycle.catalogo.admin.domain.genre.Genre;
+import com.fullcycle.catalogo.admin.domain.genre.GenreGateway;
+import com.fullcycle.catalogo.admin.domain.genre.GenreID;
+import com.fullcycle.catalogo.admin.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.admin.domain.validation.Error;
+import com.fullcycle.catalogo.admin.domain.validation.ValidationHandler;
+import com.fullcycle.catalogo.admin.domain.validation.handler.Notification;
+import com.fullcycle.catalogo.admin.domain.video.Video;
+import com.fullcycle.catalogo.admin.domain.video.VideoGateway;
+import com.fullcycle.catalogo.admin.domain.video.VideoID;
+import com.fullcycle.catalogo.admin.domain.video.rating.Rating;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static java.util.stream.Collectors.joining;
+
+/**
+ * Importa o catálogo em lotes de chunkSize linhas. Em cada lote as linhas consecutivas do mesmo tipo são
+ * validadas juntas: as referências são resolvidas com um existsByIds por agregado referenciado e os registros
+ * válidos são gravados com um createAll, antes do checkpoint do lote.
+ *
+ * Ao retomar uma importação as linhas até o checkpoint são descartadas, e os registros de um lote interrompido
+ * que já foram gravados são ignorados (skipped) pelo id. A importação fica reservada durante a execução
+ * (leaseTime, renovado a cada lote) e uma retomada enquanto outra execução está em andamento é recusada.
+ */
+public class DefaultImportCatalogUseCase extends ImportCatalogUseCase {
+    public static final int MAX_REPORTED_ERRORS = 100;
+    private static final int ID_MAX_LENGTH = 32;
+
+    private final CatalogImportGateway catalogImportGateway;
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final VideoGateway videoGateway;
+    private final int chunkSize;
+    private final Duration leaseTime;
+
+    public DefaultImportCatalogUseCase(
+        final CatalogImportGateway catalogImportGateway,
+        final CategoryGateway categoryGateway,
+        final GenreGateway genreGateway,
+        final CastMemberGateway castMemberGateway,
+        final VideoGateway videoGateway,
+        final int chunkSize,
+        final Duration leaseTime
+    ) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException("'chunkSize' should be greater than 0");
+        }
+
+        if (leaseTime.isNegative() || leaseTime.isZero()) {
+            throw new IllegalArgumentException("'leaseTime' should be greater than 0");
+        }
+
+        this.catalogImportGateway = Objects.requireNonNull(catalogImportGateway);
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.chunkSize = chunkSize;
+        this.leaseTime = leaseTime;
+    }
+
+    @Override
+    public ImportCatalogOutput execute(final ImportCatalogCommand aCommand) {
+        final var anImport = Objects.isNull(aCommand.importId())
+            ? catalogImportGateway.create(CatalogImport.newImport().claim(leaseDate()))
+            : claimImport(aCommand.importId());
+
+        final var errors = new ArrayList<ImportCatalogError>();
+        if (anImport.isCompleted()) {
+            return ImportCatalogOutput.from(anImport, errors);
+        }
+
+        try {
+            return ImportCatalogOutput.from(importAll(anImport, aCommand, errors), errors);
+        } catch (final RuntimeException e) {
+            catalogImportGateway.release(anImport.getId());
+            throw e;
+        }
+    }
+
+    private CatalogImport importAll(
+        final CatalogImport aClaimedImport,
+        final ImportCatalogCommand aCommand,
+        final List<ImportCatalogError> errors
+    ) {
+        var anImport = aClaimedImport;
+        final var records = aCommand.records();
+        final var chunk = new ArrayList<CatalogRecord>(chunkSize);
+
+        while (records.hasNext()) {
+            final var aRecord = records.next();
+            if (aRecord.line() <= anImport.getProcessedLines()) {
+                continue;
+            }
+
+            chunk.add(aRecord);
+            if (chunk.size() == chunkSize) {
+                anImport = importChunk(anImport, chunk, errors);
+                chunk.clear();
+            }
+        }
+
+        if (!chunk.isEmpty()) {
+            anImport = importChunk(anImport, chunk, errors);
+        }
+
+        return catalogImportGateway.update(anImport.complete());
+    }
+
+    private CatalogImport claimImport(final String anId) {
+        final var anImportId = CatalogImportID.from(anId);
+        return catalogImportGateway.claim(anImportId, leaseDate())
+            .orElseThrow(() -> NotFoundException.with(CatalogImport.class, anImportId));
+    }
+
+    private Instant leaseDate() {
+        return InstantUtils.now().plus(leaseTime);
+    }
+
+    private CatalogImport importChunk(
+        final CatalogImport anImport,
+        final List<CatalogRecord> chunk,
+        final List<ImportCatalogError> errors
+    ) {
+        var counts = Counts.NONE;
+        var start = 0;
+
+        for (int end = 1; end <= chunk.size(); end++) {
+            if (end == chunk.size() || chunk.get(end).getClass() != chunk.get(start).getClass()) {
+                counts = counts.plus(importRun(chunk.subList(start, end), errors));
+                start = end;
+            }
+        }
+
+        final var lastLine = chunk.get(chunk.size() - 1).line();
+        return catalogImportGateway.update(
+            anImport.checkpoint(lastLine, counts.imported(), counts.skipped(), counts.rejected()).renew(leaseDate())
+        );
+    }
+
+    private Counts importRun(final List<CatalogRecord> aRun, final List<ImportCatalogError> errors) {
+        final var aRecord = aRun.get(0);
+
+        if (aRecord instanceof CategoryRecord) {
+            return importCategories(cast(aRun), errors);
+        }
+
+        if (aRecord instanceof GenreRecord) {
+            return importGenres(cast(aRun), errors);
+        }
+
+        if (aRecord instanceof CastMemberRecord) {
+            return importCastMembers(cast(aRun), errors);
+        }
+
+        if (aRecord instanceof VideoRecord) {
+            return importVideos(cast(aRun), errors);
+        }
+
+        final List<MalformedRecord> malformed = cast(aRun);
+        malformed.forEach(it -> report(errors, it.line(), Notification.create(new Error(it.message()))));
+        return new Counts(0, 0, malformed.size());
+    }
+
+    private Counts importCategories(final List<CategoryRecord> records, final List<ImportCatalogError> errors) {
+        return importRecords(
+            records,
+            CategoryRecord::id,
+            CategoryID::from,
+            categoryGateway::existsByIds,
+            (aRecord, aHandler) -> {},
+            (aRecord, anId) -> {
+                final var now = InstantUtils.now();
+                return Category.with(
+                    anId,
+                    aRecord.name(),
+                    aRecord.description(),
+                    aRecord.isActive(),
+                    now,
+                    now,
+                    aRecord.isActive() ? null : now
+                );
+            },
+            categoryGateway::createAll,
+            errors
+        );
+    }
+
+    private Counts importGenres(final List<GenreRecord> records, final List<ImportCatalogError> errors) {
+        final var categories = existing(
+            records.stream().flatMap(it -> ids(it.categories(), CategoryID::from).stream()),
+            categoryGateway::existsByIds
+        );
+
+        return importRecords(
+            records,
+            GenreRecord::id,
+            GenreID::from,
+            genreGateway::existsByIds,
+            (aRecord, aHandler) ->
+                aHandler.append(missing("categories", ids(aRecord.categories(), CategoryID::from), categories)),
+            (aRecord, anId) -> {
+                final var now = InstantUtils.now();
+                return Genre.with(
+                    anId,
+                    aRecord.name(),
+                    aRecord.isActive(),
+                    new ArrayList<>(ids(aRecord.categories(), CategoryID::from)),
+                    now,
+                    now,
+                    aRecord.isActive() ? null : now
+                );
+            },
+            genreGateway::createAll,
+            errors
+        );
+    }
+
+    private Counts importCastMembers(final List<CastMemberRecord> records, final List<ImportCatalogError> errors) {
+        return importRecords(
+            records,
+            CastMemberRecord::id,
+            CastMemberID::from,
+            castMemberGateway::existsByIds,
+            (aRecord, aHandler) -> {},
+            (aRecord, anId) -> {
+                final var now = InstantUtils.now();
+                return CastMember.with(anId, aRecord.name(), aRecord.type(), now, now);
+            },
+            castMemberGateway::createAll,
+            errors
+        );
+    }
+
+    private Counts importVideos(final List<VideoRecord> records, final List<ImportCatalogError> errors) {
+        final var categories = existing(
+            records.stream().flatMap(it -> ids(it.categories(), CategoryID::from).stream()),
+            categoryGateway::existsByIds
+        );
+        final var genres = existing(
+            records.stream().flatMap(it -> ids(it.genres(), GenreID::from).stream()),
+            genreGateway::existsByIds
+        );
+        final var members = existing(
+            records.stream().flatMap(it -> ids(it.members(), CastMemberID::from).stream()),
+            castMemberGateway::existsByIds
+        );
+
+        return importRecords(
+            records,
+            VideoRecord::id,
+            VideoID::from,
+            videoGateway::existsByIds,
+            (aRecord, aHandler) -> {
+                aHandler.append(missing("categories", ids(aRecord.categories(), CategoryID::from), categories));
+                aHandler.append(missing("genres", ids(aRecord.genres(), GenreID::from), genres));
+                aHandler.append(missing("members", ids(aRecord.members(), CastMemberID::from), members));
+            },
+            (aRecord, anId) -> {
+                final var now = InstantUtils.now();
+                return Video.with(
+                    anId,
+                    aRecord.title(),
+                    aRecord.description(),
+                    Optional.ofNullable(aRecord.launchedAt()).map(Year::of).orElse(null),
+                    aRecord.duration(),
+                    Optional.ofNullable(aRecord.rating()).flatMap(Rating::of).orElse(null),
+                    aRecord.opened(),
+                    aRecord.published(),
+                    now,
+                    now,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    ids(aRecord.categories(), CategoryID::from),
+                    ids(aRecord.genres(), GenreID::from),
+                    ids(aRecord.members(), CastMemberID::from)
+                );
+            },
+            videoGateway::createAll,
+            errors
+        );
+    }
+
+    /**
+     * Valida os registros de um mesmo tipo e grava os válidos de uma vez. Registros com ids já gravados
+     * são ignorados, o que torna seguro reprocessar um lote interrompido.
+     */
+    private <R extends CatalogRecord, ID extends Identifier, A extends AggregateRoot<ID>> Counts importRecords(
+        final List<R> records,
+        final Function<R, String> idOf,
+        final Function<String, ID> toIdentifier,
+        final Function<Iterable<ID>, List<ID>> existsByIds,
+        final BiConsumer<R, Notification> validateReferences,
+        final BiFunction<R, ID, A> toAggregate,
+        final Function<List<A>, List<A>> createAll,
+        final List<ImportCatalogError> errors
+    ) {
+        final var imported = existing(
+            records.stream().map(idOf).filter(DefaultImportCatalogUseCase::isValidId).map(toIdentifier),
+            existsByIds
+        );
+
+        final var seen = new HashSet<ID>();
+        final var aggregates = new ArrayList<A>(records.size());
+        var skipped = 0;
+        var rejected = 0;
+
+        for (final var aRecord : records) {
+            final var notification = Notification.create();
+            final var anId = Optional.ofNullable(checkId(idOf.apply(aRecord), notification)).map(toIdentifier).orElse(null);
+
+            if (Objects.nonNull(anId) && imported.contains(anId)) {
+                skipped++;
+                continue;
+            }
+
+            if (Objects.nonNull(anId) && !seen.add(anId)) {
+                notification.append(new Error("'id' %s is duplicated".formatted(anId.getValue())));
+            }
+
+            validateReferences.accept(aRecord, notification);
+
+            if (Objects.nonNull(anId)) {
+                final var anAggregate = notification.validate(() -> toAggregate.apply(aRecord, anId));
+                if (Objects.nonNull(anAggregate)) {
+                    anAggregate.validate(notification);
+                }
+
+                if (!notification.hasErrors()) {
+                    aggregates.add(anAggregate);
+                    continue;
+                }
+            }
+
+            rejected++;
+            report(errors, aRecord.line(), notification);
+        }
+
+        if (!aggregates.isEmpty()) {
+            createAll.apply(aggregates);
+        }
+        return new Counts(aggregates.size(), skipped, rejected);
+    }
+
+    private static String checkId(final String anId, final ValidationHandler aHandler) {
+        if (Objects.isNull(anId) || anId.isBlank()) {
+            aHandler.append(new Error("'id' should not be empty"));
+            return null;
+        }
+
+        if (anId.length() > ID_MAX_LENGTH) {
+            aHandler.append(new Error("'id' must have at most %d characters".formatted(ID_MAX_LENGTH)));
+            return null;
+        }
+        return anId;
+    }
+
+    private static boolean isValidId(final String anId) {
+        return Objects.nonNull(anId) && !anId.isBlank() && anId.length() <= ID_MAX_LENGTH;
+    }
+
+    private static <T extends Identifier> Set<T> existing(
+        final Stream<T> ids,
+        final Function<Iterable<T>, List<T>> existsByIds
+    ) {
+        final var distinctIds = ids.collect(Collectors.toSet());
+        return distinctIds.isEmpty() ? Set.of() : new HashSet<>(existsByIds.apply(distinctIds));
+    }
+
+    private static <T> Set<T> ids(final Collection<String> values, final Function<String, T> mapper) {
+        if (Objects.isNull(values)) {
+            return Set.of();
+        }
+        return values.stream().filter(Objects::nonNull).map(mapper).collect(Collectors.toSet());
+    }
+
+    private static <T extends Identifier> ValidationHandler missing(
+        final String aggregate,
+        final Set<T> ids,
+        final Set<T> found
+    ) {
+        final var notification = Notification.create();
+        final var missingIds = ids.stream()
+            .filter(anId -> !found.contains(anId))
+            .map(Identifier::getValue)
+            .sorted()
+            .collect(joining(", "));
+
+        if (!missingIds.isEmpty()) {
+            notification.append(new Error("Some %s could not be found: %s".formatted(aggregate, missingIds)));
+        }
+        return notification;
+    }
+
+    private static void report(
+        final List<ImportCatalogError> errors,
+        final long aLine,
+        final ValidationHandler aHandler
+    ) {
+        if (errors.size() < MAX_REPORTED_ERRORS) {
+            errors.add(ImportCatalogError.with(aLine, aHandler));
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> cast(final List<CatalogRecord> records) {
+        return (List<T>) (List<?>) records;
+    }
+
+    private record Counts(long imported, long skipped, long rejected) {
+        private static final Counts NONE = new Counts(0, 0, 0);
+
+        private Counts plus(final Counts other) {
+            return new Counts(imported + other.imported, skipped + other.skipped, rejected + other.rejected);
+        }
+    }
+}
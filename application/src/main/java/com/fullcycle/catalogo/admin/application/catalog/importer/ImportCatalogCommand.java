@@ -0,0 +1,16 @@
+package com.fullcycle.catalogo.admin.application.catalog.importer;
+
+import java.util.Iterator;
+
+/**
+ * Os registros são lidos sob demanda, apenas um lote fica em memória por vez.
+ * Sem importId uma nova importação é iniciada, com ele a importação é retomada após o último checkpoint.
+ */
+public record ImportCatalogCommand(
+    String importId,
+    Iterator<CatalogRecord> records
+) {
+    public static ImportCatalogCommand with(final String anImportId, final Iterator<CatalogRecord> records) {
+        return new ImportCatalogCommand(anImportId, records);
+    }
+}
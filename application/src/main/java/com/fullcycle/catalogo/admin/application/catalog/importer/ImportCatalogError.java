@@ -0,0 +1,15 @@
+package com.fullcycle.catalogo.admin.application.catalog.importer;
+
+import com.fullcycle.catalogo.admin.domain.validation.Error;
+import com.fullcycle.catalogo.admin.domain.validation.ValidationHandler;
+
+import java.util.List;
+
+/**
+ * Erros de validação de uma linha rejeitada do arquivo importado.
+ */
+public record ImportCatalogError(long line, List<Error> errors) {
+    public static ImportCatalogError with(final long aLine, final ValidationHandler aHandler) {
+        return new ImportCatalogError(aLine, List.copyOf(aHandler.getErrors()));
+    }
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.catalogo.admin.application.catalog.importer;
+
+import com.fullcycle.catalogo.admin.application.catalog.retrieve.get.CatalogImportOutput;
+import com.fullcycle.catalogo.admin.domain.catalog.CatalogImport;
+
+import java.util.List;
+
+/**
+ * Resultado de uma execução da importação: o progresso acumulado e os erros das linhas rejeitadas nesta
+ * execução.
+ */
+public record ImportCatalogOutput(
+    CatalogImportOutput progress,
+    List<ImportCatalogError> errors
+) {
+    public static ImportCatalogOutput from(final CatalogImport anImport, final List<ImportCatalogError> errors) {
+        return new ImportCatalogOutput(CatalogImportOutput.from(anImport), List.copyOf(errors));
+    }
+}
@@ -0,0 +1,6 @@
+package com.fullcycle.catalogo.admin.application.catalog.importer;
+
+import com.fullcycle.catalogo.admin.application.UseCase;
+
+public abstract class ImportCatalogUseCase extends UseCase<ImportCatalogCommand, ImportCatalogOutput> {
+}
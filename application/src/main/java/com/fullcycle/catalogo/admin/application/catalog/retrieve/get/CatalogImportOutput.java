@@ -0,0 +1,33 @@
+package com.fullcycle.catalogo.admin.application.catalog.retrieve.get;
+
+import com.fullcycle.catalogo.admin.domain.catalog.CatalogImport;
+
+import java.time.Instant;
+
+public record CatalogImportOutput(
+    String id,
+    long processedLines,
+    long imported,
+    long skipped,
+    long rejected,
+    double linesPerSecond,
+    boolean completed,
+    Instant createdAt,
+    Instant updatedAt,
+    Instant completedAt
+) {
+    public static CatalogImportOutput from(final CatalogImport anImport) {
+        return new CatalogImportOutput(
+            anImport.getId().getValue(),
+            anImport.getProcessedLines(),
+            anImport.getImported(),
+            anImport.getSkipped(),
+            anImport.getRejected(),
+            anImport.linesPerSecond(),
+            anImport.isCompleted(),
+            anImport.getCreatedAt(),
+            anImport.getUpdatedAt(),
+            anImport.getCompletedAt()
+        );
+    }
+}
@@ -0,0 +1,24 @@
+package com.fullcycle.catalogo.admin.application.catalog.retrieve.get;
+
+import com.fullcycle.catalogo.admin.domain.catalog.CatalogImport;
+import com.fullcycle.catalogo.admin.domain.catalog.CatalogImportGateway;
+import com.fullcycle.catalogo.admin.domain.catalog.CatalogImportID;
+import com.fullcycle.catalogo.admin.domain.exceptions.NotFoundException;
+
+import java.util.Objects;
+
+public class DefaultGetCatalogImportByIdUseCase extends GetCatalogImportByIdUseCase {
+    private final CatalogImportGateway catalogImportGateway;
+
+    public DefaultGetCatalogImportByIdUseCase(final CatalogImportGateway catalogImportGateway) {
+        this.catalogImportGateway = Objects.requireNonNull(catalogImportGateway);
+    }
+
+    @Override
+    public CatalogImportOutput execute(final String anId) {
+        final var anImportId = CatalogImportID.from(anId);
+        return catalogImportGateway.findById(anImportId)
+                .map(CatalogImportOutput::from)
+                .orElseThrow(() -> NotFoundException.with(CatalogImport.class, anImportId));
+    }
+}
@@ -0,0 +1,6 @@
+package com.fullcycle.catalogo.admin.application.catalog.retrieve.get;
+
+import com.fullcycle.catalogo.admin.application.UseCase;
+
+public abstract class GetCatalogImportByIdUseCase extends UseCase<String, CatalogImportOutput> {
+}
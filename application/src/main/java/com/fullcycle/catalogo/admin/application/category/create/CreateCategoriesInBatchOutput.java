@@ -0,0 +1,11 @@
+package com.fullcycle.catalogo.admin.application.category.create;
+
+import com.fullcycle.catalogo.admin.domain.category.Category;
+
+import java.util.List;
+
+public record CreateCategoriesInBatchOutput(List<CreateCategoryOutput> items) {
+    public static CreateCategoriesInBatchOutput from(final List<Category> aCategories) {
+        return new CreateCategoriesInBatchOutput(aCategories.stream().map(CreateCategoryOutput::from).toList());
+    }
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.catalogo.admin.application.category.create;
+
+import com.fullcycle.catalogo.admin.application.BatchError;
+import com.fullcycle.catalogo.admin.application.UseCase;
+import io.vavr.control.Either;
+
+import java.util.List;
+
+public abstract class CreateCategoriesInBatchUseCase
+        extends UseCase<List<CreateCategoryCommand>, Either<List<BatchError>, CreateCategoriesInBatchOutput>> {
+}
@@ -0,0 +1,59 @@
+package com.fullcycle.catalogo.admin.application.category.create;
+
+import com.fullcycle.catalogo.admin.application.BatchError;
+import com.fullcycle.catalogo.admin.domain.category.Category;
+import com.fullcycle.catalogo.admin.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.admin.domain.validation.Error;
+import com.fullcycle.catalogo.admin.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+import static io.vavr.API.*;
+
+/**
+ * Valida todas as categorias antes de gravar qualquer uma: com algum item inválido nada é gravado
+ * e os erros são devolvidos por posição, senão o lote é gravado de uma vez só.
+ */
+public class DefaultCreateCategoriesInBatchUseCase extends CreateCategoriesInBatchUseCase {
+    public static final int MAX_ITEMS = 1000;
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultCreateCategoriesInBatchUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Either<List<BatchError>, CreateCategoriesInBatchOutput> execute(final List<CreateCategoryCommand> aCommands) {
+        if (aCommands == null || aCommands.isEmpty() || aCommands.size() > MAX_ITEMS) {
+            return Left(List.of(BatchError.batch(new Error("'items' must have between 1 and %d items".formatted(MAX_ITEMS)))));
+        }
+
+        final var categories = new ArrayList<Category>(aCommands.size());
+        final var errors = new ArrayList<BatchError>();
+
+        for (int index = 0; index < aCommands.size(); index++) {
+            final var aCommand = aCommands.get(index);
+            final var aCategory = Category.newCategoryWith(aCommand.name(), aCommand.description(), aCommand.isActive());
+            final var notification = Notification.create();
+            aCategory.validate(notification);
+
+            if (notification.hasErrors()) {
+                errors.add(BatchError.item(index, notification));
+            } else {
+                categories.add(aCategory);
+            }
+        }
+
+        return errors.isEmpty() ? create(categories) : Left(errors);
+    }
+
+    private Either<List<BatchError>, CreateCategoriesInBatchOutput> create(final List<Category> aCategories) {
+        return Try(() -> categoryGateway.createAll(aCategories))
+            .toEither()
+            .bimap(t -> List.of(BatchError.batch(t)), CreateCategoriesInBatchOutput::from);
+    }
+}
@@ -0,0 +1,20 @@
+package com.fullcycle.catalogo.admin.application.category.retrieve.export;
+
+import com.fullcycle.catalogo.admin.application.category.retrieve.get.CategoryOutput;
+import com.fullcycle.catalogo.admin.domain.category.CategoryGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportCategoriesUseCase extends ExportCategoriesUseCase {
+    private final CategoryGateway categoryGateway;
+
+    public DefaultExportCategoriesUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<CategoryOutput> aConsumer) {
+        categoryGateway.exportAll(it -> aConsumer.accept(CategoryOutput.from(it)));
+    }
+}
@@ -0,0 +1,10 @@
+package com.fullcycle.catalogo.admin.application.category.retrieve.export;
+
+import com.fullcycle.catalogo.admin.application.UnitUseCase;
+import com.fullcycle.catalogo.admin.application.category.retrieve.get.CategoryOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportCategoriesUseCase
+    extends UnitUseCase<Consumer<CategoryOutput>> {
+}
@@ -0,0 +1,83 @@
+package com.fullcycle.catalogo.admin.application.category.update;
+
+import com.fullcycle.catalogo.admin.application.BatchError;
+import com.fullcycle.catalogo.admin.domain.category.Category;
+import com.fullcycle.catalogo.admin.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.admin.domain.category.CategoryID;
+import com.fullcycle.catalogo.admin.domain.validation.Error;
+import com.fullcycle.catalogo.admin.domain.validation.handler.Notification;
+import io.vavr.control.Either;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static io.vavr.API.*;
+
+/**
+ * Busca todas as categorias do lote em uma consulta e valida todas antes de gravar qualquer uma:
+ * com algum item inválido ou inexistente nada é gravado e os erros são devolvidos por posição,
+ * senão o lote é gravado de uma vez só.
+ */
+public class DefaultUpdateCategoriesInBatchUseCase extends UpdateCategoriesInBatchUseCase {
+    public static final int MAX_ITEMS = 1000;
+
+    private final CategoryGateway categoryGateway;
+
+    public DefaultUpdateCategoriesInBatchUseCase(final CategoryGateway categoryGateway) {
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+    }
+
+    @Override
+    public Either<List<BatchError>, UpdateCategoriesInBatchOutput> execute(final List<UpdateCategoryCommand> aCommands) {
+        if (aCommands == null || aCommands.isEmpty() || aCommands.size() > MAX_ITEMS) {
+            return Left(List.of(BatchError.batch(new Error("'items' must have between 1 and %d items".formatted(MAX_ITEMS)))));
+        }
+
+        final var ids = aCommands.stream()
+            .map(aCommand -> Objects.nonNull(aCommand.id()) ? CategoryID.from(aCommand.id()) : null)
+            .toList();
+        final var existing = categoryGateway.findAllById(ids.stream().filter(Objects::nonNull).toList()).stream()
+            .collect(Collectors.toMap(Category::getId, Function.identity()));
+
+        final var categories = new ArrayList<Category>(aCommands.size());
+        final var errors = new ArrayList<BatchError>();
+
+        for (int index = 0; index < aCommands.size(); index++) {
+            final var aCommand = aCommands.get(index);
+            final var anId = ids.get(index);
+            final var aCategory = Objects.nonNull(anId) ? existing.get(anId) : null;
+            final var notification = Notification.create();
+
+            if (anId == null) {
+                notification.append(new Error("'id' should not be null"));
+            } else if (aCategory == null) {
+                notification.append(notFound(anId));
+            } else {
+                aCategory
+                    .update(aCommand.name(), aCommand.description(), aCommand.isActive())
+                    .validate(notification);
+            }
+
+            if (notification.hasErrors()) {
+                errors.add(BatchError.item(index, notification));
+            } else {
+                categories.add(aCategory);
+            }
+        }
+
+        return errors.isEmpty() ? update(categories) : Left(errors);
+    }
+
+    private Either<List<BatchError>, UpdateCategoriesInBatchOutput> update(final List<Category> aCategories) {
+        return Try(() -> categoryGateway.updateAll(aCategories))
+            .toEither()
+            .bimap(t -> List.of(BatchError.batch(t)), UpdateCategoriesInBatchOutput::from);
+    }
+
+    private static Error notFound(final CategoryID anId) {
+        return new Error("%s with ID %s was not found".formatted(Category.class.getSimpleName(), anId.getValue()));
+    }
+}
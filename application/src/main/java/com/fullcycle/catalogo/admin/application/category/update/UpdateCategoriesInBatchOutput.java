@@ -0,0 +1,11 @@
+package com.fullcycle.catalogo.admin.application.category.update;
+
+import com.fullcycle.catalogo.admin.domain.category.Category;
+
+import java.util.List;
+
+public record UpdateCategoriesInBatchOutput(List<UpdateCategoryOutput> items) {
+    public static UpdateCategoriesInBatchOutput from(final List<Category> aCategories) {
+        return new UpdateCategoriesInBatchOutput(aCategories.stream().map(UpdateCategoryOutput::from).toList());
+    }
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.catalogo.admin.application.category.update;
+
+import com.fullcycle.catalogo.admin.application.BatchError;
+import com.fullcycle.catalogo.admin.application.UseCase;
+import io.vavr.control.Either;
+
+import java.util.List;
+
+public abstract class UpdateCategoriesInBatchUseCase
+        extends UseCase<List<UpdateCategoryCommand>, Either<List<BatchError>, UpdateCategoriesInBatchOutput>> {
+}
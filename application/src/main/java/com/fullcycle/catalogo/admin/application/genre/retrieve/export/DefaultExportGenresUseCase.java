@@ -0,0 +1,20 @@
+package com.fullcycle.catalogo.admin.application.genre.retrieve.export;
+
+import com.fullcycle.catalogo.admin.application.genre.retrieve.get.GenreOutput;
+import com.fullcycle.catalogo.admin.domain.genre.GenreGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportGenresUseCase extends ExportGenresUseCase {
+    private final GenreGateway genreGateway;
+
+    public DefaultExportGenresUseCase(final GenreGateway genreGateway) {
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<GenreOutput> aConsumer) {
+        genreGateway.exportAll(it -> aConsumer.accept(GenreOutput.from(it)));
+    }
+}
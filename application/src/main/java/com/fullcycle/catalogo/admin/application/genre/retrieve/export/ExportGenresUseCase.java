@@ -0,0 +1,10 @@
+package com.fullcycle.catalogo.admin.application.genre.retrieve.export;
+
+import com.fullcycle.catalogo.admin.application.UnitUseCase;
+import com.fullcycle.catalogo.admin.application.genre.retrieve.get.GenreOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportGenresUseCase
+    extends UnitUseCase<Consumer<GenreOutput>> {
+}
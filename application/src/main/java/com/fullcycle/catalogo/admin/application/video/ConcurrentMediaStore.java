@@ -0,0 +1,146 @@
+package com.fullcycle.catalogo.admin.application.video;
+
+import com.fullcycle.catalogo.admin.domain.exceptions.InternalErrorException;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Grava as mídias de um vídeo em paralelo num executor limitado. Os resultados são aplicados na thread
+ * chamadora, na ordem em que foram submetidos, pois o agregado não é thread-safe.
+ * Na primeira falha as gravações restantes são canceladas e o erro só é propagado depois que nenhuma
+ * delas estiver mais em andamento, permitindo limpar os recursos com segurança.
+ */
+public class ConcurrentMediaStore {
+    private final ExecutorService executor;
+    private final List<StoreTask<?>> tasks;
+    private final BlockingQueue<StoreTask<?>> completed;
+
+    public ConcurrentMediaStore(final ExecutorService executor) {
+        this.executor = Objects.requireNonNull(executor);
+        this.tasks = new ArrayList<>();
+        this.completed = new LinkedBlockingQueue<>();
+    }
+
+    public <T> ConcurrentMediaStore submit(final Supplier<T> aStore, final Consumer<T> onStored) {
+        final var aTask = new StoreTask<>(aStore, onStored);
+        tasks.add(aTask);
+
+        try {
+            aTask.future = executor.submit(aTask);
+        } catch (final RuntimeException e) {
+            cancel();
+            throw e;
+        }
+        return this;
+    }
+
+    public void await() {
+        try {
+            for (var i = 0; i < tasks.size(); i++) {
+                final var aTask = completed.take();
+                if (Objects.nonNull(aTask.error)) {
+                    cancel();
+                    throw propagate(aTask.error);
+                }
+            }
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            cancel();
+            throw InternalErrorException.with("Interrupted while storing medias", e);
+        }
+
+        tasks.forEach(StoreTask::apply);
+    }
+
+    private void cancel() {
+        tasks.forEach(StoreTask::cancel);
+        tasks.forEach(StoreTask::awaitTermination);
+    }
+
+    private RuntimeException propagate(final Throwable error) {
+        if (error instanceof RuntimeException e) {
+            return e;
+        }
+
+        if (error instanceof Error e) {
+            throw e;
+        }
+
+        return InternalErrorException.with(error.getMessage(), error);
+    }
+
+    private final class StoreTask<T> implements Runnable {
+        private final Supplier<T> store;
+        private final Consumer<T> onStored;
+        private final AtomicBoolean claimed;
+        private final CountDownLatch finished;
+
+        private volatile Future<?> future;
+        private T result;
+        private Throwable error;
+
+        private StoreTask(final Supplier<T> aStore, final Consumer<T> onStored) {
+            this.store = Objects.requireNonNull(aStore);
+            this.onStored = Objects.requireNonNull(onStored);
+            this.claimed = new AtomicBoolean(false);
+            this.finished = new CountDownLatch(1);
+        }
+
+        @Override
+        public void run() {
+            // a gravação pode ter sido cancelada antes de começar
+            if (!claimed.compareAndSet(false, true)) {
+                return;
+            }
+
+            try {
+                result = store.get();
+            } catch (final Throwable t) {
+                error = t;
+            } finally {
+                finished.countDown();
+                completed.offer(this);
+            }
+        }
+
+        private void cancel() {
+            if (claimed.compareAndSet(false, true)) {
+                finished.countDown();
+                return;
+            }
+
+            if (Objects.nonNull(future)) {
+                future.cancel(true);
+            }
+        }
+
+        private void awaitTermination() {
+            var interrupted = false;
+            while (finished.getCount() > 0) {
+                try {
+                    finished.await();
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void apply() {
+            onStored.accept(result);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.fullcycle.catalogo.admin.application.video.create;
 
+import com.fullcycle.catalogo.admin.application.video.ConcurrentMediaStore;
 import com.fullcycle.catalogo.admin.domain.Identifier;
 import com.fullcycle.catalogo.admin.domain.castmember.CastMemberGateway;
 import com.fullcycle.catalogo.admin.domain.castmember.CastMemberID;
@@ -17,6 +18,7 @@ import com.fullcycle.catalogo.admin.domain.video.rating.Rating;
 
 import java.time.Year;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -29,19 +31,25 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
     private final CastMemberGateway castMemberGateway;
     private final VideoGateway videoGateway;
     private final MediaResourceGateway resourceGateway;
+    private final MediaCleanupGateway cleanupGateway;
+    private final ExecutorService mediaStoreExecutor;
 
     public DefaultCreateVideoUseCase(
         final CategoryGateway categoryGateway,
         final GenreGateway genreGateway,
         final CastMemberGateway castMemberGateway,
         final VideoGateway videoGateway,
-        final MediaResourceGateway resourceGateway
+        final MediaResourceGateway resourceGateway,
+        final MediaCleanupGateway cleanupGateway,
+        final ExecutorService mediaStoreExecutor
     ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.videoGateway = Objects.requireNonNull(videoGateway);
         this.resourceGateway = Objects.requireNonNull(resourceGateway);
+        this.cleanupGateway = Objects.requireNonNull(cleanupGateway);
+        this.mediaStoreExecutor = Objects.requireNonNull(mediaStoreExecutor);
     }
 
 
@@ -82,39 +90,42 @@ public class DefaultCreateVideoUseCase extends CreateVideoUseCase {
         final var anId = aVideo.getId();
 
         try {
+            final var medias = new ConcurrentMediaStore(mediaStoreExecutor);
+
             aCommand.getVideo()
-                .ifPresent(video -> {
-                    final var videoResource = VideoResource.of(video, VideoMediaType.VIDEO);
-                    aVideo.updatedVideoMedia(resourceGateway.storeAudioVideo(anId, videoResource));
-                });
+                .ifPresent(video -> medias.submit(
+                    () -> resourceGateway.storeAudioVideo(anId, VideoResource.of(video, VideoMediaType.VIDEO)),
+                    aVideo::updatedVideoMedia
+                ));
 
             aCommand.getTrailer()
-                .ifPresent(trailer -> {
-                    final var videoResource = VideoResource.of(trailer, TRAILER);
-                    aVideo.updateTrailerMedia(resourceGateway.storeAudioVideo(anId, videoResource));
-                });
+                .ifPresent(trailer -> medias.submit(
+                    () -> resourceGateway.storeAudioVideo(anId, VideoResource.of(trailer, TRAILER)),
+                    aVideo::updateTrailerMedia
+                ));
 
             aCommand.getBanner()
-                .ifPresent(banner -> {
-                    final var videoResource = VideoResource.of(banner, BANNER);
-                    aVideo.updateBannerMedia(resourceGateway.storeImage(anId, videoResource));
-                });
+                .ifPresent(banner -> medias.submit(
+                    () -> resourceGateway.storeImage(anId, VideoResource.of(banner, BANNER)),
+                    aVideo::updateBannerMedia
+                ));
 
             aCommand.getThumbnail()
-                .ifPresent(thumb -> {
-                    final var videoResource = VideoResource.of(thumb, THUMBNAIL);
-                    aVideo.updateThumbnailMedia(resourceGateway.storeImage(anId, videoResource));
-                });
+                .ifPresent(thumb -> medias.submit(
+                    () -> resourceGateway.storeImage(anId, VideoResource.of(thumb, THUMBNAIL)),
+                    aVideo::updateThumbnailMedia
+                ));
 
             aCommand.getThumbnailHalf()
-                .ifPresent(thumbHalf -> {
-                    final var videoResource = VideoResource.of(thumbHalf, THUMBNAIL_HALF);
-                    aVideo.updateThumbnailHalfMedia(resourceGateway.storeImage(anId, videoResource));
-                });
+                .ifPresent(thumbHalf -> medias.submit(
+                    () -> resourceGateway.storeImage(anId, VideoResource.of(thumbHalf, THUMBNAIL_HALF)),
+                    aVideo::updateThumbnailHalfMedia
+                ));
 
+            medias.await();
             return videoGateway.create(aVideo);
         } catch (final Throwable throwable) {
-            resourceGateway.clearResources(anId);
+            cleanupGateway.schedule(anId);
             throw InternalErrorException.with(
                 "An error on create video was observed [videoId:%s]".formatted(anId.getValue()),
                 throwable
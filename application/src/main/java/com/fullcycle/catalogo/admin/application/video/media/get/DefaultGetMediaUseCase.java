@@ -22,7 +22,7 @@ public class DefaultGetMediaUseCase extends GetMediaUseCase {
         final var anId = VideoID.from(aCommand.videoId());
         final var aResource = gateway.getResource(anId, aType)
                 .orElseThrow(notFound(anId.getValue(), aType.name()));
-        return MediaOutput.of(aResource.name(), aResource.contentType(), aResource.content());
+        return MediaOutput.from(aResource);
     }
 
     private Supplier<NotFoundException> notFound(final String anId, final String aType) {
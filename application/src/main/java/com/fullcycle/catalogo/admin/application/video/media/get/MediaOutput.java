@@ -1,11 +1,34 @@
 package com.fullcycle.catalogo.admin.application.video.media.get;
 
+import com.fullcycle.catalogo.admin.domain.resource.Resource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Instant;
+
 public record MediaOutput(
     String name,
     String contentType,
-    byte[] content
+    long size,
+    Resource resource
 ) {
-    public static MediaOutput of(final String name, final String contentType, final byte[] content) {
-        return new MediaOutput(name, contentType, content);
+    public static MediaOutput from(final Resource aResource) {
+        return new MediaOutput(aResource.name(), aResource.contentType(), aResource.size(), aResource);
+    }
+
+    public String checksum() {
+        return resource.checksum();
+    }
+
+    public Instant lastModified() {
+        return resource.lastModified();
+    }
+
+    public InputStream openStream() throws IOException {
+        return resource.openStream();
+    }
+
+    public InputStream openStream(final long offset, final long length) throws IOException {
+        return resource.openStream(offset, length);
     }
 }
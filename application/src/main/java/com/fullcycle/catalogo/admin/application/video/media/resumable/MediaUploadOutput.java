@@ -0,0 +1,22 @@
+package com.fullcycle.catalogo.admin.application.video.media.resumable;
+
+import com.fullcycle.catalogo.admin.domain.video.VideoMediaType;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUpload;
+
+public record MediaUploadOutput(
+    String id,
+    String videoId,
+    VideoMediaType mediaType,
+    long offset,
+    int nextChunk
+) {
+    public static MediaUploadOutput from(final MediaUpload anUpload) {
+        return new MediaUploadOutput(
+            anUpload.getId().getValue(),
+            anUpload.getVideoId().getValue(),
+            anUpload.getMediaType(),
+            anUpload.offset(),
+            anUpload.nextChunk()
+        );
+    }
+}
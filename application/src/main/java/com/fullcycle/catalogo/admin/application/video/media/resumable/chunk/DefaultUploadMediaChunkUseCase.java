@@ -0,0 +1,80 @@
+package com.fullcycle.catalogo.admin.application.video.media.resumable.chunk;
+
+import com.fullcycle.catalogo.admin.application.video.media.resumable.MediaUploadOutput;
+import com.fullcycle.catalogo.admin.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.admin.domain.exceptions.NotFoundException;
+import com.fullcycle.catalogo.admin.domain.validation.Error;
+import com.fullcycle.catalogo.admin.domain.video.MediaResourceGateway;
+import com.fullcycle.catalogo.admin.domain.video.VideoID;
+import com.fullcycle.catalogo.admin.domain.video.VideoMediaType;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUpload;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUploadGateway;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUploadID;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public class DefaultUploadMediaChunkUseCase extends UploadMediaChunkUseCase {
+    private final MediaUploadGateway mediaUploadGateway;
+    private final MediaResourceGateway mediaResourceGateway;
+
+    public DefaultUploadMediaChunkUseCase(
+        final MediaUploadGateway mediaUploadGateway,
+        final MediaResourceGateway mediaResourceGateway
+    ) {
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+    }
+
+    @Override
+    public MediaUploadOutput execute(final UploadMediaChunkCommand aCommand) {
+        final var aType = VideoMediaType.of(aCommand.mediaType()).orElseThrow(typeNotFound(aCommand.mediaType()));
+        final var aVideoId = VideoID.from(aCommand.videoId());
+        final var anId = MediaUploadID.from(aCommand.uploadId());
+
+        final var anUpload = mediaUploadGateway.findById(anId)
+                .filter(upload -> upload.belongsTo(aVideoId, aType))
+                .orElseThrow(notFound(anId));
+
+        final var aChunk = aCommand.chunk();
+        final var aResource = aCommand.resource();
+
+        // rejeita partes fora de ordem antes de transferir os bytes, o registro só acontece depois da gravação
+        anUpload.registerChunk(aChunk, aResource.size());
+
+        final long storedSize;
+        try {
+            storedSize = mediaResourceGateway.storeChunk(anUpload, aChunk, aResource);
+        } catch (final RuntimeException e) {
+            discardChunksFrom(anId, aChunk);
+            throw e;
+        }
+
+        if (storedSize != aResource.size()) {
+            discardChunksFrom(anId, aChunk);
+            throw DomainException.with(new Error(
+                "Chunk %s has %s bytes but %s were declared".formatted(aChunk, storedSize, aResource.size())
+            ));
+        }
+
+        return mediaUploadGateway.update(anId, upload -> upload.registerChunk(aChunk, storedSize))
+                .map(MediaUploadOutput::from)
+                .orElseThrow(notFound(anId));
+    }
+
+    /**
+     * Uma parte reenviada que falhou pode ter sobrescrito a anterior no storage, então ela e as seguintes
+     * deixam de valer e o upload é retomado a partir dela.
+     */
+    private void discardChunksFrom(final MediaUploadID anId, final int aChunk) {
+        mediaUploadGateway.update(anId, upload -> upload.discardChunksFrom(aChunk));
+    }
+
+    private Supplier<NotFoundException> notFound(final MediaUploadID anId) {
+        return () -> NotFoundException.with(MediaUpload.class, anId);
+    }
+
+    private Supplier<NotFoundException> typeNotFound(final String aType) {
+        return () -> NotFoundException.with(new Error("MediaType %s doesn't exists".formatted(aType)));
+    }
+}
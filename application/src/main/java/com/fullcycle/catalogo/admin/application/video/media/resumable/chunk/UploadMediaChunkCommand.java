@@ -0,0 +1,21 @@
+package com.fullcycle.catalogo.admin.application.video.media.resumable.chunk;
+
+import com.fullcycle.catalogo.admin.domain.resource.Resource;
+
+public record UploadMediaChunkCommand(
+    String videoId,
+    String mediaType,
+    String uploadId,
+    int chunk,
+    Resource resource
+) {
+    public static UploadMediaChunkCommand with(
+        final String anId,
+        final String aType,
+        final String anUploadId,
+        final int aChunk,
+        final Resource aResource
+    ) {
+        return new UploadMediaChunkCommand(anId, aType, anUploadId, aChunk, aResource);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.catalogo.admin.application.video.media.resumable.chunk;
+
+import com.fullcycle.catalogo.admin.application.UseCase;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.MediaUploadOutput;
+
+public abstract class UploadMediaChunkUseCase
+    extends UseCase<UploadMediaChunkCommand, MediaUploadOutput> {
+}
@@ -0,0 +1,11 @@
+package com.fullcycle.catalogo.admin.application.video.media.resumable.commit;
+
+public record CommitMediaUploadCommand(
+    String videoId,
+    String mediaType,
+    String uploadId
+) {
+    public static CommitMediaUploadCommand with(final String anId, final String aType, final String anUploadId) {
+        return new CommitMediaUploadCommand(anId, aType, anUploadId);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.catalogo.admin.application.video.media.resumable.commit;
+
+import com.fullcycle.catalogo.admin.application.UseCase;
+import com.fullcycle.catalogo.admin.application.video.media.upload.UploadMediaOutput;
+
+public abstract class CommitMediaUploadUseCase
+    extends UseCase<CommitMediaUploadCommand, UploadMediaOutput> {
+}
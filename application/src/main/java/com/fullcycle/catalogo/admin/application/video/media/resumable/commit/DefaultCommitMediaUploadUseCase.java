@@ -0,0 +1,67 @@
+package com.fullcycle.catalogo.admin.application.video.media.resumable.commit;
+
+import com.fullcycle.catalogo.admin.application.video.media.upload.UploadMediaCommand;
+import com.fullcycle.catalogo.admin.application.video.media.upload.UploadMediaOutput;
+import com.fullcycle.catalogo.admin.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.catalogo.admin.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.admin.domain.exceptions.NotFoundException;
+import com.fullcycle.catalogo.admin.domain.validation.Error;
+import com.fullcycle.catalogo.admin.domain.video.MediaResourceGateway;
+import com.fullcycle.catalogo.admin.domain.video.VideoID;
+import com.fullcycle.catalogo.admin.domain.video.VideoMediaType;
+import com.fullcycle.catalogo.admin.domain.video.VideoResource;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUpload;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUploadGateway;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUploadID;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public class DefaultCommitMediaUploadUseCase extends CommitMediaUploadUseCase {
+    private final MediaUploadGateway mediaUploadGateway;
+    private final MediaResourceGateway mediaResourceGateway;
+    private final UploadMediaUseCase uploadMediaUseCase;
+
+    public DefaultCommitMediaUploadUseCase(
+        final MediaUploadGateway mediaUploadGateway,
+        final MediaResourceGateway mediaResourceGateway,
+        final UploadMediaUseCase uploadMediaUseCase
+    ) {
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+        this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+    }
+
+    @Override
+    public UploadMediaOutput execute(final CommitMediaUploadCommand aCommand) {
+        final var aType = VideoMediaType.of(aCommand.mediaType()).orElseThrow(typeNotFound(aCommand.mediaType()));
+        final var aVideoId = VideoID.from(aCommand.videoId());
+        final var anId = MediaUploadID.from(aCommand.uploadId());
+
+        final var anUpload = mediaUploadGateway.findById(anId)
+                .filter(upload -> upload.belongsTo(aVideoId, aType))
+                .orElseThrow(notFound(anId));
+
+        if (!anUpload.hasChunks()) {
+            throw DomainException.with(new Error("MediaUpload %s has no chunks to commit".formatted(anId.getValue())));
+        }
+
+        // a mídia montada segue o mesmo fluxo do upload direto, atualizando o status e publicando os eventos
+        final var aResource = mediaResourceGateway.composeChunks(anUpload);
+        final var output = uploadMediaUseCase.execute(
+            UploadMediaCommand.with(aVideoId.getValue(), VideoResource.of(aResource, aType))
+        );
+
+        mediaResourceGateway.clearChunks(anUpload);
+        mediaUploadGateway.deleteById(anId);
+        return output;
+    }
+
+    private Supplier<NotFoundException> notFound(final MediaUploadID anId) {
+        return () -> NotFoundException.with(MediaUpload.class, anId);
+    }
+
+    private Supplier<NotFoundException> typeNotFound(final String aType) {
+        return () -> NotFoundException.with(new Error("MediaType %s doesn't exists".formatted(aType)));
+    }
+}
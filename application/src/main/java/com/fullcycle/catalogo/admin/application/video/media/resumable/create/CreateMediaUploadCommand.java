@@ -0,0 +1,17 @@
+package com.fullcycle.catalogo.admin.application.video.media.resumable.create;
+
+public record CreateMediaUploadCommand(
+    String videoId,
+    String mediaType,
+    String name,
+    String contentType
+) {
+    public static CreateMediaUploadCommand with(
+        final String anId,
+        final String aType,
+        final String aName,
+        final String aContentType
+    ) {
+        return new CreateMediaUploadCommand(anId, aType, aName, aContentType);
+    }
+}
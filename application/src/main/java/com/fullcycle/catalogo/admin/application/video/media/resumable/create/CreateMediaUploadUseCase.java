@@ -0,0 +1,8 @@
+package com.fullcycle.catalogo.admin.application.video.media.resumable.create;
+
+import com.fullcycle.catalogo.admin.application.UseCase;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.MediaUploadOutput;
+
+public abstract class CreateMediaUploadUseCase
+    extends UseCase<CreateMediaUploadCommand, MediaUploadOutput> {
+}
@@ -0,0 +1,46 @@
+package com.fullcycle.catalogo.admin.application.video.media.resumable.create;
+
+import com.fullcycle.catalogo.admin.application.video.media.resumable.MediaUploadOutput;
+import com.fullcycle.catalogo.admin.domain.exceptions.NotFoundException;
+import com.fullcycle.catalogo.admin.domain.validation.Error;
+import com.fullcycle.catalogo.admin.domain.video.Video;
+import com.fullcycle.catalogo.admin.domain.video.VideoGateway;
+import com.fullcycle.catalogo.admin.domain.video.VideoID;
+import com.fullcycle.catalogo.admin.domain.video.VideoMediaType;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUpload;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUploadGateway;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public class DefaultCreateMediaUploadUseCase extends CreateMediaUploadUseCase {
+    private final VideoGateway videoGateway;
+    private final MediaUploadGateway mediaUploadGateway;
+
+    public DefaultCreateMediaUploadUseCase(
+        final VideoGateway videoGateway,
+        final MediaUploadGateway mediaUploadGateway
+    ) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+    }
+
+    @Override
+    public MediaUploadOutput execute(final CreateMediaUploadCommand aCommand) {
+        final var aType = VideoMediaType.of(aCommand.mediaType()).orElseThrow(typeNotFound(aCommand.mediaType()));
+        final var anId = VideoID.from(aCommand.videoId());
+
+        videoGateway.findById(anId).orElseThrow(notFound(anId));
+
+        final var anUpload = MediaUpload.newUpload(anId, aType, aCommand.name(), aCommand.contentType());
+        return MediaUploadOutput.from(mediaUploadGateway.create(anUpload));
+    }
+
+    private Supplier<NotFoundException> notFound(final VideoID anId) {
+        return () -> NotFoundException.with(Video.class, anId);
+    }
+
+    private Supplier<NotFoundException> typeNotFound(final String aType) {
+        return () -> NotFoundException.with(new Error("MediaType %s doesn't exists".formatted(aType)));
+    }
+}
@@ -0,0 +1,41 @@
+package com.fullcycle.catalogo.admin.application.video.media.resumable.retrieve;
+
+import com.fullcycle.catalogo.admin.application.video.media.resumable.MediaUploadOutput;
+import com.fullcycle.catalogo.admin.domain.exceptions.NotFoundException;
+import com.fullcycle.catalogo.admin.domain.validation.Error;
+import com.fullcycle.catalogo.admin.domain.video.VideoID;
+import com.fullcycle.catalogo.admin.domain.video.VideoMediaType;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUpload;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUploadGateway;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUploadID;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+public class DefaultGetMediaUploadUseCase extends GetMediaUploadUseCase {
+    private final MediaUploadGateway mediaUploadGateway;
+
+    public DefaultGetMediaUploadUseCase(final MediaUploadGateway mediaUploadGateway) {
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+    }
+
+    @Override
+    public MediaUploadOutput execute(final GetMediaUploadCommand aCommand) {
+        final var aType = VideoMediaType.of(aCommand.mediaType()).orElseThrow(typeNotFound(aCommand.mediaType()));
+        final var aVideoId = VideoID.from(aCommand.videoId());
+        final var anId = MediaUploadID.from(aCommand.uploadId());
+
+        return mediaUploadGateway.findById(anId)
+                .filter(upload -> upload.belongsTo(aVideoId, aType))
+                .map(MediaUploadOutput::from)
+                .orElseThrow(notFound(anId));
+    }
+
+    private Supplier<NotFoundException> notFound(final MediaUploadID anId) {
+        return () -> NotFoundException.with(MediaUpload.class, anId);
+    }
+
+    private Supplier<NotFoundException> typeNotFound(final String aType) {
+        return () -> NotFoundException.with(new Error("MediaType %s doesn't exists".formatted(aType)));
+    }
+}
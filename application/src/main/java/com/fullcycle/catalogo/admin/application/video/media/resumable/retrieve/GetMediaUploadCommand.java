@@ -0,0 +1,11 @@
+package com.fullcycle.catalogo.admin.application.video.media.resumable.retrieve;
+
+public record GetMediaUploadCommand(
+    String videoId,
+    String mediaType,
+    String uploadId
+) {
+    public static GetMediaUploadCommand with(final String anId, final String aType, final String anUploadId) {
+        return new GetMediaUploadCommand(anId, aType, anUploadId);
+    }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.catalogo.admin.application.video.media.resumable.retrieve;
+
+import com.fullcycle.catalogo.admin.application.UseCase;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.MediaUploadOutput;
+
+public abstract class GetMediaUploadUseCase
+    extends UseCase<GetMediaUploadCommand, MediaUploadOutput> {
+}
@@ -0,0 +1,20 @@
+package com.fullcycle.catalogo.admin.application.video.retrieve.export;
+
+import com.fullcycle.catalogo.admin.application.video.retrieve.get.VideoOutput;
+import com.fullcycle.catalogo.admin.domain.video.VideoGateway;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+
+public class DefaultExportVideosUseCase extends ExportVideosUseCase {
+    private final VideoGateway videoGateway;
+
+    public DefaultExportVideosUseCase(final VideoGateway videoGateway) {
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Override
+    public void execute(final Consumer<VideoOutput> aConsumer) {
+        videoGateway.exportAll(it -> aConsumer.accept(VideoOutput.from(it)));
+    }
+}
@@ -0,0 +1,10 @@
+package com.fullcycle.catalogo.admin.application.video.retrieve.export;
+
+import com.fullcycle.catalogo.admin.application.UnitUseCase;
+import com.fullcycle.catalogo.admin.application.video.retrieve.get.VideoOutput;
+
+import java.util.function.Consumer;
+
+public abstract class ExportVideosUseCase
+    extends UnitUseCase<Consumer<VideoOutput>> {
+}
@@ -1,5 +1,6 @@
 package com.fullcycle.catalogo.admin.application.video.update;
 
+import com.fullcycle.catalogo.admin.application.video.ConcurrentMediaStore;
 import com.fullcycle.catalogo.admin.domain.Identifier;
 import com.fullcycle.catalogo.admin.domain.castmember.CastMemberGateway;
 import com.fullcycle.catalogo.admin.domain.castmember.CastMemberID;
@@ -19,6 +20,7 @@ import com.fullcycle.catalogo.admin.domain.video.rating.Rating;
 
 import java.time.Year;
 import java.util.*;
+import java.util.concurrent.ExecutorService;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
@@ -32,19 +34,22 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
     private final CastMemberGateway castMemberGateway;
     private final VideoGateway videoGateway;
     private final MediaResourceGateway resourceGateway;
+    private final ExecutorService mediaStoreExecutor;
 
     public DefaultUpdateVideoUseCase(
         final CategoryGateway categoryGateway,
         final GenreGateway genreGateway,
         final CastMemberGateway castMemberGateway,
         final VideoGateway videoGateway,
-        final MediaResourceGateway resourceGateway
+        final MediaResourceGateway resourceGateway,
+        final ExecutorService mediaStoreExecutor
     ) {
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.videoGateway = Objects.requireNonNull(videoGateway);
         this.resourceGateway = Objects.requireNonNull(resourceGateway);
+        this.mediaStoreExecutor = Objects.requireNonNull(mediaStoreExecutor);
     }
 
     @Override
@@ -93,36 +98,39 @@ public class DefaultUpdateVideoUseCase extends UpdateVideoUseCase {
         final var anId = aVideo.getId();
 
         try {
+            final var medias = new ConcurrentMediaStore(mediaStoreExecutor);
+
             aCommand.getVideo()
-                .ifPresent(video -> {
-                    final var videoResource = VideoResource.of(video, VIDEO);
-                    aVideo.updatedVideoMedia(resourceGateway.storeAudioVideo(anId, videoResource));
-                });
+                .ifPresent(video -> medias.submit(
+                    () -> resourceGateway.storeAudioVideo(anId, VideoResource.of(video, VIDEO)),
+                    aVideo::updatedVideoMedia
+                ));
 
             aCommand.getTrailer()
-                .ifPresent(trailer -> {
-                    final var videoResource = VideoResource.of(trailer, TRAILER);
-                    aVideo.updateTrailerMedia(resourceGateway.storeAudioVideo(anId, videoResource));
-                });
+                .ifPresent(trailer -> medias.submit(
+                    () -> resourceGateway.storeAudioVideo(anId, VideoResource.of(trailer, TRAILER)),
+                    aVideo::updateTrailerMedia
+                ));
 
             aCommand.getBanner()
-                .ifPresent(banner -> {
-                    final var videoResource = VideoResource.of(banner, BANNER);
-                    aVideo.updateBannerMedia(resourceGateway.storeImage(anId, videoResource));
-                });
+                .ifPresent(banner -> medias.submit(
+                    () -> resourceGateway.storeImage(anId, VideoResource.of(banner, BANNER)),
+                    aVideo::updateBannerMedia
+                ));
 
             aCommand.getThumbnail()
-                .ifPresent(thumb -> {
-                    final var videoResource = VideoResource.of(thumb, THUMBNAIL);
-                    aVideo.updateThumbnailMedia(resourceGateway.storeImage(anId, videoResource));
-                });
+                .ifPresent(thumb -> medias.submit(
+                    () -> resourceGateway.storeImage(anId, VideoResource.of(thumb, THUMBNAIL)),
+                    aVideo::updateThumbnailMedia
+                ));
 
             aCommand.getThumbnailHalf()
-                .ifPresent(thumbHalf -> {
-                    final var videoResource = VideoResource.of(thumbHalf, THUMBNAIL_HALF);
-                    aVideo.updateThumbnailHalfMedia(resourceGateway.storeImage(anId, videoResource));
-                });
+                .ifPresent(thumbHalf -> medias.submit(
+                    () -> resourceGateway.storeImage(anId, VideoResource.of(thumbHalf, THUMBNAIL_HALF)),
+                    aVideo::updateThumbnailHalfMedia
+                ));
 
+            medias.await();
             return videoGateway.update(aVideo);
         } catch (final Throwable throwable) {
             throw InternalErrorException.with(
@@ -0,0 +1,92 @@
+package com.fullcycle.catalogo.admin.application.castmember.create;
+
+import com.fullcycle.catalogo.admin.application.UseCaseTest;
+import com.fullcycle.catalogo.admin.domain.Fixture;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberGateway;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberType;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CreateCastMembersInBatchUseCaseTest extends UseCaseTest {
+    @InjectMocks
+    private DefaultCreateCastMembersInBatchUseCase useCase;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(castMemberGateway);
+    }
+
+    @Test
+    public void givenValidCommands_whenCallsCreateCastMembersInBatch_thenShouldCreateThemAtOnce() {
+        // given
+        final var aCommands = List.of(
+            CreateCastMemberCommand.with(Fixture.name(), CastMemberType.ACTOR),
+            CreateCastMemberCommand.with(Fixture.name(), CastMemberType.DIRECTOR)
+        );
+
+        when(castMemberGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(aCommands).get();
+
+        // then
+        assertEquals(2, actualOutput.items().size());
+        actualOutput.items().forEach(item -> assertNotNull(item.id()));
+
+        verify(castMemberGateway, times(1)).createAll(argThat(members ->
+            members.size() == 2
+            && CastMemberType.ACTOR == members.get(0).getType()
+            && CastMemberType.DIRECTOR == members.get(1).getType()
+        ));
+        verify(castMemberGateway, never()).create(any());
+    }
+
+    @Test
+    public void givenInvalidItems_whenCallsCreateCastMembersInBatch_thenShouldReturnTheErrorsByIndexAndCreateNothing() {
+        // given
+        final var aCommands = List.of(
+            CreateCastMemberCommand.with(null, CastMemberType.ACTOR),
+            CreateCastMemberCommand.with(Fixture.name(), CastMemberType.ACTOR),
+            CreateCastMemberCommand.with(Fixture.name(), null)
+        );
+
+        // when
+        final var actualErrors = useCase.execute(aCommands).getLeft();
+
+        // then
+        assertEquals(2, actualErrors.size());
+        assertEquals(0, actualErrors.get(0).index());
+        assertEquals("'name' should not be null", actualErrors.get(0).errors().get(0).message());
+        assertEquals(2, actualErrors.get(1).index());
+        assertEquals("'type' should not be null", actualErrors.get(1).errors().get(0).message());
+
+        verify(castMemberGateway, never()).createAll(any());
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsCreateCastMembersInBatch_thenShouldReturnABatchError() {
+        // given
+        final var expectedErrorMessage = "Gateway error";
+        final var aCommands = List.of(CreateCastMemberCommand.with(Fixture.name(), CastMemberType.ACTOR));
+
+        when(castMemberGateway.createAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        // when
+        final var actualErrors = useCase.execute(aCommands).getLeft();
+
+        // then
+        assertNull(actualErrors.get(0).index());
+        assertEquals(expectedErrorMessage, actualErrors.get(0).errors().get(0).message());
+    }
+}
@@ -0,0 +1,107 @@
+package com.fullcycle.catalogo.admin.application.castmember.update;
+
+import com.fullcycle.catalogo.admin.application.UseCaseTest;
+import com.fullcycle.catalogo.admin.domain.Fixture;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMember;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberGateway;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberType;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class UpdateCastMembersInBatchUseCaseTest extends UseCaseTest {
+    @InjectMocks
+    private DefaultUpdateCastMembersInBatchUseCase useCase;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(castMemberGateway);
+    }
+
+    @Test
+    public void givenValidCommands_whenCallsUpdateCastMembersInBatch_thenShouldUpdateThemAtOnce() {
+        // given
+        final var vin = CastMember.newMember("vin", CastMemberType.ACTOR);
+        final var quentin = CastMember.newMember("quentin", CastMemberType.ACTOR);
+
+        final var aCommands = List.of(
+            UpdateCastMemberCommand.with(vin.getId().getValue(), "Vin Diesel", CastMemberType.ACTOR),
+            UpdateCastMemberCommand.with(quentin.getId().getValue(), "Quentin Tarantino", CastMemberType.DIRECTOR)
+        );
+
+        when(castMemberGateway.findAllById(any())).thenReturn(List.of(CastMember.with(quentin), CastMember.with(vin)));
+        when(castMemberGateway.updateAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(aCommands).get();
+
+        // then
+        assertEquals(2, actualOutput.items().size());
+        assertEquals(vin.getId().getValue(), actualOutput.items().get(0).id());
+        assertEquals(quentin.getId().getValue(), actualOutput.items().get(1).id());
+
+        verify(castMemberGateway, times(1)).findAllById(argThat(ids ->
+            List.of(vin.getId(), quentin.getId()).equals(ids)
+        ));
+        verify(castMemberGateway, times(1)).updateAll(argThat(members ->
+            members.size() == 2
+            && "Vin Diesel".equals(members.get(0).getName())
+            && CastMemberType.DIRECTOR == members.get(1).getType()
+        ));
+        verify(castMemberGateway, never()).findById(any());
+        verify(castMemberGateway, never()).update(any());
+    }
+
+    @Test
+    public void givenInvalidAndUnknownItems_whenCallsUpdateCastMembersInBatch_thenShouldReturnTheErrorsByIndexAndUpdateNothing() {
+        // given
+        final var vin = CastMember.newMember("Vin Diesel", CastMemberType.ACTOR);
+
+        final var aCommands = List.of(
+            UpdateCastMemberCommand.with(vin.getId().getValue(), Fixture.name(), null),
+            UpdateCastMemberCommand.with("123", Fixture.name(), CastMemberType.ACTOR)
+        );
+
+        when(castMemberGateway.findAllById(any())).thenReturn(List.of(CastMember.with(vin)));
+
+        // when
+        final var actualErrors = useCase.execute(aCommands).getLeft();
+
+        // then
+        assertEquals(2, actualErrors.size());
+        assertEquals(0, actualErrors.get(0).index());
+        assertEquals("'type' should not be null", actualErrors.get(0).errors().get(0).message());
+        assertEquals(1, actualErrors.get(1).index());
+        assertEquals("CastMember with ID 123 was not found", actualErrors.get(1).errors().get(0).message());
+
+        verify(castMemberGateway, never()).updateAll(any());
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsUpdateCastMembersInBatch_thenShouldReturnABatchError() {
+        // given
+        final var expectedErrorMessage = "Gateway error";
+        final var vin = CastMember.newMember("Vin Diesel", CastMemberType.ACTOR);
+        final var aCommands = List.of(UpdateCastMemberCommand.with(vin.getId().getValue(), Fixture.name(), CastMemberType.ACTOR));
+
+        when(castMemberGateway.findAllById(any())).thenReturn(List.of(CastMember.with(vin)));
+        when(castMemberGateway.updateAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        // when
+        final var actualErrors = useCase.execute(aCommands).getLeft();
+
+        // then
+        assertNull(actualErrors.get(0).index());
+        assertEquals(expectedErrorMessage, actualErrors.get(0).errors().get(0).message());
+    }
+}
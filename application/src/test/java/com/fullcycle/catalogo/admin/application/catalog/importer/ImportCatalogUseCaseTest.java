@@ -0,0 +1,290 @@
+package com.fullcycle.catalogo.admin.application.catalog.importer;
+
+import com.fullcycle.catalogo.admin.application.UseCaseTest;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.CastMemberRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.CategoryRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.GenreRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.MalformedRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.VideoRecord;
+import com.fullcycle.catalogo.admin.domain.AggregateRoot;
+import com.fullcycle.catalogo.admin.domain.Identifier;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberGateway;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberType;
+import com.fullcycle.catalogo.admin.domain.catalog.CatalogImport;
+import com.fullcycle.catalogo.admin.domain.catalog.CatalogImportGateway;
+import com.fullcycle.catalogo.admin.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.admin.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.admin.domain.exceptions.NotFoundException;
+import com.fullcycle.catalogo.admin.domain.genre.GenreGateway;
+import com.fullcycle.catalogo.admin.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.admin.domain.video.VideoGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.stubbing.Answer;
+
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.StreamSupport;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class ImportCatalogUseCaseTest extends UseCaseTest {
+    private DefaultImportCatalogUseCase useCase;
+
+    @Mock
+    private CatalogImportGateway catalogImportGateway;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Mock
+    private GenreGateway genreGateway;
+
+    @Mock
+    private CastMemberGateway castMemberGateway;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    private Set<String> persistedIds;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(catalogImportGateway, categoryGateway, genreGateway, castMemberGateway, videoGateway);
+    }
+
+    @BeforeEach
+    void setup() {
+        this.useCase = new DefaultImportCatalogUseCase(
+            catalogImportGateway,
+            categoryGateway,
+            genreGateway,
+            castMemberGateway,
+            videoGateway,
+            2,
+            Duration.ofMinutes(10)
+        );
+        this.persistedIds = new HashSet<>();
+    }
+
+    @Test
+    public void givenValidRecords_whenCallsImportCatalog_thenShouldCreateThemByChunkAndCheckpoint() {
+        // given
+        final var records = List.<CatalogRecord>of(
+            new CategoryRecord(1, "filmes", "Filmes", null, true),
+            new CategoryRecord(2, "series", "Séries", null, true),
+            new GenreRecord(3, "acao", "Ação", true, Set.of("filmes")),
+            new CastMemberRecord(4, "wesley", "Wesley", CastMemberType.ACTOR),
+            new VideoRecord(5, "matrix", "Matrix", "Neo", 1999, 136.0, "L", false, false,
+                Set.of("filmes"), Set.of("acao"), Set.of("wesley"))
+        );
+
+        mockGateways();
+
+        // when
+        final var actualOutput = useCase.execute(ImportCatalogCommand.with(null, records.iterator()));
+
+        // then
+        assertEquals(5, actualOutput.progress().processedLines());
+        assertEquals(5, actualOutput.progress().imported());
+        assertEquals(0, actualOutput.progress().rejected());
+        assertTrue(actualOutput.progress().completed());
+        assertTrue(actualOutput.errors().isEmpty());
+
+        verify(categoryGateway, times(1)).createAll(argThat(categories -> categories.size() == 2));
+        verify(genreGateway, times(1)).createAll(argThat(genres -> genres.size() == 1));
+        verify(castMemberGateway, times(1)).createAll(argThat(members -> members.size() == 1));
+        verify(videoGateway, times(1)).createAll(argThat(videos ->
+            videos.size() == 1 && "Matrix".equals(videos.get(0).getTitle())
+        ));
+        verify(catalogImportGateway, times(1)).create(any());
+        // um checkpoint por lote de 2 linhas e a conclusão
+        verify(catalogImportGateway, times(4)).update(any());
+    }
+
+    @Test
+    public void givenInvalidRecords_whenCallsImportCatalog_thenShouldRejectThemByLineAndImportTheOthers() {
+        // given
+        final var records = List.<CatalogRecord>of(
+            new CategoryRecord(1, "filmes", "Filmes", null, true),
+            new CategoryRecord(2, "filmes", "Filmes de novo", null, true),
+            new CategoryRecord(3, "sem-nome", null, null, true),
+            new MalformedRecord(4, "Malformed line: Unexpected end-of-input"),
+            new GenreRecord(5, "acao", "Ação", true, Set.of("filmes", "documentarios"))
+        );
+
+        mockGateways();
+
+        // when
+        final var actualOutput = useCase.execute(ImportCatalogCommand.with(null, records.iterator()));
+
+        // then
+        assertEquals(1, actualOutput.progress().imported());
+        assertEquals(4, actualOutput.progress().rejected());
+        assertEquals(List.of(2L, 3L, 4L, 5L), actualOutput.errors().stream().map(ImportCatalogError::line).toList());
+        assertEquals("'id' filmes is duplicated", actualOutput.errors().get(0).errors().get(0).message());
+        assertEquals("'name' should not be null", actualOutput.errors().get(1).errors().get(0).message());
+        assertEquals("Malformed line: Unexpected end-of-input", actualOutput.errors().get(2).errors().get(0).message());
+        assertEquals(
+            "Some categories could not be found: documentarios",
+            actualOutput.errors().get(3).errors().get(0).message()
+        );
+
+        verify(genreGateway, never()).createAll(any());
+    }
+
+    @Test
+    public void givenAnInterruptedImport_whenCallsImportCatalogWithItsId_thenShouldResumeAfterTheCheckpoint() {
+        // given
+        final var anImport = CatalogImport.newImport().checkpoint(2, 2, 0, 0);
+        final var records = List.<CatalogRecord>of(
+            new CategoryRecord(1, "filmes", "Filmes", null, true),
+            new CategoryRecord(2, "series", "Séries", null, true),
+            new CategoryRecord(3, "documentarios", "Documentários", null, true),
+            new CategoryRecord(4, "animacoes", "Animações", null, true)
+        );
+
+        // a linha 3 foi gravada antes da interrupção, mas não chegou ao checkpoint
+        persistedIds.addAll(Set.of("filmes", "series", "documentarios"));
+        when(catalogImportGateway.claim(any(), any())).thenReturn(Optional.of(anImport));
+        mockGateways();
+
+        // when
+        final var actualOutput = useCase.execute(
+            ImportCatalogCommand.with(anImport.getId().getValue(), records.iterator())
+        );
+
+        // then
+        assertEquals(4, actualOutput.progress().processedLines());
+        assertEquals(3, actualOutput.progress().imported());
+        assertEquals(1, actualOutput.progress().skipped());
+
+        verify(categoryGateway, times(1)).existsByIds(argThat(ids ->
+            asString(Set.copyOf(toList(ids))).equals(Set.of("documentarios", "animacoes"))
+        ));
+        verify(categoryGateway, times(1)).createAll(argThat(categories ->
+            categories.size() == 1 && "animacoes".equals(categories.get(0).getId().getValue())
+        ));
+        verify(catalogImportGateway, never()).create(any());
+    }
+
+    @Test
+    public void givenACompletedImport_whenCallsImportCatalogWithItsId_thenShouldNotReadTheRecords() {
+        // given
+        final var anImport = CatalogImport.newImport().checkpoint(1, 1, 0, 0).complete();
+        final var records = List.<CatalogRecord>of(new CategoryRecord(2, "series", "Séries", null, true));
+
+        when(catalogImportGateway.claim(any(), any())).thenReturn(Optional.of(anImport));
+
+        // when
+        final var actualOutput = useCase.execute(
+            ImportCatalogCommand.with(anImport.getId().getValue(), records.iterator())
+        );
+
+        // then
+        assertEquals(1, actualOutput.progress().processedLines());
+        verify(categoryGateway, never()).createAll(any());
+        verify(catalogImportGateway, never()).update(any());
+    }
+
+    @Test
+    public void givenAnInvalidImportId_whenCallsImportCatalog_thenShouldReturnNotFound() {
+        // given
+        final var expectedErrorMessage = "CatalogImport with ID 123 was not found";
+
+        when(catalogImportGateway.claim(any(), any())).thenReturn(Optional.empty());
+
+        // when
+        final var actualException = assertThrows(
+            NotFoundException.class,
+            () -> useCase.execute(ImportCatalogCommand.with("123", List.<CatalogRecord>of().iterator()))
+        );
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenARunningImport_whenCallsImportCatalogWithItsId_thenShouldReceiveError() {
+        // given
+        final var anImport = CatalogImport.newImport().checkpoint(1, 1, 0, 0).claim(InstantUtils.now().plusSeconds(60));
+        final var expectedErrorMessage = "Catalog import %s is already running".formatted(anImport.getId().getValue());
+        final var records = List.<CatalogRecord>of(new CategoryRecord(2, "series", "Séries", null, true));
+
+        when(catalogImportGateway.claim(any(), any()))
+            .thenAnswer(invocation -> Optional.of(anImport.claim(invocation.getArgument(1))));
+
+        // when
+        final var actualException = assertThrows(
+            DomainException.class,
+            () -> useCase.execute(ImportCatalogCommand.with(anImport.getId().getValue(), records.iterator()))
+        );
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verify(categoryGateway, never()).createAll(any());
+        verify(catalogImportGateway, never()).release(any());
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsImportCatalog_thenShouldReleaseTheImport() {
+        // given
+        final var expectedErrorMessage = "Gateway error";
+        final var records = List.<CatalogRecord>of(new CategoryRecord(1, "filmes", "Filmes", null, true));
+
+        mockGateways();
+        doThrow(new IllegalStateException(expectedErrorMessage)).when(categoryGateway).createAll(any());
+
+        // when
+        final var actualException = assertThrows(
+            IllegalStateException.class,
+            () -> useCase.execute(ImportCatalogCommand.with(null, records.iterator()))
+        );
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(catalogImportGateway, times(1)).release(any());
+        verify(catalogImportGateway, never()).update(any());
+    }
+
+    private void mockGateways() {
+        lenient().when(catalogImportGateway.create(any())).thenAnswer(returnsFirstArg());
+        lenient().when(catalogImportGateway.update(any())).thenAnswer(returnsFirstArg());
+
+        lenient().when(categoryGateway.existsByIds(any())).thenAnswer(existsByIds());
+        lenient().when(genreGateway.existsByIds(any())).thenAnswer(existsByIds());
+        lenient().when(castMemberGateway.existsByIds(any())).thenAnswer(existsByIds());
+        lenient().when(videoGateway.existsByIds(any())).thenAnswer(existsByIds());
+
+        lenient().when(categoryGateway.createAll(any())).thenAnswer(createAll());
+        lenient().when(genreGateway.createAll(any())).thenAnswer(createAll());
+        lenient().when(castMemberGateway.createAll(any())).thenAnswer(createAll());
+        lenient().when(videoGateway.createAll(any())).thenAnswer(createAll());
+    }
+
+    private <T extends Identifier> Answer<List<T>> existsByIds() {
+        return invocation -> {
+            final Iterable<T> ids = invocation.getArgument(0);
+            return toList(ids).stream().filter(anId -> persistedIds.contains(anId.getValue())).toList();
+        };
+    }
+
+    private <T extends AggregateRoot<?>> Answer<List<T>> createAll() {
+        return invocation -> {
+            final List<T> aggregates = invocation.getArgument(0);
+            aggregates.forEach(it -> persistedIds.add(it.getId().getValue()));
+            return aggregates;
+        };
+    }
+
+    private static <T> List<T> toList(final Iterable<T> ids) {
+        return StreamSupport.stream(ids.spliterator(), false).toList();
+    }
+}
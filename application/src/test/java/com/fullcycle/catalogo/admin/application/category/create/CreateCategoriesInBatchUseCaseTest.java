@@ -0,0 +1,115 @@
+package com.fullcycle.catalogo.admin.application.category.create;
+
+import com.fullcycle.catalogo.admin.application.UseCaseTest;
+import com.fullcycle.catalogo.admin.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class CreateCategoriesInBatchUseCaseTest extends UseCaseTest {
+    @InjectMocks
+    private DefaultCreateCategoriesInBatchUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenValidCommands_whenCallsCreateCategoriesInBatch_thenShouldCreateThemAtOnce() {
+        // given
+        final var aCommands = List.of(
+            CreateCategoryCommand.with("Filmes", "A categoria mais assistida", true),
+            CreateCategoryCommand.with("Séries", null, false)
+        );
+
+        when(categoryGateway.createAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(aCommands).get();
+
+        // then
+        assertEquals(2, actualOutput.items().size());
+        actualOutput.items().forEach(item -> assertNotNull(item.id()));
+
+        verify(categoryGateway, times(1)).createAll(argThat(categories ->
+            categories.size() == 2
+            && "Filmes".equals(categories.get(0).getName())
+            && "Séries".equals(categories.get(1).getName())
+            && !categories.get(1).isActive()
+        ));
+        verify(categoryGateway, never()).create(any());
+    }
+
+    @Test
+    public void givenInvalidItems_whenCallsCreateCategoriesInBatch_thenShouldReturnTheErrorsByIndexAndCreateNothing() {
+        // given
+        final var expectedErrorMessage = "'name' should not be null";
+        final var aCommands = List.of(
+            CreateCategoryCommand.with("Filmes", null, true),
+            CreateCategoryCommand.with(null, null, true),
+            CreateCategoryCommand.with("Séries", null, true),
+            CreateCategoryCommand.with(null, null, true)
+        );
+
+        // when
+        final var actualErrors = useCase.execute(aCommands).getLeft();
+
+        // then
+        assertEquals(2, actualErrors.size());
+        assertEquals(1, actualErrors.get(0).index());
+        assertEquals(3, actualErrors.get(1).index());
+        assertEquals(expectedErrorMessage, actualErrors.get(0).errors().get(0).message());
+
+        verify(categoryGateway, never()).createAll(any());
+    }
+
+    @Test
+    public void givenTooManyItems_whenCallsCreateCategoriesInBatch_thenShouldReturnABatchError() {
+        // given
+        final var expectedErrorMessage = "'items' must have between 1 and 1000 items";
+        final var aCommands = IntStream.rangeClosed(0, DefaultCreateCategoriesInBatchUseCase.MAX_ITEMS)
+            .mapToObj(i -> CreateCategoryCommand.with("Categoria " + i, null, true))
+            .toList();
+
+        // when
+        final var actualErrors = useCase.execute(aCommands).getLeft();
+        final var actualEmptyErrors = useCase.execute(Collections.emptyList()).getLeft();
+
+        // then
+        assertNull(actualErrors.get(0).index());
+        assertEquals(expectedErrorMessage, actualErrors.get(0).errors().get(0).message());
+        assertEquals(expectedErrorMessage, actualEmptyErrors.get(0).errors().get(0).message());
+
+        verify(categoryGateway, never()).createAll(any());
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsCreateCategoriesInBatch_thenShouldReturnABatchError() {
+        // given
+        final var expectedErrorMessage = "Gateway error";
+        final var aCommands = List.of(CreateCategoryCommand.with("Filmes", null, true));
+
+        when(categoryGateway.createAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        // when
+        final var actualErrors = useCase.execute(aCommands).getLeft();
+
+        // then
+        assertEquals(1, actualErrors.size());
+        assertNull(actualErrors.get(0).index());
+        assertEquals(expectedErrorMessage, actualErrors.get(0).errors().get(0).message());
+    }
+}
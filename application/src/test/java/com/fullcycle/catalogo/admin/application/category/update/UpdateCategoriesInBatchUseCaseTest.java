@@ -0,0 +1,135 @@
+package com.fullcycle.catalogo.admin.application.category.update;
+
+import com.fullcycle.catalogo.admin.application.UseCaseTest;
+import com.fullcycle.catalogo.admin.domain.category.Category;
+import com.fullcycle.catalogo.admin.domain.category.CategoryGateway;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class UpdateCategoriesInBatchUseCaseTest extends UseCaseTest {
+    @InjectMocks
+    private DefaultUpdateCategoriesInBatchUseCase useCase;
+
+    @Mock
+    private CategoryGateway categoryGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(categoryGateway);
+    }
+
+    @Test
+    public void givenValidCommands_whenCallsUpdateCategoriesInBatch_thenShouldUpdateThemAtOnce() {
+        // given
+        final var filmes = Category.newCategoryWith("Film", null, true);
+        final var series = Category.newCategoryWith("Serie", null, true);
+
+        final var aCommands = List.of(
+            UpdateCategoryCommand.with(filmes.getId().getValue(), "Filmes", "A categoria mais assistida", true),
+            UpdateCategoryCommand.with(series.getId().getValue(), "Séries", null, false)
+        );
+
+        when(categoryGateway.findAllById(any())).thenReturn(List.of(series.clone(), filmes.clone()));
+        when(categoryGateway.updateAll(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualOutput = useCase.execute(aCommands).get();
+
+        // then
+        assertEquals(2, actualOutput.items().size());
+        assertEquals(filmes.getId().getValue(), actualOutput.items().get(0).id());
+        assertEquals(series.getId().getValue(), actualOutput.items().get(1).id());
+
+        verify(categoryGateway, times(1)).findAllById(argThat(ids ->
+            List.of(filmes.getId(), series.getId()).equals(ids)
+        ));
+        verify(categoryGateway, times(1)).updateAll(argThat(categories ->
+            categories.size() == 2
+            && "Filmes".equals(categories.get(0).getName())
+            && "Séries".equals(categories.get(1).getName())
+            && !categories.get(1).isActive()
+        ));
+        verify(categoryGateway, never()).findById(any());
+        verify(categoryGateway, never()).update(any());
+    }
+
+    @Test
+    public void givenInvalidAndUnknownItems_whenCallsUpdateCategoriesInBatch_thenShouldReturnTheErrorsByIndexAndUpdateNothing() {
+        // given
+        final var filmes = Category.newCategoryWith("Filmes", null, true);
+        final var series = Category.newCategoryWith("Séries", null, true);
+
+        final var aCommands = List.of(
+            UpdateCategoryCommand.with(filmes.getId().getValue(), "Filmes", null, true),
+            UpdateCategoryCommand.with(series.getId().getValue(), null, null, true),
+            UpdateCategoryCommand.with("123", "Documentários", null, true),
+            UpdateCategoryCommand.with(null, "Documentários", null, true)
+        );
+
+        when(categoryGateway.findAllById(any())).thenReturn(List.of(filmes.clone(), series.clone()));
+
+        // when
+        final var actualErrors = useCase.execute(aCommands).getLeft();
+
+        // then
+        assertEquals(3, actualErrors.size());
+        assertEquals(1, actualErrors.get(0).index());
+        assertEquals("'name' should not be null", actualErrors.get(0).errors().get(0).message());
+        assertEquals(2, actualErrors.get(1).index());
+        assertEquals("Category with ID 123 was not found", actualErrors.get(1).errors().get(0).message());
+        assertEquals(3, actualErrors.get(2).index());
+        assertEquals("'id' should not be null", actualErrors.get(2).errors().get(0).message());
+
+        verify(categoryGateway, never()).updateAll(any());
+    }
+
+    @Test
+    public void givenTooManyItems_whenCallsUpdateCategoriesInBatch_thenShouldReturnABatchError() {
+        // given
+        final var expectedErrorMessage = "'items' must have between 1 and 1000 items";
+        final var aCommands = IntStream.rangeClosed(0, DefaultUpdateCategoriesInBatchUseCase.MAX_ITEMS)
+            .mapToObj(i -> UpdateCategoryCommand.with("id-" + i, "Categoria " + i, null, true))
+            .toList();
+
+        // when
+        final var actualErrors = useCase.execute(aCommands).getLeft();
+        final var actualEmptyErrors = useCase.execute(Collections.emptyList()).getLeft();
+
+        // then
+        assertNull(actualErrors.get(0).index());
+        assertEquals(expectedErrorMessage, actualErrors.get(0).errors().get(0).message());
+        assertEquals(expectedErrorMessage, actualEmptyErrors.get(0).errors().get(0).message());
+
+        verify(categoryGateway, never()).findAllById(any());
+        verify(categoryGateway, never()).updateAll(any());
+    }
+
+    @Test
+    public void givenAGatewayError_whenCallsUpdateCategoriesInBatch_thenShouldReturnABatchError() {
+        // given
+        final var expectedErrorMessage = "Gateway error";
+        final var filmes = Category.newCategoryWith("Filmes", null, true);
+        final var aCommands = List.of(UpdateCategoryCommand.with(filmes.getId().getValue(), "Filmes", null, true));
+
+        when(categoryGateway.findAllById(any())).thenReturn(List.of(filmes.clone()));
+        when(categoryGateway.updateAll(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        // when
+        final var actualErrors = useCase.execute(aCommands).getLeft();
+
+        // then
+        assertEquals(1, actualErrors.size());
+        assertNull(actualErrors.get(0).index());
+        assertEquals(expectedErrorMessage, actualErrors.get(0).errors().get(0).message());
+    }
+}
@@ -11,12 +11,14 @@ import com.fullcycle.catalogo.admin.domain.exceptions.NotificationException;
 import com.fullcycle.catalogo.admin.domain.genre.GenreGateway;
 import com.fullcycle.catalogo.admin.domain.genre.GenreID;
 import com.fullcycle.catalogo.admin.domain.resource.Resource;
+import com.fullcycle.catalogo.admin.domain.video.MediaCleanupGateway;
 import com.fullcycle.catalogo.admin.domain.video.MediaResourceGateway;
 import com.fullcycle.catalogo.admin.domain.video.VideoGateway;
 import com.fullcycle.catalogo.admin.domain.video.VideoMediaType;
 import com.fullcycle.catalogo.admin.domain.video.VideoResource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.time.Year;
@@ -24,6 +26,12 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
@@ -33,9 +41,10 @@ import static org.mockito.Mockito.*;
 
 public class CreateVideoUseCaseTest extends UseCaseTest {
 
-    @InjectMocks
     private DefaultCreateVideoUseCase useCase;
 
+    private ExecutorService mediaStoreExecutor;
+
     @Mock
     private VideoGateway videoGateway;
 
@@ -51,6 +60,9 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
     @Mock
     private MediaResourceGateway resourceGateway;
 
+    @Mock
+    private MediaCleanupGateway cleanupGateway;
+
     @Override
     protected List<Object> getMocks() {
         return List.of(
@@ -58,10 +70,30 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
             categoryGateway,
             genreGateway,
             castMemberGateway,
-            resourceGateway
+            resourceGateway,
+            cleanupGateway
+        );
+    }
+
+    @BeforeEach
+    void setUp() {
+        mediaStoreExecutor = Executors.newFixedThreadPool(5);
+        useCase = new DefaultCreateVideoUseCase(
+            categoryGateway,
+            genreGateway,
+            castMemberGateway,
+            videoGateway,
+            resourceGateway,
+            cleanupGateway,
+            mediaStoreExecutor
         );
     }
 
+    @AfterEach
+    void tearDown() {
+        mediaStoreExecutor.shutdownNow();
+    }
+
     @Test
     public void givenAValidCommand_whenCallsCreateVideo_thenShouldReturnVideoId() {
         // given
@@ -467,7 +499,7 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(castMemberGateway, times(0)).existsByIds(any());
         verify(resourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(resourceGateway, times(0)).storeImage(any(), any());
-        verify(resourceGateway, times(0)).clearResources(any());
+        verify(cleanupGateway, times(0)).schedule(any());
     }
 
     @Test
@@ -525,7 +557,7 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(castMemberGateway, times(0)).existsByIds(any());
         verify(resourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(resourceGateway, times(0)).storeImage(any(), any());
-        verify(resourceGateway, times(0)).clearResources(any());
+        verify(cleanupGateway, times(0)).schedule(any());
     }
 
     @Test
@@ -583,7 +615,7 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(castMemberGateway, times(0)).existsByIds(any());
         verify(resourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(resourceGateway, times(0)).storeImage(any(), any());
-        verify(resourceGateway, times(0)).clearResources(any());
+        verify(cleanupGateway, times(0)).schedule(any());
     }
 
     @Test
@@ -641,7 +673,7 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(castMemberGateway, times(0)).existsByIds(any());
         verify(resourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(resourceGateway, times(0)).storeImage(any(), any());
-        verify(resourceGateway, times(0)).clearResources(any());
+        verify(cleanupGateway, times(0)).schedule(any());
     }
 
     @Test
@@ -699,7 +731,7 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(castMemberGateway, times(0)).existsByIds(any());
         verify(resourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(resourceGateway, times(0)).storeImage(any(), any());
-        verify(resourceGateway, times(0)).clearResources(any());
+        verify(cleanupGateway, times(0)).schedule(any());
     }
 
     @Test
@@ -762,7 +794,7 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(videoGateway, times(0)).create(any());
         verify(resourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(resourceGateway, times(0)).storeImage(any(), any());
-        verify(resourceGateway, times(0)).clearResources(any());
+        verify(cleanupGateway, times(0)).schedule(any());
     }
 
     @Test
@@ -825,7 +857,7 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(videoGateway, times(0)).create(any());
         verify(resourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(resourceGateway, times(0)).storeImage(any(), any());
-        verify(resourceGateway, times(0)).clearResources(any());
+        verify(cleanupGateway, times(0)).schedule(any());
     }
 
     @Test
@@ -888,7 +920,7 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         verify(videoGateway, times(0)).create(any());
         verify(resourceGateway, times(0)).storeAudioVideo(any(), any());
         verify(resourceGateway, times(0)).storeImage(any(), any());
-        verify(resourceGateway, times(0)).clearResources(any());
+        verify(cleanupGateway, times(0)).schedule(any());
     }
 
     @Test
@@ -945,7 +977,141 @@ public class CreateVideoUseCaseTest extends UseCaseTest {
         assertNotNull(actualException);
         assertTrue(actualException.getMessage().startsWith(expectedErrorMessage));
 
-        verify(resourceGateway).clearResources(any());
+        verify(cleanupGateway).schedule(any());
+    }
+
+    @Test
+    public void givenASlowMediaResourceGateway_whenCallsCreateVideo_thenShouldStoreMediasConcurrently() {
+        // given
+        final var expectedCategories = Set.of(Fixture.Categories.category().getId());
+        final var expectedGenres = Set.of(Fixture.Genres.genre().getId());
+        final var expectedMembers = Set.of(Fixture.CastMembers.member().getId());
+        final Resource expectedVideo = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        final Resource expectedTrailer = Fixture.Videos.resource(VideoMediaType.TRAILER);
+        final Resource expectedBanner = Fixture.Videos.resource(VideoMediaType.BANNER);
+        final Resource expectedThumb = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+        final Resource expectedThumbHalf = Fixture.Videos.resource(VideoMediaType.THUMBNAIL_HALF);
+
+        final var aCommand = CreateVideoCommand.with(
+            Fixture.title(),
+            Fixture.Videos.description(),
+            Fixture.year(),
+            Fixture.duration(),
+            Fixture.bool(),
+            Fixture.bool(),
+            Fixture.Videos.rating().getName(),
+            asString(expectedCategories),
+            asString(expectedGenres),
+            asString(expectedMembers),
+            expectedVideo,
+            expectedTrailer,
+            expectedBanner,
+            expectedThumb,
+            expectedThumbHalf
+        );
+
+        // cada gravação só termina quando as cinco estiverem em andamento ao mesmo tempo
+        final var allInFlight = new CyclicBarrier(5);
+
+        when(categoryGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedCategories));
+        when(castMemberGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedMembers));
+        when(genreGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedGenres));
+        when(resourceGateway.storeImage(any(), any()))
+            .thenAnswer(answer -> {
+                allInFlight.await(5, TimeUnit.SECONDS);
+                return Fixture.Videos.image(answer.getArgument(1, VideoResource.class).type());
+            });
+        when(resourceGateway.storeAudioVideo(any(), any()))
+            .thenAnswer(answer -> {
+                allInFlight.await(5, TimeUnit.SECONDS);
+                return Fixture.Videos.audioVideo(answer.getArgument(1, VideoResource.class).type());
+            });
+        when(videoGateway.create(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualResult = useCase.execute(aCommand);
+
+        // then
+        assertNotNull(actualResult.id());
+
+        verify(videoGateway)
+            .create(argThat(actualVideo ->
+                Objects.equals(expectedVideo.name(), actualVideo.getVideo().get().name())
+                && Objects.equals(expectedTrailer.name(), actualVideo.getTrailer().get().name())
+                && Objects.equals(expectedBanner.name(), actualVideo.getBanner().get().name())
+                && Objects.equals(expectedThumb.name(), actualVideo.getThumbnail().get().name())
+                && Objects.equals(expectedThumbHalf.name(), actualVideo.getThumbnailHalf().get().name())
+            ));
+        verify(cleanupGateway, times(0)).schedule(any());
+    }
+
+    @Test
+    public void givenAFailingMediaResourceGateway_whenCallsCreateVideo_thenShouldCancelPendingWritesAndClearResources() {
+        // given
+        final var expectedErrorMessage = "An error on create video was observed [videoId:";
+
+        final var expectedCategories = Set.of(Fixture.Categories.category().getId());
+        final var expectedGenres = Set.of(Fixture.Genres.genre().getId());
+        final var expectedMembers = Set.of(Fixture.CastMembers.member().getId());
+
+        final var aCommand = CreateVideoCommand.with(
+            Fixture.title(),
+            Fixture.Videos.description(),
+            Fixture.year(),
+            Fixture.duration(),
+            Fixture.bool(),
+            Fixture.bool(),
+            Fixture.Videos.rating().getName(),
+            asString(expectedCategories),
+            asString(expectedGenres),
+            asString(expectedMembers),
+            Fixture.Videos.resource(VideoMediaType.VIDEO),
+            Fixture.Videos.resource(VideoMediaType.TRAILER),
+            Fixture.Videos.resource(VideoMediaType.BANNER),
+            Fixture.Videos.resource(VideoMediaType.THUMBNAIL),
+            Fixture.Videos.resource(VideoMediaType.THUMBNAIL_HALF)
+        );
+
+        final var started = new AtomicInteger(0);
+        final var interrupted = new AtomicInteger(0);
+        final var inFlight = new AtomicInteger(0);
+        final var inFlightOnClear = new AtomicInteger(-1);
+
+        when(categoryGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedCategories));
+        when(castMemberGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedMembers));
+        when(genreGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedGenres));
+        when(resourceGateway.storeImage(any(), any())).thenThrow(new RuntimeException("Storage unavailable"));
+        when(resourceGateway.storeAudioVideo(any(), any()))
+            .thenAnswer(answer -> {
+                started.incrementAndGet();
+                inFlight.incrementAndGet();
+                try {
+                    // simula um upload lento que só termina quando for cancelado
+                    new CountDownLatch(1).await();
+                    return null;
+                } catch (final InterruptedException e) {
+                    interrupted.incrementAndGet();
+                    throw new RuntimeException(e);
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        doAnswer(answer -> {
+            inFlightOnClear.set(inFlight.get());
+            return null;
+        }).when(cleanupGateway).schedule(any());
+
+        // when
+        final var actualException =
+            assertThrows(InternalErrorException.class, () -> useCase.execute(aCommand));
+
+        // then
+        assertTrue(actualException.getMessage().startsWith(expectedErrorMessage));
+        assertEquals(started.get(), interrupted.get());
+        assertEquals(0, inFlightOnClear.get());
+
+        verify(cleanupGateway).schedule(any());
+        verify(videoGateway, times(0)).create(any());
     }
 
     private void mockImageMedia() {
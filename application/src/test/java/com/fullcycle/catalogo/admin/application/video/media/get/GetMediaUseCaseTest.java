@@ -46,7 +46,8 @@ public class GetMediaUseCaseTest extends UseCaseTest {
         // then
         assertEquals(expectedResource.name(), actualResult.name());
         assertEquals(expectedResource.contentType(), actualResult.contentType());
-        assertEquals(expectedResource.content(), actualResult.content());
+        assertEquals(expectedResource.size(), actualResult.size());
+        assertEquals(expectedResource, actualResult.resource());
     }
 
     @Test
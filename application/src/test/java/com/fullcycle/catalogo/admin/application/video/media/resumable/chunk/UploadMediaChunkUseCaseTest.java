@@ -0,0 +1,178 @@
+package com.fullcycle.catalogo.admin.application.video.media.resumable.chunk;
+
+import com.fullcycle.catalogo.admin.application.UseCaseTest;
+import com.fullcycle.catalogo.admin.domain.Fixture;
+import com.fullcycle.catalogo.admin.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.admin.domain.exceptions.NotFoundException;
+import com.fullcycle.catalogo.admin.domain.resource.Resource;
+import com.fullcycle.catalogo.admin.domain.video.MediaResourceGateway;
+import com.fullcycle.catalogo.admin.domain.video.VideoID;
+import com.fullcycle.catalogo.admin.domain.video.VideoMediaType;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUpload;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUploadGateway;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class UploadMediaChunkUseCaseTest extends UseCaseTest {
+    @InjectMocks
+    private DefaultUploadMediaChunkUseCase useCase;
+
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaUploadGateway, mediaResourceGateway);
+    }
+
+    @Test
+    public void givenTheNextChunk_whenCallsUploadMediaChunk_thenShouldStoreItAndAdvanceOffset() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var anUpload = Fixture.Videos.upload(expectedVideoId, expectedType);
+        final var aResource = Resource.of("abc", "Conteudo".getBytes(), "application/octet-stream", "1");
+        final var expectedOffset = aResource.size();
+        final var expectedNextChunk = 2;
+
+        when(mediaUploadGateway.findById(eq(anUpload.getId()))).thenReturn(Optional.of(anUpload));
+        final var aStoredUpload = MediaUpload.with(
+            anUpload.getId(),
+            expectedVideoId,
+            expectedType,
+            anUpload.getName(),
+            anUpload.getContentType(),
+            List.of(),
+            anUpload.getCreatedAt(),
+            anUpload.getUpdatedAt()
+        );
+
+        when(mediaResourceGateway.storeChunk(any(), anyInt(), any())).thenReturn(aResource.size());
+        when(mediaUploadGateway.update(eq(anUpload.getId()), any()))
+            .thenAnswer(call -> Optional.of(call.<UnaryOperator<MediaUpload>>getArgument(1).apply(aStoredUpload)));
+
+        final var aCommand = UploadMediaChunkCommand.with(
+            expectedVideoId.getValue(),
+            expectedType.name(),
+            anUpload.getId().getValue(),
+            1,
+            aResource
+        );
+
+        // when
+        final var actualOutput = useCase.execute(aCommand);
+
+        // then
+        assertEquals(anUpload.getId().getValue(), actualOutput.id());
+        assertEquals(expectedOffset, actualOutput.offset());
+        assertEquals(expectedNextChunk, actualOutput.nextChunk());
+
+        verify(mediaResourceGateway, times(1)).storeChunk(eq(anUpload), eq(1), eq(aResource));
+        verify(mediaUploadGateway, times(1)).update(eq(anUpload.getId()), any());
+    }
+
+    @Test
+    public void givenAChunkShorterThanDeclared_whenCallsUploadMediaChunk_thenShouldNotRegisterIt() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var anUpload = Fixture.Videos.upload(expectedVideoId, expectedType);
+        final var aResource = Resource.of("abc", "Conteudo".getBytes(), "application/octet-stream", "1");
+        final var expectedErrorMessage = "Chunk 1 has 5 bytes but 8 were declared";
+
+        when(mediaUploadGateway.findById(eq(anUpload.getId()))).thenReturn(Optional.of(anUpload));
+        when(mediaResourceGateway.storeChunk(any(), anyInt(), any())).thenReturn(5L);
+
+        final var aCommand = UploadMediaChunkCommand.with(
+            expectedVideoId.getValue(),
+            expectedType.name(),
+            anUpload.getId().getValue(),
+            1,
+            aResource
+        );
+
+        // when
+        final var actualException = assertThrows(DomainException.class, () -> useCase.execute(aCommand));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        final var captor = ArgumentCaptor.forClass(UnaryOperator.class);
+        verify(mediaUploadGateway, times(1)).update(eq(anUpload.getId()), captor.capture());
+        verify(mediaUploadGateway, never()).update(any(MediaUpload.class));
+
+        final var aStoredUpload = Fixture.Videos.upload(expectedVideoId, expectedType).registerChunk(1, 8);
+        assertFalse(((MediaUpload) captor.getValue().apply(aStoredUpload)).hasChunks());
+    }
+
+    @Test
+    public void givenAnOutOfOrderChunk_whenCallsUploadMediaChunk_thenShouldNotStoreIt() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var anUpload = Fixture.Videos.upload(expectedVideoId, expectedType);
+        final var aResource = Resource.of("abc", "Conteudo".getBytes(), "application/octet-stream", "3");
+        final var expectedErrorMessage = "Chunk 3 is out of order, next expected chunk is 1";
+
+        when(mediaUploadGateway.findById(eq(anUpload.getId()))).thenReturn(Optional.of(anUpload));
+
+        final var aCommand = UploadMediaChunkCommand.with(
+            expectedVideoId.getValue(),
+            expectedType.name(),
+            anUpload.getId().getValue(),
+            3,
+            aResource
+        );
+
+        // when
+        final var actualException = assertThrows(DomainException.class, () -> useCase.execute(aCommand));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        verify(mediaResourceGateway, never()).storeChunk(any(), anyInt(), any());
+        verify(mediaUploadGateway, never()).update(any(), any());
+    }
+
+    @Test
+    public void givenAnUploadOfAnotherVideo_whenCallsUploadMediaChunk_thenShouldReturnNotFound() {
+        // given
+        final var anUpload = Fixture.Videos.upload(VideoID.unique(), VideoMediaType.VIDEO);
+        final var aResource = Resource.of("abc", "Conteudo".getBytes(), "application/octet-stream", "1");
+        final var expectedErrorMessage = "MediaUpload with ID %s was not found".formatted(anUpload.getId().getValue());
+
+        when(mediaUploadGateway.findById(eq(anUpload.getId()))).thenReturn(Optional.of(anUpload));
+
+        final var aCommand = UploadMediaChunkCommand.with(
+            VideoID.unique().getValue(),
+            VideoMediaType.VIDEO.name(),
+            anUpload.getId().getValue(),
+            1,
+            aResource
+        );
+
+        // when
+        final var actualException = assertThrows(NotFoundException.class, () -> useCase.execute(aCommand));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(mediaResourceGateway, never()).storeChunk(any(), anyInt(), any());
+    }
+}
@@ -0,0 +1,129 @@
+package com.fullcycle.catalogo.admin.application.video.media.resumable.commit;
+
+import com.fullcycle.catalogo.admin.application.UseCaseTest;
+import com.fullcycle.catalogo.admin.application.video.media.upload.UploadMediaOutput;
+import com.fullcycle.catalogo.admin.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.catalogo.admin.domain.Fixture;
+import com.fullcycle.catalogo.admin.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.admin.domain.video.MediaResourceGateway;
+import com.fullcycle.catalogo.admin.domain.video.VideoID;
+import com.fullcycle.catalogo.admin.domain.video.VideoMediaType;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUploadGateway;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class CommitMediaUploadUseCaseTest extends UseCaseTest {
+    @InjectMocks
+    private DefaultCommitMediaUploadUseCase useCase;
+
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
+    @Mock
+    private MediaResourceGateway mediaResourceGateway;
+
+    @Mock
+    private UploadMediaUseCase uploadMediaUseCase;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaUploadGateway, mediaResourceGateway, uploadMediaUseCase);
+    }
+
+    @Test
+    public void givenAnUploadWithChunks_whenCallsCommit_thenShouldHandOffToUploadMediaAndClearTheSession() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var anUpload = Fixture.Videos.upload(expectedVideoId, expectedType).registerChunk(1, 8);
+        final var expectedResource = Fixture.Videos.resource(expectedType);
+
+        when(mediaUploadGateway.findById(eq(anUpload.getId()))).thenReturn(Optional.of(anUpload));
+        when(mediaResourceGateway.composeChunks(eq(anUpload))).thenReturn(expectedResource);
+        when(uploadMediaUseCase.execute(any()))
+            .thenReturn(new UploadMediaOutput(expectedVideoId.getValue(), expectedType));
+
+        final var aCommand = CommitMediaUploadCommand.with(
+            expectedVideoId.getValue(),
+            expectedType.name(),
+            anUpload.getId().getValue()
+        );
+
+        // when
+        final var actualOutput = useCase.execute(aCommand);
+
+        // then
+        assertEquals(expectedVideoId.getValue(), actualOutput.videoId());
+        assertEquals(expectedType, actualOutput.mediaType());
+
+        verify(uploadMediaUseCase, times(1)).execute(argThat(aCmd ->
+            expectedVideoId.getValue().equals(aCmd.videoId())
+                && expectedType == aCmd.videoResource().type()
+                && expectedResource.equals(aCmd.videoResource().resource())
+        ));
+        verify(mediaResourceGateway, times(1)).clearChunks(eq(anUpload));
+        verify(mediaUploadGateway, times(1)).deleteById(eq(anUpload.getId()));
+    }
+
+    @Test
+    public void givenAnUploadWithoutChunks_whenCallsCommit_thenShouldReturnDomainException() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var anUpload = Fixture.Videos.upload(expectedVideoId, expectedType);
+        final var expectedErrorMessage = "MediaUpload %s has no chunks to commit".formatted(anUpload.getId().getValue());
+
+        when(mediaUploadGateway.findById(eq(anUpload.getId()))).thenReturn(Optional.of(anUpload));
+
+        final var aCommand = CommitMediaUploadCommand.with(
+            expectedVideoId.getValue(),
+            expectedType.name(),
+            anUpload.getId().getValue()
+        );
+
+        // when
+        final var actualException = assertThrows(DomainException.class, () -> useCase.execute(aCommand));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(uploadMediaUseCase, never()).execute(any());
+        verify(mediaUploadGateway, never()).deleteById(any());
+    }
+
+    @Test
+    public void givenUploadMediaFails_whenCallsCommit_thenShouldKeepChunksToRetry() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var anUpload = Fixture.Videos.upload(expectedVideoId, expectedType).registerChunk(1, 8);
+        final var expectedErrorMessage = "Gateway error";
+
+        when(mediaUploadGateway.findById(eq(anUpload.getId()))).thenReturn(Optional.of(anUpload));
+        when(mediaResourceGateway.composeChunks(eq(anUpload))).thenReturn(Fixture.Videos.resource(expectedType));
+        when(uploadMediaUseCase.execute(any())).thenThrow(new IllegalStateException(expectedErrorMessage));
+
+        final var aCommand = CommitMediaUploadCommand.with(
+            expectedVideoId.getValue(),
+            expectedType.name(),
+            anUpload.getId().getValue()
+        );
+
+        // when
+        final var actualException = assertThrows(IllegalStateException.class, () -> useCase.execute(aCommand));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(mediaResourceGateway, never()).clearChunks(any());
+        verify(mediaUploadGateway, never()).deleteById(any());
+    }
+}
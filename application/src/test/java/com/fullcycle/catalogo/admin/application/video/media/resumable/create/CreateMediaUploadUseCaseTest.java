@@ -0,0 +1,115 @@
+package com.fullcycle.catalogo.admin.application.video.media.resumable.create;
+
+import com.fullcycle.catalogo.admin.application.UseCaseTest;
+import com.fullcycle.catalogo.admin.domain.Fixture;
+import com.fullcycle.catalogo.admin.domain.exceptions.NotFoundException;
+import com.fullcycle.catalogo.admin.domain.exceptions.NotificationException;
+import com.fullcycle.catalogo.admin.domain.video.VideoGateway;
+import com.fullcycle.catalogo.admin.domain.video.VideoID;
+import com.fullcycle.catalogo.admin.domain.video.VideoMediaType;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUploadGateway;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.AdditionalAnswers.returnsFirstArg;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class CreateMediaUploadUseCaseTest extends UseCaseTest {
+    @InjectMocks
+    private DefaultCreateMediaUploadUseCase useCase;
+
+    @Mock
+    private VideoGateway videoGateway;
+
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(videoGateway, mediaUploadGateway);
+    }
+
+    @Test
+    public void givenAValidCommand_whenCallsCreateMediaUpload_thenShouldReturnUploadAtOffsetZero() {
+        // given
+        final var aVideo = Fixture.Videos.newVideo();
+        final var expectedVideoId = aVideo.getId();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedName = "video.mp4";
+        final var expectedContentType = "video/mp4";
+        final var expectedOffset = 0L;
+        final var expectedNextChunk = 1;
+
+        when(videoGateway.findById(any())).thenReturn(Optional.of(aVideo));
+        when(mediaUploadGateway.create(any())).thenAnswer(returnsFirstArg());
+
+        final var aCommand = CreateMediaUploadCommand.with(
+            expectedVideoId.getValue(),
+            expectedType.name(),
+            expectedName,
+            expectedContentType
+        );
+
+        // when
+        final var actualOutput = useCase.execute(aCommand);
+
+        // then
+        assertNotNull(actualOutput.id());
+        assertEquals(expectedVideoId.getValue(), actualOutput.videoId());
+        assertEquals(expectedType, actualOutput.mediaType());
+        assertEquals(expectedOffset, actualOutput.offset());
+        assertEquals(expectedNextChunk, actualOutput.nextChunk());
+
+        verify(mediaUploadGateway, times(1)).create(argThat(anUpload ->
+            expectedVideoId.equals(anUpload.getVideoId())
+                && expectedType == anUpload.getMediaType()
+                && expectedName.equals(anUpload.getName())
+                && expectedContentType.equals(anUpload.getContentType())
+        ));
+    }
+
+    @Test
+    public void givenAnInvalidVideoId_whenCallsCreateMediaUpload_thenShouldReturnNotFound() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedErrorMessage = "Video with ID %s was not found".formatted(expectedVideoId.getValue());
+
+        when(videoGateway.findById(eq(expectedVideoId))).thenReturn(Optional.empty());
+
+        final var aCommand =
+            CreateMediaUploadCommand.with(expectedVideoId.getValue(), "VIDEO", "video.mp4", "video/mp4");
+
+        // when
+        final var actualException = assertThrows(NotFoundException.class, () -> useCase.execute(aCommand));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        verify(mediaUploadGateway, never()).create(any());
+    }
+
+    @Test
+    public void givenAnEmptyName_whenCallsCreateMediaUpload_thenShouldReturnNotificationException() {
+        // given
+        final var aVideo = Fixture.Videos.newVideo();
+        final var expectedErrorMessage = "'name' should not be empty";
+
+        when(videoGateway.findById(any())).thenReturn(Optional.of(aVideo));
+
+        final var aCommand =
+            CreateMediaUploadCommand.with(aVideo.getId().getValue(), "VIDEO", "", "video/mp4");
+
+        // when
+        final var actualException = assertThrows(NotificationException.class, () -> useCase.execute(aCommand));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        verify(mediaUploadGateway, never()).create(any());
+    }
+}
@@ -0,0 +1,82 @@
+package com.fullcycle.catalogo.admin.application.video.media.resumable.retrieve;
+
+import com.fullcycle.catalogo.admin.application.UseCaseTest;
+import com.fullcycle.catalogo.admin.domain.Fixture;
+import com.fullcycle.catalogo.admin.domain.exceptions.NotFoundException;
+import com.fullcycle.catalogo.admin.domain.video.VideoID;
+import com.fullcycle.catalogo.admin.domain.video.VideoMediaType;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUploadGateway;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUploadID;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+
+public class GetMediaUploadUseCaseTest extends UseCaseTest {
+    @InjectMocks
+    private DefaultGetMediaUploadUseCase useCase;
+
+    @Mock
+    private MediaUploadGateway mediaUploadGateway;
+
+    @Override
+    protected List<Object> getMocks() {
+        return List.of(mediaUploadGateway);
+    }
+
+    @Test
+    public void givenAValidUploadId_whenCallsGetMediaUpload_thenShouldReturnCurrentOffset() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var anUpload = Fixture.Videos.upload(expectedVideoId, expectedType)
+                .registerChunk(1, 10)
+                .registerChunk(2, 10);
+
+        final var expectedOffset = 20L;
+        final var expectedNextChunk = 3;
+
+        when(mediaUploadGateway.findById(eq(anUpload.getId()))).thenReturn(Optional.of(anUpload));
+
+        final var aCommand = GetMediaUploadCommand.with(
+            expectedVideoId.getValue(),
+            expectedType.name(),
+            anUpload.getId().getValue()
+        );
+
+        // when
+        final var actualOutput = useCase.execute(aCommand);
+
+        // then
+        assertEquals(anUpload.getId().getValue(), actualOutput.id());
+        assertEquals(expectedVideoId.getValue(), actualOutput.videoId());
+        assertEquals(expectedType, actualOutput.mediaType());
+        assertEquals(expectedOffset, actualOutput.offset());
+        assertEquals(expectedNextChunk, actualOutput.nextChunk());
+    }
+
+    @Test
+    public void givenAnInvalidUploadId_whenCallsGetMediaUpload_thenShouldReturnNotFound() {
+        // given
+        final var expectedId = MediaUploadID.from("123");
+        final var expectedErrorMessage = "MediaUpload with ID 123 was not found";
+
+        when(mediaUploadGateway.findById(any())).thenReturn(Optional.empty());
+
+        final var aCommand = GetMediaUploadCommand.with(VideoID.unique().getValue(), "VIDEO", expectedId.getValue());
+
+        // when
+        final var actualException = assertThrows(NotFoundException.class, () -> useCase.execute(aCommand));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+}
@@ -12,12 +12,19 @@ import com.fullcycle.catalogo.admin.domain.genre.GenreGateway;
 import com.fullcycle.catalogo.admin.domain.genre.GenreID;
 import com.fullcycle.catalogo.admin.domain.resource.Resource;
 import com.fullcycle.catalogo.admin.domain.video.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 
 import java.time.Year;
 import java.util.*;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.AdditionalAnswers.returnsFirstArg;
@@ -25,9 +32,10 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 public class UpdateVideoUseCaseTest extends UseCaseTest {
-    @InjectMocks
     private DefaultUpdateVideoUseCase useCase;
 
+    private ExecutorService mediaStoreExecutor;
+
     @Mock
     private VideoGateway videoGateway;
 
@@ -54,6 +62,24 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         );
     }
 
+    @BeforeEach
+    void setUp() {
+        mediaStoreExecutor = Executors.newFixedThreadPool(5);
+        useCase = new DefaultUpdateVideoUseCase(
+            categoryGateway,
+            genreGateway,
+            castMemberGateway,
+            videoGateway,
+            resourceGateway,
+            mediaStoreExecutor
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        mediaStoreExecutor.shutdownNow();
+    }
+
     @Test
     public void givenAValidCommand_whenCallsUpdateVideo_thenShouldReturnVideoId() {
         // given
@@ -1092,6 +1118,138 @@ public class UpdateVideoUseCaseTest extends UseCaseTest {
         verify(resourceGateway, times(0)).clearResources(any());
     }
 
+    @Test
+    public void givenASlowMediaResourceGateway_whenCallsUpdateVideo_thenShouldStoreMediasConcurrently() {
+        // given
+        final var aVideo = Fixture.Videos.newVideo();
+
+        final var expectedCategories = Set.of(Fixture.Categories.category().getId());
+        final var expectedGenres = Set.of(Fixture.Genres.genre().getId());
+        final var expectedMembers = Set.of(Fixture.CastMembers.member().getId());
+        final Resource expectedVideo = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        final Resource expectedTrailer = Fixture.Videos.resource(VideoMediaType.TRAILER);
+        final Resource expectedBanner = Fixture.Videos.resource(VideoMediaType.BANNER);
+        final Resource expectedThumb = Fixture.Videos.resource(VideoMediaType.THUMBNAIL);
+        final Resource expectedThumbHalf = Fixture.Videos.resource(VideoMediaType.THUMBNAIL_HALF);
+
+        final var aCommand = UpdateVideoCommand.with(
+            aVideo.getId().getValue(),
+            Fixture.title(),
+            Fixture.Videos.description(),
+            Fixture.year(),
+            Fixture.duration(),
+            Fixture.bool(),
+            Fixture.bool(),
+            Fixture.Videos.rating().getName(),
+            asString(expectedCategories),
+            asString(expectedGenres),
+            asString(expectedMembers),
+            expectedVideo,
+            expectedTrailer,
+            expectedBanner,
+            expectedThumb,
+            expectedThumbHalf
+        );
+
+        // cada gravação só termina quando as cinco estiverem em andamento ao mesmo tempo
+        final var allInFlight = new CyclicBarrier(5);
+
+        when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+        when(categoryGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedCategories));
+        when(castMemberGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedMembers));
+        when(genreGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedGenres));
+        when(resourceGateway.storeImage(any(), any()))
+            .thenAnswer(answer -> {
+                allInFlight.await(5, TimeUnit.SECONDS);
+                return Fixture.Videos.image(answer.getArgument(1, VideoResource.class).type());
+            });
+        when(resourceGateway.storeAudioVideo(any(), any()))
+            .thenAnswer(answer -> {
+                allInFlight.await(5, TimeUnit.SECONDS);
+                return Fixture.Videos.audioVideo(answer.getArgument(1, VideoResource.class).type());
+            });
+        when(videoGateway.update(any())).thenAnswer(returnsFirstArg());
+
+        // when
+        final var actualResult = useCase.execute(aCommand);
+
+        // then
+        assertNotNull(actualResult.id());
+
+        verify(videoGateway)
+            .update(argThat(actualVideo ->
+                Objects.equals(expectedVideo.name(), actualVideo.getVideo().get().name())
+                && Objects.equals(expectedTrailer.name(), actualVideo.getTrailer().get().name())
+                && Objects.equals(expectedBanner.name(), actualVideo.getBanner().get().name())
+                && Objects.equals(expectedThumb.name(), actualVideo.getThumbnail().get().name())
+                && Objects.equals(expectedThumbHalf.name(), actualVideo.getThumbnailHalf().get().name())
+            ));
+        verify(resourceGateway, times(0)).clearResources(any());
+    }
+
+    @Test
+    public void givenAFailingMediaResourceGateway_whenCallsUpdateVideo_thenShouldCancelPendingWritesAndKeepPreviousMedias() {
+        // given
+        final var expectedErrorMessage = "An error on update video was observed [videoId:";
+
+        final var aVideo = Fixture.Videos.newVideo();
+
+        final var expectedCategories = Set.of(Fixture.Categories.category().getId());
+        final var expectedGenres = Set.of(Fixture.Genres.genre().getId());
+        final var expectedMembers = Set.of(Fixture.CastMembers.member().getId());
+
+        final var aCommand = UpdateVideoCommand.with(
+            aVideo.getId().getValue(),
+            Fixture.title(),
+            Fixture.Videos.description(),
+            Fixture.year(),
+            Fixture.duration(),
+            Fixture.bool(),
+            Fixture.bool(),
+            Fixture.Videos.rating().getName(),
+            asString(expectedCategories),
+            asString(expectedGenres),
+            asString(expectedMembers),
+            Fixture.Videos.resource(VideoMediaType.VIDEO),
+            Fixture.Videos.resource(VideoMediaType.TRAILER),
+            Fixture.Videos.resource(VideoMediaType.BANNER),
+            Fixture.Videos.resource(VideoMediaType.THUMBNAIL),
+            Fixture.Videos.resource(VideoMediaType.THUMBNAIL_HALF)
+        );
+
+        final var started = new AtomicInteger(0);
+        final var interrupted = new AtomicInteger(0);
+
+        when(videoGateway.findById(any())).thenReturn(Optional.of(Video.with(aVideo)));
+        when(categoryGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedCategories));
+        when(castMemberGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedMembers));
+        when(genreGateway.existsByIds(any())).thenReturn(new ArrayList<>(expectedGenres));
+        when(resourceGateway.storeImage(any(), any())).thenThrow(new RuntimeException("Storage unavailable"));
+        when(resourceGateway.storeAudioVideo(any(), any()))
+            .thenAnswer(answer -> {
+                started.incrementAndGet();
+                try {
+                    // simula um upload lento que só termina quando for cancelado
+                    new CountDownLatch(1).await();
+                    return null;
+                } catch (final InterruptedException e) {
+                    interrupted.incrementAndGet();
+                    throw new RuntimeException(e);
+                }
+            });
+
+        // when
+        final var actualException =
+            assertThrows(InternalErrorException.class, () -> useCase.execute(aCommand));
+
+        // then
+        assertTrue(actualException.getMessage().startsWith(expectedErrorMessage));
+        assertEquals(started.get(), interrupted.get());
+
+        verify(resourceGateway, times(0)).clearResources(any());
+        verify(videoGateway, times(0)).update(any());
+    }
+
     private void mockImageMedia() {
         when(resourceGateway.storeImage(any(), any()))
             .thenAnswer(answer -> {
@@ -5,12 +5,17 @@ import com.fullcycle.catalogo.admin.domain.pagination.SearchQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CastMemberGateway {
     CastMember create(CastMember aCastMember);
+    List<CastMember> createAll(List<CastMember> aCastMembers);
     void deleteById(CastMemberID anId);
     Optional<CastMember> findById(CastMemberID anId);
+    List<CastMember> findAllById(Iterable<CastMemberID> ids);
     CastMember update(CastMember aCastMember);
+    List<CastMember> updateAll(List<CastMember> aCastMembers);
     Pagination<CastMember> findAll(SearchQuery aQuery);
+    void exportAll(Consumer<CastMember> aConsumer);
     List<CastMemberID> existsByIds(Iterable<CastMemberID> ids);
 }
@@ -0,0 +1,201 @@
+package com.fullcycle.catalogo.admin.domain.catalog;
+
+import com.fullcycle.catalogo.admin.domain.AggregateRoot;
+import com.fullcycle.catalogo.admin.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.admin.domain.exceptions.NotificationException;
+import com.fullcycle.catalogo.admin.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.admin.domain.validation.Error;
+import com.fullcycle.catalogo.admin.domain.validation.ValidationHandler;
+import com.fullcycle.catalogo.admin.domain.validation.handler.Notification;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+
+/**
+ * Importação de um catálogo em NDJSON, gravada em lotes. O checkpoint é a última linha do arquivo já tratada:
+ * uma importação interrompida é retomada a partir da linha seguinte.
+ *
+ * Enquanto uma execução processa o arquivo a importação fica reservada (leasedUntil), e outra retomada da
+ * mesma importação é recusada. A reserva é renovada a cada lote e expira se a instância cair.
+ */
+public class CatalogImport extends AggregateRoot<CatalogImportID> {
+    private long processedLines;
+    private long imported;
+    private long skipped;
+    private long rejected;
+    private final Instant createdAt;
+    private Instant updatedAt;
+    private Instant completedAt;
+    private Instant leasedUntil;
+
+    private CatalogImport(
+        final CatalogImportID anId,
+        final long processedLines,
+        final long imported,
+        final long skipped,
+        final long rejected,
+        final Instant aCreationDate,
+        final Instant aUpdateDate,
+        final Instant aCompletionDate,
+        final Instant aLeaseDate
+    ) {
+        super(anId);
+        this.processedLines = processedLines;
+        this.imported = imported;
+        this.skipped = skipped;
+        this.rejected = rejected;
+        this.createdAt = aCreationDate;
+        this.updatedAt = aUpdateDate;
+        this.completedAt = aCompletionDate;
+        this.leasedUntil = aLeaseDate;
+        selfValidate();
+    }
+
+    public static CatalogImport newImport() {
+        final var now = InstantUtils.now();
+        return new CatalogImport(CatalogImportID.unique(), 0, 0, 0, 0, now, now, null, null);
+    }
+
+    public static CatalogImport with(
+        final CatalogImportID anId,
+        final long processedLines,
+        final long imported,
+        final long skipped,
+        final long rejected,
+        final Instant aCreationDate,
+        final Instant aUpdateDate,
+        final Instant aCompletionDate,
+        final Instant aLeaseDate
+    ) {
+        return new CatalogImport(
+            anId,
+            processedLines,
+            imported,
+            skipped,
+            rejected,
+            aCreationDate,
+            aUpdateDate,
+            aCompletionDate,
+            aLeaseDate
+        );
+    }
+
+    @Override
+    public void validate(final ValidationHandler aHandler) {
+        new CatalogImportValidator(this, aHandler).validate();
+    }
+
+    /**
+     * Registra um lote gravado: as linhas até aLine não são lidas de novo ao retomar a importação.
+     */
+    public CatalogImport checkpoint(final long aLine, final long imported, final long skipped, final long rejected) {
+        if (isCompleted()) {
+            throw DomainException.with(new Error("Catalog import %s is already completed".formatted(getId().getValue())));
+        }
+
+        if (aLine < processedLines) {
+            throw DomainException.with(
+                new Error("Checkpoint %s is before the processed lines %s".formatted(aLine, processedLines))
+            );
+        }
+
+        this.processedLines = aLine;
+        this.imported += imported;
+        this.skipped += skipped;
+        this.rejected += rejected;
+        this.updatedAt = InstantUtils.now();
+        selfValidate();
+        return this;
+    }
+
+    /**
+     * Reserva a importação para uma execução até aLeaseDate. Uma importação concluída não é reservada,
+     * não há mais linhas para tratar.
+     */
+    public CatalogImport claim(final Instant aLeaseDate) {
+        if (isCompleted()) {
+            return this;
+        }
+
+        if (isRunning()) {
+            throw DomainException.with(new Error("Catalog import %s is already running".formatted(getId().getValue())));
+        }
+        return renew(aLeaseDate);
+    }
+
+    public CatalogImport renew(final Instant aLeaseDate) {
+        this.leasedUntil = Objects.requireNonNull(aLeaseDate);
+        return this;
+    }
+
+    public CatalogImport release() {
+        this.leasedUntil = null;
+        return this;
+    }
+
+    public CatalogImport complete() {
+        if (!isCompleted()) {
+            this.updatedAt = InstantUtils.now();
+            this.completedAt = this.updatedAt;
+        }
+        return release();
+    }
+
+    public boolean isRunning() {
+        return Objects.nonNull(leasedUntil) && leasedUntil.isAfter(InstantUtils.now());
+    }
+
+    public boolean isCompleted() {
+        return Objects.nonNull(completedAt);
+    }
+
+    /**
+     * Linhas tratadas por segundo desde o início da importação, incluindo as pausas entre as retomadas.
+     */
+    public double linesPerSecond() {
+        final var elapsed = Duration.between(createdAt, Objects.requireNonNullElse(completedAt, updatedAt));
+        return processedLines * 1_000.0 / Math.max(1, elapsed.toMillis());
+    }
+
+    private void selfValidate() {
+        final var notification = Notification.create();
+        validate(notification);
+
+        if (notification.hasErrors()) {
+            throw new NotificationException("Failed to create a Aggregate CatalogImport", notification);
+        }
+    }
+
+    public long getProcessedLines() {
+        return processedLines;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public Instant getLeasedUntil() {
+        return leasedUntil;
+    }
+}
@@ -0,0 +1,18 @@
+package com.fullcycle.catalogo.admin.domain.catalog;
+
+import java.time.Instant;
+import java.util.Optional;
+
+public interface CatalogImportGateway {
+    CatalogImport create(CatalogImport anImport);
+    Optional<CatalogImport> findById(CatalogImportID anId);
+    CatalogImport update(CatalogImport anImport);
+
+    /**
+     * Reserva a importação até aLeaseDate (ver {@link CatalogImport#claim}) com a linha bloqueada,
+     * para que duas retomadas simultâneas não recebam a mesma importação.
+     */
+    Optional<CatalogImport> claim(CatalogImportID anId, Instant aLeaseDate);
+
+    void release(CatalogImportID anId);
+}
@@ -0,0 +1,40 @@
+package com.fullcycle.catalogo.admin.domain.catalog;
+
+import com.fullcycle.catalogo.admin.domain.Identifier;
+import com.fullcycle.catalogo.admin.domain.utils.IDUtils;
+
+import java.util.Objects;
+
+public class CatalogImportID extends Identifier {
+    private final String value;
+
+    private CatalogImportID(final String anId) {
+        this.value = Objects.requireNonNull(anId);
+    }
+
+    public static CatalogImportID unique() {
+        return from(IDUtils.uuid());
+    }
+
+    public static CatalogImportID from(final String anId) {
+        return new CatalogImportID(anId);
+    }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final CatalogImportID that = (CatalogImportID) o;
+        return getValue().equals(that.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getValue());
+    }
+}
@@ -0,0 +1,41 @@
+package com.fullcycle.catalogo.admin.domain.catalog;
+
+import com.fullcycle.catalogo.admin.domain.validation.Error;
+import com.fullcycle.catalogo.admin.domain.validation.ValidationHandler;
+import com.fullcycle.catalogo.admin.domain.validation.Validator;
+
+import java.util.Objects;
+
+public class CatalogImportValidator extends Validator {
+    private final CatalogImport catalogImport;
+
+    protected CatalogImportValidator(final CatalogImport anImport, final ValidationHandler aHandler) {
+        super(aHandler);
+        this.catalogImport = anImport;
+    }
+
+    @Override
+    public void validate() {
+        checkNotNegative("processedLines", catalogImport.getProcessedLines());
+        checkNotNegative("imported", catalogImport.getImported());
+        checkNotNegative("skipped", catalogImport.getSkipped());
+        checkNotNegative("rejected", catalogImport.getRejected());
+        checkDatesConstraints();
+    }
+
+    private void checkNotNegative(final String aField, final long aValue) {
+        if (aValue < 0) {
+            this.validationHandler().append(new Error("'%s' should not be negative".formatted(aField)));
+        }
+    }
+
+    private void checkDatesConstraints() {
+        if (Objects.isNull(catalogImport.getCreatedAt())) {
+            this.validationHandler().append(new Error("'createdAt' should not be null"));
+        }
+
+        if (Objects.isNull(catalogImport.getUpdatedAt())) {
+            this.validationHandler().append(new Error("'updatedAt' should not be null"));
+        }
+    }
+}
@@ -5,12 +5,17 @@ import com.fullcycle.catalogo.admin.domain.pagination.Pagination;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface CategoryGateway {
     Category create(Category aCategory);
+    List<Category> createAll(List<Category> aCategories);
     void deleteById(CategoryID anId);
     Optional<Category> findById(CategoryID anId);
+    List<Category> findAllById(Iterable<CategoryID> ids);
     Category update(Category aCategory);
+    List<Category> updateAll(List<Category> aCategories);
     Pagination<Category> findAll(SearchQuery aQuery);
+    void exportAll(Consumer<Category> aConsumer);
     List<CategoryID> existsByIds(Iterable<CategoryID> ids);
 }
@@ -5,12 +5,15 @@ import com.fullcycle.catalogo.admin.domain.pagination.SearchQuery;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface GenreGateway {
     Genre create(Genre aGenre);
+    List<Genre> createAll(List<Genre> aGenres);
     void deleteById(GenreID anId);
     Optional<Genre> findById(GenreID anId);
     Genre update(Genre aGenre);
     Pagination<Genre> findAll(SearchQuery aQuery);
+    void exportAll(Consumer<Genre> aConsumer);
     List<GenreID> existsByIds(Iterable<GenreID> ids);
 }
\ No newline at end of file
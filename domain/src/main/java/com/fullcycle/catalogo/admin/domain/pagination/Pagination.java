@@ -7,10 +7,15 @@ public record Pagination<T>(
     int currentPage,
     int  perPage,
     long total,
-    List<T> items
+    List<T> items,
+    String nextCursor
 ) {
+    public Pagination(final int currentPage, final int perPage, final long total, final List<T> items) {
+        this(currentPage, perPage, total, items, null);
+    }
+
     public <R> Pagination<R> map(final Function<T, R> mapper) {
         final List<R> aNewList = items.stream().map(mapper).toList();
-        return new Pagination<>(currentPage(), perPage(), total(), aNewList);
+        return new Pagination<>(currentPage(), perPage(), total(), aNewList, nextCursor());
     }
 }
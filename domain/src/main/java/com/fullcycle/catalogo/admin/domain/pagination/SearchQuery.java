@@ -5,6 +5,28 @@ public record SearchQuery(
     int perPage,
     String terms,
     String sort,
-    String direction
+    String direction,
+    String after,
+    boolean exactTotal
 ) {
+    public SearchQuery(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction
+    ) {
+        this(page, perPage, terms, sort, direction, null);
+    }
+
+    public SearchQuery(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction,
+        final String after
+    ) {
+        this(page, perPage, terms, sort, direction, after, true);
+    }
 }
@@ -2,37 +2,129 @@ package com.fullcycle.catalogo.admin.domain.resource;
 
 import com.fullcycle.catalogo.admin.domain.ValueObject;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Objects;
 
 public class Resource extends ValueObject {
+    public static final long UNKNOWN_SIZE = -1L;
+
     private final byte[] content;
+    private final StreamSupplier stream;
+    private final long size;
     private final String contentType;
     private final String checksum;
     private final String name;
+    private final Instant lastModified;
 
     private Resource(
         final String checksum,
-        byte[] content,
+        final byte[] content,
+        final StreamSupplier stream,
+        final long size,
         final String contentType,
-        final String name
+        final String name,
+        final Instant lastModified
     ) {
-        this.checksum = Objects.requireNonNull(checksum);
-        this.content = Objects.requireNonNull(content);
+        this.checksum = checksum;
+        this.content = content;
+        this.stream = Objects.requireNonNull(stream);
+        this.size = size;
         this.contentType = Objects.requireNonNull(contentType);
         this.name = Objects.requireNonNull(name);
+        this.lastModified = lastModified;
     }
 
     public static Resource of(final String checksum, final byte[] content, final String contentType, final String name) {
-        return new Resource(checksum, content, contentType, name);
+        Objects.requireNonNull(checksum);
+        Objects.requireNonNull(content);
+        return new Resource(checksum, content, new ByteArraySupplier(content), content.length, contentType, name, null);
+    }
+
+    /**
+     * Cria um resource cujo conteúdo é lido sob demanda, sem carregar o arquivo inteiro em memória.
+     * O checksum é calculado pelo StorageService enquanto os bytes são gravados.
+     */
+    public static Resource of(final StreamSupplier stream, final long size, final String contentType, final String name) {
+        return new Resource(null, null, stream, size, contentType, name, null);
+    }
+
+    public static Resource of(
+        final String checksum,
+        final StreamSupplier stream,
+        final long size,
+        final String contentType,
+        final String name
+    ) {
+        return new Resource(checksum, null, stream, size, contentType, name, null);
     }
 
     public String checksum() {
         return checksum;
     }
 
+    public boolean hasChecksum() {
+        return Objects.nonNull(checksum);
+    }
+
+    /**
+     * Retorna o conteúdo inteiro em memória. Para resources em streaming prefira {@link #openStream()}.
+     */
     public byte[] content() {
-        return content;
+        if (Objects.nonNull(content)) {
+            return content;
+        }
+
+        try (final var in = openStream()) {
+            return in.readAllBytes();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public InputStream openStream() throws IOException {
+        return stream.open();
+    }
+
+    /**
+     * Abre somente o trecho [offset, offset + length) do conteúdo, permitindo leituras parciais (HTTP Range)
+     * sem transferir o arquivo inteiro.
+     */
+    public InputStream openStream(final long offset, final long length) throws IOException {
+        if (offset < 0 || length < 0) {
+            throw new IllegalArgumentException("'offset' and 'length' should be positive");
+        }
+        return stream.open(offset, length);
+    }
+
+    /**
+     * Retorna uma cópia do resource com outro nome, mantendo a mesma origem do conteúdo.
+     */
+    public Resource withName(final String aName) {
+        return new Resource(checksum, content, stream, size, contentType, aName, lastModified);
+    }
+
+    /**
+     * Retorna uma cópia do resource com a data da última alteração informada pelo storage.
+     */
+    public Resource withLastModified(final Instant aLastModified) {
+        return new Resource(checksum, content, stream, size, contentType, name, aLastModified);
+    }
+
+    public StreamSupplier streamSupplier() {
+        return stream;
+    }
+
+    public boolean isInMemory() {
+        return Objects.nonNull(content);
+    }
+
+    public long size() {
+        return size;
     }
 
     public String contentType() {
@@ -43,12 +135,17 @@ public class Resource extends ValueObject {
         return name;
     }
 
+    public Instant lastModified() {
+        return lastModified;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Resource resource = (Resource) o;
         return Arrays.equals(content, resource.content) &&
+                (Objects.nonNull(content) || Objects.equals(stream, resource.stream)) &&
                 Objects.equals(contentType, resource.contentType) &&
                 Objects.equals(checksum, resource.checksum) &&
                 Objects.equals(name, resource.name);
@@ -60,4 +157,38 @@ public class Resource extends ValueObject {
         result = 31 * result + Arrays.hashCode(content);
         return result;
     }
+
+    @FunctionalInterface
+    public interface StreamSupplier {
+        InputStream open() throws IOException;
+
+        /**
+         * Implementações que suportam leitura posicionada (ex.: storage remoto) devem sobrescrever este método,
+         * o padrão descarta os bytes anteriores ao offset.
+         */
+        default InputStream open(final long offset, final long length) throws IOException {
+            final var in = open();
+            try {
+                in.skipNBytes(offset);
+            } catch (final IOException e) {
+                in.close();
+                throw e;
+            }
+            return new BoundedInputStream(in, length);
+        }
+    }
+
+    private record ByteArraySupplier(byte[] content) implements StreamSupplier {
+        @Override
+        public InputStream open() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) {
+            final var start = (int) Math.min(offset, content.length);
+            final var end = (int) Math.min(offset + length, content.length);
+            return new ByteArrayInputStream(content, start, end - start);
+        }
+    }
 }
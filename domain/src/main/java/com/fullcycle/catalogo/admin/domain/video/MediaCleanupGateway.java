@@ -0,0 +1,8 @@
+package com.fullcycle.catalogo.admin.domain.video;
+
+/**
+ * Fila durável das mídias a serem removidas do storage, processada em segundo plano.
+ */
+public interface MediaCleanupGateway {
+    void schedule(VideoID anId);
+}
@@ -3,12 +3,23 @@ package com.fullcycle.catalogo.admin.domain.video;
 import com.fullcycle.catalogo.admin.domain.resource.Resource;
 import com.fullcycle.catalogo.admin.domain.video.media.AudioVideoMedia;
 import com.fullcycle.catalogo.admin.domain.video.media.ImageMedia;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUpload;
 
 import java.util.Optional;
+import java.util.Set;
 
 public interface MediaResourceGateway {
     AudioVideoMedia storeAudioVideo(VideoID anId, VideoResource aResource);
     ImageMedia storeImage(VideoID anId, VideoResource aResource);
     void clearResources(VideoID anId);
+    void clearAllResources(Set<VideoID> ids);
     Optional<Resource> getResource(VideoID anId, VideoMediaType aType);
+
+    /**
+     * Grava a parte do upload e retorna a quantidade de bytes efetivamente gravada no storage.
+     */
+    long storeChunk(MediaUpload anUpload, int aChunk, Resource aResource);
+
+    Resource composeChunks(MediaUpload anUpload);
+    void clearChunks(MediaUpload anUpload);
 }
@@ -3,12 +3,22 @@ package com.fullcycle.catalogo.admin.domain.video;
 import com.fullcycle.catalogo.admin.domain.pagination.Pagination;
 import com.fullcycle.catalogo.admin.domain.video.query.VideoSearchQuery;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface VideoGateway {
     Video create(Video aVideo);
+    List<Video> createAll(List<Video> aVideos);
     Video update(Video aVideo);
+
+    /**
+     * Remove o vídeo e agenda a remoção das suas mídias no storage na mesma transação.
+     */
     void deleteById(VideoID anId);
+
     Optional<Video> findById(VideoID anId);
     Pagination<VideoPreview> findAll(VideoSearchQuery aQuery);
+    void exportAll(Consumer<Video> aConsumer);
+    List<VideoID> existsByIds(Iterable<VideoID> ids);
 }
@@ -14,6 +14,34 @@ public record VideoSearchQuery(
     String direction,
     Set<CastMemberID> castMembers,
     Set<CategoryID> categories,
-    Set<GenreID> genres
+    Set<GenreID> genres,
+    String after,
+    boolean exactTotal
 ) {
+    public VideoSearchQuery(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction,
+        final Set<CastMemberID> castMembers,
+        final Set<CategoryID> categories,
+        final Set<GenreID> genres
+    ) {
+        this(page, perPage, terms, sort, direction, castMembers, categories, genres, null);
+    }
+
+    public VideoSearchQuery(
+        final int page,
+        final int perPage,
+        final String terms,
+        final String sort,
+        final String direction,
+        final Set<CastMemberID> castMembers,
+        final Set<CategoryID> categories,
+        final Set<GenreID> genres,
+        final String after
+    ) {
+        this(page, perPage, terms, sort, direction, castMembers, categories, genres, after, true);
+    }
 }
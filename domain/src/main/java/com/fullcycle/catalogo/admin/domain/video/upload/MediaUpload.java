@@ -0,0 +1,162 @@
+package com.fullcycle.catalogo.admin.domain.video.upload;
+
+import com.fullcycle.catalogo.admin.domain.AggregateRoot;
+import com.fullcycle.catalogo.admin.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.admin.domain.exceptions.NotificationException;
+import com.fullcycle.catalogo.admin.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.admin.domain.validation.Error;
+import com.fullcycle.catalogo.admin.domain.validation.ValidationHandler;
+import com.fullcycle.catalogo.admin.domain.validation.handler.Notification;
+import com.fullcycle.catalogo.admin.domain.video.VideoID;
+import com.fullcycle.catalogo.admin.domain.video.VideoMediaType;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Sessão de upload em partes (chunks) de uma mídia do vídeo. As partes devem ser enviadas em sequência,
+ * uma parte já recebida pode ser reenviada e substitui a anterior.
+ */
+public class MediaUpload extends AggregateRoot<MediaUploadID> {
+    private final VideoID videoId;
+    private final VideoMediaType mediaType;
+    private final String name;
+    private final String contentType;
+    private final List<MediaUploadChunk> chunks;
+    private final Instant createdAt;
+    private Instant updatedAt;
+
+    private MediaUpload(
+        final MediaUploadID anId,
+        final VideoID aVideoId,
+        final VideoMediaType aType,
+        final String aName,
+        final String aContentType,
+        final List<MediaUploadChunk> aChunks,
+        final Instant aCreationDate,
+        final Instant aUpdateDate
+    ) {
+        super(anId);
+        this.videoId = aVideoId;
+        this.mediaType = aType;
+        this.name = aName;
+        this.contentType = aContentType;
+        this.chunks = new ArrayList<>(Objects.isNull(aChunks) ? Collections.emptyList() : aChunks);
+        this.chunks.sort(Comparator.comparingInt(MediaUploadChunk::number));
+        this.createdAt = aCreationDate;
+        this.updatedAt = aUpdateDate;
+        selfValidate();
+    }
+
+    public static MediaUpload newUpload(
+        final VideoID aVideoId,
+        final VideoMediaType aType,
+        final String aName,
+        final String aContentType
+    ) {
+        final var now = InstantUtils.now();
+        return new MediaUpload(MediaUploadID.unique(), aVideoId, aType, aName, aContentType, null, now, now);
+    }
+
+    public static MediaUpload with(
+        final MediaUploadID anId,
+        final VideoID aVideoId,
+        final VideoMediaType aType,
+        final String aName,
+        final String aContentType,
+        final List<MediaUploadChunk> aChunks,
+        final Instant aCreationDate,
+        final Instant aUpdateDate
+    ) {
+        return new MediaUpload(anId, aVideoId, aType, aName, aContentType, aChunks, aCreationDate, aUpdateDate);
+    }
+
+    @Override
+    public void validate(final ValidationHandler aHandler) {
+        new MediaUploadValidator(this, aHandler).validate();
+    }
+
+    public MediaUpload registerChunk(final int aNumber, final long aSize) {
+        if (aNumber < 1 || aNumber > nextChunk()) {
+            throw DomainException.with(
+                new Error("Chunk %s is out of order, next expected chunk is %s".formatted(aNumber, nextChunk()))
+            );
+        }
+
+        if (aSize <= 0) {
+            throw DomainException.with(new Error("'size' of chunk %s should be greater than 0".formatted(aNumber)));
+        }
+
+        this.chunks.removeIf(chunk -> chunk.number() == aNumber);
+        this.chunks.add(aNumber - 1, MediaUploadChunk.of(aNumber, aSize));
+        this.updatedAt = InstantUtils.now();
+        return this;
+    }
+
+    /**
+     * Descarta a parte informada e as seguintes, o upload é retomado a partir dela.
+     */
+    public MediaUpload discardChunksFrom(final int aNumber) {
+        if (this.chunks.removeIf(chunk -> chunk.number() >= aNumber)) {
+            this.updatedAt = InstantUtils.now();
+        }
+        return this;
+    }
+
+    public boolean belongsTo(final VideoID aVideoId, final VideoMediaType aType) {
+        return Objects.equals(videoId, aVideoId) && mediaType == aType;
+    }
+
+    public boolean hasChunks() {
+        return !chunks.isEmpty();
+    }
+
+    public int nextChunk() {
+        return chunks.size() + 1;
+    }
+
+    public long offset() {
+        return chunks.stream().mapToLong(MediaUploadChunk::size).sum();
+    }
+
+    private void selfValidate() {
+        final var notification = Notification.create();
+        validate(notification);
+
+        if (notification.hasErrors()) {
+            throw new NotificationException("Failed to create a Aggregate MediaUpload", notification);
+        }
+    }
+
+    public VideoID getVideoId() {
+        return videoId;
+    }
+
+    public VideoMediaType getMediaType() {
+        return mediaType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public List<MediaUploadChunk> getChunks() {
+        return Collections.unmodifiableList(chunks);
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+}
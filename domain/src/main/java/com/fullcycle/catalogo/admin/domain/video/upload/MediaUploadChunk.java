@@ -0,0 +1,40 @@
+package com.fullcycle.catalogo.admin.domain.video.upload;
+
+import com.fullcycle.catalogo.admin.domain.ValueObject;
+
+import java.util.Objects;
+
+public class MediaUploadChunk extends ValueObject {
+    private final int number;
+    private final long size;
+
+    private MediaUploadChunk(final int number, final long size) {
+        this.number = number;
+        this.size = size;
+    }
+
+    public static MediaUploadChunk of(final int number, final long size) {
+        return new MediaUploadChunk(number, size);
+    }
+
+    public int number() {
+        return number;
+    }
+
+    public long size() {
+        return size;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MediaUploadChunk that = (MediaUploadChunk) o;
+        return number == that.number && size == that.size;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(number, size);
+    }
+}
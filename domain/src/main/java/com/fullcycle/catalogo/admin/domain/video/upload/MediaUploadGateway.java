@@ -0,0 +1,17 @@
+package com.fullcycle.catalogo.admin.domain.video.upload;
+
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+public interface MediaUploadGateway {
+    MediaUpload create(MediaUpload anUpload);
+    void deleteById(MediaUploadID anId);
+    Optional<MediaUpload> findById(MediaUploadID anId);
+    MediaUpload update(MediaUpload anUpload);
+
+    /**
+     * Aplica a alteração sobre o estado atual do upload com o registro bloqueado, serializando as alterações
+     * concorrentes de um mesmo upload. Vazio quando o upload não existe mais.
+     */
+    Optional<MediaUpload> update(MediaUploadID anId, UnaryOperator<MediaUpload> aChange);
+}
@@ -0,0 +1,40 @@
+package com.fullcycle.catalogo.admin.domain.video.upload;
+
+import com.fullcycle.catalogo.admin.domain.Identifier;
+import com.fullcycle.catalogo.admin.domain.utils.IDUtils;
+
+import java.util.Objects;
+
+public class MediaUploadID extends Identifier {
+    private final String value;
+
+    private MediaUploadID(final String anId) {
+        this.value = Objects.requireNonNull(anId);
+    }
+
+    public static MediaUploadID unique() {
+        return from(IDUtils.uuid());
+    }
+
+    public static MediaUploadID from(final String anId) {
+        return new MediaUploadID(anId);
+    }
+
+    @Override
+    public String getValue() {
+        return value;
+    }
+
+    @Override
+    public boolean equals(final Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        final MediaUploadID that = (MediaUploadID) o;
+        return getValue().equals(that.getValue());
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(getValue());
+    }
+}
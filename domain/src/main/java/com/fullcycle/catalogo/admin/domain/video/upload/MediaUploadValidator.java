@@ -0,0 +1,67 @@
+package com.fullcycle.catalogo.admin.domain.video.upload;
+
+import com.fullcycle.catalogo.admin.domain.validation.Error;
+import com.fullcycle.catalogo.admin.domain.validation.ValidationHandler;
+import com.fullcycle.catalogo.admin.domain.validation.Validator;
+
+import java.util.Objects;
+
+public class MediaUploadValidator extends Validator {
+    private static final int NAME_MAX_LENGTH = 255;
+
+    private final MediaUpload upload;
+
+    protected MediaUploadValidator(final MediaUpload anUpload, final ValidationHandler aHandler) {
+        super(aHandler);
+        this.upload = anUpload;
+    }
+
+    @Override
+    public void validate() {
+        checkVideoConstraints();
+        checkTypeConstraints();
+        checkNameConstraints();
+        checkContentTypeConstraints();
+    }
+
+    private void checkVideoConstraints() {
+        if (Objects.isNull(upload.getVideoId())) {
+            this.validationHandler().append(new Error("'videoId' should not be null"));
+        }
+    }
+
+    private void checkTypeConstraints() {
+        if (Objects.isNull(upload.getMediaType())) {
+            this.validationHandler().append(new Error("'mediaType' should not be null"));
+        }
+    }
+
+    private void checkNameConstraints() {
+        final var name = upload.getName();
+        if (Objects.isNull(name)) {
+            this.validationHandler().append(new Error("'name' should not be null"));
+            return;
+        }
+
+        if (name.isBlank()) {
+            this.validationHandler().append(new Error("'name' should not be empty"));
+            return;
+        }
+
+        if (name.trim().length() > NAME_MAX_LENGTH) {
+            this.validationHandler().append(new Error("'name' must be between 1 and 255 characters"));
+        }
+    }
+
+    private void checkContentTypeConstraints() {
+        final var contentType = upload.getContentType();
+        if (Objects.isNull(contentType)) {
+            this.validationHandler().append(new Error("'contentType' should not be null"));
+            return;
+        }
+
+        if (contentType.isBlank()) {
+            this.validationHandler().append(new Error("'contentType' should not be empty"));
+        }
+    }
+}
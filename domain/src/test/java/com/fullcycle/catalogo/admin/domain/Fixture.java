@@ -7,10 +7,12 @@ import com.fullcycle.catalogo.admin.domain.genre.Genre;
 import com.fullcycle.catalogo.admin.domain.resource.Resource;
 import com.fullcycle.catalogo.admin.domain.utils.IDUtils;
 import com.fullcycle.catalogo.admin.domain.video.Video;
+import com.fullcycle.catalogo.admin.domain.video.VideoID;
 import com.fullcycle.catalogo.admin.domain.video.VideoMediaType;
 import com.fullcycle.catalogo.admin.domain.video.media.AudioVideoMedia;
 import com.fullcycle.catalogo.admin.domain.video.media.ImageMedia;
 import com.fullcycle.catalogo.admin.domain.video.rating.Rating;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUpload;
 import com.github.javafaker.Faker;
 
 import java.time.Year;
@@ -179,5 +181,12 @@ public final class Fixture {
                 "/images/" + checksum
             );
         }
+
+        public static MediaUpload upload(final VideoID anId, final VideoMediaType type) {
+            final var contentType = List(VideoMediaType.VIDEO, VideoMediaType.TRAILER).contains(type)
+                    ? "video/mp4"
+                    : "image/jpg";
+            return MediaUpload.newUpload(anId, type, type.name().toLowerCase(), contentType);
+        }
     }
 }
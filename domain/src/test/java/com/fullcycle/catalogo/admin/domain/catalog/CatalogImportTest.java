@@ -0,0 +1,103 @@
+package com.fullcycle.catalogo.admin.domain.catalog;
+
+import com.fullcycle.catalogo.admin.domain.UnitTest;
+import com.fullcycle.catalogo.admin.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.admin.domain.utils.InstantUtils;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CatalogImportTest extends UnitTest {
+
+    @Test
+    public void givenANewImport_whenCallsCheckpoint_thenShouldAccumulateTheCounters() {
+        // given
+        final var anImport = CatalogImport.newImport();
+
+        // when
+        anImport.checkpoint(500, 480, 5, 15).checkpoint(800, 300, 0, 0);
+
+        // then
+        assertEquals(800, anImport.getProcessedLines());
+        assertEquals(780, anImport.getImported());
+        assertEquals(5, anImport.getSkipped());
+        assertEquals(15, anImport.getRejected());
+        assertFalse(anImport.isCompleted());
+    }
+
+    @Test
+    public void givenALineBeforeTheProcessedLines_whenCallsCheckpoint_thenShouldReceiveError() {
+        // given
+        final var expectedErrorMessage = "Checkpoint 100 is before the processed lines 500";
+        final var anImport = CatalogImport.newImport().checkpoint(500, 500, 0, 0);
+
+        // when
+        final var actualException = assertThrows(DomainException.class, () -> anImport.checkpoint(100, 100, 0, 0));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        assertEquals(500, anImport.getProcessedLines());
+    }
+
+    @Test
+    public void givenACompletedImport_whenCallsCheckpoint_thenShouldReceiveError() {
+        // given
+        final var anImport = CatalogImport.newImport().complete();
+        final var expectedErrorMessage = "Catalog import %s is already completed".formatted(anImport.getId().getValue());
+
+        // when
+        final var actualException = assertThrows(DomainException.class, () -> anImport.checkpoint(10, 10, 0, 0));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        assertTrue(anImport.isCompleted());
+        assertNotNull(anImport.getCompletedAt());
+    }
+
+    @Test
+    public void givenARunningImport_whenCallsClaim_thenShouldReceiveError() {
+        // given
+        final var aLeaseDate = InstantUtils.now().plusSeconds(60);
+        final var anImport = CatalogImport.newImport().claim(aLeaseDate);
+        final var expectedErrorMessage = "Catalog import %s is already running".formatted(anImport.getId().getValue());
+
+        // when
+        final var actualException = assertThrows(
+            DomainException.class,
+            () -> anImport.claim(InstantUtils.now().plusSeconds(120))
+        );
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        assertEquals(aLeaseDate, anImport.getLeasedUntil());
+    }
+
+    @Test
+    public void givenAnExpiredLease_whenCallsClaim_thenShouldLeaseItAgain() {
+        // given
+        final var anImport = CatalogImport.newImport().claim(InstantUtils.now().minusSeconds(1));
+        final var expectedLeaseDate = InstantUtils.now().plusSeconds(60);
+
+        // when
+        anImport.claim(expectedLeaseDate);
+
+        // then
+        assertTrue(anImport.isRunning());
+        assertEquals(expectedLeaseDate, anImport.getLeasedUntil());
+    }
+
+    @Test
+    public void givenARunningImport_whenCallsComplete_thenShouldReleaseIt() {
+        // given
+        final var anImport = CatalogImport.newImport().claim(InstantUtils.now().plusSeconds(60));
+
+        // when
+        anImport.complete();
+
+        // then
+        assertFalse(anImport.isRunning());
+        assertNull(anImport.getLeasedUntil());
+        assertSame(anImport, anImport.claim(InstantUtils.now().plusSeconds(60)));
+        assertNull(anImport.getLeasedUntil());
+    }
+}
@@ -0,0 +1,56 @@
+package com.fullcycle.catalogo.admin.domain.resource;
+
+import com.fullcycle.catalogo.admin.domain.UnitTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ResourceTest extends UnitTest {
+
+    @Test
+    public void givenInMemoryResource_whenCallsOpenStreamWithRange_thenShouldReturnOnlyTheRange() throws Exception {
+        // given
+        final var aResource = Resource.of("abc", "0123456789".getBytes(), "video/mp4", "video");
+        final var expectedContent = "2345".getBytes();
+
+        // when
+        final byte[] actualContent;
+        try (final var in = aResource.openStream(2, 4)) {
+            actualContent = in.readAllBytes();
+        }
+
+        // then
+        assertArrayEquals(expectedContent, actualContent);
+    }
+
+    @Test
+    public void givenStreamedResource_whenCallsOpenStreamWithRange_thenShouldReturnOnlyTheRange() throws Exception {
+        // given
+        final var content = "0123456789".getBytes();
+        final var aResource = Resource.of(() -> new ByteArrayInputStream(content), content.length, "video/mp4", "video");
+        final var expectedContent = "789".getBytes();
+
+        // when
+        final byte[] actualContent;
+        try (final var in = aResource.openStream(7, 10)) {
+            actualContent = in.readAllBytes();
+        }
+
+        // then
+        assertArrayEquals(expectedContent, actualContent);
+    }
+
+    @Test
+    public void givenNegativeOffset_whenCallsOpenStreamWithRange_thenShouldThrowsException() {
+        // given
+        final var aResource = Resource.of("abc", "0123456789".getBytes(), "video/mp4", "video");
+
+        // when
+        final var actualException = assertThrows(IllegalArgumentException.class, () -> aResource.openStream(-1, 4));
+
+        // then
+        assertEquals("'offset' and 'length' should be positive", actualException.getMessage());
+    }
+}
@@ -0,0 +1,152 @@
+package com.fullcycle.catalogo.admin.domain.video.upload;
+
+import com.fullcycle.catalogo.admin.domain.UnitTest;
+import com.fullcycle.catalogo.admin.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.admin.domain.exceptions.NotificationException;
+import com.fullcycle.catalogo.admin.domain.video.VideoID;
+import com.fullcycle.catalogo.admin.domain.video.VideoMediaType;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MediaUploadTest extends UnitTest {
+
+    @Test
+    public void givenValidParams_whenCallsNewUpload_thenShouldInstantiate() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedName = "video.mp4";
+        final var expectedContentType = "video/mp4";
+        final var expectedOffset = 0L;
+        final var expectedNextChunk = 1;
+
+        // when
+        final var actualUpload =
+            MediaUpload.newUpload(expectedVideoId, expectedType, expectedName, expectedContentType);
+
+        // then
+        assertNotNull(actualUpload.getId());
+        assertEquals(expectedVideoId, actualUpload.getVideoId());
+        assertEquals(expectedType, actualUpload.getMediaType());
+        assertEquals(expectedName, actualUpload.getName());
+        assertEquals(expectedContentType, actualUpload.getContentType());
+        assertEquals(expectedOffset, actualUpload.offset());
+        assertEquals(expectedNextChunk, actualUpload.nextChunk());
+        assertFalse(actualUpload.hasChunks());
+        assertNotNull(actualUpload.getCreatedAt());
+        assertNotNull(actualUpload.getUpdatedAt());
+    }
+
+    @Test
+    public void givenEmptyName_whenCallsNewUpload_thenShouldReceiveError() {
+        // given
+        final var expectedErrorCount = 1;
+        final var expectedErrorMessage = "'name' should not be empty";
+
+        // when
+        final var actualException = assertThrows(
+            NotificationException.class,
+            () -> MediaUpload.newUpload(VideoID.unique(), VideoMediaType.VIDEO, " ", "video/mp4")
+        );
+
+        // then
+        assertEquals(expectedErrorCount, actualException.getErrors().size());
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+    }
+
+    @Test
+    public void givenSequentialChunks_whenCallsRegisterChunk_thenShouldAdvanceOffset() {
+        // given
+        final var anUpload = MediaUpload.newUpload(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4");
+        final var expectedOffset = 15L;
+        final var expectedNextChunk = 3;
+
+        // when
+        anUpload.registerChunk(1, 10).registerChunk(2, 5);
+
+        // then
+        assertTrue(anUpload.hasChunks());
+        assertEquals(expectedOffset, anUpload.offset());
+        assertEquals(expectedNextChunk, anUpload.nextChunk());
+    }
+
+    @Test
+    public void givenAlreadyReceivedChunk_whenCallsRegisterChunk_thenShouldReplaceIt() {
+        // given
+        final var anUpload = MediaUpload.newUpload(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4");
+        anUpload.registerChunk(1, 10).registerChunk(2, 5);
+
+        final var expectedOffset = 12L;
+        final var expectedNextChunk = 3;
+
+        // when
+        anUpload.registerChunk(2, 2);
+
+        // then
+        assertEquals(expectedOffset, anUpload.offset());
+        assertEquals(expectedNextChunk, anUpload.nextChunk());
+        assertEquals(2, anUpload.getChunks().get(1).number());
+    }
+
+    @Test
+    public void givenReceivedChunks_whenCallsDiscardChunksFrom_thenShouldResumeFromTheDiscardedChunk() {
+        // given
+        final var anUpload = MediaUpload.newUpload(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4");
+        anUpload.registerChunk(1, 10).registerChunk(2, 5).registerChunk(3, 5);
+
+        final var expectedOffset = 10L;
+        final var expectedNextChunk = 2;
+
+        // when
+        anUpload.discardChunksFrom(2);
+
+        // then
+        assertEquals(expectedOffset, anUpload.offset());
+        assertEquals(expectedNextChunk, anUpload.nextChunk());
+    }
+
+    @Test
+    public void givenOutOfOrderChunk_whenCallsRegisterChunk_thenShouldReceiveError() {
+        // given
+        final var anUpload = MediaUpload.newUpload(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4");
+        final var expectedErrorMessage = "Chunk 3 is out of order, next expected chunk is 1";
+
+        // when
+        final var actualException = assertThrows(DomainException.class, () -> anUpload.registerChunk(3, 10));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertFalse(anUpload.hasChunks());
+    }
+
+    @Test
+    public void givenEmptyChunk_whenCallsRegisterChunk_thenShouldReceiveError() {
+        // given
+        final var anUpload = MediaUpload.newUpload(VideoID.unique(), VideoMediaType.VIDEO, "video.mp4", "video/mp4");
+        final var expectedErrorMessage = "'size' of chunk 1 should be greater than 0";
+
+        // when
+        final var actualException = assertThrows(DomainException.class, () -> anUpload.registerChunk(1, 0));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenTwoUploads_whenCallsBelongsTo_thenShouldMatchVideoAndType() {
+        // given
+        final var aVideoId = VideoID.unique();
+        final var anUpload = MediaUpload.newUpload(aVideoId, VideoMediaType.VIDEO, "video.mp4", "video/mp4");
+
+        // when
+        final var actualSameVideoAndType = anUpload.belongsTo(aVideoId, VideoMediaType.VIDEO);
+        final var actualOtherType = anUpload.belongsTo(aVideoId, VideoMediaType.TRAILER);
+        final var actualOtherVideo = anUpload.belongsTo(VideoID.unique(), VideoMediaType.VIDEO);
+
+        // then
+        assertTrue(actualSameVideoAndType);
+        assertFalse(actualOtherType);
+        assertFalse(actualOtherVideo);
+    }
+}
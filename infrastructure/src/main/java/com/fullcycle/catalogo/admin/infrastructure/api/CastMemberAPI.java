@@ -4,6 +4,7 @@ import com.fullcycle.catalogo.admin.domain.pagination.Pagination;
 import com.fullcycle.catalogo.admin.infrastructure.castmember.models.CastMemberListResponse;
 import com.fullcycle.catalogo.admin.infrastructure.castmember.models.CastMemberResponse;
 import com.fullcycle.catalogo.admin.infrastructure.castmember.models.CreateCastMemberRequest;
+import com.fullcycle.catalogo.admin.infrastructure.castmember.models.UpdateCastMemberItemRequest;
 import com.fullcycle.catalogo.admin.infrastructure.castmember.models.UpdateCastMemberRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,9 +12,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 @Tag(name = "Cast Members")
 @RequestMapping("cast_members")
@@ -31,11 +36,25 @@ public interface CastMemberAPI {
     })
     ResponseEntity<?> create(@RequestBody CreateCastMemberRequest input);
 
+    @PostMapping(
+        value = "batch",
+        consumes = APPLICATION_JSON_VALUE,
+        produces = APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create up to 1000 cast members at once, none is created if any of them is invalid")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Created successfully"),
+        @ApiResponse(responseCode = "422", description = "A validation error was thrown, with the index of each invalid item"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<?> createInBatch(@RequestBody List<CreateCastMemberRequest> input);
+
     @GetMapping
     @Operation(summary = "List all cast members")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Cast members retrieved"),
         @ApiResponse(responseCode = "400", description = "An invalid parameter was received"),
+        @ApiResponse(responseCode = "422", description = "The given cursor was invalid"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
     Pagination<CastMemberListResponse> list(
@@ -43,13 +62,24 @@ public interface CastMemberAPI {
         @RequestParam(name = "page", required = false, defaultValue = "0") int page,
         @RequestParam(name = "perPage", required = false, defaultValue = "10") int perPage,
         @RequestParam(name = "sort", required = false, defaultValue = "name") String sort,
-        @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction
+        @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction,
+        @RequestParam(name = "after", required = false) String after,
+        @RequestParam(name = "exactTotal", required = false, defaultValue = "true") boolean exactTotal
     );
 
+    @GetMapping(value = "export", produces = APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all cast members as NDJSON, one per line in the same format of the get by identifier")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Cast members streamed"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<StreamingResponseBody> export();
+
     @GetMapping(value = "{id}", produces = APPLICATION_JSON_VALUE)
     @Operation(summary = "Get a cast member by it's identifier")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Cast member retrieved"),
+        @ApiResponse(responseCode = "304", description = "Cast member was not modified since the given ETag"),
         @ApiResponse(responseCode = "404", description = "Cast member was not found"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
@@ -69,6 +99,19 @@ public interface CastMemberAPI {
     })
     ResponseEntity<?> updateById(@PathVariable String id, @RequestBody UpdateCastMemberRequest aBody);
 
+    @PutMapping(
+        value = "batch",
+        consumes = APPLICATION_JSON_VALUE,
+        produces = APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Update up to 1000 cast members at once, none is updated if any of them is invalid or was not found")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Updated successfully"),
+        @ApiResponse(responseCode = "422", description = "A validation error was thrown, with the index of each invalid item"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<?> updateInBatch(@RequestBody List<UpdateCastMemberItemRequest> input);
+
     @DeleteMapping(value = "{id}")
     @ResponseStatus(NO_CONTENT)
     @Operation(summary = "Delete a cast member by it's identifier")
@@ -0,0 +1,44 @@
+package com.fullcycle.catalogo.admin.infrastructure.api;
+
+import com.fullcycle.catalogo.admin.application.catalog.importer.ImportCatalogOutput;
+import com.fullcycle.catalogo.admin.application.catalog.retrieve.get.CatalogImportOutput;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+
+@Tag(name = "Catalog Imports")
+@RequestMapping("catalog/imports")
+public interface CatalogImportAPI {
+
+    @PostMapping(
+        consumes = APPLICATION_NDJSON_VALUE,
+        produces = APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Import categories, genres, cast members and videos from a NDJSON body, one record per line")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import finished, with the line of each rejected record"),
+        @ApiResponse(responseCode = "404", description = "The import to resume was not found"),
+        @ApiResponse(responseCode = "422", description = "The import to resume is already running"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ImportCatalogOutput importCatalog(
+        @RequestParam(name = "id", required = false) String anImportId,
+        InputStream aContent
+    );
+
+    @GetMapping(value = "{id}", produces = APPLICATION_JSON_VALUE)
+    @Operation(summary = "Get the progress of a catalog import by it's identifier")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Import progress retrieved"),
+        @ApiResponse(responseCode = "404", description = "Import was not found"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    CatalogImportOutput getById(@PathVariable String id);
+}
@@ -4,6 +4,7 @@ import com.fullcycle.catalogo.admin.domain.pagination.Pagination;
 import com.fullcycle.catalogo.admin.infrastructure.category.models.CategoryListResponse;
 import com.fullcycle.catalogo.admin.infrastructure.category.models.CategoryResponse;
 import com.fullcycle.catalogo.admin.infrastructure.category.models.CreateCategoryRequest;
+import com.fullcycle.catalogo.admin.infrastructure.category.models.UpdateCategoryItemRequest;
 import com.fullcycle.catalogo.admin.infrastructure.category.models.UpdateCategoryRequest;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -11,9 +12,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.List;
 
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 @Tag(name = "Categories")
 @RequestMapping("categories")
@@ -30,11 +35,25 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> createCategory(@RequestBody CreateCategoryRequest input);
 
+    @PostMapping(
+        value = "batch",
+        consumes = APPLICATION_JSON_VALUE,
+        produces = APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Create up to 1000 categories at once, none is created if any of them is invalid")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Created successfully"),
+        @ApiResponse(responseCode = "422", description = "A validation error was thrown, with the index of each invalid item"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<?> createCategories(@RequestBody List<CreateCategoryRequest> input);
+
     @GetMapping
     @Operation(summary = "List all categories paginated")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Listed successfully"),
         @ApiResponse(responseCode = "400", description = "A invalid parameter was received"),
+        @ApiResponse(responseCode = "422", description = "The given cursor was invalid"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
     Pagination<CategoryListResponse> listCategories(
@@ -42,9 +61,19 @@ public interface CategoryAPI {
         @RequestParam(name = "page", required = false, defaultValue = "0") int page,
         @RequestParam(name = "perPage", required = false, defaultValue = "10") int perPage,
         @RequestParam(name = "sort", required = false, defaultValue = "name") String sort,
-        @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction
+        @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction,
+        @RequestParam(name = "after", required = false) String after,
+        @RequestParam(name = "exactTotal", required = false, defaultValue = "true") boolean exactTotal
     );
 
+    @GetMapping(value = "export", produces = APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all categories as NDJSON, one per line in the same format of the get by identifier")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Categories streamed"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<StreamingResponseBody> export();
+
     @GetMapping(
         value = "{id}",
         produces = APPLICATION_JSON_VALUE
@@ -52,6 +81,7 @@ public interface CategoryAPI {
     @Operation(summary = "Get an category by it's identifier")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Category retrieve successfully"),
+        @ApiResponse(responseCode = "304", description = "Category was not modified since the given ETag"),
         @ApiResponse(responseCode = "404", description = "Category was not found"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
@@ -70,6 +100,19 @@ public interface CategoryAPI {
     })
     ResponseEntity<?> updateById(@PathVariable String id, @RequestBody UpdateCategoryRequest input);
 
+    @PutMapping(
+        value = "batch",
+        consumes = APPLICATION_JSON_VALUE,
+        produces = APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Update up to 1000 categories at once, none is updated if any of them is invalid or was not found")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Updated successfully"),
+        @ApiResponse(responseCode = "422", description = "A validation error was thrown, with the index of each invalid item"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<?> updateCategories(@RequestBody List<UpdateCategoryItemRequest> input);
+
     @DeleteMapping(value = "{id}")
     @ResponseStatus(NO_CONTENT)
     @Operation(summary = "Delete a category by it's identifier")
@@ -11,9 +11,11 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 
 @Tag(name = "Genre")
 @RequestMapping(value = "genres")
@@ -36,6 +38,7 @@ public interface GenreAPI {
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Listed successfully"),
         @ApiResponse(responseCode = "400", description = "A invalid parameter was received"),
+        @ApiResponse(responseCode = "422", description = "The given cursor was invalid"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
     Pagination<GenreListResponse> list(
@@ -43,9 +46,19 @@ public interface GenreAPI {
         @RequestParam(name = "page", required = false, defaultValue = "0") int page,
         @RequestParam(name = "perPage", required = false, defaultValue = "10") int perPage,
         @RequestParam(name = "sort", required = false, defaultValue = "name") String sort,
-        @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction
+        @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction,
+        @RequestParam(name = "after", required = false) String after,
+        @RequestParam(name = "exactTotal", required = false, defaultValue = "true") boolean exactTotal
     );
 
+    @GetMapping(value = "export", produces = APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all genres as NDJSON, one per line in the same format of the get by identifier")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Genres streamed"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<StreamingResponseBody> export();
+
     @GetMapping(
         value = "{id}",
         produces = APPLICATION_JSON_VALUE
@@ -53,6 +66,7 @@ public interface GenreAPI {
     @Operation(summary = "Get a genre by it's identifier")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Genre retrieve successfully"),
+        @ApiResponse(responseCode = "304", description = "Genre was not modified since the given ETag"),
         @ApiResponse(responseCode = "404", description = "Genre was not found"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
@@ -1,7 +1,9 @@
 package com.fullcycle.catalogo.admin.infrastructure.api;
 
 import com.fullcycle.catalogo.admin.domain.pagination.Pagination;
+import com.fullcycle.catalogo.admin.infrastructure.video.models.CreateMediaUploadRequest;
 import com.fullcycle.catalogo.admin.infrastructure.video.models.CreateVideoRequest;
+import com.fullcycle.catalogo.admin.infrastructure.video.models.MediaUploadResponse;
 import com.fullcycle.catalogo.admin.infrastructure.video.models.UpdateVideoRequest;
 import com.fullcycle.catalogo.admin.infrastructure.video.models.VideoListResponse;
 import com.fullcycle.catalogo.admin.infrastructure.video.models.VideoResponse;
@@ -9,14 +11,19 @@ import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.Set;
 
 import static org.springframework.http.HttpStatus.NO_CONTENT;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM_VALUE;
 import static org.springframework.http.MediaType.MULTIPART_FORM_DATA_VALUE;
 
 @Tag(name = "Video")
@@ -78,9 +85,19 @@ public interface VideoAPI {
         @RequestParam(name = "dir", required = false, defaultValue = "asc") String direction,
         @RequestParam(name = "cast_members_ids", required = false, defaultValue = "") Set<String> castMembers,
         @RequestParam(name = "categories_ids", required = false, defaultValue = "") Set<String> categories,
-        @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres
+        @RequestParam(name = "genres_ids", required = false, defaultValue = "") Set<String> genres,
+        @RequestParam(name = "after", required = false) String after,
+        @RequestParam(name = "exactTotal", required = false, defaultValue = "true") boolean exactTotal
     );
 
+    @GetMapping(value = "export", produces = APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "Export all videos as NDJSON, one per line in the same format of the get by identifier")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Videos streamed"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<StreamingResponseBody> export();
+
     @GetMapping(
         value = "{id}",
         produces = APPLICATION_JSON_VALUE
@@ -88,10 +105,11 @@ public interface VideoAPI {
     @Operation(summary = "Get a video by it's identifier")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Video retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Video was not modified since the given ETag"),
         @ApiResponse(responseCode = "404", description = "Video was not found"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
-    VideoResponse getById(@PathVariable(name = "id") String anId);
+    ResponseEntity<VideoResponse> getById(@PathVariable(name = "id") String anId);
 
     @PutMapping(
         value = "{id}",
@@ -123,12 +141,17 @@ public interface VideoAPI {
     @Operation(summary = "Get a video media by it's type")
     @ApiResponses(value = {
         @ApiResponse(responseCode = "200", description = "Media retrieved successfully"),
+        @ApiResponse(responseCode = "206", description = "Partial media retrieved successfully"),
+        @ApiResponse(responseCode = "304", description = "Media was not modified since the given ETag"),
         @ApiResponse(responseCode = "404", description = "Media was not found"),
+        @ApiResponse(responseCode = "416", description = "Requested range not satisfiable"),
         @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
     })
-    ResponseEntity<byte[]> getMediaByType(
+    ResponseEntity<?> getMediaByType(
         @PathVariable(name = "id") String anId,
-        @PathVariable(name = "type") String aType
+        @PathVariable(name = "type") String aType,
+        @RequestHeader(name = HttpHeaders.RANGE, required = false) String aRange,
+        @RequestHeader(name = HttpHeaders.IF_RANGE, required = false) String anIfRange
     );
 
     @PostMapping(value = "{id}/medias/{type}")
@@ -143,4 +166,76 @@ public interface VideoAPI {
         @PathVariable(name = "type") String aType,
         @RequestParam(name = "media_file") MultipartFile aMedia
     );
+
+    @PostMapping(
+        value = "{id}/medias/{type}/uploads",
+        consumes = APPLICATION_JSON_VALUE,
+        produces = APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Start a resumable upload of a video media by it's type")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Upload session created successfully"),
+        @ApiResponse(responseCode = "404", description = "Video was not found"),
+        @ApiResponse(responseCode = "422", description = "A validation error was thrown"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<?> createMediaUpload(
+        @PathVariable(name = "id") String anId,
+        @PathVariable(name = "type") String aType,
+        @RequestBody CreateMediaUploadRequest aRequest
+    );
+
+    @PutMapping(
+        value = "{id}/medias/{type}/uploads/{uploadId}/chunks/{chunk}",
+        consumes = APPLICATION_OCTET_STREAM_VALUE,
+        produces = APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Upload a chunk of a resumable video media upload")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Chunk stored successfully"),
+        @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+        @ApiResponse(responseCode = "422", description = "The chunk is out of order or empty"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    MediaUploadResponse uploadMediaChunk(
+        @PathVariable(name = "id") String anId,
+        @PathVariable(name = "type") String aType,
+        @PathVariable(name = "uploadId") String anUploadId,
+        @PathVariable(name = "chunk") int aChunk,
+        @RequestHeader(name = HttpHeaders.CONTENT_LENGTH) long aLength,
+        InputStream aContent
+    );
+
+    @GetMapping(
+        value = "{id}/medias/{type}/uploads/{uploadId}",
+        produces = APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Get the current offset of a resumable video media upload")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "200", description = "Upload session retrieved successfully"),
+        @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    MediaUploadResponse getMediaUpload(
+        @PathVariable(name = "id") String anId,
+        @PathVariable(name = "type") String aType,
+        @PathVariable(name = "uploadId") String anUploadId
+    );
+
+    @PostMapping(
+        value = "{id}/medias/{type}/uploads/{uploadId}/commit",
+        produces = APPLICATION_JSON_VALUE
+    )
+    @Operation(summary = "Commit a resumable video media upload")
+    @ApiResponses(value = {
+        @ApiResponse(responseCode = "201", description = "Media created successfully"),
+        @ApiResponse(responseCode = "404", description = "Upload session was not found"),
+        @ApiResponse(responseCode = "422", description = "The upload has no chunks"),
+        @ApiResponse(responseCode = "500", description = "An internal server error was thrown")
+    })
+    ResponseEntity<?> commitMediaUpload(
+        @PathVariable(name = "id") String anId,
+        @PathVariable(name = "type") String aType,
+        @PathVariable(name = "uploadId") String anUploadId
+    );
 }
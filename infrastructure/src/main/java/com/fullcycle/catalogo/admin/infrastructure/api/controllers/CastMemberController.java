@@ -2,45 +2,64 @@ package com.fullcycle.catalogo.admin.infrastructure.api.controllers;
 
 import com.fullcycle.catalogo.admin.application.castmember.create.CreateCastMemberCommand;
 import com.fullcycle.catalogo.admin.application.castmember.create.CreateCastMemberUseCase;
+import com.fullcycle.catalogo.admin.application.castmember.create.CreateCastMembersInBatchUseCase;
 import com.fullcycle.catalogo.admin.application.castmember.delete.DeleteCastMemberUseCase;
+import com.fullcycle.catalogo.admin.application.castmember.retrive.export.ExportCastMembersUseCase;
 import com.fullcycle.catalogo.admin.application.castmember.retrive.get.GetCastMemberByIdUseCase;
 import com.fullcycle.catalogo.admin.application.castmember.retrive.list.ListCastMembersUseCase;
 import com.fullcycle.catalogo.admin.application.castmember.update.UpdateCastMemberCommand;
 import com.fullcycle.catalogo.admin.application.castmember.update.UpdateCastMemberUseCase;
+import com.fullcycle.catalogo.admin.application.castmember.update.UpdateCastMembersInBatchUseCase;
 import com.fullcycle.catalogo.admin.domain.pagination.Pagination;
 import com.fullcycle.catalogo.admin.domain.pagination.SearchQuery;
 import com.fullcycle.catalogo.admin.infrastructure.api.CastMemberAPI;
 import com.fullcycle.catalogo.admin.infrastructure.castmember.models.CastMemberListResponse;
 import com.fullcycle.catalogo.admin.infrastructure.castmember.models.CastMemberResponse;
 import com.fullcycle.catalogo.admin.infrastructure.castmember.models.CreateCastMemberRequest;
+import com.fullcycle.catalogo.admin.infrastructure.castmember.models.UpdateCastMemberItemRequest;
 import com.fullcycle.catalogo.admin.infrastructure.castmember.models.UpdateCastMemberRequest;
 import com.fullcycle.catalogo.admin.infrastructure.castmember.presenter.CastMemberPresenter;
+import com.fullcycle.catalogo.admin.infrastructure.utils.HttpCacheUtils;
+import com.fullcycle.catalogo.admin.infrastructure.utils.NdjsonUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 
 @RestController
 public class CastMemberController implements CastMemberAPI {
     private final CreateCastMemberUseCase createCastMemberUseCase;
+    private final CreateCastMembersInBatchUseCase createCastMembersInBatchUseCase;
     private final GetCastMemberByIdUseCase getCastMemberByIdUseCase;
     private final ListCastMembersUseCase listCastMembersUseCase;
     private final UpdateCastMemberUseCase updateCastMemberUseCase;
+    private final UpdateCastMembersInBatchUseCase updateCastMembersInBatchUseCase;
     private final DeleteCastMemberUseCase deleteCastMemberUseCase;
+    private final ExportCastMembersUseCase exportCastMembersUseCase;
 
     public CastMemberController(
         final CreateCastMemberUseCase createCastMemberUseCase,
+        final CreateCastMembersInBatchUseCase createCastMembersInBatchUseCase,
         final GetCastMemberByIdUseCase getCastMemberByIdUseCase,
         final ListCastMembersUseCase listCastMembersUseCase,
         final UpdateCastMemberUseCase updateCastMemberUseCase,
-        final DeleteCastMemberUseCase deleteCastMemberUseCase
+        final UpdateCastMembersInBatchUseCase updateCastMembersInBatchUseCase,
+        final DeleteCastMemberUseCase deleteCastMemberUseCase,
+        final ExportCastMembersUseCase exportCastMembersUseCase
     ) {
         this.createCastMemberUseCase = Objects.requireNonNull(createCastMemberUseCase);
+        this.createCastMembersInBatchUseCase = Objects.requireNonNull(createCastMembersInBatchUseCase);
         this.getCastMemberByIdUseCase = Objects.requireNonNull(getCastMemberByIdUseCase);
         this.listCastMembersUseCase = Objects.requireNonNull(listCastMembersUseCase);
         this.updateCastMemberUseCase = Objects.requireNonNull(updateCastMemberUseCase);
+        this.updateCastMembersInBatchUseCase = Objects.requireNonNull(updateCastMembersInBatchUseCase);
         this.deleteCastMemberUseCase = Objects.requireNonNull(deleteCastMemberUseCase);
+        this.exportCastMembersUseCase = Objects.requireNonNull(exportCastMembersUseCase);
     }
 
     @Override
@@ -52,21 +71,49 @@ public class CastMemberController implements CastMemberAPI {
                 .body(output);
     }
 
+    @Override
+    public ResponseEntity<?> createInBatch(final List<CreateCastMemberRequest> input) {
+        final var aCommands = input.stream()
+                .map(item -> CreateCastMemberCommand.with(item.name(), item.type()))
+                .toList();
+
+        return createCastMembersInBatchUseCase.execute(aCommands)
+                .fold(
+                    ResponseEntity.unprocessableEntity()::body,
+                    ResponseEntity.status(HttpStatus.CREATED)::body
+                );
+    }
+
     @Override
     public Pagination<CastMemberListResponse> list(
         final String search,
         final int page,
         final int perPage,
         final String sort,
-        final String direction
+        final String direction,
+        final String after,
+        final boolean exactTotal
     ) {
-        final var aQuery = new SearchQuery(page, perPage, search, sort, direction);
+        final var aQuery = new SearchQuery(page, perPage, search, sort, direction, after, exactTotal);
         return listCastMembersUseCase.execute(aQuery).map(CastMemberPresenter::present);
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(NdjsonUtils.<CastMemberResponse>stream(aConsumer ->
+                    exportCastMembersUseCase.execute(output -> aConsumer.accept(CastMemberPresenter.present(output)))
+                ));
+    }
+
     @Override
     public ResponseEntity<CastMemberResponse> getById(final String id) {
-        return ResponseEntity.ok(CastMemberPresenter.present(getCastMemberByIdUseCase.execute(id)));
+        final var output = CastMemberPresenter.present(getCastMemberByIdUseCase.execute(id));
+        return ResponseEntity.ok()
+                .eTag(HttpCacheUtils.eTag(output.updatedAt()))
+                .cacheControl(HttpCacheUtils.revalidate())
+                .body(output);
     }
 
     @Override
@@ -75,6 +122,19 @@ public class CastMemberController implements CastMemberAPI {
         return ResponseEntity.ok(updateCastMemberUseCase.execute(aCommand));
     }
 
+    @Override
+    public ResponseEntity<?> updateInBatch(final List<UpdateCastMemberItemRequest> input) {
+        final var aCommands = input.stream()
+                .map(item -> UpdateCastMemberCommand.with(item.id(), item.name(), item.type()))
+                .toList();
+
+        return updateCastMembersInBatchUseCase.execute(aCommands)
+                .fold(
+                    ResponseEntity.unprocessableEntity()::body,
+                    ResponseEntity.ok()::body
+                );
+    }
+
     @Override
     public void deleteById(final String id) {
         deleteCastMemberUseCase.execute(id);
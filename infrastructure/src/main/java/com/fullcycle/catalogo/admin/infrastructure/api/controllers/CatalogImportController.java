@@ -0,0 +1,43 @@
+package com.fullcycle.catalogo.admin.infrastructure.api.controllers;
+
+import com.fullcycle.catalogo.admin.application.catalog.importer.ImportCatalogCommand;
+import com.fullcycle.catalogo.admin.application.catalog.importer.ImportCatalogOutput;
+import com.fullcycle.catalogo.admin.application.catalog.importer.ImportCatalogUseCase;
+import com.fullcycle.catalogo.admin.application.catalog.retrieve.get.CatalogImportOutput;
+import com.fullcycle.catalogo.admin.application.catalog.retrieve.get.GetCatalogImportByIdUseCase;
+import com.fullcycle.catalogo.admin.infrastructure.api.CatalogImportAPI;
+import com.fullcycle.catalogo.admin.infrastructure.catalog.NdjsonCatalogReader;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.Objects;
+
+@RestController
+public class CatalogImportController implements CatalogImportAPI {
+    private final ImportCatalogUseCase importCatalogUseCase;
+    private final GetCatalogImportByIdUseCase getCatalogImportByIdUseCase;
+
+    public CatalogImportController(
+        final ImportCatalogUseCase importCatalogUseCase,
+        final GetCatalogImportByIdUseCase getCatalogImportByIdUseCase
+    ) {
+        this.importCatalogUseCase = Objects.requireNonNull(importCatalogUseCase);
+        this.getCatalogImportByIdUseCase = Objects.requireNonNull(getCatalogImportByIdUseCase);
+    }
+
+    @Override
+    public ImportCatalogOutput importCatalog(final String anImportId, final InputStream aContent) {
+        try (final var records = new NdjsonCatalogReader(aContent)) {
+            return importCatalogUseCase.execute(ImportCatalogCommand.with(anImportId, records));
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public CatalogImportOutput getById(final String id) {
+        return getCatalogImportByIdUseCase.execute(id);
+    }
+}
@@ -1,11 +1,14 @@
 package com.fullcycle.catalogo.admin.infrastructure.api.controllers;
 
+import com.fullcycle.catalogo.admin.application.category.create.CreateCategoriesInBatchUseCase;
 import com.fullcycle.catalogo.admin.application.category.create.CreateCategoryCommand;
 import com.fullcycle.catalogo.admin.application.category.create.CreateCategoryOutput;
 import com.fullcycle.catalogo.admin.application.category.create.CreateCategoryUseCase;
 import com.fullcycle.catalogo.admin.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.catalogo.admin.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.fullcycle.catalogo.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.fullcycle.catalogo.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.catalogo.admin.application.category.update.UpdateCategoriesInBatchUseCase;
 import com.fullcycle.catalogo.admin.application.category.update.UpdateCategoryCommand;
 import com.fullcycle.catalogo.admin.application.category.update.UpdateCategoryUseCase;
 import com.fullcycle.catalogo.admin.domain.pagination.SearchQuery;
@@ -14,37 +17,53 @@ import com.fullcycle.catalogo.admin.infrastructure.api.CategoryAPI;
 import com.fullcycle.catalogo.admin.infrastructure.category.models.CategoryListResponse;
 import com.fullcycle.catalogo.admin.infrastructure.category.models.CategoryResponse;
 import com.fullcycle.catalogo.admin.infrastructure.category.models.CreateCategoryRequest;
+import com.fullcycle.catalogo.admin.infrastructure.category.models.UpdateCategoryItemRequest;
 import com.fullcycle.catalogo.admin.infrastructure.category.models.UpdateCategoryRequest;
 import com.fullcycle.catalogo.admin.infrastructure.category.presenters.CategoryApiPresenter;
+import com.fullcycle.catalogo.admin.infrastructure.utils.HttpCacheUtils;
+import com.fullcycle.catalogo.admin.infrastructure.utils.NdjsonUtils;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
+import java.util.List;
 import java.util.Objects;
 import java.util.function.Function;
 
+import static org.springframework.http.HttpStatus.CREATED;
 import static org.springframework.http.ResponseEntity.*;
 
 @RestController
 public class CategoryController implements CategoryAPI {
     private final CreateCategoryUseCase createCategoryUseCase;
+    private final CreateCategoriesInBatchUseCase createCategoriesInBatchUseCase;
     private final GetCategoryByIdUseCase getCategoryByIdUseCase;
     private final UpdateCategoryUseCase updateCategoryUseCase;
+    private final UpdateCategoriesInBatchUseCase updateCategoriesInBatchUseCase;
     private final DeleteCategoryUseCase deleteCategoryUseCase;
     private final ListCategoriesUseCase listCategoriesUseCase;
+    private final ExportCategoriesUseCase exportCategoriesUseCase;
 
     public CategoryController(
         final CreateCategoryUseCase createCategoryUseCase,
+        final CreateCategoriesInBatchUseCase createCategoriesInBatchUseCase,
         final GetCategoryByIdUseCase getCategoryByIdUseCase,
         final UpdateCategoryUseCase updateCategoryUseCase,
+        final UpdateCategoriesInBatchUseCase updateCategoriesInBatchUseCase,
         final DeleteCategoryUseCase deleteCategoryUseCase,
-        final ListCategoriesUseCase listCategoriesUseCase
+        final ListCategoriesUseCase listCategoriesUseCase,
+        final ExportCategoriesUseCase exportCategoriesUseCase
     ) {
         this.createCategoryUseCase = Objects.requireNonNull(createCategoryUseCase);
+        this.createCategoriesInBatchUseCase = Objects.requireNonNull(createCategoriesInBatchUseCase);
         this.getCategoryByIdUseCase = Objects.requireNonNull(getCategoryByIdUseCase);
         this.updateCategoryUseCase = Objects.requireNonNull(updateCategoryUseCase);
+        this.updateCategoriesInBatchUseCase = Objects.requireNonNull(updateCategoriesInBatchUseCase);
         this.deleteCategoryUseCase = Objects.requireNonNull(deleteCategoryUseCase);
         this.listCategoriesUseCase = Objects.requireNonNull(listCategoriesUseCase);
+        this.exportCategoriesUseCase = Objects.requireNonNull(exportCategoriesUseCase);
     }
 
     @Override
@@ -63,22 +82,51 @@ public class CategoryController implements CategoryAPI {
                 .fold(unprocessableEntity()::body, onSuccess);
     }
 
+    @Override
+    public ResponseEntity<?> createCategories(final List<CreateCategoryRequest> input) {
+        final var aCommands = input.stream()
+                .map(item -> CreateCategoryCommand.with(
+                    item.name(),
+                    item.description(),
+                    Objects.nonNull(item.active()) ? item.active() : true
+                ))
+                .toList();
+
+        return createCategoriesInBatchUseCase.execute(aCommands)
+                .fold(unprocessableEntity()::body, status(CREATED)::body);
+    }
+
     @Override
     public Pagination<CategoryListResponse> listCategories(
         final String search,
         final int page,
         final int perPage,
         final String sort,
-        final String direction
+        final String direction,
+        final String after,
+        final boolean exactTotal
     ) {
         return listCategoriesUseCase
-            .execute(new SearchQuery(page, perPage, search, sort, direction))
+            .execute(new SearchQuery(page, perPage, search, sort, direction, after, exactTotal))
             .map(CategoryApiPresenter::present);
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(NdjsonUtils.<CategoryResponse>stream(aConsumer ->
+                    exportCategoriesUseCase.execute(output -> aConsumer.accept(CategoryApiPresenter.present(output)))
+                ));
+    }
+
     @Override
     public ResponseEntity<CategoryResponse> getById(final String id) {
-        return ResponseEntity.ok(CategoryApiPresenter.present(getCategoryByIdUseCase.execute(id)));
+        final var output = CategoryApiPresenter.present(getCategoryByIdUseCase.execute(id));
+        return ok()
+                .eTag(HttpCacheUtils.eTag(output.updatedAt()))
+                .cacheControl(HttpCacheUtils.revalidate())
+                .body(output);
     }
 
     @Override
@@ -94,6 +142,21 @@ public class CategoryController implements CategoryAPI {
         return updateCategoryUseCase.execute(aCommand).fold(unprocessableEntity()::body, ok()::body);
     }
 
+    @Override
+    public ResponseEntity<?> updateCategories(final List<UpdateCategoryItemRequest> input) {
+        final var aCommands = input.stream()
+                .map(item -> UpdateCategoryCommand.with(
+                    item.id(),
+                    item.name(),
+                    item.description(),
+                    Objects.nonNull(item.active()) ? item.active() : true
+                ))
+                .toList();
+
+        return updateCategoriesInBatchUseCase.execute(aCommands)
+                .fold(unprocessableEntity()::body, ok()::body);
+    }
+
     @Override
     public void deleteById(String id) {
         deleteCategoryUseCase.execute(id);
@@ -3,6 +3,7 @@ package com.fullcycle.catalogo.admin.infrastructure.api.controllers;
 import com.fullcycle.catalogo.admin.application.genre.create.CreateGenreCommand;
 import com.fullcycle.catalogo.admin.application.genre.create.CreateGenreUseCase;
 import com.fullcycle.catalogo.admin.application.genre.delete.DeleteGenreUseCase;
+import com.fullcycle.catalogo.admin.application.genre.retrieve.export.ExportGenresUseCase;
 import com.fullcycle.catalogo.admin.application.genre.retrieve.get.GetGenreByIdUseCase;
 import com.fullcycle.catalogo.admin.application.genre.retrieve.list.ListGenreUseCase;
 import com.fullcycle.catalogo.admin.application.genre.update.UpdateGenreCommand;
@@ -15,8 +16,12 @@ import com.fullcycle.catalogo.admin.infrastructure.genre.models.GenreListRespons
 import com.fullcycle.catalogo.admin.infrastructure.genre.models.GenreResponse;
 import com.fullcycle.catalogo.admin.infrastructure.genre.models.UpdateGenreRequest;
 import com.fullcycle.catalogo.admin.infrastructure.genre.presenters.GenreApiPresenter;
+import com.fullcycle.catalogo.admin.infrastructure.utils.HttpCacheUtils;
+import com.fullcycle.catalogo.admin.infrastructure.utils.NdjsonUtils;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.net.URI;
 
@@ -28,19 +33,22 @@ public class GenreController implements GenreAPI {
     private final ListGenreUseCase listGenreUseCase;
     private final UpdateGenreUseCase updateGenreUseCase;
     private final DeleteGenreUseCase deleteGenreUseCase;
+    private final ExportGenresUseCase exportGenresUseCase;
 
     public GenreController(
         final CreateGenreUseCase createGenreUseCase,
         final GetGenreByIdUseCase getGenreByIdUseCase,
         final ListGenreUseCase listGenreUseCase,
         final UpdateGenreUseCase updateGenreUseCase,
-        final DeleteGenreUseCase deleteGenreUseCase
+        final DeleteGenreUseCase deleteGenreUseCase,
+        final ExportGenresUseCase exportGenresUseCase
     ) {
         this.createGenreUseCase = createGenreUseCase;
         this.getGenreByIdUseCase = getGenreByIdUseCase;
         this.listGenreUseCase = listGenreUseCase;
         this.updateGenreUseCase = updateGenreUseCase;
         this.deleteGenreUseCase = deleteGenreUseCase;
+        this.exportGenresUseCase = exportGenresUseCase;
     }
 
     @Override
@@ -60,16 +68,31 @@ public class GenreController implements GenreAPI {
         final int page,
         final int perPage,
         final String sort,
-        final String direction
+        final String direction,
+        final String after,
+        final boolean exactTotal
     ) {
         return listGenreUseCase
-                .execute(new SearchQuery(page, perPage, search, sort, direction))
+                .execute(new SearchQuery(page, perPage, search, sort, direction, after, exactTotal))
                 .map(GenreApiPresenter::present);
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(NdjsonUtils.<GenreResponse>stream(aConsumer ->
+                    exportGenresUseCase.execute(output -> aConsumer.accept(GenreApiPresenter.present(output)))
+                ));
+    }
+
     @Override
     public ResponseEntity<GenreResponse> getById(final String id) {
-        return ResponseEntity.ok(GenreApiPresenter.present(getGenreByIdUseCase.execute(id)));
+        final var output = GenreApiPresenter.present(getGenreByIdUseCase.execute(id));
+        return ResponseEntity.ok()
+                .eTag(HttpCacheUtils.eTag(output.updatedAt()))
+                .cacheControl(HttpCacheUtils.revalidate())
+                .body(output);
     }
 
     @Override
@@ -5,8 +5,18 @@ import com.fullcycle.catalogo.admin.application.video.create.CreateVideoUseCase;
 import com.fullcycle.catalogo.admin.application.video.delete.DeleteVideoUseCase;
 import com.fullcycle.catalogo.admin.application.video.media.get.GetMediaCommand;
 import com.fullcycle.catalogo.admin.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.catalogo.admin.application.video.media.get.MediaOutput;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.chunk.UploadMediaChunkCommand;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.chunk.UploadMediaChunkUseCase;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.commit.CommitMediaUploadCommand;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.commit.CommitMediaUploadUseCase;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.create.CreateMediaUploadCommand;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.create.CreateMediaUploadUseCase;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.retrieve.GetMediaUploadCommand;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.retrieve.GetMediaUploadUseCase;
 import com.fullcycle.catalogo.admin.application.video.media.upload.UploadMediaCommand;
 import com.fullcycle.catalogo.admin.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.catalogo.admin.application.video.retrieve.export.ExportVideosUseCase;
 import com.fullcycle.catalogo.admin.application.video.retrieve.get.GetVideoByIdUseCase;
 import com.fullcycle.catalogo.admin.application.video.retrieve.list.ListVideosUseCase;
 import com.fullcycle.catalogo.admin.application.video.update.UpdateVideoCommand;
@@ -23,22 +33,45 @@ import com.fullcycle.catalogo.admin.domain.video.VideoResource;
 import com.fullcycle.catalogo.admin.domain.video.query.VideoSearchQuery;
 import com.fullcycle.catalogo.admin.infrastructure.api.VideoAPI;
 import com.fullcycle.catalogo.admin.infrastructure.utils.HashingUtils;
+import com.fullcycle.catalogo.admin.infrastructure.utils.HttpCacheUtils;
+import com.fullcycle.catalogo.admin.infrastructure.utils.NdjsonUtils;
+import com.fullcycle.catalogo.admin.infrastructure.video.models.CreateMediaUploadRequest;
 import com.fullcycle.catalogo.admin.infrastructure.video.models.CreateVideoRequest;
+import com.fullcycle.catalogo.admin.infrastructure.video.models.MediaUploadResponse;
 import com.fullcycle.catalogo.admin.infrastructure.video.models.UpdateVideoRequest;
 import com.fullcycle.catalogo.admin.infrastructure.video.models.VideoListResponse;
 import com.fullcycle.catalogo.admin.infrastructure.video.models.VideoResponse;
 import com.fullcycle.catalogo.admin.infrastructure.video.presenters.VideoAPIPresenter;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.http.HttpRange;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 
 import static com.fullcycle.catalogo.admin.domain.utils.CollectionUtils.mapTo;
+import static org.springframework.http.HttpHeaders.ACCEPT_RANGES;
 import static org.springframework.http.HttpHeaders.CONTENT_DISPOSITION;
+import static org.springframework.http.HttpHeaders.CONTENT_RANGE;
+import static org.springframework.http.HttpStatus.PARTIAL_CONTENT;
+import static org.springframework.http.HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE;
+import static org.springframework.http.MediaType.APPLICATION_OCTET_STREAM_VALUE;
 
 @RestController
 public class VideoController implements VideoAPI {
@@ -49,6 +82,11 @@ public class VideoController implements VideoAPI {
     private final ListVideosUseCase listVideosUseCase;
     private final GetMediaUseCase getMediaUseCase;
     private final UploadMediaUseCase uploadMediaUseCase;
+    private final CreateMediaUploadUseCase createMediaUploadUseCase;
+    private final UploadMediaChunkUseCase uploadMediaChunkUseCase;
+    private final GetMediaUploadUseCase getMediaUploadUseCase;
+    private final CommitMediaUploadUseCase commitMediaUploadUseCase;
+    private final ExportVideosUseCase exportVideosUseCase;
 
     public VideoController(
         final CreateVideoUseCase createVideoUseCase,
@@ -57,7 +95,12 @@ public class VideoController implements VideoAPI {
         final DeleteVideoUseCase deleteVideoUseCase,
         final ListVideosUseCase listVideosUseCase,
         final GetMediaUseCase getMediaUseCase,
-        final UploadMediaUseCase uploadMediaUseCase
+        final UploadMediaUseCase uploadMediaUseCase,
+        final CreateMediaUploadUseCase createMediaUploadUseCase,
+        final UploadMediaChunkUseCase uploadMediaChunkUseCase,
+        final GetMediaUploadUseCase getMediaUploadUseCase,
+        final CommitMediaUploadUseCase commitMediaUploadUseCase,
+        final ExportVideosUseCase exportVideosUseCase
     ) {
         this.createVideoUseCase = Objects.requireNonNull(createVideoUseCase);
         this.getVideoByIdUseCase = Objects.requireNonNull(getVideoByIdUseCase);
@@ -66,6 +109,11 @@ public class VideoController implements VideoAPI {
         this.listVideosUseCase = Objects.requireNonNull(listVideosUseCase);
         this.getMediaUseCase = Objects.requireNonNull(getMediaUseCase);
         this.uploadMediaUseCase = Objects.requireNonNull(uploadMediaUseCase);
+        this.createMediaUploadUseCase = Objects.requireNonNull(createMediaUploadUseCase);
+        this.uploadMediaChunkUseCase = Objects.requireNonNull(uploadMediaChunkUseCase);
+        this.getMediaUploadUseCase = Objects.requireNonNull(getMediaUploadUseCase);
+        this.commitMediaUploadUseCase = Objects.requireNonNull(commitMediaUploadUseCase);
+        this.exportVideosUseCase = Objects.requireNonNull(exportVideosUseCase);
     }
 
     @Override
@@ -140,7 +188,9 @@ public class VideoController implements VideoAPI {
         final String direction,
         final Set<String> castMembers,
         final Set<String> categories,
-        final Set<String> genres
+        final Set<String> genres,
+        final String after,
+        final boolean exactTotal
     ) {
         final var aQuery = new VideoSearchQuery(
             page,
@@ -150,15 +200,30 @@ public class VideoController implements VideoAPI {
             direction,
             mapTo(castMembers, CastMemberID::from),
             mapTo(categories, CategoryID::from),
-            mapTo(genres, GenreID::from)
+            mapTo(genres, GenreID::from),
+            after,
+            exactTotal
         );
 
         return VideoAPIPresenter.present(listVideosUseCase.execute(aQuery));
     }
 
     @Override
-    public VideoResponse getById(final String anId) {
-        return VideoAPIPresenter.present(getVideoByIdUseCase.execute(anId));
+    public ResponseEntity<StreamingResponseBody> export() {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(NdjsonUtils.<VideoResponse>stream(aConsumer ->
+                    exportVideosUseCase.execute(output -> aConsumer.accept(VideoAPIPresenter.present(output)))
+                ));
+    }
+
+    @Override
+    public ResponseEntity<VideoResponse> getById(final String anId) {
+        final var output = VideoAPIPresenter.present(getVideoByIdUseCase.execute(anId));
+        return ResponseEntity.ok()
+                .eTag(HttpCacheUtils.eTag(output.updatedAt()))
+                .cacheControl(HttpCacheUtils.revalidate())
+                .body(output);
     }
 
     @Override
@@ -189,13 +254,161 @@ public class VideoController implements VideoAPI {
     }
 
     @Override
-    public ResponseEntity<byte[]> getMediaByType(final String anId, final String aType) {
+    public ResponseEntity<?> getMediaByType(
+        final String anId,
+        final String aType,
+        final String aRange,
+        final String anIfRange
+    ) {
         final var output = getMediaUseCase.execute(GetMediaCommand.with(anId, aType));
-        return ResponseEntity.ok()
-                .contentType(MediaType.valueOf(output.contentType()))
-                .contentLength(output.content().length)
-                .header(CONTENT_DISPOSITION, "attachment; filename=%s".formatted(output.name()))
-                .body(output.content());
+        final var size = output.size();
+
+        // sem o tamanho não há como validar o Range, então ele é ignorado e o conteúdo inteiro é enviado
+        if (Objects.isNull(aRange) || size == Resource.UNKNOWN_SIZE) {
+            return fullContent(output);
+        }
+
+        // a mídia mudou desde a cópia parcial do cliente: o restante dela não serve, o conteúdo inteiro é enviado
+        if (Objects.nonNull(anIfRange) && !matchesIfRange(anIfRange, output)) {
+            return fullContent(output);
+        }
+
+        // um Range inválido é ignorado (RFC 7233, seção 3.1), somente um Range válido fora do conteúdo recebe 416
+        final var ranges = rangesOf(aRange, size).orElse(null);
+        if (Objects.isNull(ranges)) {
+            return fullContent(output);
+        }
+
+        if (ranges.isEmpty()) {
+            return ResponseEntity.status(REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .header(ACCEPT_RANGES, "bytes")
+                    .header(CONTENT_RANGE, "bytes */%s".formatted(size))
+                    .build();
+        }
+
+        // somente ranges sobrepostos ou adjacentes são unidos, ranges disjuntos recebem o conteúdo inteiro
+        // em vez de uma resposta multipart/byteranges
+        final var range = coalesce(ranges).orElse(null);
+        if (Objects.isNull(range)) {
+            return fullContent(output);
+        }
+
+        final var start = range.start();
+        final var length = range.end() - start + 1;
+
+        return mediaHeaders(ResponseEntity.status(PARTIAL_CONTENT), output)
+                .contentLength(length)
+                .header(CONTENT_RANGE, "bytes %s-%s/%s".formatted(start, range.end(), size))
+                .body(new InputStreamResource(new DeferredInputStream(() -> output.openStream(start, length))));
+    }
+
+    /**
+     * O conteúdo só é aberto ao escrever o body, um If-None-Match ou If-Modified-Since válido é respondido
+     * apenas com os metadados. O body não é um Resource comum para que o Spring não aplique o Range por conta própria.
+     */
+    private ResponseEntity<?> fullContent(final MediaOutput output) {
+        final var response = mediaHeaders(ResponseEntity.ok(), output);
+        if (output.size() != Resource.UNKNOWN_SIZE) {
+            response.contentLength(output.size());
+        }
+        return response.body(new InputStreamResource(new DeferredInputStream(output::openStream)));
+    }
+
+    private static ResponseEntity.BodyBuilder mediaHeaders(final ResponseEntity.BodyBuilder response, final MediaOutput output) {
+        response.contentType(MediaType.valueOf(output.contentType()))
+                .cacheControl(HttpCacheUtils.revalidate())
+                .header(ACCEPT_RANGES, "bytes")
+                .header(CONTENT_DISPOSITION, "attachment; filename=%s".formatted(output.name()));
+
+        if (Objects.nonNull(output.checksum())) {
+            response.eTag(HttpCacheUtils.eTag(output.checksum()));
+        }
+
+        if (Objects.nonNull(output.lastModified())) {
+            response.lastModified(output.lastModified());
+        }
+        return response;
+    }
+
+    /**
+     * Ranges satisfazíveis do header, vazio quando o header não é um Range válido.
+     */
+    private static Optional<List<ByteRange>> rangesOf(final String aRange, final long size) {
+        final List<HttpRange> ranges;
+        try {
+            ranges = HttpRange.parseRanges(aRange);
+        } catch (final IllegalArgumentException e) {
+            return Optional.empty();
+        }
+
+        if (ranges.isEmpty()) {
+            return Optional.empty();
+        }
+
+        if (size <= 0) {
+            return Optional.of(Collections.emptyList());
+        }
+
+        return Optional.of(ranges.stream()
+                .filter(range -> range.getRangeStart(size) < size)
+                .filter(range -> range.getRangeStart(size) <= range.getRangeEnd(size))
+                .map(range -> new ByteRange(range.getRangeStart(size), range.getRangeEnd(size)))
+                .sorted(Comparator.comparingLong(ByteRange::start))
+                .toList());
+    }
+
+    /**
+     * O If-Range é o ETag forte ou o Last-Modified exato da cópia que o cliente já tem (RFC 7233, seção 3.2).
+     * ETags fracos e datas inválidas nunca correspondem.
+     */
+    private static boolean matchesIfRange(final String anIfRange, final MediaOutput output) {
+        final var value = anIfRange.trim();
+        if (value.startsWith("\"") || value.startsWith("W/")) {
+            return Objects.nonNull(output.checksum()) && value.equals(HttpCacheUtils.eTag(output.checksum()));
+        }
+
+        if (Objects.isNull(output.lastModified())) {
+            return false;
+        }
+
+        try {
+            final var date = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME).toInstant();
+            return date.equals(output.lastModified().truncatedTo(ChronoUnit.SECONDS));
+        } catch (final DateTimeParseException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Une os ranges ordenados em um único intervalo [início, fim], vazio quando sobra alguma lacuna entre eles.
+     */
+    private static Optional<ByteRange> coalesce(final List<ByteRange> ranges) {
+        final var start = ranges.get(0).start();
+        var end = ranges.get(0).end();
+
+        for (final var range : ranges) {
+            if (range.start() > end + 1) {
+                return Optional.empty();
+            }
+            end = Math.max(end, range.end());
+        }
+        return Optional.of(new ByteRange(start, end));
+    }
+
+    private static String checksumOf(final MultipartFile aFile) {
+        try {
+            return HashingUtils.checksum(aFile.getInputStream());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static InputStream openStream(final Resource.StreamSupplier aSupplier) {
+        try {
+            return aSupplier.open();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     @Override
@@ -210,20 +423,95 @@ public class VideoController implements VideoAPI {
                 .body(VideoAPIPresenter.present(output));
     }
 
+    @Override
+    public ResponseEntity<?> createMediaUpload(final String anId, final String aType, final CreateMediaUploadRequest aRequest) {
+        final var aCommand = CreateMediaUploadCommand.with(anId, aType, aRequest.name(), aRequest.contentType());
+        final var output = createMediaUploadUseCase.execute(aCommand);
+        return ResponseEntity
+                .created(URI.create("/videos/%s/medias/%s/uploads/%s".formatted(output.videoId(), output.mediaType(), output.id())))
+                .body(VideoAPIPresenter.present(output));
+    }
+
+    @Override
+    public MediaUploadResponse uploadMediaChunk(
+        final String anId,
+        final String aType,
+        final String anUploadId,
+        final int aChunk,
+        final long aLength,
+        final InputStream aContent
+    ) {
+        final var aResource = Resource.of(() -> aContent, aLength, APPLICATION_OCTET_STREAM_VALUE, String.valueOf(aChunk));
+        final var aCommand = UploadMediaChunkCommand.with(anId, aType, anUploadId, aChunk, aResource);
+        return VideoAPIPresenter.present(uploadMediaChunkUseCase.execute(aCommand));
+    }
+
+    @Override
+    public MediaUploadResponse getMediaUpload(final String anId, final String aType, final String anUploadId) {
+        return VideoAPIPresenter.present(getMediaUploadUseCase.execute(GetMediaUploadCommand.with(anId, aType, anUploadId)));
+    }
+
+    @Override
+    public ResponseEntity<?> commitMediaUpload(final String anId, final String aType, final String anUploadId) {
+        final var output = commitMediaUploadUseCase.execute(CommitMediaUploadCommand.with(anId, aType, anUploadId));
+        return ResponseEntity
+                .created(URI.create("/videos/%s/medias/%s".formatted(output.videoId(), output.mediaType())))
+                .body(VideoAPIPresenter.present(output));
+    }
+
+    /**
+     * O arquivo do multipart já está no disco local, então o checksum é calculado antes da gravação
+     * e um conteúdo repetido é deduplicado sem transferir os bytes para o storage.
+     */
     private Resource resourceOf(final MultipartFile aFile) {
         if (Objects.isNull(aFile)) {
             return null;
         }
 
-        try {
-            return Resource.of(
-                HashingUtils.checksum(aFile.getBytes()),
-                aFile.getBytes(),
-                aFile.getContentType(),
-                aFile.getOriginalFilename()
-            );
-        } catch (Throwable t) {
-            throw new RuntimeException(t);
+        return Resource.of(
+            checksumOf(aFile),
+            aFile::getInputStream,
+            aFile.getSize(),
+            aFile.getContentType(),
+            aFile.getOriginalFilename()
+        );
+    }
+
+    private record ByteRange(long start, long end) {}
+
+    /**
+     * Abre o stream somente na primeira leitura.
+     */
+    private static final class DeferredInputStream extends InputStream {
+        private final Resource.StreamSupplier stream;
+        private InputStream delegate;
+
+        private DeferredInputStream(final Resource.StreamSupplier stream) {
+            this.stream = stream;
+        }
+
+        @Override
+        public int read() throws IOException {
+            return delegate().read();
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) throws IOException {
+            return delegate().read(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (Objects.nonNull(delegate)) {
+                delegate.close();
+            }
+        }
+
+        private InputStream delegate() {
+            if (Objects.isNull(delegate)) {
+                delegate = openStream(stream);
+            }
+            return delegate;
         }
     }
 }
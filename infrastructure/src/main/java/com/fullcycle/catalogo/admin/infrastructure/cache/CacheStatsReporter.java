@@ -0,0 +1,50 @@
+package com.fullcycle.catalogo.admin.infrastructure.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+
+/**
+ * Publica no log estruturado as estatísticas acumuladas desde a subida de cada cache da instância.
+ */
+@Component
+public class CacheStatsReporter {
+    private static final Logger LOG = LoggerFactory.getLogger(CacheStatsReporter.class);
+
+    private final ObjectProvider<MeteredCache> caches;
+
+    public CacheStatsReporter(final ObjectProvider<MeteredCache> caches) {
+        this.caches = Objects.requireNonNull(caches);
+    }
+
+    /**
+     * Os caches são resolvidos a cada execução, beans declarados por outro tipo (ex.: StorageService)
+     * só são encontrados pelo tipo concreto depois de criados.
+     */
+    @Scheduled(
+        initialDelayString = "${cache.stats-interval}",
+        fixedDelayString = "${cache.stats-interval}"
+    )
+    public void run() {
+        caches.orderedStream()
+                .flatMap(aCache -> aCache.metrics().stream())
+                .forEach(CacheStatsReporter::report);
+    }
+
+    private static void report(final MeteredCache.Metrics metrics) {
+        final var stats = metrics.stats();
+        LOG.info(
+            "[message:cache.stats] [cache:{}] [size:{}] [hits:{}] [misses:{}] [hitRate:{}] [evictions:{}]",
+            metrics.name(),
+            metrics.size(),
+            stats.hitCount(),
+            stats.missCount(),
+            "%.3f".formatted(stats.hitRate()),
+            stats.evictionCount()
+        );
+    }
+}
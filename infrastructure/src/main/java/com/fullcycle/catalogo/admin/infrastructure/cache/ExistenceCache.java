@@ -0,0 +1,121 @@
+package com.fullcycle.catalogo.admin.infrastructure.cache;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Cache da existência de categorias, gêneros e membros do elenco consultada nas validações das escritas (existsByIds).
+ * Ids inexistentes também ficam em cache, por menos tempo, para que ids inválidos repetidos não voltem ao banco.
+ * A criação e a remoção pelo gateway invalidam o id após a confirmação da transação, gravações de outras instâncias só são vistas após a expiração,
+ * por isso as duas expirações devem ser curtas.
+ * As estatísticas são publicadas separadas por ids existentes e inexistentes: um id inexistente em cache
+ * conta como falha em "existence.existing" e acerto em "existence.missing".
+ */
+public final class ExistenceCache implements MeteredCache {
+    public static final String EXISTING_CACHE_NAME = "existence.existing";
+    public static final String MISSING_CACHE_NAME = "existence.missing";
+
+    public enum Aggregate {
+        CATEGORIES,
+        GENRES,
+        CAST_MEMBERS
+    }
+
+    private final boolean enabled;
+    private final Cache<Key, Boolean> existing;
+    private final Cache<Key, Boolean> missing;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public ExistenceCache(
+        final boolean enabled,
+        final long maxEntries,
+        final Duration timeToLive,
+        final Duration missingTimeToLive
+    ) {
+        this.enabled = enabled;
+        this.existing = CacheBuilder.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(timeToLive)
+                .recordStats()
+                .build();
+        this.missing = CacheBuilder.newBuilder()
+                .maximumSize(maxEntries)
+                .expireAfterWrite(missingTimeToLive)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Ids existentes, na ordem recebida. Só os ids sem entrada no cache são buscados pelo loader, em uma única chamada.
+     */
+    public List<String> existsByIds(
+        final Aggregate anAggregate,
+        final List<String> ids,
+        final Function<List<String>, List<String>> loader
+    ) {
+        if (!enabled) {
+            return loader.apply(ids);
+        }
+
+        final var found = new HashSet<String>();
+        final var unknown = new ArrayList<String>();
+        for (final var id : ids) {
+            final var key = new Key(anAggregate, id);
+            if (Objects.nonNull(existing.getIfPresent(key))) {
+                found.add(id);
+            } else if (Objects.isNull(missing.getIfPresent(key))) {
+                unknown.add(id);
+            }
+        }
+
+        if (!unknown.isEmpty()) {
+            final var version = invalidations.get();
+            final var loaded = new HashSet<>(loader.apply(unknown));
+
+            // uma criação ou remoção concorrente pode ter invalidado um dos ids durante a consulta
+            if (version == invalidations.get()) {
+                unknown.forEach(id -> (loaded.contains(id) ? existing : missing).put(new Key(anAggregate, id), Boolean.TRUE));
+            }
+            found.addAll(loaded);
+        }
+
+        return ids.stream().filter(found::contains).distinct().toList();
+    }
+
+    public void invalidate(final Aggregate anAggregate, final String id) {
+        if (!enabled) {
+            return;
+        }
+
+        invalidations.incrementAndGet();
+        final var key = new Key(anAggregate, id);
+        existing.invalidate(key);
+        missing.invalidate(key);
+    }
+
+    public long size() {
+        return existing.size() + missing.size();
+    }
+
+    @Override
+    public List<Metrics> metrics() {
+        if (!enabled) {
+            return List.of();
+        }
+
+        return List.of(
+            new Metrics(EXISTING_CACHE_NAME, existing.size(), existing.stats()),
+            new Metrics(MISSING_CACHE_NAME, missing.size(), missing.stats())
+        );
+    }
+
+    private record Key(Aggregate aggregate, String id) {}
+}
@@ -0,0 +1,14 @@
+package com.fullcycle.catalogo.admin.infrastructure.cache;
+
+import com.google.common.cache.CacheStats;
+
+import java.util.List;
+
+/**
+ * Cache cujas estatísticas são publicadas periodicamente pelo {@link CacheStatsReporter}.
+ */
+public interface MeteredCache {
+    List<Metrics> metrics();
+
+    record Metrics(String name, long size, CacheStats stats) {}
+}
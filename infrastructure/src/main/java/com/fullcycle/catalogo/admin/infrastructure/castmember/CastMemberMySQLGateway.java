@@ -7,29 +7,77 @@ import com.fullcycle.catalogo.admin.domain.pagination.Pagination;
 import com.fullcycle.catalogo.admin.domain.pagination.SearchQuery;
 import com.fullcycle.catalogo.admin.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.fullcycle.catalogo.admin.infrastructure.castmember.persistence.CastMemberRepository;
+import com.fullcycle.catalogo.admin.infrastructure.cache.ExistenceCache;
+import com.fullcycle.catalogo.admin.infrastructure.cache.ExistenceCache.Aggregate;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.properties.catalog.CatalogExportProperties;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.properties.search.SearchProperties;
+import com.fullcycle.catalogo.admin.infrastructure.search.SearchIndex;
+import com.fullcycle.catalogo.admin.infrastructure.search.SearchIndex.Catalog;
+import com.fullcycle.catalogo.admin.infrastructure.utils.BatchUtils;
+import com.fullcycle.catalogo.admin.infrastructure.utils.KeysetUtils;
 import com.fullcycle.catalogo.admin.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
+import com.fullcycle.catalogo.admin.infrastructure.utils.TransactionUtils;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
 @Component
 public class CastMemberMySQLGateway implements CastMemberGateway {
     private final CastMemberRepository repository;
+    private final EntityManager entityManager;
+    private final SearchProperties searchProperties;
+    private final SearchIndex searchIndex;
+    private final ExistenceCache existenceCache;
+    private final CatalogExportProperties exportProperties;
+    private final PlatformTransactionManager transactionManager;
 
-    public CastMemberMySQLGateway(final CastMemberRepository repository) {
+    public CastMemberMySQLGateway(
+        final CastMemberRepository repository,
+        final EntityManager entityManager,
+        final SearchProperties searchProperties,
+        final SearchIndex searchIndex,
+        final ExistenceCache existenceCache,
+        final CatalogExportProperties exportProperties,
+        final PlatformTransactionManager transactionManager
+    ) {
         this.repository = Objects.requireNonNull(repository);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.searchProperties = Objects.requireNonNull(searchProperties);
+        this.searchIndex = Objects.requireNonNull(searchIndex);
+        this.existenceCache = Objects.requireNonNull(existenceCache);
+        this.exportProperties = Objects.requireNonNull(exportProperties);
+        this.transactionManager = Objects.requireNonNull(transactionManager);
     }
 
     @Override
     public CastMember create(final CastMember aMember) {
-        return save(aMember);
+        final var result = save(aMember);
+        TransactionUtils.afterCommit(() -> existenceCache.invalidate(Aggregate.CAST_MEMBERS, result.getId().getValue()));
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public List<CastMember> createAll(final List<CastMember> aMembers) {
+        final var entities = aMembers.stream().map(CastMemberJpaEntity::from).toList();
+        final var results = BatchUtils.persistAll(entityManager, entities).stream()
+                .map(CastMemberJpaEntity::toAggregate)
+                .toList();
+
+        TransactionUtils.afterCommit(() -> results.forEach(aMember -> {
+            final var anId = aMember.getId().getValue();
+            searchIndex.index(Catalog.CAST_MEMBERS, anId, aMember.getName());
+            existenceCache.invalidate(Aggregate.CAST_MEMBERS, anId);
+        }));
+        return results;
     }
 
     @Override
@@ -38,6 +86,10 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
         if (repository.existsById(anId)) {
             repository.deleteById(anId);
         }
+        TransactionUtils.afterCommit(() -> {
+            searchIndex.remove(Catalog.CAST_MEMBERS, anId);
+            existenceCache.invalidate(Aggregate.CAST_MEMBERS, anId);
+        });
     }
 
     @Override
@@ -45,49 +97,103 @@ public class CastMemberMySQLGateway implements CastMemberGateway {
         return repository.findById(anId.getValue()).map(CastMemberJpaEntity::toAggregate);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<CastMember> findAllById(final Iterable<CastMemberID> castMemberIDs) {
+        final var ids = StreamSupport.stream(castMemberIDs.spliterator(), false)
+                .map(CastMemberID::getValue)
+                .toList();
+
+        return repository.findAllById(ids).stream()
+                .map(CastMemberJpaEntity::toAggregate)
+                .toList();
+    }
+
     @Override
     public CastMember update(final CastMember aMember) {
         return save(aMember);
     }
 
     @Override
+    @Transactional
+    public List<CastMember> updateAll(final List<CastMember> aMembers) {
+        final var entities = aMembers.stream().map(CastMemberJpaEntity::from).toList();
+        final var results = BatchUtils.mergeAll(entityManager, CastMemberJpaEntity.class, entities, CastMemberJpaEntity::getId)
+                .stream()
+                .map(CastMemberJpaEntity::toAggregate)
+                .toList();
+
+        TransactionUtils.afterCommit(() ->
+            results.forEach(aMember -> searchIndex.index(Catalog.CAST_MEMBERS, aMember.getId().getValue(), aMember.getName())));
+        return results;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Pagination<CastMember> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-            aQuery.page(),
-            aQuery.perPage(),
-            Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+        final var sort = KeysetUtils.sort(aQuery.sort(), aQuery.direction());
 
         final var where = Optional.ofNullable(aQuery.terms())
                 .filter(term -> !term.isBlank())
                 .map(this::assembleSpecification)
                 .orElse(null);
 
+        if (KeysetUtils.isCursor(aQuery.after()) || !aQuery.exactTotal()) {
+            return KeysetUtils.slice(
+                entityManager,
+                CastMemberJpaEntity.class,
+                aQuery,
+                Specification.where(where),
+                sort,
+                () -> repository.count(Specification.where(where)),
+                items -> items.stream().map(CastMemberJpaEntity::toAggregate).toList()
+            );
+        }
+
+        final var page = KeysetUtils.pageRequest(aQuery.page(), aQuery.perPage(), sort);
         final var pageResult = repository.findAll(where, page);
         return new Pagination<>(
             pageResult.getNumber(),
             pageResult.getSize(),
             pageResult.getTotalElements(),
-            pageResult.map(CastMemberJpaEntity::toAggregate).toList()
+            pageResult.map(CastMemberJpaEntity::toAggregate).toList(),
+            KeysetUtils.nextCursor(pageResult.getContent(), pageResult.hasNext(), aQuery.sort())
+        );
+    }
+
+    @Override
+    public void exportAll(final Consumer<CastMember> aConsumer) {
+        KeysetUtils.forEachChunk(
+            transactionManager,
+            repository::findByIdGreaterThan,
+            CastMemberJpaEntity::getId,
+            exportProperties.getChunkSize(),
+            chunk -> chunk.stream().map(CastMemberJpaEntity::toAggregate).toList(),
+            aConsumer
         );
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CastMemberID> existsByIds(final Iterable<CastMemberID> memberIds) {
         final var ids = StreamSupport.stream(memberIds.spliterator(), false)
                 .map(CastMemberID::getValue)
                 .toList();
 
-        return repository.existsByIds(ids).stream()
+        return existenceCache.existsByIds(Aggregate.CAST_MEMBERS, ids, repository::existsByIds).stream()
                 .map(CastMemberID::from)
                 .toList();
     }
 
     private Specification<CastMemberJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+        return searchIndex.find(Catalog.CAST_MEMBERS, terms)
+                .map(SpecificationUtils::<CastMemberJpaEntity>idIn)
+                .orElseGet(() -> SpecificationUtils.search(terms, searchProperties.isFullText(), "nameSearch", "name"));
     }
 
     private CastMember save(final CastMember aMember) {
-        return repository.save(CastMemberJpaEntity.from(aMember)).toAggregate();
+        final var result = repository.save(CastMemberJpaEntity.from(aMember)).toAggregate();
+        TransactionUtils.afterCommit(() -> searchIndex.index(Catalog.CAST_MEMBERS, result.getId().getValue(), result.getName()));
+        return result;
     }
 }
@@ -0,0 +1,10 @@
+package com.fullcycle.catalogo.admin.infrastructure.castmember.models;
+
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberType;
+
+public record UpdateCastMemberItemRequest(
+    String id,
+    String name,
+    CastMemberType type
+) {
+}
@@ -3,13 +3,19 @@ package com.fullcycle.catalogo.admin.infrastructure.castmember.persistence;
 import com.fullcycle.catalogo.admin.domain.castmember.CastMember;
 import com.fullcycle.catalogo.admin.domain.castmember.CastMemberID;
 import com.fullcycle.catalogo.admin.domain.castmember.CastMemberType;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.ReferenceCacheConfiguration;
+import com.fullcycle.catalogo.admin.infrastructure.utils.SQLUtils;
+import org.hibernate.annotations.Cache;
 
 import javax.persistence.*;
 
 import java.time.Instant;
 
 import static javax.persistence.EnumType.STRING;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 
+@Cacheable
+@Cache(usage = READ_WRITE, region = ReferenceCacheConfiguration.CAST_MEMBERS)
 @Entity(name = "CastMembers")
 @Table(name = "cast_members")
 public class CastMemberJpaEntity {
@@ -20,6 +26,9 @@ public class CastMemberJpaEntity {
     @Column(name = "name", nullable = false)
     private String name;
 
+    @Column(name = "name_search", nullable = false)
+    private String nameSearch;
+
     @Enumerated(STRING)
     @Column(name = "type", nullable = false)
     private CastMemberType type;
@@ -42,6 +51,7 @@ public class CastMemberJpaEntity {
     ) {
         this.id = id;
         this.name = name;
+        this.nameSearch = SQLUtils.lower(name);
         this.type = type;
         this.createdAt = createdAt;
         this.updatedAt = updatedAt;
@@ -81,6 +91,11 @@ public class CastMemberJpaEntity {
 
     public void setName(final String name) {
         this.name = name;
+        this.nameSearch = SQLUtils.lower(name);
+    }
+
+    public String getNameSearch() {
+        return nameSearch;
     }
 
     public CastMemberType getType() {
@@ -0,0 +1,58 @@
+package com.fullcycle.catalogo.admin.infrastructure.catalog;
+
+import com.fullcycle.catalogo.admin.domain.catalog.CatalogImport;
+import com.fullcycle.catalogo.admin.domain.catalog.CatalogImportGateway;
+import com.fullcycle.catalogo.admin.domain.catalog.CatalogImportID;
+import com.fullcycle.catalogo.admin.infrastructure.catalog.persistence.CatalogImportJpaEntity;
+import com.fullcycle.catalogo.admin.infrastructure.catalog.persistence.CatalogImportRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+public class CatalogImportMySQLGateway implements CatalogImportGateway {
+    private final CatalogImportRepository repository;
+
+    public CatalogImportMySQLGateway(final CatalogImportRepository repository) {
+        this.repository = Objects.requireNonNull(repository);
+    }
+
+    @Override
+    @Transactional
+    public CatalogImport create(final CatalogImport anImport) {
+        return save(anImport);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<CatalogImport> findById(final CatalogImportID anId) {
+        return repository.findById(anId.getValue()).map(CatalogImportJpaEntity::toAggregate);
+    }
+
+    @Override
+    @Transactional
+    public CatalogImport update(final CatalogImport anImport) {
+        return save(anImport);
+    }
+
+    @Override
+    @Transactional
+    public Optional<CatalogImport> claim(final CatalogImportID anId, final Instant aLeaseDate) {
+        return repository.findByIdForUpdate(anId.getValue())
+            .map(CatalogImportJpaEntity::toAggregate)
+            .map(anImport -> save(anImport.claim(aLeaseDate)));
+    }
+
+    @Override
+    @Transactional
+    public void release(final CatalogImportID anId) {
+        repository.findById(anId.getValue()).ifPresent(anImport -> anImport.setLeasedUntil(null));
+    }
+
+    private CatalogImport save(final CatalogImport anImport) {
+        return repository.save(CatalogImportJpaEntity.from(anImport)).toAggregate();
+    }
+}
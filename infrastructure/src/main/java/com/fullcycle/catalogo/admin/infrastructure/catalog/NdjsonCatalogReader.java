@@ -0,0 +1,86 @@
+package com.fullcycle.catalogo.admin.infrastructure.catalog;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.MalformedRecord;
+import com.fullcycle.catalogo.admin.infrastructure.catalog.models.CatalogImportLine;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.json.Json;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Lê o corpo NDJSON da importação linha a linha, sem carregar o arquivo em memória. As linhas em branco
+ * são ignoradas mas contam na numeração, e linhas que não são um JSON válido viram um MalformedRecord.
+ */
+public class NdjsonCatalogReader implements Iterator<CatalogRecord>, Closeable {
+    private static final ObjectReader READER = Json.mapper().readerFor(CatalogImportLine.class);
+
+    private final BufferedReader reader;
+    private long line;
+    private CatalogRecord next;
+
+    public NdjsonCatalogReader(final InputStream input) {
+        this.reader = new BufferedReader(new InputStreamReader(Objects.requireNonNull(input), StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (Objects.isNull(next)) {
+            next = readNext();
+        }
+        return Objects.nonNull(next);
+    }
+
+    @Override
+    public CatalogRecord next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final var aRecord = next;
+        next = null;
+        return aRecord;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private CatalogRecord readNext() {
+        try {
+            String content;
+            while ((content = reader.readLine()) != null) {
+                line++;
+                if (!content.isBlank()) {
+                    return parse(content);
+                }
+            }
+            return null;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private CatalogRecord parse(final String content) {
+        try {
+            final CatalogImportLine aLine = READER.readValue(content);
+            if (Objects.isNull(aLine)) {
+                return new MalformedRecord(line, "Malformed line: expected a JSON object");
+            }
+            return aLine.toRecord(line);
+        } catch (final JsonProcessingException e) {
+            return new MalformedRecord(line, "Malformed line: %s".formatted(e.getOriginalMessage()));
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.fullcycle.catalogo.admin.infrastructure.catalog.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.CastMemberRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.CategoryRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.GenreRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.MalformedRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.VideoRecord;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberType;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Uma linha do NDJSON de importação, o tipo do registro vem em kind: category, genre, cast_member ou video.
+ */
+public record CatalogImportLine(
+    @JsonProperty("kind") String kind,
+    @JsonProperty("id") String id,
+    @JsonProperty("name") String name,
+    @JsonProperty("description") String description,
+    @JsonProperty("is_active") Boolean active,
+    @JsonProperty("type") CastMemberType type,
+    @JsonProperty("title") String title,
+    @JsonProperty("year_launched") Integer yearLaunched,
+    @JsonProperty("duration") Double duration,
+    @JsonProperty("rating") String rating,
+    @JsonProperty("opened") Boolean opened,
+    @JsonProperty("published") Boolean published,
+    @JsonProperty("categories") Set<String> categories,
+    @JsonProperty("genres") Set<String> genres,
+    @JsonProperty("cast_members") Set<String> members
+) {
+    public CatalogRecord toRecord(final long line) {
+        if (Objects.isNull(kind)) {
+            return new MalformedRecord(line, "'kind' should not be null");
+        }
+
+        return switch (kind) {
+            case "category" -> new CategoryRecord(line, id, name, description, isTrue(active, true));
+            case "genre" -> new GenreRecord(line, id, name, isTrue(active, true), categories);
+            case "cast_member" -> new CastMemberRecord(line, id, name, type);
+            case "video" -> new VideoRecord(
+                line,
+                id,
+                title,
+                description,
+                yearLaunched,
+                Objects.requireNonNullElse(duration, 0.0),
+                rating,
+                isTrue(opened, false),
+                isTrue(published, false),
+                categories,
+                genres,
+                members
+            );
+            default -> new MalformedRecord(line, "'kind' must be one of category, genre, cast_member, video");
+        };
+    }
+
+    private static boolean isTrue(final Boolean value, final boolean defaultValue) {
+        return Objects.requireNonNullElse(value, defaultValue);
+    }
+}
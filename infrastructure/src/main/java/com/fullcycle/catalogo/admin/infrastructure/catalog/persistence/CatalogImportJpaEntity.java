@@ -0,0 +1,167 @@
+package com.fullcycle.catalogo.admin.infrastructure.catalog.persistence;
+
+import com.fullcycle.catalogo.admin.domain.catalog.CatalogImport;
+import com.fullcycle.catalogo.admin.domain.catalog.CatalogImportID;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+
+@Entity(name = "CatalogImport")
+@Table(name = "catalog_imports")
+public class CatalogImportJpaEntity {
+    @Id
+    @Column(name = "id", nullable = false)
+    private String id;
+
+    @Column(name = "processed_lines", nullable = false)
+    private long processedLines;
+
+    @Column(name = "imported", nullable = false)
+    private long imported;
+
+    @Column(name = "skipped", nullable = false)
+    private long skipped;
+
+    @Column(name = "rejected", nullable = false)
+    private long rejected;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    @Column(name = "completed_at", columnDefinition = "DATETIME(6)")
+    private Instant completedAt;
+
+    @Column(name = "leased_until", columnDefinition = "DATETIME(6)")
+    private Instant leasedUntil;
+
+    @Deprecated
+    CatalogImportJpaEntity() {}
+
+    private CatalogImportJpaEntity(
+        final String id,
+        final long processedLines,
+        final long imported,
+        final long skipped,
+        final long rejected,
+        final Instant createdAt,
+        final Instant updatedAt,
+        final Instant completedAt,
+        final Instant leasedUntil
+    ) {
+        this.id = id;
+        this.processedLines = processedLines;
+        this.imported = imported;
+        this.skipped = skipped;
+        this.rejected = rejected;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.completedAt = completedAt;
+        this.leasedUntil = leasedUntil;
+    }
+
+    public static CatalogImportJpaEntity from(final CatalogImport anImport) {
+        return new CatalogImportJpaEntity(
+            anImport.getId().getValue(),
+            anImport.getProcessedLines(),
+            anImport.getImported(),
+            anImport.getSkipped(),
+            anImport.getRejected(),
+            anImport.getCreatedAt(),
+            anImport.getUpdatedAt(),
+            anImport.getCompletedAt(),
+            anImport.getLeasedUntil()
+        );
+    }
+
+    public CatalogImport toAggregate() {
+        return CatalogImport.with(
+            CatalogImportID.from(getId()),
+            getProcessedLines(),
+            getImported(),
+            getSkipped(),
+            getRejected(),
+            getCreatedAt(),
+            getUpdatedAt(),
+            getCompletedAt(),
+            getLeasedUntil()
+        );
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(final String id) {
+        this.id = id;
+    }
+
+    public long getProcessedLines() {
+        return processedLines;
+    }
+
+    public void setProcessedLines(final long processedLines) {
+        this.processedLines = processedLines;
+    }
+
+    public long getImported() {
+        return imported;
+    }
+
+    public void setImported(final long imported) {
+        this.imported = imported;
+    }
+
+    public long getSkipped() {
+        return skipped;
+    }
+
+    public void setSkipped(final long skipped) {
+        this.skipped = skipped;
+    }
+
+    public long getRejected() {
+        return rejected;
+    }
+
+    public void setRejected(final long rejected) {
+        this.rejected = rejected;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(final Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(final Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Instant getCompletedAt() {
+        return completedAt;
+    }
+
+    public void setCompletedAt(final Instant completedAt) {
+        this.completedAt = completedAt;
+    }
+
+    public Instant getLeasedUntil() {
+        return leasedUntil;
+    }
+
+    public void setLeasedUntil(final Instant leasedUntil) {
+        this.leasedUntil = leasedUntil;
+    }
+}
@@ -0,0 +1,19 @@
+package com.fullcycle.catalogo.admin.infrastructure.catalog.persistence;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+public interface CatalogImportRepository extends JpaRepository<CatalogImportJpaEntity, String> {
+
+    /**
+     * Uma retomada simultânea da mesma importação aguarda o fim da transação que reservou a linha.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT i FROM CatalogImport i WHERE i.id = :id")
+    Optional<CatalogImportJpaEntity> findByIdForUpdate(@Param("id") String anId);
+}
@@ -7,31 +7,79 @@ import com.fullcycle.catalogo.admin.domain.pagination.SearchQuery;
 import com.fullcycle.catalogo.admin.domain.pagination.Pagination;
 import com.fullcycle.catalogo.admin.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.catalogo.admin.infrastructure.category.persistence.CategoryRepository;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
+import com.fullcycle.catalogo.admin.infrastructure.cache.ExistenceCache;
+import com.fullcycle.catalogo.admin.infrastructure.cache.ExistenceCache.Aggregate;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.properties.catalog.CatalogExportProperties;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.properties.search.SearchProperties;
+import com.fullcycle.catalogo.admin.infrastructure.search.SearchIndex;
+import com.fullcycle.catalogo.admin.infrastructure.search.SearchIndex.Catalog;
+import com.fullcycle.catalogo.admin.infrastructure.utils.BatchUtils;
+import com.fullcycle.catalogo.admin.infrastructure.utils.KeysetUtils;
+import com.fullcycle.catalogo.admin.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.catalogo.admin.infrastructure.utils.TransactionUtils;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.StreamSupport;
 
-import static com.fullcycle.catalogo.admin.infrastructure.utils.SpecificationUtils.like;
 import static org.springframework.data.jpa.domain.Specification.where;
 
 @Component
 public class CategoryMySQLGateway implements CategoryGateway {
     private final CategoryRepository categoryRepository;
-
-    public CategoryMySQLGateway(final CategoryRepository categoryRepository) {
+    private final EntityManager entityManager;
+    private final SearchProperties searchProperties;
+    private final SearchIndex searchIndex;
+    private final ExistenceCache existenceCache;
+    private final CatalogExportProperties exportProperties;
+    private final PlatformTransactionManager transactionManager;
+
+    public CategoryMySQLGateway(
+        final CategoryRepository categoryRepository,
+        final EntityManager entityManager,
+        final SearchProperties searchProperties,
+        final SearchIndex searchIndex,
+        final ExistenceCache existenceCache,
+        final CatalogExportProperties exportProperties,
+        final PlatformTransactionManager transactionManager
+    ) {
         this.categoryRepository = categoryRepository;
+        this.entityManager = entityManager;
+        this.searchProperties = searchProperties;
+        this.searchIndex = searchIndex;
+        this.existenceCache = existenceCache;
+        this.exportProperties = exportProperties;
+        this.transactionManager = transactionManager;
     }
 
     @Override
     public Category create(final Category aCategory) {
-        return save(aCategory);
+        final var result = save(aCategory);
+        TransactionUtils.afterCommit(() -> existenceCache.invalidate(Aggregate.CATEGORIES, result.getId().getValue()));
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public List<Category> createAll(final List<Category> aCategories) {
+        final var entities = aCategories.stream().map(CategoryJpaEntity::from).toList();
+        final var results = BatchUtils.persistAll(entityManager, entities).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+
+        TransactionUtils.afterCommit(() -> results.forEach(aCategory -> {
+            final var anId = aCategory.getId().getValue();
+            searchIndex.index(Catalog.CATEGORIES, anId, aCategory.getName(), aCategory.getDescription());
+            existenceCache.invalidate(Aggregate.CATEGORIES, anId);
+        }));
+        return results;
     }
 
     @Override
@@ -40,6 +88,10 @@ public class CategoryMySQLGateway implements CategoryGateway {
         if (categoryRepository.existsById(anIdValue)) {
             categoryRepository.deleteById(anIdValue);
         }
+        TransactionUtils.afterCommit(() -> {
+            searchIndex.remove(Catalog.CATEGORIES, anIdValue);
+            existenceCache.invalidate(Aggregate.CATEGORIES, anIdValue);
+        });
     }
 
     @Override
@@ -47,18 +99,41 @@ public class CategoryMySQLGateway implements CategoryGateway {
         return categoryRepository.findById(anId.getValue()).map(CategoryJpaEntity::toAggregate);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public List<Category> findAllById(final Iterable<CategoryID> categoryIDs) {
+        final var ids = StreamSupport.stream(categoryIDs.spliterator(), false)
+                .map(CategoryID::getValue)
+                .toList();
+
+        return categoryRepository.findAllById(ids).stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+    }
+
     @Override
     public Category update(final Category aCategory) {
         return save(aCategory);
     }
 
     @Override
+    @Transactional
+    public List<Category> updateAll(final List<Category> aCategories) {
+        final var entities = aCategories.stream().map(CategoryJpaEntity::from).toList();
+        final var results = BatchUtils.mergeAll(entityManager, CategoryJpaEntity.class, entities, CategoryJpaEntity::getId)
+                .stream()
+                .map(CategoryJpaEntity::toAggregate)
+                .toList();
+
+        TransactionUtils.afterCommit(() -> results.forEach(aCategory ->
+            searchIndex.index(Catalog.CATEGORIES, aCategory.getId().getValue(), aCategory.getName(), aCategory.getDescription())));
+        return results;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public Pagination<Category> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-            aQuery.page(),
-            aQuery.perPage(),
-            Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+        final var sort = KeysetUtils.sort(aQuery.sort(), aQuery.direction());
 
         final var specifications = Optional
                 .ofNullable(aQuery.terms())
@@ -66,34 +141,64 @@ public class CategoryMySQLGateway implements CategoryGateway {
                 .map(this::assembleSpecification)
                 .orElse(null);
 
+        if (KeysetUtils.isCursor(aQuery.after()) || !aQuery.exactTotal()) {
+            return KeysetUtils.slice(
+                entityManager,
+                CategoryJpaEntity.class,
+                aQuery,
+                where(specifications),
+                sort,
+                () -> categoryRepository.count(where(specifications)),
+                items -> items.stream().map(CategoryJpaEntity::toAggregate).toList()
+            );
+        }
+
+        final var page = KeysetUtils.pageRequest(aQuery.page(), aQuery.perPage(), sort);
         final var pageResult = categoryRepository.findAll(where(specifications), page);
 
         return new Pagination<>(
             pageResult.getNumber(),
             pageResult.getSize(),
             pageResult.getTotalElements(),
-            pageResult.map(CategoryJpaEntity::toAggregate).toList()
+            pageResult.map(CategoryJpaEntity::toAggregate).toList(),
+            KeysetUtils.nextCursor(pageResult.getContent(), pageResult.hasNext(), aQuery.sort())
         );
     }
 
     private Specification<CategoryJpaEntity> assembleSpecification(final String terms) {
-        final Specification<CategoryJpaEntity> nameLike = like("name", terms);
-        final Specification<CategoryJpaEntity> descriptionLike = like("description", terms);
-        return nameLike.or(descriptionLike);
+        return searchIndex.find(Catalog.CATEGORIES, terms)
+                .map(SpecificationUtils::<CategoryJpaEntity>idIn)
+                .orElseGet(() -> SpecificationUtils.search(terms, searchProperties.isFullText(), "nameSearch", "name", "description"));
+    }
+
+    @Override
+    public void exportAll(final Consumer<Category> aConsumer) {
+        KeysetUtils.forEachChunk(
+            transactionManager,
+            categoryRepository::findByIdGreaterThan,
+            CategoryJpaEntity::getId,
+            exportProperties.getChunkSize(),
+            chunk -> chunk.stream().map(CategoryJpaEntity::toAggregate).toList(),
+            aConsumer
+        );
     }
 
     @Override
+    @Transactional(readOnly = true)
     public List<CategoryID> existsByIds(final Iterable<CategoryID> categoryIDs) {
         final var ids = StreamSupport.stream(categoryIDs.spliterator(), false)
                 .map(CategoryID::getValue)
                 .toList();
 
-        return categoryRepository.existsByIds(ids).stream()
+        return existenceCache.existsByIds(Aggregate.CATEGORIES, ids, categoryRepository::existsByIds).stream()
                 .map(CategoryID::from)
                 .toList();
     }
 
     private Category save(Category aCategory) {
-        return categoryRepository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+        final var result = categoryRepository.save(CategoryJpaEntity.from(aCategory)).toAggregate();
+        TransactionUtils.afterCommit(() ->
+            searchIndex.index(Catalog.CATEGORIES, result.getId().getValue(), result.getName(), result.getDescription()));
+        return result;
     }
 }
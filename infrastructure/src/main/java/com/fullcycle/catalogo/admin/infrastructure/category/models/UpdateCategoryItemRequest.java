@@ -0,0 +1,11 @@
+package com.fullcycle.catalogo.admin.infrastructure.category.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record UpdateCategoryItemRequest(
+    @JsonProperty("id") String id,
+    @JsonProperty("name") String name,
+    @JsonProperty("description") String description,
+    @JsonProperty("is_active") Boolean active
+) {
+}
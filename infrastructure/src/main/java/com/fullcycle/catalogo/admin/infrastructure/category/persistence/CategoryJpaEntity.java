@@ -2,13 +2,21 @@ package com.fullcycle.catalogo.admin.infrastructure.category.persistence;
 
 import com.fullcycle.catalogo.admin.domain.category.Category;
 import com.fullcycle.catalogo.admin.domain.category.CategoryID;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.ReferenceCacheConfiguration;
+import com.fullcycle.catalogo.admin.infrastructure.utils.SQLUtils;
+import org.hibernate.annotations.Cache;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
 import java.time.Instant;
 
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
+
+@Cacheable
+@Cache(usage = READ_WRITE, region = ReferenceCacheConfiguration.CATEGORIES)
 @Entity(name = "Category")
 @Table(name = "categories")
 public class CategoryJpaEntity {
@@ -20,6 +28,9 @@ public class CategoryJpaEntity {
     @Column(name = "name", nullable = false)
     private String name;
 
+    @Column(name = "name_search", nullable = false)
+    private String nameSearch;
+
     @Column(name = "description", length = 4000)
     private String description;
 
@@ -50,6 +61,7 @@ public class CategoryJpaEntity {
     ) {
         this.id = id;
         this.name = name;
+        this.nameSearch = SQLUtils.lower(name);
         this.description = description;
         this.active = active;
         this.createdAt = createdAt;
@@ -95,6 +107,11 @@ public class CategoryJpaEntity {
 
     public void setName(String name) {
         this.name = name;
+        this.nameSearch = SQLUtils.lower(name);
+    }
+
+    public String getNameSearch() {
+        return nameSearch;
     }
 
     public String getDescription() {
@@ -1,17 +1,37 @@
 package com.fullcycle.catalogo.admin.infrastructure.category.persistence;
 
+import com.fullcycle.catalogo.admin.infrastructure.configuration.ReferenceCacheConfiguration;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+import static org.hibernate.annotations.QueryHints.CACHE_MODE;
+import static org.hibernate.annotations.QueryHints.CACHE_REGION;
+import static org.hibernate.annotations.QueryHints.READ_ONLY;
+
 public interface CategoryRepository extends JpaRepository<CategoryJpaEntity, String> {
     Page<CategoryJpaEntity> findAll(Specification<CategoryJpaEntity> whereClause, Pageable page);
 
+    long count(Specification<CategoryJpaEntity> whereClause);
+
+    @QueryHints({
+        @QueryHint(name = CACHEABLE, value = "true"),
+        @QueryHint(name = CACHE_REGION, value = ReferenceCacheConfiguration.EXISTS_BY_IDS)
+    })
     @Query(value = "SELECT c.id FROM Category c WHERE c.id IN :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @QueryHints({
+        @QueryHint(name = READ_ONLY, value = "true"),
+        @QueryHint(name = CACHE_MODE, value = "IGNORE")
+    })
+    List<CategoryJpaEntity> findByIdGreaterThan(String id, Pageable page);
 }
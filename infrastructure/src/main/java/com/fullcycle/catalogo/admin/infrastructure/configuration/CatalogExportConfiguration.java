@@ -0,0 +1,15 @@
+package com.fullcycle.catalogo.admin.infrastructure.configuration;
+
+import com.fullcycle.catalogo.admin.infrastructure.configuration.properties.catalog.CatalogExportProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class CatalogExportConfiguration {
+    @Bean
+    @ConfigurationProperties("catalog.export")
+    public CatalogExportProperties catalogExportProperties() {
+        return new CatalogExportProperties();
+    }
+}
@@ -0,0 +1,28 @@
+package com.fullcycle.catalogo.admin.infrastructure.configuration;
+
+import com.fullcycle.catalogo.admin.infrastructure.cache.ExistenceCache;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.properties.cache.ExistenceCacheProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration(proxyBeanMethods = false)
+public class ExistenceCacheConfiguration {
+    @Bean
+    @ConfigurationProperties("cache.existence")
+    public ExistenceCacheProperties existenceCacheProperties() {
+        return new ExistenceCacheProperties();
+    }
+
+    @Bean
+    public ExistenceCache existenceCache(final ExistenceCacheProperties props) {
+        return new ExistenceCache(
+            props.isEnabled(),
+            props.getMaxEntries(),
+            Duration.ofMillis(props.getTimeToLive()),
+            Duration.ofMillis(props.getMissingTimeToLive())
+        );
+    }
+}
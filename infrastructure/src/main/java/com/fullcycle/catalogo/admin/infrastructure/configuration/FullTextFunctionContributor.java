@@ -0,0 +1,57 @@
+package com.fullcycle.catalogo.admin.infrastructure.configuration;
+
+import org.hibernate.QueryException;
+import org.hibernate.boot.MetadataBuilder;
+import org.hibernate.boot.spi.MetadataBuilderContributor;
+import org.hibernate.dialect.function.SQLFunction;
+import org.hibernate.engine.spi.Mapping;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.Type;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Registra no Hibernate a função match_against(coluna, ..., busca), traduzida para o MATCH ... AGAINST
+ * em modo booleano do MySQL. As colunas devem ser as mesmas de um índice FULLTEXT e o resultado é a relevância
+ * do registro, 0 quando ele não atende à busca.
+ */
+public class FullTextFunctionContributor implements MetadataBuilderContributor {
+    public static final String MATCH_AGAINST = "match_against";
+
+    @Override
+    public void contribute(final MetadataBuilder metadataBuilder) {
+        metadataBuilder.applySqlFunction(MATCH_AGAINST, new MatchAgainstFunction());
+    }
+
+    private static final class MatchAgainstFunction implements SQLFunction {
+        @Override
+        public boolean hasArguments() {
+            return true;
+        }
+
+        @Override
+        public boolean hasParenthesesIfNoArguments() {
+            return false;
+        }
+
+        @Override
+        public Type getReturnType(final Type firstArgumentType, final Mapping mapping) {
+            return StandardBasicTypes.DOUBLE;
+        }
+
+        @Override
+        public String render(final Type firstArgumentType, final List arguments, final SessionFactoryImplementor factory) {
+            if (arguments.size() < 2) {
+                throw new QueryException("%s requires at least one column and the search".formatted(MATCH_AGAINST));
+            }
+
+            final var columns = ((List<?>) arguments).subList(0, arguments.size() - 1).stream()
+                    .map(String::valueOf)
+                    .collect(Collectors.joining(", "));
+
+            return "MATCH (%s) AGAINST (%s IN BOOLEAN MODE)".formatted(columns, arguments.get(arguments.size() - 1));
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.fullcycle.catalogo.admin.infrastructure.configuration;
+
+import com.fullcycle.catalogo.admin.infrastructure.configuration.properties.cache.ReferenceCacheProperties;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.cache.spi.RegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import java.util.OptionalLong;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cache de segundo nível do Hibernate (JCache com Caffeine) para os dados de referência: categorias, gêneros e membros do elenco,
+ * além do cache das consultas existsByIds. As gravações e remoções pelo Hibernate invalidam as entradas,
+ * alterações feitas direto no banco só são vistas após o time-to-live.
+ * O cache é local de cada instância: com várias instâncias, uma gravação invalida somente o cache da instância que a fez
+ * e as demais podem servir o valor anterior até o time-to-live, que por isso é curto.
+ * Cada região tem as suas estatísticas (acertos, falhas e remoções) expostas pelo JCache via JMX.
+ */
+@Configuration(proxyBeanMethods = false)
+public class ReferenceCacheConfiguration {
+    public static final String CATEGORIES = "categories";
+    public static final String GENRES = "genres";
+    public static final String CAST_MEMBERS = "cast_members";
+    public static final String EXISTS_BY_IDS = "exists_by_ids";
+
+    @Bean
+    @ConfigurationProperties("cache.reference-data")
+    public ReferenceCacheProperties referenceCacheProperties() {
+        return new ReferenceCacheProperties();
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer referenceCacheCustomizer(
+        final ReferenceCacheProperties props,
+        final ObjectProvider<CacheManager> referenceCacheManager
+    ) {
+        return hibernateProperties -> {
+            hibernateProperties.put(AvailableSettings.USE_SECOND_LEVEL_CACHE, props.isEnabled());
+            hibernateProperties.put(AvailableSettings.USE_QUERY_CACHE, props.isEnabled());
+
+            if (props.isEnabled()) {
+                hibernateProperties.put(AvailableSettings.CACHE_REGION_FACTORY, "jcache");
+                hibernateProperties.put(ConfigSettings.CACHE_MANAGER, referenceCacheManager.getObject());
+            }
+        };
+    }
+
+    /**
+     * Um CacheManager por contexto, para que aplicações no mesmo processo (como nos testes) não compartilhem as regiões,
+     * fechado pelo Spring junto com o contexto.
+     * A região de timestamps não expira: é por ela que o Hibernate invalida o cache das consultas.
+     */
+    @Bean
+    @ConditionalOnProperty(value = "cache.reference-data.enabled", havingValue = "true")
+    public CacheManager referenceCacheManager(final ReferenceCacheProperties props) {
+        final var cacheManager = new CaffeineCachingProvider().getCacheManager();
+
+        final var regions = new CaffeineConfiguration<Object, Object>()
+                .setMaximumSize(OptionalLong.of(props.getMaxEntries()))
+                .setExpireAfterWrite(OptionalLong.of(TimeUnit.MILLISECONDS.toNanos(props.getTimeToLive())));
+        regions.setStoreByValue(false);
+        regions.setStatisticsEnabled(true);
+
+        final var timestamps = new CaffeineConfiguration<Object, Object>();
+        timestamps.setStoreByValue(false);
+        timestamps.setStatisticsEnabled(true);
+
+        for (final var region : new String[]{CATEGORIES, GENRES, CAST_MEMBERS, EXISTS_BY_IDS, RegionFactory.DEFAULT_QUERY_RESULTS_REGION_UNQUALIFIED_NAME}) {
+            cacheManager.createCache(region, regions);
+        }
+        cacheManager.createCache(RegionFactory.DEFAULT_UPDATE_TIMESTAMPS_REGION_UNQUALIFIED_NAME, timestamps);
+        return cacheManager;
+    }
+}
@@ -0,0 +1,107 @@
+package com.fullcycle.catalogo.admin.infrastructure.configuration;
+
+import com.fullcycle.catalogo.admin.infrastructure.configuration.properties.datasource.ReplicaProperties;
+import com.fullcycle.catalogo.admin.infrastructure.datasource.Replica;
+import com.fullcycle.catalogo.admin.infrastructure.datasource.ReplicaHeartbeatWorker;
+import com.fullcycle.catalogo.admin.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Substitui o DataSource do Spring Boot pelo roteamento entre o primário (spring.datasource) e as réplicas
+ * (datasource.replicas.urls). As réplicas usam as mesmas configurações do Hikari do primário, em modo somente leitura.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(value = "datasource.replicas.enabled", havingValue = "true")
+public class ReplicaRoutingConfiguration {
+    @Bean
+    @ConfigurationProperties("datasource.replicas")
+    public ReplicaProperties replicaProperties() {
+        return new ReplicaProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(final DataSourceProperties props) {
+        return props.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(
+        final HikariDataSource primaryDataSource,
+        final ReplicaProperties props
+    ) {
+        final var replicas = new ArrayList<Replica>();
+        for (final var url : props.getUrls()) {
+            final var name = "replica-" + (replicas.size() + 1);
+            final var config = new HikariConfig();
+            primaryDataSource.copyStateTo(config);
+            config.setJdbcUrl(url);
+            config.setPoolName(name);
+            config.setReadOnly(true);
+            // uma réplica fora do ar na subida só fica fora da seleção, não impede a aplicação de subir
+            config.setInitializationFailTimeout(-1);
+            replicas.add(new Replica(name, new HikariDataSource(config)));
+        }
+
+        return new ReplicaRoutingDataSource(
+            primaryDataSource,
+            replicas,
+            Duration.ofMillis(props.getStickyWindow()),
+            props.getMaxStickyClients(),
+            ReplicaRoutingConfiguration::currentClient
+        );
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(final ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    @Bean
+    public ReplicaHeartbeatWorker replicaHeartbeatWorker(
+        final HikariDataSource primaryDataSource,
+        final ReplicaRoutingDataSource replicaRoutingDataSource,
+        final ReplicaProperties props
+    ) {
+        return new ReplicaHeartbeatWorker(primaryDataSource, replicaRoutingDataSource.getReplicas(), props.getMaxLag());
+    }
+
+    /**
+     * O cliente é o usuário autenticado (subject do JWT) ou, sem autenticação, o endereço de origem da requisição.
+     * Fora de uma requisição (mensagens, tarefas agendadas) não há cliente e as leituras não ficam presas ao primário.
+     * Os clientes sem autenticação atrás do mesmo proxy ou NAT compartilham o endereço: a escrita de um deles
+     * mantém as leituras de todos no primário durante a janela.
+     */
+    private static Optional<String> currentClient() {
+        final var authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (Objects.nonNull(authentication)
+                && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return Optional.of(authentication.getName());
+        }
+
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            return Optional.of(attributes.getRequest().getRemoteAddr());
+        }
+        return Optional.empty();
+    }
+}
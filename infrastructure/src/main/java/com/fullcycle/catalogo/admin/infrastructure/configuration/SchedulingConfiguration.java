@@ -0,0 +1,14 @@
+package com.fullcycle.catalogo.admin.infrastructure.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Nos testes de integração as tarefas agendadas são executadas diretamente pelos testes.
+ */
+@EnableScheduling
+@Profile("!test-integration")
+@Configuration(proxyBeanMethods = false)
+public class SchedulingConfiguration {
+}
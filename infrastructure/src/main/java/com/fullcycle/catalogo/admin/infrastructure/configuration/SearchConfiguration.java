@@ -0,0 +1,21 @@
+package com.fullcycle.catalogo.admin.infrastructure.configuration;
+
+import com.fullcycle.catalogo.admin.infrastructure.configuration.properties.search.SearchProperties;
+import com.fullcycle.catalogo.admin.infrastructure.search.SearchIndex;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class SearchConfiguration {
+    @Bean
+    @ConfigurationProperties("search")
+    public SearchProperties searchProperties() {
+        return new SearchProperties();
+    }
+
+    @Bean
+    public SearchIndex searchIndex(final SearchProperties props) {
+        return new SearchIndex(props.isInMemoryIndex(), props.getInMemoryIndexMaxMatches());
+    }
+}
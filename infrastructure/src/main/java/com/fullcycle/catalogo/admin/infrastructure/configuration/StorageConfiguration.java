@@ -1,17 +1,28 @@
 package com.fullcycle.catalogo.admin.infrastructure.configuration;
 
+import com.fullcycle.catalogo.admin.infrastructure.configuration.annontations.MediaStoreExecutor;
 import com.fullcycle.catalogo.admin.infrastructure.configuration.properties.google.GoogleStorageProperties;
 import com.fullcycle.catalogo.admin.infrastructure.configuration.properties.storage.StorageProperties;
 import com.fullcycle.catalogo.admin.infrastructure.services.StorageService;
+import com.fullcycle.catalogo.admin.infrastructure.services.impl.CachingStorageService;
+import com.fullcycle.catalogo.admin.infrastructure.services.impl.FileSystemStorageService;
 import com.fullcycle.catalogo.admin.infrastructure.services.impl.GoogleCloudStorageService;
 import com.fullcycle.catalogo.admin.infrastructure.services.local.InMemoryStorageService;
 import com.google.cloud.storage.Storage;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
 @Configuration(proxyBeanMethods = false)
 public class StorageConfiguration {
     @Bean
@@ -20,15 +31,57 @@ public class StorageConfiguration {
         return new StorageProperties();
     }
 
+    @Bean(destroyMethod = "shutdown")
+    @MediaStoreExecutor
+    public ExecutorService mediaStoreExecutor(final StorageProperties props) {
+        final var threads = Math.max(1, props.getWriterThreads());
+        final var executor = new ThreadPoolExecutor(
+            threads,
+            threads,
+            60L,
+            TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Math.max(1, props.getWriterQueueCapacity())),
+            new ThreadFactoryBuilder().setNameFormat("media-writer-%d").setDaemon(true).build(),
+            // com a fila cheia a própria thread da requisição faz a gravação, limitando a pressão sobre o storage
+            new ThreadPoolExecutor.CallerRunsPolicy()
+        );
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
     @Bean
-    @Profile({ "dev", "test-integration", "test-e2e" })
-    public StorageService localStorageAPI() {
-        return new InMemoryStorageService();
+    @Profile("!filesystem & (dev | test-integration | test-e2e)")
+    public StorageService localStorageAPI(final StorageProperties props) {
+        return new InMemoryStorageService(props.getMemoryCapacity());
+    }
+
+    @Bean
+    @Profile("filesystem")
+    public StorageService fileSystemStorageService(final StorageProperties props) {
+        return cached(props, new FileSystemStorageService(Path.of(props.getFilesystemRoot())));
     }
 
     @Bean
     @ConditionalOnMissingBean
-    public StorageService gcloudStorageService(final GoogleStorageProperties props, final Storage storage) {
-        return new GoogleCloudStorageService(props.getBucket(), storage);
+    public StorageService gcloudStorageService(
+        final StorageProperties storageProps,
+        final GoogleStorageProperties props,
+        final Storage storage
+    ) {
+        return cached(storageProps, new GoogleCloudStorageService(props.getBucket(), storage));
+    }
+
+    private static StorageService cached(final StorageProperties props, final StorageService storageService) {
+        if (props.getImageCacheMaxBytes() <= 0) {
+            return storageService;
+        }
+
+        return new CachingStorageService(
+            storageService,
+            props.getImageCacheMaxBytes(),
+            props.getImageCacheMaxEntryBytes(),
+            Duration.ofMillis(props.getImageCacheTimeToLive()),
+            props.isImageCacheOffHeap()
+        );
     }
 }
@@ -0,0 +1,15 @@
+package com.fullcycle.catalogo.admin.infrastructure.configuration.annontations;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.*;
+
+@Qualifier("MediaStoreExecutor")
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ FIELD, PARAMETER, METHOD })
+public @interface MediaStoreExecutor {
+}
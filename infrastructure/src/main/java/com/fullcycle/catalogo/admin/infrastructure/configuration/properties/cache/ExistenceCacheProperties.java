@@ -0,0 +1,64 @@
+package com.fullcycle.catalogo.admin.infrastructure.configuration.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class ExistenceCacheProperties implements InitializingBean {
+    private static final Logger LOG = LoggerFactory.getLogger(ExistenceCacheProperties.class);
+
+    private boolean enabled;
+    private long maxEntries;
+    private long timeToLive;
+    private long missingTimeToLive;
+
+    public ExistenceCacheProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(long maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    public long getMissingTimeToLive() {
+        return missingTimeToLive;
+    }
+
+    public void setMissingTimeToLive(long missingTimeToLive) {
+        this.missingTimeToLive = missingTimeToLive;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        LOG.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ExistenceCacheProperties{" +
+                "enabled=" + enabled +
+                ", maxEntries=" + maxEntries +
+                ", timeToLive=" + timeToLive +
+                ", missingTimeToLive=" + missingTimeToLive +
+                '}';
+    }
+}
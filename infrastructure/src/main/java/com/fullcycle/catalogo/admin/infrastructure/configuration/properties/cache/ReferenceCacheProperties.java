@@ -0,0 +1,54 @@
+package com.fullcycle.catalogo.admin.infrastructure.configuration.properties.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class ReferenceCacheProperties implements InitializingBean {
+    private static final Logger LOG = LoggerFactory.getLogger(ReferenceCacheProperties.class);
+
+    private boolean enabled;
+    private long maxEntries;
+    private long timeToLive;
+
+    public ReferenceCacheProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getMaxEntries() {
+        return maxEntries;
+    }
+
+    public void setMaxEntries(long maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        LOG.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "ReferenceCacheProperties{" +
+                "enabled=" + enabled +
+                ", maxEntries=" + maxEntries +
+                ", timeToLive=" + timeToLive +
+                '}';
+    }
+}
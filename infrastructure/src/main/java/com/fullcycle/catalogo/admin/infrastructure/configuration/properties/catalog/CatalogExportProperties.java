@@ -0,0 +1,34 @@
+package com.fullcycle.catalogo.admin.infrastructure.configuration.properties.catalog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class CatalogExportProperties implements InitializingBean {
+    private static final Logger LOG = LoggerFactory.getLogger(CatalogExportProperties.class);
+
+    private int chunkSize;
+
+    public CatalogExportProperties() {
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        LOG.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CatalogExportProperties{" +
+                "chunkSize=" + chunkSize +
+                '}';
+    }
+}
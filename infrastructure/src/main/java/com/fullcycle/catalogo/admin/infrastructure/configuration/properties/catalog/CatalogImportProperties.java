@@ -0,0 +1,44 @@
+package com.fullcycle.catalogo.admin.infrastructure.configuration.properties.catalog;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class CatalogImportProperties implements InitializingBean {
+    private static final Logger LOG = LoggerFactory.getLogger(CatalogImportProperties.class);
+
+    private int chunkSize;
+    private long leaseTime;
+
+    public CatalogImportProperties() {
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public long getLeaseTime() {
+        return leaseTime;
+    }
+
+    public void setLeaseTime(long leaseTime) {
+        this.leaseTime = leaseTime;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        LOG.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "CatalogImportProperties{" +
+                "chunkSize=" + chunkSize +
+                ", leaseTime=" + leaseTime +
+                '}';
+    }
+}
@@ -0,0 +1,98 @@
+package com.fullcycle.catalogo.admin.infrastructure.configuration.properties.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class ReplicaProperties implements InitializingBean {
+    private static final Logger LOG = LoggerFactory.getLogger(ReplicaProperties.class);
+
+    private boolean enabled;
+    private List<String> urls = new ArrayList<>();
+    private long stickyWindow;
+    private long maxStickyClients;
+    private long maxLag;
+    private long healthCheckInterval;
+
+    public ReplicaProperties() {
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public List<String> getUrls() {
+        return urls;
+    }
+
+    public void setUrls(List<String> urls) {
+        this.urls = urls;
+    }
+
+    public long getStickyWindow() {
+        return stickyWindow;
+    }
+
+    public void setStickyWindow(long stickyWindow) {
+        this.stickyWindow = stickyWindow;
+    }
+
+    public long getMaxStickyClients() {
+        return maxStickyClients;
+    }
+
+    public void setMaxStickyClients(long maxStickyClients) {
+        this.maxStickyClients = maxStickyClients;
+    }
+
+    public long getMaxLag() {
+        return maxLag;
+    }
+
+    public void setMaxLag(long maxLag) {
+        this.maxLag = maxLag;
+    }
+
+    public long getHealthCheckInterval() {
+        return healthCheckInterval;
+    }
+
+    public void setHealthCheckInterval(long healthCheckInterval) {
+        this.healthCheckInterval = healthCheckInterval;
+    }
+
+    /**
+     * Uma réplica continua na seleção até a próxima verificação, então pode estar até max-lag + health-check-interval
+     * atrasada. Uma janela menor devolveria o cliente para uma réplica que ainda não recebeu a escrita dele.
+     */
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        LOG.debug(toString());
+
+        if (enabled && stickyWindow < maxLag + healthCheckInterval) {
+            throw new IllegalStateException(
+                "'datasource.replicas.sticky-window' (%d ms) should be at least max-lag + health-check-interval (%d ms)"
+                    .formatted(stickyWindow, maxLag + healthCheckInterval)
+            );
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ReplicaProperties{" +
+                "enabled=" + enabled +
+                ", replicas=" + urls.size() +
+                ", stickyWindow=" + stickyWindow +
+                ", maxStickyClients=" + maxStickyClients +
+                ", maxLag=" + maxLag +
+                ", healthCheckInterval=" + healthCheckInterval +
+                '}';
+    }
+}
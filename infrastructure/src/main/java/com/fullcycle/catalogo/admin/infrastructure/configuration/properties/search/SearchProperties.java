@@ -0,0 +1,54 @@
+package com.fullcycle.catalogo.admin.infrastructure.configuration.properties.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+
+public class SearchProperties implements InitializingBean {
+    private static final Logger LOG = LoggerFactory.getLogger(SearchProperties.class);
+
+    private boolean fullText;
+    private boolean inMemoryIndex;
+    private int inMemoryIndexMaxMatches;
+
+    public SearchProperties() {
+    }
+
+    public boolean isFullText() {
+        return fullText;
+    }
+
+    public void setFullText(boolean fullText) {
+        this.fullText = fullText;
+    }
+
+    public boolean isInMemoryIndex() {
+        return inMemoryIndex;
+    }
+
+    public void setInMemoryIndex(boolean inMemoryIndex) {
+        this.inMemoryIndex = inMemoryIndex;
+    }
+
+    public int getInMemoryIndexMaxMatches() {
+        return inMemoryIndexMaxMatches;
+    }
+
+    public void setInMemoryIndexMaxMatches(int inMemoryIndexMaxMatches) {
+        this.inMemoryIndexMaxMatches = inMemoryIndexMaxMatches;
+    }
+
+    @Override
+    public void afterPropertiesSet() throws Exception {
+        LOG.debug(toString());
+    }
+
+    @Override
+    public String toString() {
+        return "SearchProperties{" +
+                "fullText=" + fullText +
+                ", inMemoryIndex=" + inMemoryIndex +
+                ", inMemoryIndexMaxMatches=" + inMemoryIndexMaxMatches +
+                '}';
+    }
+}
@@ -9,6 +9,19 @@ public class StorageProperties implements InitializingBean {
 
     private String locationPattern;
     private String filenamePattern;
+    private int writerThreads;
+    private int writerQueueCapacity;
+    private String filesystemRoot;
+    private long memoryCapacity;
+    private boolean contentAddressed;
+    private long imageCacheMaxBytes;
+    private long imageCacheMaxEntryBytes;
+    private boolean imageCacheOffHeap;
+    private long imageCacheTimeToLive;
+    private long cleanupInterval;
+    private int cleanupBatchSize;
+    private long cleanupRetryDelay;
+    private long cleanupRetryMaxDelay;
 
     public StorageProperties() {
     }
@@ -29,6 +42,110 @@ public class StorageProperties implements InitializingBean {
         this.filenamePattern = filenamePattern;
     }
 
+    public int getWriterThreads() {
+        return writerThreads;
+    }
+
+    public void setWriterThreads(int writerThreads) {
+        this.writerThreads = writerThreads;
+    }
+
+    public int getWriterQueueCapacity() {
+        return writerQueueCapacity;
+    }
+
+    public void setWriterQueueCapacity(int writerQueueCapacity) {
+        this.writerQueueCapacity = writerQueueCapacity;
+    }
+
+    public String getFilesystemRoot() {
+        return filesystemRoot;
+    }
+
+    public void setFilesystemRoot(String filesystemRoot) {
+        this.filesystemRoot = filesystemRoot;
+    }
+
+    public long getMemoryCapacity() {
+        return memoryCapacity;
+    }
+
+    public void setMemoryCapacity(long memoryCapacity) {
+        this.memoryCapacity = memoryCapacity;
+    }
+
+    public boolean isContentAddressed() {
+        return contentAddressed;
+    }
+
+    public void setContentAddressed(boolean contentAddressed) {
+        this.contentAddressed = contentAddressed;
+    }
+
+    public long getImageCacheMaxBytes() {
+        return imageCacheMaxBytes;
+    }
+
+    public void setImageCacheMaxBytes(long imageCacheMaxBytes) {
+        this.imageCacheMaxBytes = imageCacheMaxBytes;
+    }
+
+    public long getImageCacheMaxEntryBytes() {
+        return imageCacheMaxEntryBytes;
+    }
+
+    public void setImageCacheMaxEntryBytes(long imageCacheMaxEntryBytes) {
+        this.imageCacheMaxEntryBytes = imageCacheMaxEntryBytes;
+    }
+
+    public boolean isImageCacheOffHeap() {
+        return imageCacheOffHeap;
+    }
+
+    public void setImageCacheOffHeap(boolean imageCacheOffHeap) {
+        this.imageCacheOffHeap = imageCacheOffHeap;
+    }
+
+    public long getImageCacheTimeToLive() {
+        return imageCacheTimeToLive;
+    }
+
+    public void setImageCacheTimeToLive(long imageCacheTimeToLive) {
+        this.imageCacheTimeToLive = imageCacheTimeToLive;
+    }
+
+    public long getCleanupInterval() {
+        return cleanupInterval;
+    }
+
+    public void setCleanupInterval(long cleanupInterval) {
+        this.cleanupInterval = cleanupInterval;
+    }
+
+    public int getCleanupBatchSize() {
+        return cleanupBatchSize;
+    }
+
+    public void setCleanupBatchSize(int cleanupBatchSize) {
+        this.cleanupBatchSize = cleanupBatchSize;
+    }
+
+    public long getCleanupRetryDelay() {
+        return cleanupRetryDelay;
+    }
+
+    public void setCleanupRetryDelay(long cleanupRetryDelay) {
+        this.cleanupRetryDelay = cleanupRetryDelay;
+    }
+
+    public long getCleanupRetryMaxDelay() {
+        return cleanupRetryMaxDelay;
+    }
+
+    public void setCleanupRetryMaxDelay(long cleanupRetryMaxDelay) {
+        this.cleanupRetryMaxDelay = cleanupRetryMaxDelay;
+    }
+
     @Override
     public void afterPropertiesSet() throws Exception {
         LOG.debug(toString());
@@ -39,6 +156,19 @@ public class StorageProperties implements InitializingBean {
         return "StorageProperties{" +
                 "locationPattern='" + locationPattern + '\'' +
                 ", filenamePattern='" + filenamePattern + '\'' +
+                ", writerThreads=" + writerThreads +
+                ", writerQueueCapacity=" + writerQueueCapacity +
+                ", filesystemRoot='" + filesystemRoot + '\'' +
+                ", memoryCapacity=" + memoryCapacity +
+                ", contentAddressed=" + contentAddressed +
+                ", imageCacheMaxBytes=" + imageCacheMaxBytes +
+                ", imageCacheMaxEntryBytes=" + imageCacheMaxEntryBytes +
+                ", imageCacheOffHeap=" + imageCacheOffHeap +
+                ", imageCacheTimeToLive=" + imageCacheTimeToLive +
+                ", cleanupInterval=" + cleanupInterval +
+                ", cleanupBatchSize=" + cleanupBatchSize +
+                ", cleanupRetryDelay=" + cleanupRetryDelay +
+                ", cleanupRetryMaxDelay=" + cleanupRetryMaxDelay +
                 '}';
     }
 }
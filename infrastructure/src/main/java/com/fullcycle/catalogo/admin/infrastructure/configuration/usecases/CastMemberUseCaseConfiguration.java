@@ -1,15 +1,21 @@
 package com.fullcycle.catalogo.admin.infrastructure.configuration.usecases;
 
 import com.fullcycle.catalogo.admin.application.castmember.create.CreateCastMemberUseCase;
+import com.fullcycle.catalogo.admin.application.castmember.create.CreateCastMembersInBatchUseCase;
 import com.fullcycle.catalogo.admin.application.castmember.create.DefaultCreateCastMemberUseCase;
+import com.fullcycle.catalogo.admin.application.castmember.create.DefaultCreateCastMembersInBatchUseCase;
 import com.fullcycle.catalogo.admin.application.castmember.delete.DefaultDeleteCastMemberUseCase;
 import com.fullcycle.catalogo.admin.application.castmember.delete.DeleteCastMemberUseCase;
+import com.fullcycle.catalogo.admin.application.castmember.retrive.export.DefaultExportCastMembersUseCase;
+import com.fullcycle.catalogo.admin.application.castmember.retrive.export.ExportCastMembersUseCase;
 import com.fullcycle.catalogo.admin.application.castmember.retrive.get.DefaultGetCastMemberByIdUseCase;
 import com.fullcycle.catalogo.admin.application.castmember.retrive.get.GetCastMemberByIdUseCase;
 import com.fullcycle.catalogo.admin.application.castmember.retrive.list.DefaultListCastMembersUseCase;
 import com.fullcycle.catalogo.admin.application.castmember.retrive.list.ListCastMembersUseCase;
 import com.fullcycle.catalogo.admin.application.castmember.update.DefaultUpdateCastMemberUseCase;
+import com.fullcycle.catalogo.admin.application.castmember.update.DefaultUpdateCastMembersInBatchUseCase;
 import com.fullcycle.catalogo.admin.application.castmember.update.UpdateCastMemberUseCase;
+import com.fullcycle.catalogo.admin.application.castmember.update.UpdateCastMembersInBatchUseCase;
 import com.fullcycle.catalogo.admin.domain.castmember.CastMemberGateway;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -29,6 +35,11 @@ public class CastMemberUseCaseConfiguration {
         return new DefaultCreateCastMemberUseCase(castMemberGateway);
     }
 
+    @Bean
+    public CreateCastMembersInBatchUseCase createCastMembersInBatchUseCase() {
+        return new DefaultCreateCastMembersInBatchUseCase(castMemberGateway);
+    }
+
     @Bean
     public DeleteCastMemberUseCase deleteCastMemberUseCase() {
         return new DefaultDeleteCastMemberUseCase(castMemberGateway);
@@ -44,8 +55,18 @@ public class CastMemberUseCaseConfiguration {
         return new DefaultListCastMembersUseCase(castMemberGateway);
     }
 
+    @Bean
+    public ExportCastMembersUseCase exportCastMembersUseCase() {
+        return new DefaultExportCastMembersUseCase(castMemberGateway);
+    }
+
     @Bean
     public UpdateCastMemberUseCase updateCastMemberUseCase() {
         return new DefaultUpdateCastMemberUseCase(castMemberGateway);
     }
+
+    @Bean
+    public UpdateCastMembersInBatchUseCase updateCastMembersInBatchUseCase() {
+        return new DefaultUpdateCastMembersInBatchUseCase(castMemberGateway);
+    }
 }
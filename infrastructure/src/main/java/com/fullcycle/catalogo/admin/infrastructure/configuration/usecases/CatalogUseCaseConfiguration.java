@@ -0,0 +1,65 @@
+package com.fullcycle.catalogo.admin.infrastructure.configuration.usecases;
+
+import com.fullcycle.catalogo.admin.application.catalog.importer.DefaultImportCatalogUseCase;
+import com.fullcycle.catalogo.admin.application.catalog.importer.ImportCatalogUseCase;
+import com.fullcycle.catalogo.admin.application.catalog.retrieve.get.DefaultGetCatalogImportByIdUseCase;
+import com.fullcycle.catalogo.admin.application.catalog.retrieve.get.GetCatalogImportByIdUseCase;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberGateway;
+import com.fullcycle.catalogo.admin.domain.catalog.CatalogImportGateway;
+import com.fullcycle.catalogo.admin.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.admin.domain.genre.GenreGateway;
+import com.fullcycle.catalogo.admin.domain.video.VideoGateway;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.properties.catalog.CatalogImportProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.Objects;
+
+@Configuration(proxyBeanMethods = false)
+public class CatalogUseCaseConfiguration {
+    private final CatalogImportGateway catalogImportGateway;
+    private final CategoryGateway categoryGateway;
+    private final GenreGateway genreGateway;
+    private final CastMemberGateway castMemberGateway;
+    private final VideoGateway videoGateway;
+
+    public CatalogUseCaseConfiguration(
+        final CatalogImportGateway catalogImportGateway,
+        final CategoryGateway categoryGateway,
+        final GenreGateway genreGateway,
+        final CastMemberGateway castMemberGateway,
+        final VideoGateway videoGateway
+    ) {
+        this.catalogImportGateway = Objects.requireNonNull(catalogImportGateway);
+        this.categoryGateway = Objects.requireNonNull(categoryGateway);
+        this.genreGateway = Objects.requireNonNull(genreGateway);
+        this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
+        this.videoGateway = Objects.requireNonNull(videoGateway);
+    }
+
+    @Bean
+    @ConfigurationProperties("catalog.import")
+    public CatalogImportProperties catalogImportProperties() {
+        return new CatalogImportProperties();
+    }
+
+    @Bean
+    public ImportCatalogUseCase importCatalogUseCase(final CatalogImportProperties props) {
+        return new DefaultImportCatalogUseCase(
+            catalogImportGateway,
+            categoryGateway,
+            genreGateway,
+            castMemberGateway,
+            videoGateway,
+            props.getChunkSize(),
+            Duration.ofMillis(props.getLeaseTime())
+        );
+    }
+
+    @Bean
+    public GetCatalogImportByIdUseCase getCatalogImportByIdUseCase() {
+        return new DefaultGetCatalogImportByIdUseCase(catalogImportGateway);
+    }
+}
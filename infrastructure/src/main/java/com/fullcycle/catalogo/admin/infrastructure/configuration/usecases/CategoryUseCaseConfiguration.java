@@ -1,14 +1,20 @@
 package com.fullcycle.catalogo.admin.infrastructure.configuration.usecases;
 
+import com.fullcycle.catalogo.admin.application.category.create.CreateCategoriesInBatchUseCase;
 import com.fullcycle.catalogo.admin.application.category.create.CreateCategoryUseCase;
+import com.fullcycle.catalogo.admin.application.category.create.DefaultCreateCategoriesInBatchUseCase;
 import com.fullcycle.catalogo.admin.application.category.create.DefaultCreateCategoryUseCase;
 import com.fullcycle.catalogo.admin.application.category.delete.DefaultDeleteCategoryUseCase;
 import com.fullcycle.catalogo.admin.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.catalogo.admin.application.category.retrieve.export.DefaultExportCategoriesUseCase;
+import com.fullcycle.catalogo.admin.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.fullcycle.catalogo.admin.application.category.retrieve.get.DefaultGetCategoryByIdUseCase;
 import com.fullcycle.catalogo.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.fullcycle.catalogo.admin.application.category.retrieve.list.DefaultListCategoriesUseCase;
 import com.fullcycle.catalogo.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.catalogo.admin.application.category.update.DefaultUpdateCategoriesInBatchUseCase;
 import com.fullcycle.catalogo.admin.application.category.update.DefaultUpdateCategoryUseCase;
+import com.fullcycle.catalogo.admin.application.category.update.UpdateCategoriesInBatchUseCase;
 import com.fullcycle.catalogo.admin.application.category.update.UpdateCategoryUseCase;
 import com.fullcycle.catalogo.admin.domain.category.CategoryGateway;
 import org.springframework.context.annotation.Bean;
@@ -28,11 +34,21 @@ public class CategoryUseCaseConfiguration {
         return new DefaultCreateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public CreateCategoriesInBatchUseCase createCategoriesInBatchUseCase() {
+        return new DefaultCreateCategoriesInBatchUseCase(categoryGateway);
+    }
+
     @Bean
     public UpdateCategoryUseCase updateCategoryUseCase() {
         return new DefaultUpdateCategoryUseCase(categoryGateway);
     }
 
+    @Bean
+    public UpdateCategoriesInBatchUseCase updateCategoriesInBatchUseCase() {
+        return new DefaultUpdateCategoriesInBatchUseCase(categoryGateway);
+    }
+
     @Bean
     public GetCategoryByIdUseCase getCategoryByIdUseCase() {
         return new DefaultGetCategoryByIdUseCase(categoryGateway);
@@ -43,6 +59,11 @@ public class CategoryUseCaseConfiguration {
         return new DefaultListCategoriesUseCase(categoryGateway);
     }
 
+    @Bean
+    public ExportCategoriesUseCase exportCategoriesUseCase() {
+        return new DefaultExportCategoriesUseCase(categoryGateway);
+    }
+
     @Bean
     public DeleteCategoryUseCase deleteCategoryUseCase() {
         return new DefaultDeleteCategoryUseCase(categoryGateway);
@@ -4,6 +4,8 @@ import com.fullcycle.catalogo.admin.application.genre.create.CreateGenreUseCase;
 import com.fullcycle.catalogo.admin.application.genre.create.DefaultCreateGenreUseCase;
 import com.fullcycle.catalogo.admin.application.genre.delete.DefaultDeleteGenreUseCase;
 import com.fullcycle.catalogo.admin.application.genre.delete.DeleteGenreUseCase;
+import com.fullcycle.catalogo.admin.application.genre.retrieve.export.DefaultExportGenresUseCase;
+import com.fullcycle.catalogo.admin.application.genre.retrieve.export.ExportGenresUseCase;
 import com.fullcycle.catalogo.admin.application.genre.retrieve.get.DefaultGetGenreByIdUseCase;
 import com.fullcycle.catalogo.admin.application.genre.retrieve.get.GetGenreByIdUseCase;
 import com.fullcycle.catalogo.admin.application.genre.retrieve.list.DefaultListGenreUseCase;
@@ -47,6 +49,11 @@ public class GenreUseCaseConfiguration {
         return new DefaultListGenreUseCase(genreGateway);
     }
 
+    @Bean
+    public ExportGenresUseCase exportGenresUseCase() {
+        return new DefaultExportGenresUseCase(genreGateway);
+    }
+
     @Bean
     public DeleteGenreUseCase deleteGenreUseCase() {
         return new DefaultDeleteGenreUseCase(genreGateway);
@@ -6,10 +6,20 @@ import com.fullcycle.catalogo.admin.application.video.delete.DefaultDeleteVideoU
 import com.fullcycle.catalogo.admin.application.video.delete.DeleteVideoUseCase;
 import com.fullcycle.catalogo.admin.application.video.media.get.DefaultGetMediaUseCase;
 import com.fullcycle.catalogo.admin.application.video.media.get.GetMediaUseCase;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.chunk.DefaultUploadMediaChunkUseCase;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.chunk.UploadMediaChunkUseCase;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.commit.CommitMediaUploadUseCase;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.commit.DefaultCommitMediaUploadUseCase;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.create.CreateMediaUploadUseCase;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.create.DefaultCreateMediaUploadUseCase;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.retrieve.DefaultGetMediaUploadUseCase;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.retrieve.GetMediaUploadUseCase;
 import com.fullcycle.catalogo.admin.application.video.media.update.DefaultUpdateMediaStatusUseCase;
 import com.fullcycle.catalogo.admin.application.video.media.update.UpdateMediaStatusUseCase;
 import com.fullcycle.catalogo.admin.application.video.media.upload.DefaultUploadMediaUseCase;
 import com.fullcycle.catalogo.admin.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.catalogo.admin.application.video.retrieve.export.DefaultExportVideosUseCase;
+import com.fullcycle.catalogo.admin.application.video.retrieve.export.ExportVideosUseCase;
 import com.fullcycle.catalogo.admin.application.video.retrieve.get.DefaultGetVideoByIdUseCase;
 import com.fullcycle.catalogo.admin.application.video.retrieve.get.GetVideoByIdUseCase;
 import com.fullcycle.catalogo.admin.application.video.retrieve.list.DefaultListVideosUseCase;
@@ -19,12 +29,16 @@ import com.fullcycle.catalogo.admin.application.video.update.UpdateVideoUseCase;
 import com.fullcycle.catalogo.admin.domain.castmember.CastMemberGateway;
 import com.fullcycle.catalogo.admin.domain.category.CategoryGateway;
 import com.fullcycle.catalogo.admin.domain.genre.GenreGateway;
+import com.fullcycle.catalogo.admin.domain.video.MediaCleanupGateway;
 import com.fullcycle.catalogo.admin.domain.video.MediaResourceGateway;
 import com.fullcycle.catalogo.admin.domain.video.VideoGateway;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUploadGateway;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.annontations.MediaStoreExecutor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 
 @Configuration(proxyBeanMethods = false)
 public class VideoUseCaseConfiguration {
@@ -33,29 +47,53 @@ public class VideoUseCaseConfiguration {
     private final CastMemberGateway castMemberGateway;
     private final GenreGateway genreGateway;
     private final MediaResourceGateway mediaResourceGateway;
+    private final MediaCleanupGateway mediaCleanupGateway;
+    private final MediaUploadGateway mediaUploadGateway;
+    private final ExecutorService mediaStoreExecutor;
 
     public VideoUseCaseConfiguration(
         final VideoGateway videoGateway,
         final CategoryGateway categoryGateway,
         final CastMemberGateway castMemberGateway,
         final GenreGateway genreGateway,
-        final MediaResourceGateway mediaResourceGateway
+        final MediaResourceGateway mediaResourceGateway,
+        final MediaCleanupGateway mediaCleanupGateway,
+        final MediaUploadGateway mediaUploadGateway,
+        @MediaStoreExecutor final ExecutorService mediaStoreExecutor
     ) {
         this.videoGateway = Objects.requireNonNull(videoGateway);
         this.categoryGateway = Objects.requireNonNull(categoryGateway);
         this.castMemberGateway = Objects.requireNonNull(castMemberGateway);
         this.genreGateway = Objects.requireNonNull(genreGateway);
         this.mediaResourceGateway = Objects.requireNonNull(mediaResourceGateway);
+        this.mediaCleanupGateway = Objects.requireNonNull(mediaCleanupGateway);
+        this.mediaUploadGateway = Objects.requireNonNull(mediaUploadGateway);
+        this.mediaStoreExecutor = Objects.requireNonNull(mediaStoreExecutor);
     }
 
     @Bean
     public CreateVideoUseCase createVideoUseCase() {
-        return new DefaultCreateVideoUseCase(categoryGateway, genreGateway, castMemberGateway, videoGateway, mediaResourceGateway);
+        return new DefaultCreateVideoUseCase(
+            categoryGateway,
+            genreGateway,
+            castMemberGateway,
+            videoGateway,
+            mediaResourceGateway,
+            mediaCleanupGateway,
+            mediaStoreExecutor
+        );
     }
 
     @Bean
     public UpdateVideoUseCase updateVideoUseCase() {
-        return new DefaultUpdateVideoUseCase(categoryGateway, genreGateway, castMemberGateway, videoGateway, mediaResourceGateway);
+        return new DefaultUpdateVideoUseCase(
+            categoryGateway,
+            genreGateway,
+            castMemberGateway,
+            videoGateway,
+            mediaResourceGateway,
+            mediaStoreExecutor
+        );
     }
 
     @Bean
@@ -65,7 +103,7 @@ public class VideoUseCaseConfiguration {
 
     @Bean
     public DeleteVideoUseCase deleteVideoUseCase() {
-        return new DefaultDeleteVideoUseCase(videoGateway, mediaResourceGateway);
+        return new DefaultDeleteVideoUseCase(videoGateway);
     }
 
     @Bean
@@ -73,6 +111,11 @@ public class VideoUseCaseConfiguration {
         return new DefaultListVideosUseCase(videoGateway);
     }
 
+    @Bean
+    public ExportVideosUseCase exportVideosUseCase() {
+        return new DefaultExportVideosUseCase(videoGateway);
+    }
+
     @Bean
     public GetMediaUseCase getMediaUseCase() {
         return new DefaultGetMediaUseCase(mediaResourceGateway);
@@ -83,6 +126,26 @@ public class VideoUseCaseConfiguration {
         return new DefaultUploadMediaUseCase(videoGateway, mediaResourceGateway);
     }
 
+    @Bean
+    public CreateMediaUploadUseCase createMediaUploadUseCase() {
+        return new DefaultCreateMediaUploadUseCase(videoGateway, mediaUploadGateway);
+    }
+
+    @Bean
+    public UploadMediaChunkUseCase uploadMediaChunkUseCase() {
+        return new DefaultUploadMediaChunkUseCase(mediaUploadGateway, mediaResourceGateway);
+    }
+
+    @Bean
+    public GetMediaUploadUseCase getMediaUploadUseCase() {
+        return new DefaultGetMediaUploadUseCase(mediaUploadGateway);
+    }
+
+    @Bean
+    public CommitMediaUploadUseCase commitMediaUploadUseCase(final UploadMediaUseCase uploadMediaUseCase) {
+        return new DefaultCommitMediaUploadUseCase(mediaUploadGateway, mediaResourceGateway, uploadMediaUseCase);
+    }
+
     @Bean
     public UpdateMediaStatusUseCase updateMediaStatusUseCase() {
         return new DefaultUpdateMediaStatusUseCase(videoGateway);
@@ -0,0 +1,48 @@
+package com.fullcycle.catalogo.admin.infrastructure.datasource;
+
+import javax.sql.DataSource;
+import java.util.Objects;
+
+/**
+ * Réplica de leitura com o resultado da última verificação do ReplicaHeartbeatWorker.
+ * Até a primeira verificação ela fica fora da seleção.
+ */
+public final class Replica {
+    public static final long UNKNOWN_LAG = -1;
+
+    private final String name;
+    private final DataSource dataSource;
+    private volatile boolean healthy;
+    private volatile long lag;
+
+    public Replica(final String name, final DataSource dataSource) {
+        this.name = Objects.requireNonNull(name);
+        this.dataSource = Objects.requireNonNull(dataSource);
+        this.healthy = false;
+        this.lag = UNKNOWN_LAG;
+    }
+
+    public String name() {
+        return name;
+    }
+
+    public DataSource dataSource() {
+        return dataSource;
+    }
+
+    public boolean isHealthy() {
+        return healthy;
+    }
+
+    /**
+     * Atraso em ms em relação ao primário na última verificação, UNKNOWN_LAG quando não foi possível medir.
+     */
+    public long lag() {
+        return lag;
+    }
+
+    void update(final boolean healthy, final long lag) {
+        this.lag = lag;
+        this.healthy = healthy;
+    }
+}
@@ -0,0 +1,98 @@
+package com.fullcycle.catalogo.admin.infrastructure.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Mede o atraso das réplicas pelo heartbeat gravado no primário (tabela replication_heartbeat), o que funciona
+ * com qualquer banco e mede o atraso real de ponta a ponta: é a diferença entre o último heartbeat lido no primário
+ * e o lido na réplica. Réplicas inacessíveis ou atrasadas além do máximo saem da seleção até uma nova verificação passar.
+ */
+public class ReplicaHeartbeatWorker {
+    private static final Logger LOG = LoggerFactory.getLogger(ReplicaHeartbeatWorker.class);
+
+    private static final String READ_BEAT = "SELECT beat_at FROM replication_heartbeat WHERE id = 1";
+    private static final String WRITE_BEAT = "UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1";
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long maxLag;
+
+    public ReplicaHeartbeatWorker(final DataSource primary, final List<Replica> replicas, final long maxLag) {
+        this.primary = Objects.requireNonNull(primary);
+        this.replicas = List.copyOf(replicas);
+        this.maxLag = maxLag;
+    }
+
+    /**
+     * O heartbeat do primário é lido antes de gravar o próximo, uma réplica em dia tem exatamente o mesmo valor.
+     */
+    @Scheduled(fixedDelayString = "${datasource.replicas.health-check-interval}")
+    public void run() {
+        final var primaryBeat = primaryBeat();
+        replicas.forEach(aReplica -> check(aReplica, primaryBeat));
+        beat();
+    }
+
+    private void check(final Replica aReplica, final Instant primaryBeat) {
+        try {
+            final var replicaBeat = readBeat(aReplica.dataSource());
+            final var lag = Objects.isNull(primaryBeat)
+                    ? Replica.UNKNOWN_LAG
+                    : Math.max(0, Duration.between(replicaBeat, primaryBeat).toMillis());
+            final var healthy = lag <= maxLag;
+
+            if (healthy != aReplica.isHealthy()) {
+                LOG.info("[message:datasource.replica] [replica:{}] [healthy:{}] [lag:{}]", aReplica.name(), healthy, lag);
+            } else {
+                LOG.debug("[message:datasource.replica] [replica:{}] [healthy:{}] [lag:{}]", aReplica.name(), healthy, lag);
+            }
+            aReplica.update(healthy, lag);
+        } catch (final Throwable t) {
+            LOG.warn("[message:datasource.replica] [replica:{}] [status:unreachable]", aReplica.name(), t);
+            aReplica.update(false, Replica.UNKNOWN_LAG);
+        }
+    }
+
+    private Instant primaryBeat() {
+        try {
+            return readBeat(primary);
+        } catch (final Throwable t) {
+            LOG.warn("[message:datasource.replica] [status:primary_beat_failed]", t);
+            return null;
+        }
+    }
+
+    private void beat() {
+        try (final var connection = primary.getConnection();
+             final var statement = connection.prepareStatement(WRITE_BEAT)) {
+            statement.setTimestamp(1, Timestamp.from(Instant.now()));
+            statement.executeUpdate();
+            if (!connection.getAutoCommit()) {
+                connection.commit();
+            }
+        } catch (final Throwable t) {
+            LOG.warn("[message:datasource.replica] [status:beat_failed]", t);
+        }
+    }
+
+    private static Instant readBeat(final DataSource aDataSource) throws SQLException {
+        try (final var connection = aDataSource.getConnection();
+             final var statement = connection.prepareStatement(READ_BEAT);
+             final var result = statement.executeQuery()) {
+            if (!result.next()) {
+                throw new SQLException("replication_heartbeat has no beat");
+            }
+            return result.getTimestamp(1).toInstant();
+        }
+    }
+}
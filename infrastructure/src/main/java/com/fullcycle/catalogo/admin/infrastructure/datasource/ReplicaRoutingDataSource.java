@@ -0,0 +1,119 @@
+package com.fullcycle.catalogo.admin.infrastructure.datasource;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Envia as transações somente leitura para as réplicas, em round-robin entre as saudáveis, e todo o resto para o primário.
+ * Depois de uma escrita confirmada as leituras do mesmo cliente ficam no primário durante a janela configurada,
+ * para que ele não leia das réplicas um estado anterior ao que acabou de gravar. Sem réplica saudável tudo vai para o primário.
+ * <p>
+ * Os clientes com escrita recente ficam na memória de cada instância: se o balanceador enviar a leitura seguinte
+ * para outra instância da aplicação, ela não conhece a escrita e a leitura pode ir para uma réplica atrasada.
+ * <p>
+ * Deve ser usado atrás de um LazyConnectionDataSourceProxy: a conexão só é obtida no primeiro comando,
+ * quando a transação já está marcada como somente leitura.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+    public static final String PRIMARY = "primary";
+
+    private final List<Replica> replicas;
+    private final Supplier<Optional<String>> currentClient;
+    private final Cache<String, Boolean> recentWriters;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(
+        final DataSource primary,
+        final List<Replica> replicas,
+        final Duration stickyWindow,
+        final long maxStickyClients,
+        final Supplier<Optional<String>> currentClient
+    ) {
+        this.replicas = List.copyOf(replicas);
+        this.currentClient = Objects.requireNonNull(currentClient);
+        this.recentWriters = CacheBuilder.newBuilder()
+                .maximumSize(maxStickyClients)
+                .expireAfterWrite(stickyWindow)
+                .build();
+
+        final var targets = new HashMap<Object, Object>();
+        targets.put(PRIMARY, Objects.requireNonNull(primary));
+        this.replicas.forEach(it -> targets.put(it.name(), it.dataSource()));
+
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWrite();
+            return PRIMARY;
+        }
+
+        if (currentClient.get().map(recentWriters::getIfPresent).isPresent()) {
+            return PRIMARY;
+        }
+
+        return nextHealthyReplica().map(Replica::name).orElse(PRIMARY);
+    }
+
+    /**
+     * Fecha os pools das réplicas, o primário é gerenciado por quem o criou.
+     */
+    @Override
+    public void close() throws Exception {
+        for (final var aReplica : replicas) {
+            if (aReplica.dataSource() instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    private void registerWrite() {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        // a janela começa na confirmação, que é quando a escrita passa a ser replicada
+        currentClient.get().ifPresent(client ->
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    recentWriters.put(client, Boolean.TRUE);
+                }
+            })
+        );
+    }
+
+    private Optional<Replica> nextHealthyReplica() {
+        final var size = replicas.size();
+        final var start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+
+        for (int i = 0; i < size; i++) {
+            final var aReplica = replicas.get((start + i) % size);
+            if (aReplica.isHealthy()) {
+                return Optional.of(aReplica);
+            }
+        }
+        return Optional.empty();
+    }
+}
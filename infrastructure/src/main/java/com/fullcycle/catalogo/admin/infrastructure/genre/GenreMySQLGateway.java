@@ -1,21 +1,35 @@
 package com.fullcycle.catalogo.admin.infrastructure.genre;
 
+import com.fullcycle.catalogo.admin.domain.category.CategoryID;
 import com.fullcycle.catalogo.admin.domain.genre.Genre;
 import com.fullcycle.catalogo.admin.domain.genre.GenreGateway;
 import com.fullcycle.catalogo.admin.domain.genre.GenreID;
 import com.fullcycle.catalogo.admin.domain.pagination.Pagination;
 import com.fullcycle.catalogo.admin.domain.pagination.SearchQuery;
+import com.fullcycle.catalogo.admin.infrastructure.cache.ExistenceCache;
+import com.fullcycle.catalogo.admin.infrastructure.cache.ExistenceCache.Aggregate;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.properties.catalog.CatalogExportProperties;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.properties.search.SearchProperties;
+import com.fullcycle.catalogo.admin.infrastructure.genre.persistence.GenreCategoryID;
 import com.fullcycle.catalogo.admin.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.catalogo.admin.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.catalogo.admin.infrastructure.search.SearchIndex;
+import com.fullcycle.catalogo.admin.infrastructure.search.SearchIndex.Catalog;
+import com.fullcycle.catalogo.admin.infrastructure.utils.BatchUtils;
+import com.fullcycle.catalogo.admin.infrastructure.utils.KeysetUtils;
 import com.fullcycle.catalogo.admin.infrastructure.utils.SpecificationUtils;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
+import com.fullcycle.catalogo.admin.infrastructure.utils.TransactionUtils;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import static org.springframework.data.jpa.domain.Specification.where;
@@ -23,14 +37,53 @@ import static org.springframework.data.jpa.domain.Specification.where;
 @Component
 public class GenreMySQLGateway implements GenreGateway {
     private final GenreRepository genreRepository;
-
-    public GenreMySQLGateway(final GenreRepository genreRepository) {
+    private final EntityManager entityManager;
+    private final SearchProperties searchProperties;
+    private final SearchIndex searchIndex;
+    private final ExistenceCache existenceCache;
+    private final CatalogExportProperties exportProperties;
+    private final PlatformTransactionManager transactionManager;
+
+    public GenreMySQLGateway(
+        final GenreRepository genreRepository,
+        final EntityManager entityManager,
+        final SearchProperties searchProperties,
+        final SearchIndex searchIndex,
+        final ExistenceCache existenceCache,
+        final CatalogExportProperties exportProperties,
+        final PlatformTransactionManager transactionManager
+    ) {
         this.genreRepository = genreRepository;
+        this.entityManager = entityManager;
+        this.searchProperties = searchProperties;
+        this.searchIndex = searchIndex;
+        this.existenceCache = existenceCache;
+        this.exportProperties = exportProperties;
+        this.transactionManager = transactionManager;
     }
 
     @Override
+    @Transactional
     public Genre create(final Genre aGenre) {
-        return save(aGenre);
+        final var result = save(aGenre);
+        TransactionUtils.afterCommit(() -> existenceCache.invalidate(Aggregate.GENRES, result.getId().getValue()));
+        return result;
+    }
+
+    @Override
+    @Transactional
+    public List<Genre> createAll(final List<Genre> aGenres) {
+        final var entities = aGenres.stream().map(GenreJpaEntity::from).toList();
+        final var results = BatchUtils.persistAll(entityManager, entities).stream()
+                .map(GenreJpaEntity::toAggregate)
+                .toList();
+
+        TransactionUtils.afterCommit(() -> results.forEach(aGenre -> {
+            final var anId = aGenre.getId().getValue();
+            searchIndex.index(Catalog.GENRES, anId, aGenre.getName());
+            existenceCache.invalidate(Aggregate.GENRES, anId);
+        }));
+        return results;
     }
 
     @Override
@@ -39,25 +92,31 @@ public class GenreMySQLGateway implements GenreGateway {
         if (genreRepository.existsById(anIdValue)) {
             genreRepository.deleteById(anIdValue);
         }
+        TransactionUtils.afterCommit(() -> {
+            searchIndex.remove(Catalog.GENRES, anIdValue);
+            existenceCache.invalidate(Aggregate.GENRES, anIdValue);
+        });
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Optional<Genre> findById(final GenreID anId) {
         return genreRepository.findById(anId.getValue()).map(GenreJpaEntity::toAggregate);
     }
 
     @Override
+    @Transactional
     public Genre update(final Genre aGenre) {
-        return save(aGenre);
+        final var anEntity = this.genreRepository.findById(aGenre.getId().getValue())
+            .map(it -> it.update(aGenre))
+            .orElseGet(() -> this.genreRepository.save(GenreJpaEntity.from(aGenre)));
+        return index(anEntity.toAggregate());
     }
 
     @Override
+    @Transactional(readOnly = true)
     public Pagination<Genre> findAll(final SearchQuery aQuery) {
-        final var page = PageRequest.of(
-            aQuery.page(),
-            aQuery.perPage(),
-            Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort())
-        );
+        final var sort = KeysetUtils.sort(aQuery.sort(), aQuery.direction());
 
         final var whereClause = Optional
             .ofNullable(aQuery.terms())
@@ -65,31 +124,89 @@ public class GenreMySQLGateway implements GenreGateway {
             .map(this::assembleSpecification)
             .orElse(null);
 
+        if (KeysetUtils.isCursor(aQuery.after()) || !aQuery.exactTotal()) {
+            return KeysetUtils.slice(
+                entityManager,
+                GenreJpaEntity.class,
+                aQuery,
+                where(whereClause),
+                sort,
+                () -> genreRepository.count(where(whereClause)),
+                this::toAggregates
+            );
+        }
+
+        final var page = KeysetUtils.pageRequest(aQuery.page(), aQuery.perPage(), sort);
         final var pageResult = genreRepository.findAll(where(whereClause), page);
         return new Pagination<>(
             pageResult.getNumber(),
             pageResult.getSize(),
             pageResult.getTotalElements(),
-            pageResult.map(GenreJpaEntity::toAggregate).toList()
+            toAggregates(pageResult.getContent()),
+            KeysetUtils.nextCursor(pageResult.getContent(), pageResult.hasNext(), aQuery.sort())
         );
     }
 
+    /**
+     * As categorias de cada lote vêm da mesma consulta IN usada na listagem.
+     */
     @Override
+    public void exportAll(final Consumer<Genre> aConsumer) {
+        KeysetUtils.forEachChunk(
+            transactionManager,
+            genreRepository::findByIdGreaterThan,
+            GenreJpaEntity::getId,
+            exportProperties.getChunkSize(),
+            this::toAggregates,
+            aConsumer
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
     public List<GenreID> existsByIds(final Iterable<GenreID> genreIds) {
         final var ids = StreamSupport.stream(genreIds.spliterator(), false)
                 .map(GenreID::getValue)
                 .toList();
 
-        return genreRepository.existsByIds(ids).stream()
+        return existenceCache.existsByIds(Aggregate.GENRES, ids, genreRepository::existsByIds).stream()
                 .map(GenreID::from)
                 .toList();
     }
 
+    /**
+     * As categorias são LAZY: as da página inteira vêm de uma única consulta IN, em vez de um SELECT por gênero,
+     * e são distribuídas em memória para cada gênero.
+     */
+    private List<Genre> toAggregates(final List<GenreJpaEntity> genres) {
+        if (genres.isEmpty()) {
+            return List.of();
+        }
+
+        final var genreIds = genres.stream().map(GenreJpaEntity::getId).toList();
+        final var categories = genreRepository.findCategoriesByGenreIds(genreIds).stream()
+                .collect(Collectors.groupingBy(
+                    GenreCategoryID::getGenreId,
+                    Collectors.mapping(anId -> CategoryID.from(anId.getCategoryId()), Collectors.toCollection(ArrayList::new))
+                ));
+
+        return genres.stream()
+                .map(aGenre -> aGenre.toAggregate(categories.getOrDefault(aGenre.getId(), new ArrayList<>())))
+                .toList();
+    }
+
     private Specification<GenreJpaEntity> assembleSpecification(final String terms) {
-        return SpecificationUtils.like("name", terms);
+        return searchIndex.find(Catalog.GENRES, terms)
+                .map(SpecificationUtils::<GenreJpaEntity>idIn)
+                .orElseGet(() -> SpecificationUtils.search(terms, searchProperties.isFullText(), "nameSearch", "name"));
     }
 
     private Genre save(final Genre aGenre) {
-        return this.genreRepository.save(GenreJpaEntity.from(aGenre)).toAggregate();
+        return index(this.genreRepository.save(GenreJpaEntity.from(aGenre)).toAggregate());
+    }
+
+    private Genre index(final Genre result) {
+        TransactionUtils.afterCommit(() -> searchIndex.index(Catalog.GENRES, result.getId().getValue(), result.getName()));
+        return result;
     }
 }
@@ -1,10 +1,16 @@
 package com.fullcycle.catalogo.admin.infrastructure.genre.persistence;
 
 import com.fullcycle.catalogo.admin.domain.category.CategoryID;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.ReferenceCacheConfiguration;
+import org.hibernate.annotations.Cache;
 
 import javax.persistence.*;
 import java.util.Objects;
 
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
+
+@Cacheable
+@Cache(usage = READ_WRITE, region = ReferenceCacheConfiguration.GENRES)
 @Entity
 @Table(name = "genres_categories")
 public class GenreCategoryJpaEntity {
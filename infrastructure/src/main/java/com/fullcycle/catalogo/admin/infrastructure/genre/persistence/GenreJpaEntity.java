@@ -3,6 +3,10 @@ package com.fullcycle.catalogo.admin.infrastructure.genre.persistence;
 import com.fullcycle.catalogo.admin.domain.category.CategoryID;
 import com.fullcycle.catalogo.admin.domain.genre.Genre;
 import com.fullcycle.catalogo.admin.domain.genre.GenreID;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.ReferenceCacheConfiguration;
+import com.fullcycle.catalogo.admin.infrastructure.utils.JoinTableUtils;
+import com.fullcycle.catalogo.admin.infrastructure.utils.SQLUtils;
+import org.hibernate.annotations.Cache;
 
 import javax.persistence.*;
 import java.time.Instant;
@@ -11,8 +15,10 @@ import java.util.List;
 import java.util.Set;
 
 import static javax.persistence.CascadeType.ALL;
-import static javax.persistence.FetchType.EAGER;
+import static org.hibernate.annotations.CacheConcurrencyStrategy.READ_WRITE;
 
+@Cacheable
+@Cache(usage = READ_WRITE, region = ReferenceCacheConfiguration.GENRES)
 @Entity(name = "Genres")
 @Table(name = "genres")
 public class GenreJpaEntity {
@@ -24,10 +30,14 @@ public class GenreJpaEntity {
     @Column(name = "name", nullable = false)
     private String name;
 
+    @Column(name = "name_search", nullable = false)
+    private String nameSearch;
+
     @Column(name = "active", nullable = false)
     private boolean active;
 
-    @OneToMany(mappedBy = "genre", cascade = ALL, fetch = EAGER, orphanRemoval = true)
+    @Cache(usage = READ_WRITE, region = ReferenceCacheConfiguration.GENRES)
+    @OneToMany(mappedBy = "genre", cascade = ALL, orphanRemoval = true)
     private Set<GenreCategoryJpaEntity> categories;
 
     @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
@@ -52,6 +62,7 @@ public class GenreJpaEntity {
     ) {
         this.id = anId;
         this.name = aName;
+        this.nameSearch = SQLUtils.lower(aName);
         this.active = isActive;
         this.categories = new HashSet<>();
         this.createdAt = createdAt;
@@ -73,12 +84,37 @@ public class GenreJpaEntity {
         return anEntity;
     }
 
+    /**
+     * Aplica o agregado nesta entidade já gerenciada, as categorias recebem só a diferença.
+     */
+    public GenreJpaEntity update(final Genre aGenre) {
+        setName(aGenre.getName());
+        this.active = aGenre.isActive();
+        this.updatedAt = aGenre.getUpdatedAt();
+        this.deletedAt = aGenre.getDeletedAt();
+
+        JoinTableUtils.sync(
+            this.categories,
+            aGenre.getCategories(),
+            it -> CategoryID.from(it.getId().getCategoryId()),
+            it -> GenreCategoryJpaEntity.from(this, it)
+        );
+        return this;
+    }
+
     public Genre toAggregate() {
+        return toAggregate(getCategoryIDs());
+    }
+
+    /**
+     * Monta o agregado com as categorias já lidas, sem inicializar a coleção da entidade.
+     */
+    public Genre toAggregate(final List<CategoryID> categories) {
         return Genre.with(
             GenreID.from(getId()),
             getName(),
             isActive(),
-            getCategoryIDs(),
+            categories,
             getCreatedAt(),
             getUpdatedAt(),
             getDeletedAt()
@@ -107,6 +143,11 @@ public class GenreJpaEntity {
 
     public void setName(String name) {
         this.name = name;
+        this.nameSearch = SQLUtils.lower(name);
+    }
+
+    public String getNameSearch() {
+        return nameSearch;
     }
 
     public boolean isActive() {
@@ -1,17 +1,44 @@
 package com.fullcycle.catalogo.admin.infrastructure.genre.persistence;
 
+import com.fullcycle.catalogo.admin.infrastructure.configuration.ReferenceCacheConfiguration;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
 import java.util.List;
 
+import static org.hibernate.annotations.QueryHints.CACHEABLE;
+import static org.hibernate.annotations.QueryHints.CACHE_MODE;
+import static org.hibernate.annotations.QueryHints.CACHE_REGION;
+import static org.hibernate.annotations.QueryHints.READ_ONLY;
+
 public interface GenreRepository extends JpaRepository<GenreJpaEntity, String> {
     Page<GenreJpaEntity> findAll(Specification<GenreJpaEntity> whereClause, Pageable page);
 
+    long count(Specification<GenreJpaEntity> whereClause);
+
+    @QueryHints({
+        @QueryHint(name = CACHEABLE, value = "true"),
+        @QueryHint(name = CACHE_REGION, value = ReferenceCacheConfiguration.EXISTS_BY_IDS)
+    })
     @Query(value = "SELECT g.id FROM Genres g WHERE g.id IN :ids")
     List<String> existsByIds(@Param("ids") List<String> ids);
+
+    @QueryHints({
+        @QueryHint(name = READ_ONLY, value = "true"),
+        @QueryHint(name = CACHE_MODE, value = "IGNORE")
+    })
+    List<GenreJpaEntity> findByIdGreaterThan(String id, Pageable page);
+
+    /**
+     * Categorias de uma página de gêneros em uma única consulta.
+     */
+    @Query(value = "SELECT gc.id FROM GenreCategoryJpaEntity gc WHERE gc.id.genreId IN :genreIds")
+    List<GenreCategoryID> findCategoriesByGenreIds(@Param("genreIds") Collection<String> genreIds);
 }
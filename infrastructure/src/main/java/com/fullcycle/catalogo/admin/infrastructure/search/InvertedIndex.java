@@ -0,0 +1,148 @@
+package com.fullcycle.catalogo.admin.infrastructure.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Índice invertido em memória de textos por id. Os textos são normalizados (minúsculas e sem acentos) e quebrados
+ * em palavras, cada palavra é indexada pelos seus trigramas e pelos prefixos de um e dois caracteres.
+ * Palavras da busca com três ou mais caracteres encontram trechos no meio das palavras e as menores o início delas;
+ * um id só é retornado quando atende a todas as palavras. As gravações são serializadas e as buscas não bloqueiam.
+ */
+public final class InvertedIndex {
+    private static final int GRAM_SIZE = 3;
+    private static final String PREFIX_KEY = "^";
+    private static final Pattern MARKS = Pattern.compile("\\p{M}+");
+    private static final Pattern SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+
+    private final Map<String, Set<String>> postings = new ConcurrentHashMap<>();
+    private final Map<String, Document> documents = new ConcurrentHashMap<>();
+
+    public synchronized void index(final String id, final String... texts) {
+        remove(id);
+
+        final var text = normalize(Arrays.stream(texts).filter(Objects::nonNull).collect(Collectors.joining(" ")));
+        final var keys = keysOf(tokenize(text));
+
+        keys.forEach(key -> postings.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(id));
+        documents.put(id, new Document(text, keys));
+    }
+
+    /**
+     * Usado na carga inicial para não sobrescrever um id já atualizado por uma gravação concorrente.
+     */
+    public synchronized void indexIfAbsent(final String id, final String... texts) {
+        if (!documents.containsKey(id)) {
+            index(id, texts);
+        }
+    }
+
+    public synchronized void remove(final String id) {
+        final var document = documents.remove(id);
+        if (Objects.isNull(document)) {
+            return;
+        }
+
+        document.keys().forEach(key -> postings.computeIfPresent(key, (k, ids) -> {
+            ids.remove(id);
+            return ids.isEmpty() ? null : ids;
+        }));
+    }
+
+    /**
+     * Ids que atendem a todas as palavras dos termos, vazio quando os termos não têm nenhuma palavra.
+     */
+    public Optional<Set<String>> search(final String terms) {
+        if (Objects.isNull(terms)) {
+            return Optional.empty();
+        }
+
+        final var words = tokenize(normalize(terms));
+        if (words.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final var candidates = words.stream()
+                .map(this::candidatesOf)
+                .sorted(Comparator.comparingInt(Set::size))
+                .toList();
+
+        final var ids = new HashSet<>(candidates.get(0));
+        candidates.subList(1, candidates.size()).forEach(ids::retainAll);
+
+        // os trigramas podem estar em palavras diferentes, então as palavras maiores são conferidas no texto
+        ids.removeIf(id -> {
+            final var document = documents.get(id);
+            return Objects.isNull(document) || words.stream()
+                    .filter(word -> word.length() >= GRAM_SIZE)
+                    .anyMatch(word -> !document.text().contains(word));
+        });
+        return Optional.of(ids);
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    private Set<String> candidatesOf(final String word) {
+        if (word.length() < GRAM_SIZE) {
+            return postings.getOrDefault(PREFIX_KEY + word, Collections.emptySet());
+        }
+
+        final var grams = gramsOf(word).stream()
+                .map(gram -> postings.getOrDefault(gram, Collections.emptySet()))
+                .sorted(Comparator.comparingInt(Set::size))
+                .toList();
+
+        final var ids = new HashSet<>(grams.get(0));
+        grams.subList(1, grams.size()).forEach(ids::retainAll);
+        return ids;
+    }
+
+    private static Set<String> keysOf(final List<String> words) {
+        final var keys = new HashSet<String>();
+        for (final var word : words) {
+            keys.add(PREFIX_KEY + word.substring(0, 1));
+            if (word.length() > 1) {
+                keys.add(PREFIX_KEY + word.substring(0, 2));
+            }
+            keys.addAll(gramsOf(word));
+        }
+        return keys;
+    }
+
+    private static List<String> gramsOf(final String word) {
+        final var grams = new ArrayList<String>();
+        for (int i = 0; i + GRAM_SIZE <= word.length(); i++) {
+            grams.add(word.substring(i, i + GRAM_SIZE));
+        }
+        return grams;
+    }
+
+    private static List<String> tokenize(final String text) {
+        return Arrays.stream(SEPARATOR.split(text))
+                .filter(word -> !word.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    private static String normalize(final String text) {
+        final var decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        return MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+
+    private record Document(String text, Set<String> keys) {}
+}
@@ -0,0 +1,82 @@
+package com.fullcycle.catalogo.admin.infrastructure.search;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Índices invertidos em memória do catálogo, um por agregado, mantidos pelos gateways a cada gravação confirmada.
+ * As buscas resolvem aqui os ids e o banco só carrega a página por id. Sem o índice ativo, ou quando os termos
+ * atendem a mais ids que o limite, a busca volta para o banco.
+ * Cada instância vê somente as próprias gravações desde a carga inicial, e até ela terminar as buscas vão para o banco.
+ */
+public class SearchIndex {
+
+    public enum Catalog {
+        CATEGORIES,
+        GENRES,
+        CAST_MEMBERS,
+        VIDEOS
+    }
+
+    private final boolean enabled;
+    private final int maxMatches;
+    private final Map<Catalog, InvertedIndex> indexes = new EnumMap<>(Catalog.class);
+    private volatile boolean loaded;
+
+    public SearchIndex(final boolean enabled, final int maxMatches) {
+        this.enabled = enabled;
+        this.maxMatches = maxMatches;
+        for (final var catalog : Catalog.values()) {
+            indexes.put(catalog, new InvertedIndex());
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * Chamado pelo SearchIndexLoader ao fim da carga inicial, quando o índice passa a responder as buscas.
+     */
+    public void markLoaded() {
+        this.loaded = true;
+    }
+
+    public void index(final Catalog catalog, final String id, final String... texts) {
+        if (enabled) {
+            indexes.get(catalog).index(id, texts);
+        }
+    }
+
+    public void indexIfAbsent(final Catalog catalog, final String id, final String... texts) {
+        if (enabled) {
+            indexes.get(catalog).indexIfAbsent(id, texts);
+        }
+    }
+
+    public void remove(final Catalog catalog, final String id) {
+        if (enabled) {
+            indexes.get(catalog).remove(id);
+        }
+    }
+
+    /**
+     * Ids que atendem aos termos, vazio quando a busca deve ser feita no banco.
+     */
+    public Optional<Set<String>> find(final Catalog catalog, final String terms) {
+        if (!enabled || !loaded) {
+            return Optional.empty();
+        }
+        return indexes.get(catalog).search(terms).filter(ids -> ids.size() <= maxMatches);
+    }
+
+    public int size(final Catalog catalog) {
+        return indexes.get(catalog).size();
+    }
+}
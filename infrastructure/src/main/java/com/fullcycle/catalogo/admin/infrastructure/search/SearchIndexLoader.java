@@ -0,0 +1,64 @@
+package com.fullcycle.catalogo.admin.infrastructure.search;
+
+import com.fullcycle.catalogo.admin.infrastructure.search.SearchIndex.Catalog;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+
+/**
+ * Carrega o SearchIndex na subida da aplicação. Lê somente os ids e textos indexados, sem montar as entidades
+ * e os seus relacionamentos.
+ */
+@Component
+public class SearchIndexLoader {
+    private static final Logger LOG = LoggerFactory.getLogger(SearchIndexLoader.class);
+    private static final int FETCH_SIZE = 1000;
+
+    private final SearchIndex searchIndex;
+    private final EntityManager entityManager;
+
+    public SearchIndexLoader(final SearchIndex searchIndex, final EntityManager entityManager) {
+        this.searchIndex = Objects.requireNonNull(searchIndex);
+        this.entityManager = Objects.requireNonNull(entityManager);
+    }
+
+    @Transactional(readOnly = true)
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        if (!searchIndex.isEnabled()) {
+            return;
+        }
+
+        load(Catalog.CATEGORIES, "select c.id, c.name, c.description from Category c");
+        load(Catalog.GENRES, "select g.id, g.name from Genres g");
+        load(Catalog.CAST_MEMBERS, "select m.id, m.name from CastMembers m");
+        load(Catalog.VIDEOS, "select v.id, v.title, v.description from Video v");
+        searchIndex.markLoaded();
+    }
+
+    private void load(final Catalog catalog, final String query) {
+        final var start = System.currentTimeMillis();
+
+        try (final var rows = entityManager.createQuery(query, Object[].class)
+                .setHint(HINT_FETCH_SIZE, FETCH_SIZE)
+                .getResultStream()) {
+            rows.forEach(row -> searchIndex.indexIfAbsent(
+                catalog,
+                (String) row[0],
+                Arrays.copyOfRange(row, 1, row.length, String[].class)
+            ));
+        }
+
+        LOG.info("[message:search.index] [catalog:{}] [size:{}] [took:{}ms]",
+            catalog, searchIndex.size(catalog), System.currentTimeMillis() - start);
+    }
+}
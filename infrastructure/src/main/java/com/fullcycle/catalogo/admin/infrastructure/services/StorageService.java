@@ -8,7 +8,19 @@ import java.util.Optional;
 
 public interface StorageService {
     Optional<Resource> get(String name);
-    void store(String name, Resource resource);
+
+    /**
+     * Grava o resource e retorna o checksum CRC32C do conteúdo gravado.
+     * Quando o resource não possui checksum, ele é calculado enquanto os bytes são transferidos.
+     */
+    String store(String name, Resource resource);
+
+    /**
+     * Concatena os objetos informados, na ordem, em um único objeto e retorna o checksum CRC32C do resultado.
+     * Utilizado para montar as mídias enviadas em partes (chunks).
+     */
+    String compose(String name, List<String> sources, String contentType);
+
     void deleteAll(Collection<String> names);
     List<String> list(String prefix);
 }
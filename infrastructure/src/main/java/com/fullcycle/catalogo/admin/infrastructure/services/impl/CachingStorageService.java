@@ -0,0 +1,220 @@
+package com.fullcycle.catalogo.admin.infrastructure.services.impl;
+
+import com.fullcycle.catalogo.admin.domain.resource.Resource;
+import com.fullcycle.catalogo.admin.infrastructure.cache.MeteredCache;
+import com.fullcycle.catalogo.admin.infrastructure.services.StorageService;
+import com.google.common.base.Ticker;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Decorator que mantém em cache as imagens (banner e thumbnails) lidas do storage, limitado pelo total de bytes.
+ * Com off-heap o conteúdo fica em buffers diretos, fora do heap, para que caches grandes não aumentem as pausas do GC.
+ * Qualquer gravação ou remoção de um nome invalida a sua entrada, mas só nesta instância: as gravações de outras
+ * instâncias no mesmo nome só são vistas quando a entrada expira (timeToLive), por isso a expiração deve ser curta.
+ */
+public class CachingStorageService implements StorageService, MeteredCache {
+    public static final String CACHE_NAME = "storage.images";
+    private static final String IMAGE_CONTENT_TYPE = "image/";
+
+    private final StorageService delegate;
+    private final long maxEntryBytes;
+    private final boolean offHeap;
+    private final Cache<String, CachedContent> cache;
+    private final AtomicLong invalidations = new AtomicLong();
+
+    public CachingStorageService(
+        final StorageService delegate,
+        final long maxBytes,
+        final long maxEntryBytes,
+        final Duration timeToLive,
+        final boolean offHeap
+    ) {
+        this(delegate, maxBytes, maxEntryBytes, timeToLive, offHeap, Ticker.systemTicker());
+    }
+
+    CachingStorageService(
+        final StorageService delegate,
+        final long maxBytes,
+        final long maxEntryBytes,
+        final Duration timeToLive,
+        final boolean offHeap,
+        final Ticker ticker
+    ) {
+        this.delegate = Objects.requireNonNull(delegate);
+        this.maxEntryBytes = Math.min(maxEntryBytes, maxBytes);
+        this.offHeap = offHeap;
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((String name, CachedContent content) -> content.weight())
+                .expireAfterWrite(timeToLive)
+                .ticker(ticker)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public Optional<Resource> get(final String name) {
+        final var cached = cache.getIfPresent(name);
+        if (Objects.nonNull(cached)) {
+            return Optional.of(cached.toResource(name));
+        }
+
+        final var version = invalidations.get();
+        final var resource = delegate.get(name);
+        if (resource.isEmpty() || !isCacheable(resource.get())) {
+            return resource;
+        }
+
+        final var content = CachedContent.of(resource.get(), offHeap);
+
+        // uma gravação concorrente pode ter invalidado o nome durante a leitura
+        if (version == invalidations.get()) {
+            cache.put(name, content);
+        }
+        return Optional.of(content.toResource(name));
+    }
+
+    @Override
+    public String store(final String name, final Resource resource) {
+        try {
+            return delegate.store(name, resource);
+        } finally {
+            invalidate(List.of(name));
+        }
+    }
+
+    @Override
+    public String compose(final String name, final List<String> sources, final String contentType) {
+        try {
+            return delegate.compose(name, sources, contentType);
+        } finally {
+            invalidate(List.of(name));
+        }
+    }
+
+    @Override
+    public void deleteAll(final Collection<String> names) {
+        try {
+            delegate.deleteAll(names);
+        } finally {
+            invalidate(names);
+        }
+    }
+
+    @Override
+    public List<String> list(final String prefix) {
+        return delegate.list(prefix);
+    }
+
+    /**
+     * Acertos, falhas e remoções (evictionCount) do cache.
+     */
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.size();
+    }
+
+    @Override
+    public List<Metrics> metrics() {
+        return List.of(new Metrics(CACHE_NAME, size(), stats()));
+    }
+
+    private void invalidate(final Collection<String> names) {
+        invalidations.incrementAndGet();
+        cache.invalidateAll(names);
+    }
+
+    private boolean isCacheable(final Resource aResource) {
+        return aResource.hasChecksum()
+                && aResource.contentType().startsWith(IMAGE_CONTENT_TYPE)
+                && aResource.size() != Resource.UNKNOWN_SIZE
+                && aResource.size() <= maxEntryBytes;
+    }
+
+    private record CachedContent(String checksum, String contentType, Instant lastModified, byte[] content, ByteBuffer buffer) {
+
+        private static CachedContent of(final Resource aResource, final boolean offHeap) {
+            final var content = aResource.content();
+            if (!offHeap) {
+                return new CachedContent(aResource.checksum(), aResource.contentType(), aResource.lastModified(), content, null);
+            }
+
+            final var buffer = ByteBuffer.allocateDirect(content.length).put(content).flip();
+            return new CachedContent(aResource.checksum(), aResource.contentType(), aResource.lastModified(), null, buffer.asReadOnlyBuffer());
+        }
+
+        private int weight() {
+            return Objects.nonNull(content) ? content.length : buffer.capacity();
+        }
+
+        private Resource toResource(final String name) {
+            if (Objects.nonNull(content)) {
+                return Resource.of(checksum, content, contentType, name).withLastModified(lastModified);
+            }
+            return Resource.of(checksum, new BufferStreamSupplier(buffer), buffer.capacity(), contentType, name)
+                    .withLastModified(lastModified);
+        }
+    }
+
+    private record BufferStreamSupplier(ByteBuffer buffer) implements Resource.StreamSupplier {
+        @Override
+        public InputStream open() {
+            return new BufferInputStream(buffer.duplicate());
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) {
+            final var start = (int) Math.min(offset, buffer.capacity());
+            final var end = (int) Math.min(offset + length, buffer.capacity());
+            return new BufferInputStream(buffer.duplicate().position(start).limit(end));
+        }
+    }
+
+    private static final class BufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private BufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+
+            final var count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
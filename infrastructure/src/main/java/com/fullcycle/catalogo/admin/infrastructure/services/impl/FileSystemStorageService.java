@@ -0,0 +1,376 @@
+package com.fullcycle.catalogo.admin.infrastructure.services.impl;
+
+import com.fullcycle.catalogo.admin.domain.resource.Resource;
+import com.fullcycle.catalogo.admin.infrastructure.services.StorageService;
+import com.fullcycle.catalogo.admin.infrastructure.utils.HashingUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Storage em disco local para ambientes on-premise e testes de carga.
+ * Cada objeto é um arquivo em {root}/{name} e seus metadados (content type e checksum) ficam em
+ * {root}/.metadata/{name}. As gravações vão para um arquivo temporário e só ficam visíveis após um rename atômico.
+ */
+public class FileSystemStorageService implements StorageService {
+    private static final String METADATA_FOLDER = ".metadata";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String CONTENT_TYPE = "contentType";
+    private static final String CHECKSUM = "checksum";
+    private static final String DEFAULT_CONTENT_TYPE = "application/octet-stream";
+    private static final long TRANSFER_CHUNK_SIZE = 8L * 1024 * 1024;
+    private static final long MAX_MAPPED_REGION = 16L * 1024 * 1024;
+
+    private final Path root;
+    private final Path metadataRoot;
+
+    public FileSystemStorageService(final Path root) {
+        this.root = Objects.requireNonNull(root).toAbsolutePath().normalize();
+        this.metadataRoot = this.root.resolve(METADATA_FOLDER);
+        try {
+            Files.createDirectories(this.metadataRoot);
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Optional<Resource> get(final String name) {
+        final var path = pathOf(name);
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+
+        try {
+            final var metadata = readMetadata(name);
+            return Optional.of(Resource.of(
+                metadata.getProperty(CHECKSUM),
+                new FileStreamSupplier(path),
+                Files.size(path),
+                metadata.getProperty(CONTENT_TYPE, DEFAULT_CONTENT_TYPE),
+                name
+            ).withLastModified(Files.getLastModifiedTime(path).toInstant()));
+        } catch (final NoSuchFileException e) {
+            return Optional.empty();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String store(final String name, final Resource resource) {
+        final var target = pathOf(name);
+
+        try {
+            // cópia entre arquivos do mesmo storage não passa pela JVM
+            if (resource.streamSupplier() instanceof FileStreamSupplier source && resource.hasChecksum()) {
+                write(target, channel -> transfer(source.path(), channel));
+                writeMetadata(name, resource.contentType(), resource.checksum());
+                return resource.checksum();
+            }
+
+            if (resource.isInMemory()) {
+                write(target, channel -> writeFully(channel, ByteBuffer.wrap(resource.content())));
+                writeMetadata(name, resource.contentType(), resource.checksum());
+                return resource.checksum();
+            }
+
+            try (final var content = HashingUtils.checksumOf(resource.openStream())) {
+                write(target, channel -> transfer(Channels.newChannel(content), channel));
+                final var checksum = content.hash().toString();
+                writeMetadata(name, resource.contentType(), checksum);
+                return checksum;
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String compose(final String name, final List<String> sources, final String contentType) {
+        final var target = pathOf(name);
+
+        try {
+            write(target, channel -> {
+                for (final var source : sources) {
+                    transfer(pathOf(source), channel);
+                }
+            });
+
+            final String checksum;
+            try (final var content = HashingUtils.checksumOf(Files.newInputStream(target))) {
+                content.transferTo(OutputStream.nullOutputStream());
+                checksum = content.hash().toString();
+            }
+
+            writeMetadata(name, contentType, checksum);
+            return checksum;
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void deleteAll(final Collection<String> names) {
+        try {
+            for (final var name : names) {
+                delete(pathOf(name));
+                delete(metadataOf(name));
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Percorre somente a pasta do prefixo (ex.: videoId-{videoId}) em vez do storage inteiro.
+     */
+    @Override
+    public List<String> list(final String prefix) {
+        if (Objects.isNull(prefix)) {
+            return Collections.emptyList();
+        }
+
+        final var separator = prefix.lastIndexOf('/');
+        final var folder = separator < 0 ? root : pathOf(prefix.substring(0, separator));
+        final var filePrefix = prefix.substring(separator + 1);
+
+        if (!Files.isDirectory(folder)) {
+            return Collections.emptyList();
+        }
+
+        final var names = new ArrayList<String>();
+        try (final var entries = Files.newDirectoryStream(folder, entry -> accept(entry, filePrefix))) {
+            for (final var entry : entries) {
+                if (Files.isDirectory(entry)) {
+                    try (final var files = Files.walk(entry)) {
+                        files.filter(Files::isRegularFile)
+                            .filter(file -> !isTemporary(file))
+                            .map(this::nameOf)
+                            .forEach(names::add);
+                    }
+                } else {
+                    names.add(nameOf(entry));
+                }
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return names;
+    }
+
+    private boolean accept(final Path entry, final String filePrefix) {
+        final var filename = entry.getFileName().toString();
+        return filename.startsWith(filePrefix) && !filename.startsWith(".") && !isTemporary(entry);
+    }
+
+    private boolean isTemporary(final Path path) {
+        return path.getFileName().toString().endsWith(TEMP_SUFFIX);
+    }
+
+    private Path pathOf(final String name) {
+        final var path = root.resolve(name).normalize();
+        if (!path.startsWith(root) || path.equals(root) || path.startsWith(metadataRoot)) {
+            throw new IllegalArgumentException("Invalid storage name: %s".formatted(name));
+        }
+        return path;
+    }
+
+    private Path metadataOf(final String name) {
+        return metadataRoot.resolve(root.relativize(pathOf(name)));
+    }
+
+    private String nameOf(final Path path) {
+        return root.relativize(path).toString().replace(path.getFileSystem().getSeparator(), "/");
+    }
+
+    private Properties readMetadata(final String name) throws IOException {
+        final var metadata = new Properties();
+        final var path = metadataOf(name);
+        if (Files.isRegularFile(path)) {
+            try (final var in = Files.newInputStream(path)) {
+                metadata.load(in);
+            }
+        }
+        return metadata;
+    }
+
+    private void writeMetadata(final String name, final String contentType, final String checksum) throws IOException {
+        final var metadata = new Properties();
+        metadata.setProperty(CONTENT_TYPE, contentType);
+        if (Objects.nonNull(checksum)) {
+            metadata.setProperty(CHECKSUM, checksum);
+        }
+
+        write(metadataOf(name), channel -> metadata.store(Channels.newOutputStream(channel), null));
+    }
+
+    private void write(final Path target, final ChannelWriter writer) throws IOException {
+        Files.createDirectories(target.getParent());
+        final var temp = Files.createTempFile(target.getParent(), "." + target.getFileName(), TEMP_SUFFIX);
+
+        try {
+            try (final var channel = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                writer.write(channel);
+                channel.force(false);
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private void delete(final Path path) throws IOException {
+        Files.deleteIfExists(path);
+
+        // remove as pastas que ficaram vazias, como as de um vídeo excluído
+        var parent = path.getParent();
+        while (Objects.nonNull(parent) && !parent.equals(root) && !parent.equals(metadataRoot)) {
+            try {
+                Files.deleteIfExists(parent);
+            } catch (final DirectoryNotEmptyException e) {
+                return;
+            }
+            parent = parent.getParent();
+        }
+    }
+
+    private static void transfer(final Path source, final FileChannel target) throws IOException {
+        try (final var channel = FileChannel.open(source, StandardOpenOption.READ)) {
+            final var size = channel.size();
+            var position = 0L;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+        }
+    }
+
+    private static void transfer(final ReadableByteChannel source, final FileChannel target) throws IOException {
+        var position = target.position();
+        long transferred;
+        while ((transferred = target.transferFrom(source, position, TRANSFER_CHUNK_SIZE)) > 0) {
+            position += transferred;
+        }
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChannelWriter {
+        void write(FileChannel channel) throws IOException;
+    }
+
+    /**
+     * Leituras parciais pequenas (HTTP Range) são servidas por uma região mapeada em memória,
+     * as demais por leituras posicionadas no FileChannel.
+     */
+    private record FileStreamSupplier(Path path) implements Resource.StreamSupplier {
+        @Override
+        public InputStream open() throws IOException {
+            return Channels.newInputStream(FileChannel.open(path, StandardOpenOption.READ));
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) throws IOException {
+            try (final var channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                final var size = channel.size();
+                final var start = Math.min(offset, size);
+                final var count = Math.min(length, size - start);
+
+                if (count <= MAX_MAPPED_REGION) {
+                    return new ByteBufferInputStream(channel.map(FileChannel.MapMode.READ_ONLY, start, count));
+                }
+            }
+
+            final var channel = FileChannel.open(path, StandardOpenOption.READ);
+            channel.position(offset);
+            return Channels.newInputStream(new BoundedChannel(channel, offset + length));
+        }
+    }
+
+    private record BoundedChannel(FileChannel channel, long limit) implements ReadableByteChannel {
+        @Override
+        public int read(final ByteBuffer dst) throws IOException {
+            final var remaining = limit - channel.position();
+            if (remaining <= 0) {
+                return -1;
+            }
+
+            if (dst.remaining() > remaining) {
+                final var slice = dst.slice().limit((int) remaining);
+                final var read = channel.read(slice);
+                if (read > 0) {
+                    dst.position(dst.position() + read);
+                }
+                return read;
+            }
+            return channel.read(dst);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public void close() throws IOException {
+            channel.close();
+        }
+    }
+
+    private static final class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        private ByteBufferInputStream(final ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(final byte[] b, final int off, final int len) {
+            if (len == 0) {
+                return 0;
+            }
+
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+
+            final var count = Math.min(len, buffer.remaining());
+            buffer.get(b, off, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
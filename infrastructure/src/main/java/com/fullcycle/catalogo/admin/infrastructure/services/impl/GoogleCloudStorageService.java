@@ -2,16 +2,27 @@ package com.fullcycle.catalogo.admin.infrastructure.services.impl;
 
 import com.fullcycle.catalogo.admin.domain.resource.Resource;
 import com.fullcycle.catalogo.admin.infrastructure.services.StorageService;
+import com.fullcycle.catalogo.admin.infrastructure.utils.HashingUtils;
+import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
 
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.stream.StreamSupport;
 
 public class GoogleCloudStorageService implements StorageService {
+    private static final int MAX_COMPOSE_SOURCES = 32;
+
     private final String bucket;
     private final Storage storage;
 
@@ -26,20 +37,67 @@ public class GoogleCloudStorageService implements StorageService {
         return Optional.ofNullable(storage.get(bucket, name))
                 .map(blob -> Resource.of(
                     blob.getCrc32cToHexString(),
-                    blob.getContent(),
+                    new BlobStreamSupplier(blob),
+                    Optional.ofNullable(blob.getSize()).orElse(Resource.UNKNOWN_SIZE),
                     blob.getContentType(),
                     name
-                ));
+                ).withLastModified(Optional.ofNullable(blob.getUpdateTime()).map(Instant::ofEpochMilli).orElse(null)));
     }
 
     @Override
-    public void store(final String name, final Resource resource) {
+    public String store(final String name, final Resource resource) {
+        if (resource.streamSupplier() instanceof BlobStreamSupplier source && bucket.equals(source.blob().getBucket())) {
+            return copy(source.blob(), name, resource.contentType());
+        }
+
+        if (resource.isInMemory()) {
+            final var blobInfo = BlobInfo.newBuilder(bucket, name)
+                    .setContentType(resource.contentType())
+                    .setCrc32cFromHexString(resource.checksum())
+                    .build();
+
+            storage.create(blobInfo, resource.content());
+            return resource.checksum();
+        }
+
         final var blobInfo = BlobInfo.newBuilder(bucket, name)
                 .setContentType(resource.contentType())
-                .setCrc32cFromHexString(resource.checksum())
                 .build();
 
-        storage.create(blobInfo, resource.content());
+        try (final var content = HashingUtils.checksumOf(resource.openStream())) {
+            storage.createFrom(blobInfo, content);
+            return content.hash().toString();
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String compose(final String name, final List<String> sources, final String contentType) {
+        final var target = BlobInfo.newBuilder(bucket, name)
+                .setContentType(contentType)
+                .build();
+
+        // o GCS aceita no máximo 32 objetos por compose, então o resultado parcial é usado como primeira parte do próximo
+        Blob composed = null;
+        var index = 0;
+        do {
+            final var batch = new ArrayList<String>();
+            if (Objects.nonNull(composed)) {
+                batch.add(name);
+            }
+
+            while (index < sources.size() && batch.size() < MAX_COMPOSE_SOURCES) {
+                batch.add(sources.get(index++));
+            }
+
+            composed = storage.compose(Storage.ComposeRequest.newBuilder()
+                    .addSource(batch)
+                    .setTarget(target)
+                    .build());
+        } while (index < sources.size());
+
+        return composed.getCrc32cToHexString();
     }
 
     @Override
@@ -56,4 +114,36 @@ public class GoogleCloudStorageService implements StorageService {
                 .map(BlobId::getName)
                 .toList();
     }
+
+    private String copy(final Blob source, final String name, final String contentType) {
+        final var target = BlobInfo.newBuilder(bucket, name)
+                .setContentType(contentType)
+                .build();
+
+        final var request = Storage.CopyRequest.newBuilder()
+                .setSource(source.getBlobId())
+                .setTarget(target)
+                .build();
+
+        return storage.copy(request).getResult().getCrc32cToHexString();
+    }
+
+    /**
+     * Lê o blob sob demanda através de um ReadChannel, usando seek/limit para buscar
+     * somente o trecho solicitado no caso de leituras parciais.
+     */
+    private record BlobStreamSupplier(Blob blob) implements Resource.StreamSupplier {
+        @Override
+        public InputStream open() {
+            return Channels.newInputStream(blob.reader());
+        }
+
+        @Override
+        public InputStream open(final long offset, final long length) throws IOException {
+            final var reader = blob.reader();
+            reader.seek(offset);
+            reader.limit(offset + length);
+            return Channels.newInputStream(reader);
+        }
+    }
 }
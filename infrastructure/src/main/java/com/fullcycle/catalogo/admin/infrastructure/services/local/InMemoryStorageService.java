@@ -2,23 +2,54 @@ package com.fullcycle.catalogo.admin.infrastructure.services.local;
 
 import com.fullcycle.catalogo.admin.domain.resource.Resource;
 import com.fullcycle.catalogo.admin.infrastructure.services.StorageService;
+import com.fullcycle.catalogo.admin.infrastructure.utils.HashingUtils;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Instant;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * Storage em memória para dev e testes. As chaves ficam ordenadas, então os objetos de uma mesma pasta
+ * (ex.: videoId-{videoId}/) são vizinhos e a listagem por prefixo não percorre o storage inteiro.
+ */
 public class InMemoryStorageService implements StorageService {
-    private final Map<String, Resource> storage;
+    public static final long UNLIMITED = 0L;
+
+    // maior array que a JVM consegue alocar
+    private static final long MAX_CONTENT_LENGTH = Integer.MAX_VALUE - 9;
+
+    private final ConcurrentSkipListMap<String, Resource> storage;
+    private final long capacity;
+    private final AtomicLong usedBytes;
 
     public InMemoryStorageService() {
-        this.storage = new ConcurrentHashMap<>();
+        this(UNLIMITED);
+    }
+
+    /**
+     * @param capacity total de bytes que podem ficar armazenados, {@link #UNLIMITED} para não limitar
+     */
+    public InMemoryStorageService(final long capacity) {
+        this.storage = new ConcurrentSkipListMap<>();
+        this.capacity = capacity;
+        this.usedBytes = new AtomicLong();
     }
 
     public Map<String, Resource> getStorage() {
         return storage;
     }
 
-    public void reset() {
+    public long getUsedBytes() {
+        return usedBytes.get();
+    }
+
+    public synchronized void reset() {
         storage.clear();
+        usedBytes.set(0);
     }
 
     @Override
@@ -27,19 +58,88 @@ public class InMemoryStorageService implements StorageService {
     }
 
     @Override
-    public void store(final String name, final Resource resource) {
-        storage.put(name, resource);
+    public String store(final String name, final Resource resource) {
+        final var stored = resource.isInMemory() ? resource : materialize(name, resource);
+        put(name, stored);
+        return stored.checksum();
     }
 
     @Override
-    public void deleteAll(final Collection<String> names) {
-        names.forEach(storage::remove);
+    public String compose(final String name, final List<String> sources, final String contentType) {
+        final var content = new ByteArrayOutputStream();
+        sources.forEach(source -> content.writeBytes(storage.get(source).content()));
+
+        final var bytes = content.toByteArray();
+        final var checksum = HashingUtils.checksum(bytes);
+        put(name, Resource.of(checksum, bytes, contentType, name));
+        return checksum;
     }
 
+    @Override
+    public synchronized void deleteAll(final Collection<String> names) {
+        names.forEach(name -> usedBytes.addAndGet(-sizeOf(storage.remove(name))));
+    }
+
+    /**
+     * Posiciona no primeiro nome com o prefixo e percorre somente os seguintes, O(log n + k).
+     */
     @Override
     public List<String> list(final String prefix) {
-        return Objects.nonNull(prefix)
-                ? storage.keySet().stream().filter(s -> s.startsWith(prefix)).toList()
-                : Collections.emptyList();
+        if (Objects.isNull(prefix)) {
+            return Collections.emptyList();
+        }
+
+        final var names = new ArrayList<String>();
+        for (final var name : storage.tailMap(prefix, true).keySet()) {
+            if (!name.startsWith(prefix)) {
+                break;
+            }
+            names.add(name);
+        }
+        return names;
+    }
+
+    /**
+     * Ao substituir um nome o tamanho do conteúdo anterior é descontado antes da verificação da capacidade.
+     */
+    private synchronized void put(final String name, final Resource resource) {
+        final var size = resource.content().length;
+        if (size > available(name)) {
+            throw capacityExceeded(name);
+        }
+
+        final var replaced = storage.put(name, resource.withLastModified(Instant.now()));
+        usedBytes.addAndGet(size - sizeOf(replaced));
+    }
+
+    private long available(final String name) {
+        if (capacity == UNLIMITED) {
+            return Long.MAX_VALUE;
+        }
+        return capacity - usedBytes.get() + sizeOf(storage.get(name));
+    }
+
+    /**
+     * O limite é verificado durante a leitura, um stream maior que o espaço livre não é lido até o fim.
+     */
+    private Resource materialize(final String name, final Resource resource) {
+        final var limit = Math.min(available(name), MAX_CONTENT_LENGTH);
+        try (final var content = HashingUtils.checksumOf(resource.openStream())) {
+            final var bytes = content.readNBytes((int) limit + 1);
+            if (bytes.length > limit) {
+                throw capacityExceeded(name);
+            }
+            return Resource.of(content.hash().toString(), bytes, resource.contentType(), resource.name());
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private IllegalStateException capacityExceeded(final String name) {
+        return new IllegalStateException("In-memory storage capacity of %s bytes exceeded storing %s".formatted(capacity, name));
+    }
+
+    private static long sizeOf(final Resource resource) {
+        return Objects.isNull(resource) ? 0 : resource.content().length;
     }
 }
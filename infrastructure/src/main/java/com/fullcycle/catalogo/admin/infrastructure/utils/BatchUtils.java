@@ -0,0 +1,73 @@
+package com.fullcycle.catalogo.admin.infrastructure.utils;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+
+import javax.persistence.EntityManager;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+public final class BatchUtils {
+    private BatchUtils() {}
+
+    /**
+     * Insere entidades novas com persist, sem o SELECT que o save (merge) faz para ids atribuídos,
+     * e descarrega o contexto a cada hibernate.jdbc.batch_size entidades: cada descarga vira um único
+     * executeBatch, reescrito em um INSERT multi-valores pelo driver com rewriteBatchedStatements.
+     * Deve ser chamado dentro de uma transação.
+     */
+    public static <T> List<T> persistAll(final EntityManager entityManager, final List<T> entities) {
+        final var batchSize = batchSize(entityManager);
+
+        for (int i = 0; i < entities.size(); i++) {
+            entityManager.persist(entities.get(i));
+
+            if ((i + 1) % batchSize == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        return entities;
+    }
+
+    /**
+     * Atualiza entidades existentes em lotes de hibernate.jdbc.batch_size: as entidades
+     * de cada lote são carregadas juntas em um SELECT ... IN, então o merge já as encontra no contexto em vez
+     * de fazer um SELECT por linha, e a descarga vira um único executeBatch com os UPDATEs.
+     * Deve ser chamado dentro de uma transação.
+     */
+    public static <T, ID> List<T> mergeAll(
+        final EntityManager entityManager,
+        final Class<T> entityClass,
+        final List<T> entities,
+        final Function<T, ID> idOf
+    ) {
+        final var batchSize = batchSize(entityManager);
+        final var results = new ArrayList<T>(entities.size());
+
+        for (int from = 0; from < entities.size(); from += batchSize) {
+            final var chunk = entities.subList(from, Math.min(from + batchSize, entities.size()));
+
+            entityManager.unwrap(Session.class)
+                .byMultipleIds(entityClass)
+                .withBatchSize(batchSize)
+                .multiLoad(chunk.stream().map(idOf).toList());
+            chunk.forEach(entity -> results.add(entityManager.merge(entity)));
+
+            entityManager.flush();
+            entityManager.clear();
+        }
+        return results;
+    }
+
+    private static int batchSize(final EntityManager entityManager) {
+        return Math.max(1, entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactoryImplementor.class)
+                .getSessionFactoryOptions()
+                .getJdbcBatchSize());
+    }
+}
@@ -2,6 +2,11 @@ package com.fullcycle.catalogo.admin.infrastructure.utils;
 
 import com.google.common.hash.HashFunction;
 import com.google.common.hash.Hashing;
+import com.google.common.hash.HashingInputStream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 
 public final class HashingUtils {
     private static final HashFunction CHECKSUM = Hashing.crc32c();
@@ -11,4 +16,18 @@ public final class HashingUtils {
     public static String checksum(final byte[] content) {
         return CHECKSUM.hashBytes(content).toString();
     }
+
+    /**
+     * Lê o stream até o fim e o fecha, retornando o checksum do conteúdo.
+     */
+    public static String checksum(final InputStream content) throws IOException {
+        try (final var in = checksumOf(content)) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return in.hash().toString();
+        }
+    }
+
+    public static HashingInputStream checksumOf(final InputStream content) {
+        return new HashingInputStream(CHECKSUM, content);
+    }
 }
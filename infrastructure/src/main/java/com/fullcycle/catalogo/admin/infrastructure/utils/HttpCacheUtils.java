@@ -0,0 +1,28 @@
+package com.fullcycle.catalogo.admin.infrastructure.utils;
+
+import org.springframework.http.CacheControl;
+
+import java.time.Instant;
+
+/**
+ * ETags fortes e Cache-Control das leituras. O Spring responde 304 Not Modified quando o If-None-Match
+ * da requisição corresponde ao ETag da ResponseEntity, sem serializar o body.
+ */
+public final class HttpCacheUtils {
+    private HttpCacheUtils() {}
+
+    public static String eTag(final Instant updatedAt) {
+        return "\"%x.%x\"".formatted(updatedAt.getEpochSecond(), updatedAt.getNano());
+    }
+
+    public static String eTag(final String checksum) {
+        return "\"%s\"".formatted(checksum);
+    }
+
+    /**
+     * O cliente pode manter a resposta, mas precisa revalidá-la com o ETag a cada uso.
+     */
+    public static CacheControl revalidate() {
+        return CacheControl.noCache().cachePrivate();
+    }
+}
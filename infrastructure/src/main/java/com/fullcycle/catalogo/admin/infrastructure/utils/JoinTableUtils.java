@@ -0,0 +1,26 @@
+package com.fullcycle.catalogo.admin.infrastructure.utils;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+public final class JoinTableUtils {
+    private JoinTableUtils() {}
+
+    /**
+     * Aplica na coleção gerenciada de uma tabela de junção somente a diferença para os ids do agregado:
+     * as linhas que saíram são removidas (orphanRemoval), as que entraram são criadas e as demais não geram SQL.
+     * Substituir a coleção inteira faz o Hibernate apagar e inserir novamente todas as linhas.
+     */
+    public static <T, ID> void sync(
+        final Set<T> rows,
+        final Collection<ID> ids,
+        final Function<T, ID> idOf,
+        final Function<ID, T> newRow
+    ) {
+        final var added = new HashSet<>(ids);
+        rows.removeIf(row -> !added.remove(idOf.apply(row)));
+        added.forEach(id -> rows.add(newRow.apply(id)));
+    }
+}
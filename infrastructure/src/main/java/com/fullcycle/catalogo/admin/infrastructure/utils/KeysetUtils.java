@@ -0,0 +1,333 @@
+package com.fullcycle.catalogo.admin.infrastructure.utils;
+
+import com.fullcycle.catalogo.admin.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.admin.domain.pagination.Pagination;
+import com.fullcycle.catalogo.admin.domain.pagination.SearchQuery;
+import com.fullcycle.catalogo.admin.domain.validation.Error;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.core.convert.support.DefaultConversionService;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Paginação por cursor (keyset): em vez de LIMIT/OFFSET a próxima página é buscada a partir do valor de ordenação
+ * e do id do último item retornado, o que usa os índices (campo, id) e mantém o custo de uma página funda igual ao da primeira.
+ * Também atende as listagens sem total exato, que buscam um item além da página para saber se existe a próxima.
+ */
+public final class KeysetUtils {
+    /**
+     * Total da busca por cursor: o COUNT não é executado, já que seria repetido a cada página seguida.
+     */
+    public static final long UNKNOWN_TOTAL = -1;
+
+    private static final String ID = "id";
+    private static final String SEPARATOR = "\n";
+
+    private KeysetUtils() {}
+
+    public static boolean isCursor(final String after) {
+        return Objects.nonNull(after) && !after.isBlank();
+    }
+
+    /**
+     * Ordena também pelo id para que itens com o mesmo valor de ordenação tenham uma posição estável.
+     */
+    public static Sort sort(final String sort, final String direction) {
+        final var aDirection = Direction.fromString(direction);
+        final var aSort = Sort.by(aDirection, sort);
+        return ID.equals(sort) ? aSort : aSort.and(Sort.by(aDirection, ID));
+    }
+
+    /**
+     * Cursor do último item quando existe uma próxima página.
+     */
+    public static String nextCursor(final List<?> items, final boolean hasNext, final String sort) {
+        if (!hasNext || items.isEmpty()) {
+            return null;
+        }
+
+        final var accessor = PropertyAccessorFactory.forDirectFieldAccess(items.get(items.size() - 1));
+        final var id = String.valueOf(accessor.getPropertyValue(ID));
+        final var value = accessor.getPropertyValue(sort);
+
+        final var token = Objects.isNull(value)
+            ? String.join(SEPARATOR, sort, id)
+            : String.join(SEPARATOR, sort, id, value.toString());
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(token.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Posição do primeiro item da página, que o JPA recebe como int: páginas além desse limite são rejeitadas
+     * como erro de validação em vez de estourar na consulta.
+     */
+    public static int offset(final int page, final int perPage) {
+        if (page < 0) {
+            throw DomainException.with(new Error("'page' must not be negative"));
+        }
+        if (perPage < 1) {
+            throw DomainException.with(new Error("'perPage' must be greater than zero"));
+        }
+
+        final var offset = (long) page * perPage;
+        if (offset > Integer.MAX_VALUE) {
+            throw DomainException.with(new Error("'page' is out of range for the given 'perPage'"));
+        }
+        return (int) offset;
+    }
+
+    public static PageRequest pageRequest(final int page, final int perPage, final Sort sort) {
+        offset(page, perPage);
+        return PageRequest.of(page, perPage, sort);
+    }
+
+    /**
+     * Total de uma busca que leu um item além da página: desconhecido na busca por cursor e,
+     * nas demais, o COUNT quando o total exato for pedido ou a estimativa.
+     */
+    public static long total(
+        final boolean isCursor,
+        final boolean exactTotal,
+        final LongSupplier count,
+        final int offset,
+        final int items,
+        final boolean hasNext
+    ) {
+        if (isCursor) {
+            return UNKNOWN_TOTAL;
+        }
+        return exactTotal ? count.getAsLong() : estimatedTotal(offset, items, hasNext);
+    }
+
+    /**
+     * Limite inferior do total quando o COUNT não é executado, a partir dos itens lidos: os anteriores à página,
+     * os da página e, se houver próxima, mais um. Uma página vazia além da primeira não diz quantos itens existem.
+     */
+    public static long estimatedTotal(final int offset, final int items, final boolean hasNext) {
+        if (items == 0) {
+            return offset == 0 ? 0 : UNKNOWN_TOTAL;
+        }
+        return (long) offset + items + (hasNext ? 1 : 0);
+    }
+
+    /**
+     * Predicado de busca dos itens posteriores ao cursor: (campo > valor) OU (campo = valor E id > id do cursor),
+     * invertido para ordenação decrescente. Valores nulos vêm antes dos demais, como no MySQL.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public static <T> Specification<T> after(final String after, final String sort, final String direction) {
+        final var cursor = Cursor.decode(after, sort);
+        final var ascending = Direction.fromString(direction).isAscending();
+
+        return (root, query, cb) -> {
+            final Path<Comparable> path = root.get(sort);
+            final Path<String> id = root.get(ID);
+            final Predicate idAfter = ascending ? cb.greaterThan(id, cursor.id()) : cb.lessThan(id, cursor.id());
+
+            if (Objects.isNull(cursor.value())) {
+                final var sameValue = cb.and(cb.isNull(path), idAfter);
+                return ascending ? cb.or(sameValue, cb.isNotNull(path)) : sameValue;
+            }
+
+            final Comparable value = convert(cursor.value(), path.getJavaType());
+            final var valueAfter = ascending ? cb.greaterThan(path, value) : cb.lessThan(path, value);
+            final var seek = cb.or(valueAfter, cb.and(cb.equal(path, value), idAfter));
+            return ascending ? seek : cb.or(seek, cb.isNull(path));
+        };
+    }
+
+    /**
+     * Busca por cursor ou sem o total exato: lê um item além da página para saber se existe a próxima,
+     * e só executa o COUNT quando o total exato for pedido fora da busca por cursor.
+     * Os itens lidos são convertidos por toItems, o cursor da próxima página vem do último item antes da conversão.
+     */
+    public static <T, R> Pagination<R> slice(
+        final EntityManager entityManager,
+        final Class<T> type,
+        final SearchQuery aQuery,
+        final Specification<T> spec,
+        final Sort sort,
+        final LongSupplier count,
+        final Function<List<T>, List<R>> toItems
+    ) {
+        return slice(
+            entityManager,
+            type,
+            type,
+            (root, cb) -> root,
+            aQuery,
+            spec,
+            (root, cb) -> QueryUtils.toOrders(sort, root, cb),
+            count,
+            toItems
+        );
+    }
+
+    /**
+     * Variação com projeção, e para ordenações que não são um campo da entidade, como a relevância da busca FULLTEXT:
+     * sem um campo de ordenação em aQuery não há cursor para a próxima página.
+     */
+    public static <T, E, R> Pagination<R> slice(
+        final EntityManager entityManager,
+        final Class<T> type,
+        final Class<E> resultType,
+        final BiFunction<Root<T>, CriteriaBuilder, Selection<? extends E>> selection,
+        final SearchQuery aQuery,
+        final Specification<T> spec,
+        final BiFunction<Root<T>, CriteriaBuilder, List<Order>> orders,
+        final LongSupplier count,
+        final Function<List<E>, List<R>> toItems
+    ) {
+        final var isCursor = isCursor(aQuery.after());
+        final var offset = isCursor ? 0 : offset(aQuery.page(), aQuery.perPage());
+        final var seek = isCursor
+            ? Specification.where(spec).and(KeysetUtils.<T>after(aQuery.after(), aQuery.sort(), aQuery.direction()))
+            : spec;
+
+        final var items = findAll(entityManager, type, resultType, selection, seek, orders, offset, aQuery.perPage() + 1);
+
+        final var hasNext = items.size() > aQuery.perPage();
+        final var content = hasNext ? items.subList(0, aQuery.perPage()) : items;
+
+        return new Pagination<>(
+            aQuery.page(),
+            aQuery.perPage(),
+            total(isCursor, aQuery.exactTotal(), count, offset, content.size(), hasNext),
+            toItems.apply(content),
+            Objects.nonNull(aQuery.sort()) ? nextCursor(content, hasNext, aQuery.sort()) : null
+        );
+    }
+
+    /**
+     * Executa a busca com LIMIT e sem a consulta de COUNT que o Page do Spring Data faria.
+     */
+    private static <T, R> List<R> findAll(
+        final EntityManager entityManager,
+        final Class<T> type,
+        final Class<R> resultType,
+        final BiFunction<Root<T>, CriteriaBuilder, Selection<? extends R>> selection,
+        final Specification<T> spec,
+        final BiFunction<Root<T>, CriteriaBuilder, List<Order>> orders,
+        final int offset,
+        final int limit
+    ) {
+        final var cb = entityManager.getCriteriaBuilder();
+        final var query = cb.createQuery(resultType);
+        final var root = query.from(type);
+
+        final var predicate = Objects.nonNull(spec) ? spec.toPredicate(root, query, cb) : null;
+        if (Objects.nonNull(predicate)) {
+            query.where(predicate);
+        }
+
+        query.select(selection.apply(root, cb));
+        query.orderBy(orders.apply(root, cb));
+
+        return entityManager.createQuery(query)
+                .setFirstResult(offset)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    /**
+     * Percorre a tabela inteira em ordem de id, um lote de chunkSize registros por consulta a partir do último id lido
+     * (WHERE id > ? ORDER BY id LIMIT ?): cada lote é uma busca pela chave primária, sem OFFSET, e não depende do cursor
+     * do driver, que no MySQL traria o resultado inteiro para a memória sem o useCursorFetch.
+     * Cada lote é lido e convertido por toItems na sua própria transação somente leitura, e os itens são entregues
+     * ao consumidor depois do commit: nenhuma conexão fica presa enquanto o cliente lê a resposta, e a memória usada
+     * não cresce com a tabela. Os lotes não leem o mesmo snapshot, um registro alterado durante a exportação sai
+     * com o estado do momento em que o seu lote foi lido.
+     */
+    public static <T, R> void forEachChunk(
+        final PlatformTransactionManager transactionManager,
+        final BiFunction<String, Pageable, List<T>> findAfter,
+        final Function<T, String> idOf,
+        final int chunkSize,
+        final Function<List<T>, List<R>> toItems,
+        final Consumer<R> aConsumer
+    ) {
+        final var transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(true);
+
+        final var page = PageRequest.of(0, chunkSize, Sort.by(ID));
+        var after = "";
+
+        while (true) {
+            final var lastId = after;
+            final var chunk = transaction.execute(status -> {
+                final var rows = findAfter.apply(lastId, page);
+                return rows.isEmpty()
+                    ? Chunk.<R>empty()
+                    : new Chunk<>(toItems.apply(rows), idOf.apply(rows.get(rows.size() - 1)), rows.size());
+            });
+
+            chunk.items().forEach(aConsumer);
+            if (chunk.size() < chunkSize) {
+                return;
+            }
+            after = chunk.lastId();
+        }
+    }
+
+    private static Comparable<?> convert(final String value, final Class<?> type) {
+        try {
+            if (Instant.class.equals(type)) {
+                return Instant.parse(value);
+            }
+            return (Comparable<?>) DefaultConversionService.getSharedInstance().convert(value, type);
+        } catch (final RuntimeException e) {
+            throw invalidCursor();
+        }
+    }
+
+    private static DomainException invalidCursor() {
+        return DomainException.with(new Error("'after' is not a valid cursor for the given sort"));
+    }
+
+    private record Cursor(String id, String value) {
+
+        private static Cursor decode(final String after, final String sort) {
+            final String[] parts;
+            try {
+                parts = new String(Base64.getUrlDecoder().decode(after), StandardCharsets.UTF_8).split(SEPARATOR, 3);
+            } catch (final IllegalArgumentException e) {
+                throw invalidCursor();
+            }
+
+            if (parts.length < 2 || !parts[0].equals(sort)) {
+                throw invalidCursor();
+            }
+            return new Cursor(parts[1], parts.length == 3 ? parts[2] : null);
+        }
+    }
+
+    private record Chunk<R>(List<R> items, String lastId, int size) {
+
+        private static <R> Chunk<R> empty() {
+            return new Chunk<>(List.of(), null, 0);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.fullcycle.catalogo.admin.infrastructure.utils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.json.Json;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+public final class NdjsonUtils {
+    private static final ObjectWriter WRITER = Json.mapper().writer()
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+
+    private NdjsonUtils() {}
+
+    /**
+     * Corpo NDJSON escrito enquanto os registros são lidos, um JSON por linha: o source entrega cada registro
+     * ao consumidor recebido e a saída é descarregada para o cliente conforme o buffer do gerador enche,
+     * sem acumular a resposta em memória.
+     */
+    public static <T> StreamingResponseBody stream(final Consumer<Consumer<T>> source) {
+        return out -> {
+            final var generator = WRITER.createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setRootValueSeparator(null);
+
+            try (generator) {
+                source.accept(item -> write(generator, item));
+            }
+        };
+    }
+
+    private static void write(final JsonGenerator generator, final Object item) {
+        try {
+            WRITER.writeValue(generator, item);
+            generator.writeRaw('\n');
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
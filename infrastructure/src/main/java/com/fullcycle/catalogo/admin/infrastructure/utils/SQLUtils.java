@@ -1,8 +1,13 @@
 package com.fullcycle.catalogo.admin.infrastructure.utils;
 
+import java.util.Arrays;
 import java.util.Objects;
+import java.util.stream.Collectors;
 
 public final class SQLUtils {
+    private static final int NGRAM_TOKEN_SIZE = 2;
+    private static final String BOOLEAN_MODE_OPERATORS = "[+\\-<>()~*\"@]";
+    private static final String LIKE_WILDCARDS = "[\\\\%_]";
 
     private SQLUtils() {}
 
@@ -13,4 +18,40 @@ public final class SQLUtils {
     public static String upper(final String term) {
         return Objects.nonNull(term) ? term.toUpperCase() : null;
     }
+
+    public static String lower(final String term) {
+        return Objects.nonNull(term) ? term.trim().toLowerCase() : null;
+    }
+
+    /**
+     * Busca pelo início do termo, com os curingas digitados (% e _) tratados como texto.
+     */
+    public static String prefix(final String term) {
+        return Objects.nonNull(term) ? escapeLike(term) + "%" : null;
+    }
+
+    /**
+     * Escapa os curingas do LIKE com a barra invertida, o caractere de escape padrão do MySQL e do H2.
+     */
+    public static String escapeLike(final String term) {
+        return Objects.nonNull(term) ? term.replaceAll(LIKE_WILDCARDS, "\\\\$0") : null;
+    }
+
+    /**
+     * Busca do MATCH ... AGAINST em modo booleano exigindo todas as palavras, como frases para o parser ngram.
+     * Os operadores do modo booleano digitados são descartados e palavras menores que o token do ngram são ignoradas.
+     * Retorna null quando não sobra nenhuma palavra.
+     */
+    public static String fullText(final String terms) {
+        if (Objects.isNull(terms)) {
+            return null;
+        }
+
+        final var query = Arrays.stream(terms.replaceAll(BOOLEAN_MODE_OPERATORS, " ").trim().split("\\s+"))
+                .filter(word -> word.length() >= NGRAM_TOKEN_SIZE)
+                .map(word -> "+\"" + word + "\"")
+                .collect(Collectors.joining(" "));
+
+        return query.isEmpty() ? null : query;
+    }
 }
@@ -2,10 +2,79 @@ package com.fullcycle.catalogo.admin.infrastructure.utils;
 
 import org.springframework.data.jpa.domain.Specification;
 
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+import static com.fullcycle.catalogo.admin.infrastructure.configuration.FullTextFunctionContributor.MATCH_AGAINST;
+
 public final class SpecificationUtils {
     private SpecificationUtils() {}
 
     public static <T> Specification<T> like(final String prop, final String term) {
         return (root, query, cb) -> cb.like(cb.upper(root.get(prop)), SQLUtils.like(term.toUpperCase()));
     }
+
+    /**
+     * Ids já resolvidos pelo índice de busca em memória, nenhum registro quando a coleção está vazia.
+     */
+    public static <T> Specification<T> idIn(final Collection<String> ids) {
+        return (root, query, cb) -> ids.isEmpty() ? cb.disjunction() : root.get("id").in(ids);
+    }
+
+    /**
+     * Busca pelo início do valor em uma coluna já normalizada em minúsculas, atendida pelo índice da coluna.
+     */
+    public static <T> Specification<T> startsWith(final String prop, final String term) {
+        return (root, query, cb) -> cb.like(root.get(prop), SQLUtils.prefix(SQLUtils.lower(term)));
+    }
+
+    /**
+     * Busca dos termos escolhida pelo formato da consulta, sem percorrer a tabela inteira:
+     * palavras com ao menos dois caracteres vão para o índice FULLTEXT (ngram) das colunas, que encontra trechos
+     * no meio das palavras, e termos menores buscam pelo início na coluna normalizada.
+     * Sem FULLTEXT (H2 nos testes) as palavras maiores usam o LIKE nas colunas.
+     */
+    public static <T> Specification<T> search(
+        final String terms,
+        final boolean fullText,
+        final String prefixProp,
+        final String... props
+    ) {
+        final var query = SQLUtils.fullText(terms);
+
+        if (Objects.isNull(query)) {
+            return startsWith(prefixProp, terms);
+        }
+
+        if (fullText) {
+            return (root, criteria, cb) -> cb.greaterThan(matchAgainst(root, cb, query, props), 0.0);
+        }
+
+        return (root, criteria, cb) -> cb.or(Arrays.stream(props)
+                .map(prop -> SpecificationUtils.<T>like(prop, terms).toPredicate(root, criteria, cb))
+                .toArray(Predicate[]::new));
+    }
+
+    /**
+     * Relevância do MATCH ... AGAINST, as colunas devem ser as mesmas de um índice FULLTEXT.
+     */
+    public static Expression<Double> matchAgainst(
+        final Root<?> root,
+        final CriteriaBuilder cb,
+        final String query,
+        final String... props
+    ) {
+        final var arguments = Stream.concat(
+            Arrays.stream(props).map(root::get),
+            Stream.of(cb.literal(query))
+        ).toArray(Expression[]::new);
+
+        return cb.function(MATCH_AGAINST, Double.class, arguments);
+    }
 }
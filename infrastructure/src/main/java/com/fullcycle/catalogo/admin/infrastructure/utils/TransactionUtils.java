@@ -0,0 +1,26 @@
+package com.fullcycle.catalogo.admin.infrastructure.utils;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+public final class TransactionUtils {
+    private TransactionUtils() {}
+
+    /**
+     * Executa a ação só depois da confirmação da transação corrente, e nunca em um rollback.
+     * Fora de uma transação a gravação já foi confirmada, então a ação é executada na hora.
+     */
+    public static void afterCommit(final Runnable anAction) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            anAction.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                anAction.run();
+            }
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package com.fullcycle.catalogo.admin.infrastructure.video;
+
+import com.fullcycle.catalogo.admin.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.admin.domain.video.MediaCleanupGateway;
+import com.fullcycle.catalogo.admin.domain.video.VideoID;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.properties.storage.StorageProperties;
+import com.fullcycle.catalogo.admin.infrastructure.video.persistence.cleanup.MediaCleanupJpaEntity;
+import com.fullcycle.catalogo.admin.infrastructure.video.persistence.cleanup.MediaCleanupRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+public class DefaultMediaCleanupGateway implements MediaCleanupGateway {
+    private final MediaCleanupRepository repository;
+    private final Duration retryDelay;
+    private final Duration retryMaxDelay;
+
+    public DefaultMediaCleanupGateway(final MediaCleanupRepository repository, final StorageProperties props) {
+        this.repository = Objects.requireNonNull(repository);
+        this.retryDelay = Duration.ofMillis(props.getCleanupRetryDelay());
+        this.retryMaxDelay = Duration.ofMillis(props.getCleanupRetryMaxDelay());
+    }
+
+    @Override
+    @Transactional
+    public void schedule(final VideoID anId) {
+        final var aCleanup = repository.findById(anId.getValue())
+                .map(cleanup -> cleanup.lease(InstantUtils.now()))
+                .orElseGet(() -> MediaCleanupJpaEntity.newCleanup(anId));
+
+        repository.save(aCleanup);
+    }
+
+    /**
+     * Reserva as próximas limpezas pendentes. Se a instância cair durante o processamento,
+     * elas voltam para a fila quando a reserva expirar.
+     */
+    @Transactional
+    public Set<VideoID> claim(final int size) {
+        final var now = InstantUtils.now();
+        return repository.findDue(now, PageRequest.of(0, size)).stream()
+                .map(cleanup -> cleanup.lease(now.plus(retryMaxDelay)))
+                .map(MediaCleanupJpaEntity::toVideoId)
+                .collect(Collectors.toSet());
+    }
+
+    @Transactional
+    public void complete(final Set<VideoID> ids) {
+        final var values = ids.stream().map(VideoID::getValue).toList();
+        repository.deleteAll(repository.findAllById(values));
+    }
+
+    @Transactional
+    public void fail(final VideoID anId, final String anError) {
+        repository.findById(anId.getValue())
+                .ifPresent(cleanup -> cleanup.failed(anError, retryAt(cleanup.getAttempts() + 1)));
+    }
+
+    @Transactional(readOnly = true)
+    public long backlog() {
+        return repository.count();
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Instant> oldest() {
+        return repository.findOldestCreatedAt();
+    }
+
+    /**
+     * Backoff exponencial a partir do retry-delay, limitado ao retry-max-delay.
+     */
+    private Instant retryAt(final int attempts) {
+        final var delay = retryDelay.multipliedBy(1L << Math.min(attempts - 1, 30));
+        return InstantUtils.now().plus(delay.compareTo(retryMaxDelay) > 0 ? retryMaxDelay : delay);
+    }
+}
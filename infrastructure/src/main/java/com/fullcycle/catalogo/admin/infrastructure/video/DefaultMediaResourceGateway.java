@@ -1,5 +1,6 @@
 package com.fullcycle.catalogo.admin.infrastructure.video;
 
+import com.fullcycle.catalogo.admin.domain.exceptions.InternalErrorException;
 import com.fullcycle.catalogo.admin.domain.resource.Resource;
 import com.fullcycle.catalogo.admin.domain.video.MediaResourceGateway;
 import com.fullcycle.catalogo.admin.domain.video.VideoID;
@@ -7,53 +8,174 @@ import com.fullcycle.catalogo.admin.domain.video.VideoMediaType;
 import com.fullcycle.catalogo.admin.domain.video.VideoResource;
 import com.fullcycle.catalogo.admin.domain.video.media.AudioVideoMedia;
 import com.fullcycle.catalogo.admin.domain.video.media.ImageMedia;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUpload;
 import com.fullcycle.catalogo.admin.infrastructure.configuration.properties.storage.StorageProperties;
 import com.fullcycle.catalogo.admin.infrastructure.services.StorageService;
+import com.fullcycle.catalogo.admin.infrastructure.video.persistence.blob.MediaBlobJpaEntity;
+import com.fullcycle.catalogo.admin.infrastructure.video.persistence.blob.MediaBlobRegistry;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
 
 @Component
 public class DefaultMediaResourceGateway implements MediaResourceGateway {
+    private static final String BLOBS_FOLDER = "blobs/";
+    private static final String STAGING_FOLDER = BLOBS_FOLDER.concat("staging/");
+
     private final String filenamePattern;
     private final String locationPattern;
+    private final boolean contentAddressed;
     private final StorageService storageService;
+    private final MediaBlobRegistry blobRegistry;
 
-    public DefaultMediaResourceGateway(final StorageProperties props, final StorageService storageService) {
+    public DefaultMediaResourceGateway(
+        final StorageProperties props,
+        final StorageService storageService,
+        final MediaBlobRegistry blobRegistry
+    ) {
         this.filenamePattern = props.getFilenamePattern();
         this.locationPattern = props.getLocationPattern();
+        this.contentAddressed = props.isContentAddressed();
         this.storageService = storageService;
+        this.blobRegistry = blobRegistry;
     }
 
     @Override
     public AudioVideoMedia storeAudioVideo(final VideoID anId, final VideoResource videoResource) {
         final var filepath = filepath(anId, videoResource.type());
         final var aResource = videoResource.resource();
-        store(filepath, aResource);
-        return AudioVideoMedia.with(aResource.checksum(), aResource.name(), filepath);
+        final var stored = store(filepath, aResource);
+        return AudioVideoMedia.with(stored.checksum(), aResource.name(), stored.location());
     }
 
     @Override
     public ImageMedia storeImage(final VideoID anId, final VideoResource videoResource) {
         final var filepath = filepath(anId, videoResource.type());
         final var aResource = videoResource.resource();
-        store(filepath, aResource);
-        return ImageMedia.with(aResource.checksum(), aResource.name(), filepath);
+        final var stored = store(filepath, aResource);
+        return ImageMedia.with(stored.checksum(), aResource.name(), stored.location());
     }
 
     @Override
     public void clearResources(final VideoID anId) {
-        final var ids = storageService.list(folder(anId));
-        storageService.deleteAll(ids);
+        clearAllResources(Set.of(anId));
+    }
+
+    /**
+     * Remove as mídias de vários vídeos com uma única chamada de deleteAll no storage.
+     */
+    @Override
+    public void clearAllResources(final Set<VideoID> ids) {
+        // a barra final restringe a listagem à pasta de cada vídeo
+        final var prefixes = ids.stream()
+                .map(anId -> folder(anId).concat("/"))
+                .toList();
+
+        if (contentAddressed) {
+            prefixes.forEach(blobRegistry::releaseAll);
+        }
+
+        // remove também as mídias gravadas antes do modo endereçado por conteúdo e os chunks de uploads
+        final var names = prefixes.stream()
+                .flatMap(prefix -> storageService.list(prefix).stream())
+                .toList();
+
+        if (!names.isEmpty()) {
+            storageService.deleteAll(names);
+        }
     }
 
     @Override
     public Optional<Resource> getResource(final VideoID anId, final VideoMediaType aType) {
-        return storageService.get(filepath(anId, aType));
+        final var filepath = filepath(anId, aType);
+        if (contentAddressed) {
+            return storageService.get(blobRegistry.locationOf(filepath).orElse(filepath));
+        }
+        return storageService.get(filepath);
+    }
+
+    @Override
+    public long storeChunk(final MediaUpload anUpload, final int aChunk, final Resource aResource) {
+        final var chunkpath = chunkpath(anUpload, aChunk);
+        storageService.store(chunkpath, aResource);
+        return storageService.get(chunkpath)
+                .map(Resource::size)
+                .orElseThrow(() -> InternalErrorException.with("Stored chunk %s was not found".formatted(chunkpath), null));
+    }
+
+    @Override
+    public Resource composeChunks(final MediaUpload anUpload) {
+        final var composedpath = uploadFolder(anUpload).concat("composed");
+        final var chunks = anUpload.getChunks().stream()
+                .map(chunk -> chunkpath(anUpload, chunk.number()))
+                .toList();
+
+        storageService.compose(composedpath, chunks, anUpload.getContentType());
+        return storageService.get(composedpath)
+                .map(aResource -> aResource.withName(anUpload.getName()))
+                .orElseThrow(() -> InternalErrorException.with("Composed resource %s was not found".formatted(composedpath), null));
+    }
+
+    @Override
+    public void clearChunks(final MediaUpload anUpload) {
+        storageService.deleteAll(storageService.list(uploadFolder(anUpload)));
+    }
+
+    private StoredMedia store(final String filepath, final Resource aResource) {
+        if (!contentAddressed) {
+            return new StoredMedia(storageService.store(filepath, aResource), filepath);
+        }
+
+        if (aResource.hasChecksum() && aResource.size() != Resource.UNKNOWN_SIZE) {
+            return storeBlob(filepath, aResource, aResource.checksum(), aResource.size());
+        }
+
+        // sem checksum prévio o conteúdo é gravado uma única vez em staging para calcular o checksum
+        final var stagingpath = STAGING_FOLDER.concat(UUID.randomUUID().toString());
+        try {
+            final var checksum = storageService.store(stagingpath, aResource);
+            final var staged = storageService.get(stagingpath)
+                    .orElseThrow(() -> InternalErrorException.with("Staged resource %s was not found".formatted(stagingpath), null));
+            return storeBlob(filepath, staged, checksum, staged.size());
+        } finally {
+            storageService.deleteAll(List.of(stagingpath));
+        }
     }
 
-    private void store(final String filepath, final Resource aResource) {
-        storageService.store(filepath, aResource);
+    /**
+     * Quando já existe um blob com o mesmo checksum e tamanho somente a referência é gravada, sem transferir os bytes.
+     * Cada gravação de um blob usa um local próprio: a remoção de um blob liberado acontece depois da confirmação
+     * e não pode apagar o conteúdo gravado novamente por outro upload no mesmo instante.
+     */
+    private StoredMedia storeBlob(final String filepath, final Resource aResource, final String checksum, final long size) {
+        final var blobId = "%s-%d".formatted(checksum, size);
+        final var attached = blobRegistry.attach(filepath, blobId);
+        if (attached.isPresent()) {
+            return new StoredMedia(checksum, attached.get());
+        }
+
+        final var blobpath = BLOBS_FOLDER.concat(blobId).concat("/").concat(UUID.randomUUID().toString());
+        storageService.store(blobpath, aResource);
+
+        final var location = register(filepath, MediaBlobJpaEntity.with(blobId, checksum, size, blobpath, aResource.contentType()));
+        if (!location.equals(blobpath)) {
+            // outro upload registrou o mesmo conteúdo ao mesmo tempo
+            storageService.deleteAll(List.of(blobpath));
+        }
+        return new StoredMedia(checksum, location);
+    }
+
+    private String register(final String filepath, final MediaBlobJpaEntity aBlob) {
+        try {
+            return blobRegistry.register(filepath, aBlob);
+        } catch (final DataIntegrityViolationException e) {
+            return blobRegistry.attach(filepath, aBlob.getId())
+                    .orElseThrow(() -> InternalErrorException.with("Blob %s was not found".formatted(aBlob.getId()), e));
+        }
     }
 
     private String filename(final VideoMediaType aType) {
@@ -67,4 +189,14 @@ public class DefaultMediaResourceGateway implements MediaResourceGateway {
     private String filepath(final VideoID anId, final VideoMediaType aType) {
         return folder(anId).concat("/").concat(filename(aType));
     }
+
+    private String uploadFolder(final MediaUpload anUpload) {
+        return folder(anUpload.getVideoId()).concat("/uploads/").concat(anUpload.getId().getValue()).concat("/");
+    }
+
+    private String chunkpath(final MediaUpload anUpload, final int aChunk) {
+        return uploadFolder(anUpload).concat(String.valueOf(aChunk));
+    }
+
+    private record StoredMedia(String checksum, String location) {}
 }
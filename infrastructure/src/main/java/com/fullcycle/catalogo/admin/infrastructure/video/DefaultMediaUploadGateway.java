@@ -0,0 +1,61 @@
+package com.fullcycle.catalogo.admin.infrastructure.video;
+
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUpload;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUploadGateway;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUploadID;
+import com.fullcycle.catalogo.admin.infrastructure.video.persistence.upload.MediaUploadJpaEntity;
+import com.fullcycle.catalogo.admin.infrastructure.video.persistence.upload.MediaUploadRepository;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+
+@Component
+public class DefaultMediaUploadGateway implements MediaUploadGateway {
+    private final MediaUploadRepository repository;
+
+    public DefaultMediaUploadGateway(final MediaUploadRepository repository) {
+        this.repository = Objects.requireNonNull(repository);
+    }
+
+    @Override
+    @Transactional
+    public MediaUpload create(final MediaUpload anUpload) {
+        return save(anUpload);
+    }
+
+    @Override
+    public void deleteById(final MediaUploadID anId) {
+        final var anUploadId = anId.getValue();
+        if (repository.existsById(anUploadId)) {
+            repository.deleteById(anUploadId);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<MediaUpload> findById(final MediaUploadID anId) {
+        return repository.findById(anId.getValue()).map(MediaUploadJpaEntity::toAggregate);
+    }
+
+    @Override
+    @Transactional
+    public MediaUpload update(final MediaUpload anUpload) {
+        return save(anUpload);
+    }
+
+    @Override
+    @Transactional
+    public Optional<MediaUpload> update(final MediaUploadID anId, final UnaryOperator<MediaUpload> aChange) {
+        return repository.findByIdForUpdate(anId.getValue())
+                .map(MediaUploadJpaEntity::toAggregate)
+                .map(aChange)
+                .map(this::save);
+    }
+
+    private MediaUpload save(final MediaUpload anUpload) {
+        return repository.save(MediaUploadJpaEntity.from(anUpload)).toAggregate();
+    }
+}
@@ -2,41 +2,93 @@ package com.fullcycle.catalogo.admin.infrastructure.video;
 
 import com.fullcycle.catalogo.admin.domain.castmember.CastMemberID;
 import com.fullcycle.catalogo.admin.domain.category.CategoryID;
+import com.fullcycle.catalogo.admin.domain.exceptions.DomainException;
 import com.fullcycle.catalogo.admin.domain.genre.GenreID;
 import com.fullcycle.catalogo.admin.domain.pagination.Pagination;
+import com.fullcycle.catalogo.admin.domain.pagination.SearchQuery;
+import com.fullcycle.catalogo.admin.domain.validation.Error;
+import com.fullcycle.catalogo.admin.domain.video.MediaCleanupGateway;
 import com.fullcycle.catalogo.admin.domain.video.Video;
 import com.fullcycle.catalogo.admin.domain.video.VideoGateway;
 import com.fullcycle.catalogo.admin.domain.video.VideoID;
 import com.fullcycle.catalogo.admin.domain.video.VideoPreview;
 import com.fullcycle.catalogo.admin.domain.video.query.VideoSearchQuery;
 import com.fullcycle.catalogo.admin.infrastructure.configuration.annontations.VideoCreatedQueue;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.properties.catalog.CatalogExportProperties;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.properties.search.SearchProperties;
+import com.fullcycle.catalogo.admin.infrastructure.search.SearchIndex;
+import com.fullcycle.catalogo.admin.infrastructure.search.SearchIndex.Catalog;
 import com.fullcycle.catalogo.admin.infrastructure.services.EventService;
+import com.fullcycle.catalogo.admin.infrastructure.utils.BatchUtils;
+import com.fullcycle.catalogo.admin.infrastructure.utils.KeysetUtils;
 import com.fullcycle.catalogo.admin.infrastructure.utils.SQLUtils;
+import com.fullcycle.catalogo.admin.infrastructure.utils.SpecificationUtils;
+import com.fullcycle.catalogo.admin.infrastructure.utils.TransactionUtils;
 import com.fullcycle.catalogo.admin.infrastructure.video.persistence.VideoJpaEntity;
+import com.fullcycle.catalogo.admin.infrastructure.video.persistence.VideoRelation;
 import com.fullcycle.catalogo.admin.infrastructure.video.persistence.VideoRepository;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Sort;
-import org.springframework.data.domain.Sort.Direction;
+import com.fullcycle.catalogo.admin.infrastructure.video.persistence.castmember.VideoCastMemberJpaEntity;
+import com.fullcycle.catalogo.admin.infrastructure.video.persistence.category.VideoCategoryJpaEntity;
+import com.fullcycle.catalogo.admin.infrastructure.video.persistence.genre.VideoGenreJpaEntity;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Order;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.StreamSupport;
 
 import static com.fullcycle.catalogo.admin.domain.utils.CollectionUtils.mapTo;
 import static com.fullcycle.catalogo.admin.domain.utils.CollectionUtils.nullIfEmpty;
 
 @Component
 public class DefaultVideoGateway implements VideoGateway {
+    public static final String RELEVANCE = "relevance";
+    private static final String TITLE = "title";
+    private static final String DESCRIPTION = "description";
+
     private final VideoRepository repository;
     private final EventService eventService;
+    private final EntityManager entityManager;
+    private final SearchProperties searchProperties;
+    private final SearchIndex searchIndex;
+    private final CatalogExportProperties exportProperties;
+    private final MediaCleanupGateway cleanupGateway;
+    private final PlatformTransactionManager transactionManager;
 
     public DefaultVideoGateway(
         final VideoRepository repository,
-        @VideoCreatedQueue final EventService eventService
+        @VideoCreatedQueue final EventService eventService,
+        final EntityManager entityManager,
+        final SearchProperties searchProperties,
+        final SearchIndex searchIndex,
+        final CatalogExportProperties exportProperties,
+        final MediaCleanupGateway cleanupGateway,
+        final PlatformTransactionManager transactionManager
     ) {
         this.repository = Objects.requireNonNull(repository);
         this.eventService = Objects.requireNonNull(eventService);
+        this.entityManager = Objects.requireNonNull(entityManager);
+        this.searchProperties = Objects.requireNonNull(searchProperties);
+        this.searchIndex = Objects.requireNonNull(searchIndex);
+        this.exportProperties = Objects.requireNonNull(exportProperties);
+        this.cleanupGateway = Objects.requireNonNull(cleanupGateway);
+        this.transactionManager = Objects.requireNonNull(transactionManager);
     }
 
     @Override
@@ -45,33 +97,121 @@ public class DefaultVideoGateway implements VideoGateway {
         return save(aVideo);
     }
 
+    @Override
+    @Transactional
+    public List<Video> createAll(final List<Video> aVideos) {
+        final var entities = aVideos.stream().map(VideoJpaEntity::from).toList();
+        final var results = BatchUtils.persistAll(entityManager, entities).stream()
+            .map(VideoJpaEntity::toAggregate)
+            .toList();
+
+        TransactionUtils.afterCommit(() -> results.forEach(aVideo ->
+            searchIndex.index(Catalog.VIDEOS, aVideo.getId().getValue(), aVideo.getTitle(), aVideo.getDescription())));
+        aVideos.forEach(aVideo -> aVideo.publishDomainEvents(eventService::send));
+        return results;
+    }
+
     @Override
     @Transactional
     public Video update(final Video aVideo) {
-        return save(aVideo);
+        final var anEntity = repository.findById(aVideo.getId().getValue())
+            .map(it -> it.update(aVideo))
+            .orElseGet(() -> repository.save(VideoJpaEntity.from(aVideo)));
+        return saved(aVideo, anEntity);
     }
 
+    /**
+     * A limpeza é agendada na mesma transação da remoção, então não existe vídeo removido sem limpeza pendente.
+     */
     @Override
+    @Transactional
     public void deleteById(final VideoID anId) {
         final var aVideoId = anId.getValue();
         if (repository.existsById(aVideoId)) {
             repository.deleteById(aVideoId);
         }
+        cleanupGateway.schedule(anId);
+        TransactionUtils.afterCommit(() -> searchIndex.remove(Catalog.VIDEOS, aVideoId));
     }
 
+    /**
+     * Duas consultas de tamanho fixo: o vídeo com as mídias e os ids de todos os relacionamentos,
+     * em vez de um SELECT por mídia e por coleção ao montar o agregado.
+     */
     @Override
     @Transactional(readOnly = true)
     public Optional<Video> findById(final VideoID anId) {
-        return repository.findById(anId.getValue()).map(VideoJpaEntity::toAggregate);
+        final var aVideoId = anId.getValue();
+        return repository.findWithMediaById(aVideoId).map(aVideo -> {
+            final var relations = repository.findRelationsById(aVideoId);
+            return aVideo.toAggregate(
+                relatedIds(relations, VideoRelation.CATEGORY, CategoryID::from),
+                relatedIds(relations, VideoRelation.GENRE, GenreID::from),
+                relatedIds(relations, VideoRelation.CAST_MEMBER, CastMemberID::from)
+            );
+        });
     }
 
+    /**
+     * Cada lote são duas consultas, como no findById: os vídeos com as mídias e os relacionamentos de todos eles.
+     */
     @Override
-    public Pagination<VideoPreview> findAll(final VideoSearchQuery aQuery) {
-        final var page = PageRequest.of(
-            aQuery.page(),
-            aQuery.perPage(),
-            Sort.by(Direction.fromString(aQuery.direction()), aQuery.sort())
+    public void exportAll(final Consumer<Video> aConsumer) {
+        KeysetUtils.forEachChunk(
+            transactionManager,
+            repository::findByIdGreaterThan,
+            VideoJpaEntity::getId,
+            exportProperties.getChunkSize(),
+            chunk -> {
+                final var relations = repository.findRelationsByIds(chunk.stream().map(VideoJpaEntity::getId).toList())
+                    .stream()
+                    .collect(Collectors.groupingBy(VideoRelation::getVideoId));
+
+                return chunk.stream().map(aVideo -> {
+                    final var videoRelations = relations.getOrDefault(aVideo.getId(), List.of());
+                    return aVideo.toAggregate(
+                        relatedIds(videoRelations, VideoRelation.CATEGORY, CategoryID::from),
+                        relatedIds(videoRelations, VideoRelation.GENRE, GenreID::from),
+                        relatedIds(videoRelations, VideoRelation.CAST_MEMBER, CastMemberID::from)
+                    );
+                }).toList();
+            },
+            aConsumer
         );
+    }
+
+    /**
+     * Com a busca FULLTEXT ativa os termos são buscados no índice de título e descrição e a ordenação "relevance"
+     * traz primeiro os vídeos mais relevantes. Sem ela (H2 nos testes) a busca é o LIKE no título e "relevance" ordena pelo título.
+     * Com o índice em memória ativo os ids são resolvidos nele e não há relevância.
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Pagination<VideoPreview> findAll(final VideoSearchQuery aQuery) {
+        final var matches = searchIndex.find(Catalog.VIDEOS, aQuery.terms()).orElse(null);
+        final var fullText = Objects.isNull(matches) && searchProperties.isFullText()
+            ? SQLUtils.fullText(aQuery.terms())
+            : null;
+        final var whereClause = assembleSpecification(aQuery, fullText, matches);
+
+        if (Objects.nonNull(fullText) && RELEVANCE.equals(aQuery.sort())) {
+            if (KeysetUtils.isCursor(aQuery.after())) {
+                throw DomainException.with(new Error("'after' is not supported when sorting by relevance"));
+            }
+            return findSlice(aQuery, whereClause, null, (root, cb) -> List.of(
+                cb.desc(SpecificationUtils.matchAgainst(root, cb, fullText, TITLE, DESCRIPTION)),
+                cb.asc(root.get("id"))
+            ));
+        }
+
+        final var sortField = RELEVANCE.equals(aQuery.sort()) ? TITLE : aQuery.sort();
+        final var sort = KeysetUtils.sort(sortField, aQuery.direction());
+
+        if (Objects.nonNull(fullText) || Objects.nonNull(matches) || KeysetUtils.isCursor(aQuery.after()) || !aQuery.exactTotal()) {
+            return findSlice(aQuery, whereClause, sortField, (root, cb) -> QueryUtils.toOrders(sort, root, cb));
+        }
+
+        final var page = KeysetUtils.pageRequest(aQuery.page(), aQuery.perPage(), sort);
 
         final var pageResult = repository.findAll(
             SQLUtils.like(SQLUtils.upper(aQuery.terms())),
@@ -84,12 +224,132 @@ public class DefaultVideoGateway implements VideoGateway {
             pageResult.getNumber(),
             pageResult.getSize(),
             pageResult.getTotalElements(),
-            pageResult.toList()
+            pageResult.toList(),
+            KeysetUtils.nextCursor(pageResult.getContent(), pageResult.hasNext(), sortField)
         );
     }
 
+    /**
+     * Lista por cursor, FULLTEXT ou sem o total exato, projetando as colunas da prévia em vez de carregar o vídeo.
+     * Sem um campo de ordenação (relevância) não há cursor para a próxima página.
+     */
+    private Pagination<VideoPreview> findSlice(
+        final VideoSearchQuery aQuery,
+        final Specification<VideoJpaEntity> whereClause,
+        final String sortField,
+        final BiFunction<Root<VideoJpaEntity>, CriteriaBuilder, List<Order>> orders
+    ) {
+        return KeysetUtils.slice(
+            entityManager,
+            VideoJpaEntity.class,
+            VideoPreview.class,
+            (root, cb) -> cb.construct(
+                VideoPreview.class,
+                root.get("id"),
+                root.get("title"),
+                root.get("description"),
+                root.get("createdAt"),
+                root.get("updatedAt")
+            ),
+            new SearchQuery(aQuery.page(), aQuery.perPage(), aQuery.terms(), sortField, aQuery.direction(), aQuery.after(), aQuery.exactTotal()),
+            whereClause,
+            orders,
+            () -> repository.count(whereClause),
+            Function.identity()
+        );
+    }
+
+    /**
+     * Mesmos filtros da consulta de VideoRepository#findAll, com os termos já resolvidos pelo índice em memória
+     * ou buscados no índice FULLTEXT quando informados.
+     * Os filtros por relacionamento são semi-joins (EXISTS) nas tabelas de junção, que não multiplicam as linhas
+     * do vídeo e dispensam o DISTINCT, deixando a ordenação livre para usar os índices de videos.
+     */
+    private Specification<VideoJpaEntity> assembleSpecification(
+        final VideoSearchQuery aQuery,
+        final String fullText,
+        final Set<String> matches
+    ) {
+        final var terms = Optional.ofNullable(aQuery.terms()).filter(str -> !str.isBlank()).orElse(null);
+        final var castMembers = nullIfEmpty(mapTo(aQuery.castMembers(), CastMemberID::getValue));
+        final var categories = nullIfEmpty(mapTo(aQuery.categories(), CategoryID::getValue));
+        final var genres = nullIfEmpty(mapTo(aQuery.genres(), GenreID::getValue));
+
+        return (root, query, cb) -> {
+            final var predicates = new ArrayList<Predicate>();
+            if (Objects.nonNull(matches)) {
+                predicates.add(SpecificationUtils.<VideoJpaEntity>idIn(matches).toPredicate(root, query, cb));
+            } else if (Objects.nonNull(fullText)) {
+                predicates.add(cb.greaterThan(SpecificationUtils.matchAgainst(root, cb, fullText, TITLE, DESCRIPTION), 0.0));
+            } else if (Objects.nonNull(terms)) {
+                predicates.add(cb.like(cb.upper(root.get("title")), SQLUtils.like(SQLUtils.upper(terms))));
+            }
+            if (Objects.nonNull(castMembers)) {
+                predicates.add(exists(root, query, cb, VideoCastMemberJpaEntity.class, "castMemberId", castMembers));
+            }
+            if (Objects.nonNull(categories)) {
+                predicates.add(exists(root, query, cb, VideoCategoryJpaEntity.class, "categoryId", categories));
+            }
+            if (Objects.nonNull(genres)) {
+                predicates.add(exists(root, query, cb, VideoGenreJpaEntity.class, "genreId", genres));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    /**
+     * EXISTS (SELECT 1 FROM tabela_de_juncao r WHERE r.video_id = v.id AND r.relacionado IN (...)),
+     * atendido pelos índices (relacionado, video_id) das tabelas de junção.
+     */
+    private static <T> Predicate exists(
+        final Root<VideoJpaEntity> root,
+        final CriteriaQuery<?> query,
+        final CriteriaBuilder cb,
+        final Class<T> relation,
+        final String relatedProp,
+        final Set<String> relatedIds
+    ) {
+        final var subquery = query.subquery(Integer.class);
+        final var related = subquery.from(relation);
+
+        subquery.select(cb.literal(1)).where(
+            cb.equal(related.get("id").get("videoId"), root.get("id")),
+            related.get("id").get(relatedProp).in(relatedIds)
+        );
+        return cb.exists(subquery);
+    }
+
+    private static <T> Set<T> relatedIds(
+        final List<VideoRelation> relations,
+        final String relation,
+        final Function<String, T> mapper
+    ) {
+        return relations.stream()
+                .filter(aRelation -> relation.equals(aRelation.getRelation()))
+                .map(aRelation -> mapper.apply(aRelation.getRelatedId()))
+                .collect(Collectors.toSet());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<VideoID> existsByIds(final Iterable<VideoID> videoIDs) {
+        final var ids = StreamSupport.stream(videoIDs.spliterator(), false)
+            .map(VideoID::getValue)
+            .toList();
+
+        return repository.existsByIds(ids).stream()
+            .map(VideoID::from)
+            .toList();
+    }
+
     private Video save(final Video aVideo) {
-        final var result = repository.save(VideoJpaEntity.from(aVideo)).toAggregate();
+        return saved(aVideo, repository.save(VideoJpaEntity.from(aVideo)));
+    }
+
+    private Video saved(final Video aVideo, final VideoJpaEntity anEntity) {
+        final var result = anEntity.toAggregate();
+        TransactionUtils.afterCommit(() ->
+            searchIndex.index(Catalog.VIDEOS, result.getId().getValue(), result.getTitle(), result.getDescription()));
         aVideo.publishDomainEvents(eventService::send);
         return result;
     }
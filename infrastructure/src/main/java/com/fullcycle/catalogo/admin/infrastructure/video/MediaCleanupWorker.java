@@ -0,0 +1,87 @@
+package com.fullcycle.catalogo.admin.infrastructure.video;
+
+import com.fullcycle.catalogo.admin.domain.video.MediaResourceGateway;
+import com.fullcycle.catalogo.admin.domain.video.VideoID;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.properties.storage.StorageProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Remove do storage as mídias dos vídeos excluídos ou que falharam na criação, fora da requisição HTTP.
+ */
+@Component
+public class MediaCleanupWorker {
+    private static final Logger LOG = LoggerFactory.getLogger(MediaCleanupWorker.class);
+
+    private final DefaultMediaCleanupGateway cleanupGateway;
+    private final MediaResourceGateway resourceGateway;
+    private final int batchSize;
+
+    public MediaCleanupWorker(
+        final DefaultMediaCleanupGateway cleanupGateway,
+        final MediaResourceGateway resourceGateway,
+        final StorageProperties props
+    ) {
+        this.cleanupGateway = Objects.requireNonNull(cleanupGateway);
+        this.resourceGateway = Objects.requireNonNull(resourceGateway);
+        this.batchSize = Math.max(1, props.getCleanupBatchSize());
+    }
+
+    @Scheduled(
+        initialDelayString = "${storage.catalogo-videos.cleanup-interval}",
+        fixedDelayString = "${storage.catalogo-videos.cleanup-interval}"
+    )
+    public void run() {
+        var processed = 0;
+        int drained;
+        do {
+            drained = drain();
+            processed += drained;
+        } while (drained == batchSize);
+
+        final var backlog = cleanupGateway.backlog();
+        if (processed > 0 || backlog > 0) {
+            LOG.info(
+                "[message:media.cleanup] [processed:{}] [backlog:{}] [oldest:{}]",
+                processed,
+                backlog,
+                cleanupGateway.oldest().map(Object::toString).orElse("")
+            );
+        }
+    }
+
+    /**
+     * Processa um lote de vídeos com um único deleteAll no storage. Se o lote falhar,
+     * cada vídeo é tentado separadamente para que somente os que falharem voltem para a fila.
+     */
+    public int drain() {
+        final var ids = cleanupGateway.claim(batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        try {
+            resourceGateway.clearAllResources(ids);
+            cleanupGateway.complete(ids);
+        } catch (final Throwable t) {
+            LOG.warn("[message:media.cleanup] [status:batch_failed] [size:{}]", ids.size(), t);
+            ids.forEach(this::clear);
+        }
+        return ids.size();
+    }
+
+    private void clear(final VideoID anId) {
+        try {
+            resourceGateway.clearResources(anId);
+            cleanupGateway.complete(Set.of(anId));
+        } catch (final Throwable t) {
+            LOG.error("[message:media.cleanup] [status:failed] [videoId:{}]", anId.getValue(), t);
+            cleanupGateway.fail(anId, t.getMessage());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.fullcycle.catalogo.admin.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+public record CreateMediaUploadRequest(
+    @JsonProperty("name") String name,
+    @JsonProperty("content_type") String contentType
+) {}
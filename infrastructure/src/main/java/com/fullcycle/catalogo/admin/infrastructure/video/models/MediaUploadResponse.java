@@ -0,0 +1,12 @@
+package com.fullcycle.catalogo.admin.infrastructure.video.models;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fullcycle.catalogo.admin.domain.video.VideoMediaType;
+
+public record MediaUploadResponse(
+    @JsonProperty("id") String id,
+    @JsonProperty("video_id") String videoId,
+    @JsonProperty("media_type") VideoMediaType mediaType,
+    @JsonProperty("offset") long offset,
+    @JsonProperty("next_chunk") int nextChunk
+) {}
@@ -7,6 +7,7 @@ import com.fullcycle.catalogo.admin.domain.utils.CollectionUtils;
 import com.fullcycle.catalogo.admin.domain.video.Video;
 import com.fullcycle.catalogo.admin.domain.video.VideoID;
 import com.fullcycle.catalogo.admin.domain.video.rating.Rating;
+import com.fullcycle.catalogo.admin.infrastructure.utils.JoinTableUtils;
 import com.fullcycle.catalogo.admin.infrastructure.video.persistence.castmember.VideoCastMemberJpaEntity;
 import com.fullcycle.catalogo.admin.infrastructure.video.persistence.category.VideoCategoryJpaEntity;
 import com.fullcycle.catalogo.admin.infrastructure.video.persistence.genre.VideoGenreJpaEntity;
@@ -19,7 +20,6 @@ import java.time.Year;
 import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
 
 import static javax.persistence.CascadeType.ALL;
 import static javax.persistence.FetchType.EAGER;
@@ -173,6 +173,47 @@ public class VideoJpaEntity {
         return entity;
     }
 
+    /**
+     * Aplica o agregado nesta entidade já gerenciada. Mídias que continuam as mesmas são atualizadas no lugar
+     * e os relacionamentos recebem só a diferença, então uma alteração só nos campos do vídeo é um único UPDATE.
+     */
+    public VideoJpaEntity update(final Video aVideo) {
+        this.title = aVideo.getTitle();
+        this.description = aVideo.getDescription();
+        this.yearLaunched = aVideo.getLaunchedAt().getValue();
+        this.opened = aVideo.isOpened();
+        this.published = aVideo.isPublished();
+        this.rating = aVideo.getRating();
+        this.duration = aVideo.getDuration();
+        this.updatedAt = aVideo.getUpdatedAt();
+
+        this.video = AudioVideoMediaJpaEntity.merge(this.video, aVideo.getVideo().orElse(null));
+        this.trailer = AudioVideoMediaJpaEntity.merge(this.trailer, aVideo.getTrailer().orElse(null));
+        this.banner = ImageMediaJpaEntity.merge(this.banner, aVideo.getBanner().orElse(null));
+        this.thumbnail = ImageMediaJpaEntity.merge(this.thumbnail, aVideo.getThumbnail().orElse(null));
+        this.thumbnailHalf = ImageMediaJpaEntity.merge(this.thumbnailHalf, aVideo.getThumbnailHalf().orElse(null));
+
+        JoinTableUtils.sync(
+            this.categories,
+            aVideo.getCategories(),
+            it -> CategoryID.from(it.getId().getCategoryId()),
+            it -> VideoCategoryJpaEntity.from(this, it)
+        );
+        JoinTableUtils.sync(
+            this.genres,
+            aVideo.getGenres(),
+            it -> GenreID.from(it.getId().getGenreId()),
+            it -> VideoGenreJpaEntity.from(this, it)
+        );
+        JoinTableUtils.sync(
+            this.castMembers,
+            aVideo.getMembers(),
+            it -> CastMemberID.from(it.getId().getCastMemberId()),
+            it -> VideoCastMemberJpaEntity.from(this, it)
+        );
+        return this;
+    }
+
     public void addCategory(final CategoryID categoryID) {
         this.categories.add(VideoCategoryJpaEntity.from(this, categoryID));
     }
@@ -186,6 +227,17 @@ public class VideoJpaEntity {
     }
 
     public Video toAggregate() {
+        return toAggregate(getCategoriesID(), getGenresID(), getCastMembersID());
+    }
+
+    /**
+     * Monta o agregado com os relacionamentos já lidos das tabelas de junção, sem inicializar as coleções da entidade.
+     */
+    public Video toAggregate(
+        final Set<CategoryID> categories,
+        final Set<GenreID> genres,
+        final Set<CastMemberID> members
+    ) {
         final var video = Optional.ofNullable(getVideo())
                 .map(AudioVideoMediaJpaEntity::toDomain)
                 .orElse(null);
@@ -206,18 +258,6 @@ public class VideoJpaEntity {
                 .map(ImageMediaJpaEntity::toDomain)
                 .orElse(null);
 
-        final var categories = getCategories().stream()
-                .map(category -> CategoryID.from(category.getId().getCategoryId()))
-                .collect(Collectors.toSet());
-
-        final var genres = getGenres().stream()
-                .map(genre -> GenreID.from(genre.getId().getGenreId()))
-                .collect(Collectors.toSet());
-
-        final var members = getCastMembers().stream()
-                .map(member -> CastMemberID.from(member.getId().getCastMemberId()))
-                .collect(Collectors.toSet());
-
         return Video.with(
             VideoID.from(id),
             title,
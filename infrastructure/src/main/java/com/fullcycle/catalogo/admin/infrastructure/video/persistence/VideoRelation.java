@@ -0,0 +1,16 @@
+package com.fullcycle.catalogo.admin.infrastructure.video.persistence;
+
+/**
+ * Relacionamento do vídeo com uma categoria, gênero ou membro do elenco, lido das três tabelas de junção em uma única consulta.
+ */
+public interface VideoRelation {
+    String CATEGORY = "CATEGORY";
+    String GENRE = "GENRE";
+    String CAST_MEMBER = "CAST_MEMBER";
+
+    String getVideoId();
+
+    String getRelation();
+
+    String getRelatedId();
+}
@@ -3,15 +3,24 @@ package com.fullcycle.catalogo.admin.infrastructure.video.persistence;
 import com.fullcycle.catalogo.admin.domain.video.VideoPreview;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import javax.persistence.QueryHint;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 
+import static org.hibernate.annotations.QueryHints.READ_ONLY;
+
 public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
     @Query("""
-            SELECT DISTINCT
+            SELECT
                 new com.fullcycle.catalogo.admin.domain.video.VideoPreview(
                     v.id as id,
                     v.title as title,
@@ -20,14 +29,20 @@ public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
                     v.updatedAt as updatedAt
                 )
             FROM Video v
-                LEFT JOIN v.castMembers members
-                LEFT JOIN v.categories categories
-                LEFT JOIN v.genres genres
             WHERE
                 ( :terms IS NULL OR UPPER(v.title) LIKE :terms ) AND
-                ( :castMembers IS NULL OR members.id.castMemberId IN :castMembers ) AND
-                ( :categories IS NULL OR categories.id.categoryId IN :categories ) AND
-                ( :genres IS NULL OR genres.id.genreId IN :genres )
+                ( :castMembers IS NULL OR EXISTS (
+                    SELECT 1 FROM VideoCastMember members
+                    WHERE members.id.videoId = v.id AND members.id.castMemberId IN :castMembers
+                ) ) AND
+                ( :categories IS NULL OR EXISTS (
+                    SELECT 1 FROM VideoCategory categories
+                    WHERE categories.id.videoId = v.id AND categories.id.categoryId IN :categories
+                ) ) AND
+                ( :genres IS NULL OR EXISTS (
+                    SELECT 1 FROM VideoGenre genres
+                    WHERE genres.id.videoId = v.id AND genres.id.genreId IN :genres
+                ) )
             """)
     Page<VideoPreview> findAll(
         @Param("terms") String terms,
@@ -36,4 +51,44 @@ public interface VideoRepository extends JpaRepository<VideoJpaEntity, String> {
         @Param("genres") Set<String> genres,
         Pageable page
     );
+
+    long count(Specification<VideoJpaEntity> whereClause);
+
+    /**
+     * O vídeo com as mídias em um único SELECT com LEFT JOINs, os relacionamentos são lidos por {@link #findRelationsById}.
+     */
+    @EntityGraph(attributePaths = {"video", "trailer", "banner", "thumbnail", "thumbnailHalf"})
+    @Query("SELECT v FROM Video v WHERE v.id = :id")
+    Optional<VideoJpaEntity> findWithMediaById(@Param("id") String id);
+
+    @Query(nativeQuery = true, value = """
+            SELECT video_id AS videoId, 'CATEGORY' AS relation, category_id AS relatedId FROM videos_categories WHERE video_id = :id
+            UNION ALL
+            SELECT video_id, 'GENRE', genre_id FROM videos_genres WHERE video_id = :id
+            UNION ALL
+            SELECT video_id, 'CAST_MEMBER', cast_member_id FROM videos_cast_members WHERE video_id = :id
+            """)
+    List<VideoRelation> findRelationsById(@Param("id") String id);
+
+    /**
+     * Os vídeos de um lote da exportação com as mídias, como em {@link #findWithMediaById}.
+     */
+    @EntityGraph(attributePaths = {"video", "trailer", "banner", "thumbnail", "thumbnailHalf"})
+    @QueryHints(@QueryHint(name = READ_ONLY, value = "true"))
+    List<VideoJpaEntity> findByIdGreaterThan(String id, Pageable page);
+
+    /**
+     * Relacionamentos de um lote de vídeos, lidos pelos índices (video_id, ...) das tabelas de junção.
+     */
+    @Query(nativeQuery = true, value = """
+            SELECT video_id AS videoId, 'CATEGORY' AS relation, category_id AS relatedId FROM videos_categories WHERE video_id IN :ids
+            UNION ALL
+            SELECT video_id, 'GENRE', genre_id FROM videos_genres WHERE video_id IN :ids
+            UNION ALL
+            SELECT video_id, 'CAST_MEMBER', cast_member_id FROM videos_cast_members WHERE video_id IN :ids
+            """)
+    List<VideoRelation> findRelationsByIds(@Param("ids") Collection<String> ids);
+
+    @Query(value = "SELECT v.id FROM Video v WHERE v.id IN :ids")
+    List<String> existsByIds(@Param("ids") List<String> ids);
 }
@@ -0,0 +1,115 @@
+package com.fullcycle.catalogo.admin.infrastructure.video.persistence.blob;
+
+import com.fullcycle.catalogo.admin.domain.utils.InstantUtils;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+
+@Entity(name = "MediaBlob")
+@Table(name = "videos_media_blobs")
+public class MediaBlobJpaEntity {
+    @Id
+    @Column(name = "id", nullable = false)
+    private String id;
+
+    @Column(name = "checksum", nullable = false)
+    private String checksum;
+
+    @Column(name = "size", nullable = false)
+    private long size;
+
+    @Column(name = "location", nullable = false)
+    private String location;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Deprecated
+    MediaBlobJpaEntity() {}
+
+    private MediaBlobJpaEntity(
+        final String id,
+        final String checksum,
+        final long size,
+        final String location,
+        final String contentType,
+        final Instant createdAt
+    ) {
+        this.id = id;
+        this.checksum = checksum;
+        this.size = size;
+        this.location = location;
+        this.contentType = contentType;
+        this.createdAt = createdAt;
+    }
+
+    public static MediaBlobJpaEntity with(
+        final String id,
+        final String checksum,
+        final long size,
+        final String location,
+        final String contentType
+    ) {
+        return new MediaBlobJpaEntity(id, checksum, size, location, contentType, InstantUtils.now());
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public MediaBlobJpaEntity setId(final String id) {
+        this.id = id;
+        return this;
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    public MediaBlobJpaEntity setChecksum(final String checksum) {
+        this.checksum = checksum;
+        return this;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public MediaBlobJpaEntity setSize(final long size) {
+        this.size = size;
+        return this;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public MediaBlobJpaEntity setLocation(final String location) {
+        this.location = location;
+        return this;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public MediaBlobJpaEntity setContentType(final String contentType) {
+        this.contentType = contentType;
+        return this;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public MediaBlobJpaEntity setCreatedAt(final Instant createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+}
@@ -0,0 +1,47 @@
+package com.fullcycle.catalogo.admin.infrastructure.video.persistence.blob;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+
+@Entity(name = "MediaBlobReference")
+@Table(name = "videos_media_blob_references")
+public class MediaBlobReferenceJpaEntity {
+    @Id
+    @Column(name = "path", nullable = false)
+    private String path;
+
+    @Column(name = "blob_id", nullable = false)
+    private String blobId;
+
+    @Deprecated
+    MediaBlobReferenceJpaEntity() {}
+
+    private MediaBlobReferenceJpaEntity(final String path, final String blobId) {
+        this.path = path;
+        this.blobId = blobId;
+    }
+
+    public static MediaBlobReferenceJpaEntity with(final String path, final String blobId) {
+        return new MediaBlobReferenceJpaEntity(path, blobId);
+    }
+
+    public String getPath() {
+        return path;
+    }
+
+    public MediaBlobReferenceJpaEntity setPath(final String path) {
+        this.path = path;
+        return this;
+    }
+
+    public String getBlobId() {
+        return blobId;
+    }
+
+    public MediaBlobReferenceJpaEntity setBlobId(final String blobId) {
+        this.blobId = blobId;
+        return this;
+    }
+}
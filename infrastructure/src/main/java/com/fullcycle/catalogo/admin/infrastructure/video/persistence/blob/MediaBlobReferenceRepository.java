@@ -0,0 +1,15 @@
+package com.fullcycle.catalogo.admin.infrastructure.video.persistence.blob;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface MediaBlobReferenceRepository extends JpaRepository<MediaBlobReferenceJpaEntity, String> {
+
+    @Query("select r.path from MediaBlobReference r where r.path like concat(:prefix, '%')")
+    List<String> findPathsByPrefix(@Param("prefix") String prefix);
+
+    boolean existsByBlobId(String blobId);
+}
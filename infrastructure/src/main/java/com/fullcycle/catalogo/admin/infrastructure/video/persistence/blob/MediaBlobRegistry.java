@@ -0,0 +1,108 @@
+package com.fullcycle.catalogo.admin.infrastructure.video.persistence.blob;
+
+import com.fullcycle.catalogo.admin.infrastructure.services.StorageService;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Controla as referências dos caminhos de cada vídeo para os blobs endereçados por conteúdo.
+ * Um blob só é removido do storage quando a última referência para ele é liberada.
+ */
+@Component
+public class MediaBlobRegistry {
+    private final MediaBlobRepository blobRepository;
+    private final MediaBlobReferenceRepository referenceRepository;
+    private final StorageService storageService;
+
+    public MediaBlobRegistry(
+        final MediaBlobRepository blobRepository,
+        final MediaBlobReferenceRepository referenceRepository,
+        final StorageService storageService
+    ) {
+        this.blobRepository = Objects.requireNonNull(blobRepository);
+        this.referenceRepository = Objects.requireNonNull(referenceRepository);
+        this.storageService = Objects.requireNonNull(storageService);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<String> locationOf(final String path) {
+        return referenceRepository.findById(path)
+                .flatMap(reference -> blobRepository.findById(reference.getBlobId()))
+                .map(MediaBlobJpaEntity::getLocation);
+    }
+
+    /**
+     * Aponta o caminho para um blob já existente e retorna a sua localização, vazio quando o blob ainda não foi gravado.
+     */
+    @Transactional
+    public Optional<String> attach(final String path, final String blobId) {
+        final var aBlob = blobRepository.findByIdForUpdate(blobId);
+        if (aBlob.isEmpty()) {
+            return Optional.empty();
+        }
+
+        final var previousBlobId = referenceRepository.findById(path)
+                .map(MediaBlobReferenceJpaEntity::getBlobId);
+
+        referenceRepository.save(MediaBlobReferenceJpaEntity.with(path, blobId));
+
+        previousBlobId
+                .filter(previous -> !previous.equals(blobId))
+                .ifPresent(this::releaseIfUnused);
+        return aBlob.map(MediaBlobJpaEntity::getLocation);
+    }
+
+    /**
+     * Registra o blob e aponta o caminho para ele. Se o mesmo conteúdo já foi registrado, retorna a localização existente.
+     */
+    @Transactional
+    public String register(final String path, final MediaBlobJpaEntity aBlob) {
+        if (!blobRepository.existsById(aBlob.getId())) {
+            blobRepository.saveAndFlush(aBlob);
+        }
+        return attach(path, aBlob.getId()).orElseThrow();
+    }
+
+    @Transactional
+    public void releaseAll(final String prefix) {
+        release(referenceRepository.findPathsByPrefix(prefix));
+    }
+
+    private void release(final Collection<String> paths) {
+        final var references = referenceRepository.findAllById(paths);
+        referenceRepository.deleteAll(references);
+
+        references.stream()
+                .map(MediaBlobReferenceJpaEntity::getBlobId)
+                .distinct()
+                .forEach(this::releaseIfUnused);
+    }
+
+    private void releaseIfUnused(final String blobId) {
+        blobRepository.findByIdForUpdate(blobId)
+                .filter(blob -> !referenceRepository.existsByBlobId(blobId))
+                .ifPresent(blob -> {
+                    blobRepository.delete(blob);
+                    deleteAfterCommit(blob.getLocation());
+                });
+    }
+
+    /**
+     * Com rollback o blob continua registrado, então o conteúdo só é removido do storage depois da confirmação.
+     */
+    private void deleteAfterCommit(final String location) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                storageService.deleteAll(List.of(location));
+            }
+        });
+    }
+}
@@ -0,0 +1,16 @@
+package com.fullcycle.catalogo.admin.infrastructure.video.persistence.blob;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+public interface MediaBlobRepository extends JpaRepository<MediaBlobJpaEntity, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select b from MediaBlob b where b.id = :id")
+    Optional<MediaBlobJpaEntity> findByIdForUpdate(@Param("id") String id);
+}
@@ -0,0 +1,120 @@
+package com.fullcycle.catalogo.admin.infrastructure.video.persistence.cleanup;
+
+import com.fullcycle.catalogo.admin.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.admin.domain.video.VideoID;
+
+import javax.persistence.Column;
+import javax.persistence.Entity;
+import javax.persistence.Id;
+import javax.persistence.Table;
+import java.time.Instant;
+
+@Entity(name = "MediaCleanup")
+@Table(name = "videos_media_cleanups")
+public class MediaCleanupJpaEntity {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Id
+    @Column(name = "video_id", nullable = false)
+    private String videoId;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = MAX_ERROR_LENGTH)
+    private String lastError;
+
+    @Column(name = "next_attempt_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Deprecated
+    MediaCleanupJpaEntity() {}
+
+    private MediaCleanupJpaEntity(
+        final String videoId,
+        final int attempts,
+        final String lastError,
+        final Instant nextAttemptAt,
+        final Instant createdAt
+    ) {
+        this.videoId = videoId;
+        this.attempts = attempts;
+        this.lastError = lastError;
+        this.nextAttemptAt = nextAttemptAt;
+        this.createdAt = createdAt;
+    }
+
+    public static MediaCleanupJpaEntity newCleanup(final VideoID anId) {
+        final var now = InstantUtils.now();
+        return new MediaCleanupJpaEntity(anId.getValue(), 0, null, now, now);
+    }
+
+    public VideoID toVideoId() {
+        return VideoID.from(videoId);
+    }
+
+    /**
+     * Reserva a limpeza até o instante informado, evitando que outra instância a processe ao mesmo tempo.
+     */
+    public MediaCleanupJpaEntity lease(final Instant until) {
+        this.nextAttemptAt = until;
+        return this;
+    }
+
+    public MediaCleanupJpaEntity failed(final String anError, final Instant retryAt) {
+        this.attempts++;
+        this.lastError = anError != null && anError.length() > MAX_ERROR_LENGTH
+            ? anError.substring(0, MAX_ERROR_LENGTH)
+            : anError;
+        this.nextAttemptAt = retryAt;
+        return this;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public MediaCleanupJpaEntity setVideoId(final String videoId) {
+        this.videoId = videoId;
+        return this;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public MediaCleanupJpaEntity setAttempts(final int attempts) {
+        this.attempts = attempts;
+        return this;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+
+    public MediaCleanupJpaEntity setLastError(final String lastError) {
+        this.lastError = lastError;
+        return this;
+    }
+
+    public Instant getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public MediaCleanupJpaEntity setNextAttemptAt(final Instant nextAttemptAt) {
+        this.nextAttemptAt = nextAttemptAt;
+        return this;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public MediaCleanupJpaEntity setCreatedAt(final Instant createdAt) {
+        this.createdAt = createdAt;
+        return this;
+    }
+}
@@ -0,0 +1,28 @@
+package com.fullcycle.catalogo.admin.infrastructure.video.persistence.cleanup;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import javax.persistence.QueryHint;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+public interface MediaCleanupRepository extends JpaRepository<MediaCleanupJpaEntity, String> {
+
+    /**
+     * Linhas bloqueadas por outra instância são ignoradas (SKIP LOCKED) em vez de aguardadas.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "javax.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT c FROM MediaCleanup c WHERE c.nextAttemptAt <= :now ORDER BY c.nextAttemptAt")
+    List<MediaCleanupJpaEntity> findDue(@Param("now") Instant now, Pageable page);
+
+    @Query("SELECT MIN(c.createdAt) FROM MediaCleanup c")
+    Optional<Instant> findOldestCreatedAt();
+}
@@ -4,6 +4,7 @@ import com.fullcycle.catalogo.admin.domain.video.media.AudioVideoMedia;
 import com.fullcycle.catalogo.admin.domain.video.media.MediaStatus;
 
 import javax.persistence.*;
+import java.util.Objects;
 
 import static javax.persistence.EnumType.STRING;
 
@@ -59,6 +60,26 @@ public class AudioVideoMediaJpaEntity {
         );
     }
 
+    /**
+     * A mídia atual atualizada no lugar quando continua a mesma (mesmo id), senão a nova mídia ou null.
+     */
+    public static AudioVideoMediaJpaEntity merge(final AudioVideoMediaJpaEntity current, final AudioVideoMedia media) {
+        if (Objects.isNull(media)) {
+            return null;
+        }
+
+        if (Objects.isNull(current) || !current.getId().equals(media.id())) {
+            return from(media);
+        }
+
+        current.setChecksum(media.checksum());
+        current.setName(media.name());
+        current.setFilePath(media.rawLocation());
+        current.setEncodedPath(media.encodedLocation());
+        current.setStatus(media.status());
+        return current;
+    }
+
     public AudioVideoMedia toDomain() {
         return AudioVideoMedia.with(
             id,
@@ -6,6 +6,7 @@ import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
 import javax.persistence.Table;
+import java.util.Objects;
 
 @Entity(name = "ImageMedia")
 @Table(name = "videos_image_media")
@@ -46,6 +47,24 @@ public class ImageMediaJpaEntity {
         );
     }
 
+    /**
+     * A imagem atual atualizada no lugar quando continua a mesma (mesmo id), senão a nova imagem ou null.
+     */
+    public static ImageMediaJpaEntity merge(final ImageMediaJpaEntity current, final ImageMedia media) {
+        if (Objects.isNull(media)) {
+            return null;
+        }
+
+        if (Objects.isNull(current) || !current.getId().equals(media.id())) {
+            return from(media);
+        }
+
+        current.setChecksum(media.checksum());
+        current.setName(media.name());
+        current.setFilePath(media.location());
+        return current;
+    }
+
     public ImageMedia toDomain() {
         return ImageMedia.with(id, checksum, name, filePath);
     }
@@ -0,0 +1,56 @@
+package com.fullcycle.catalogo.admin.infrastructure.video.persistence.upload;
+
+import javax.persistence.Column;
+import javax.persistence.Embeddable;
+import java.io.Serializable;
+import java.util.Objects;
+
+@Embeddable
+public class MediaUploadChunkID implements Serializable {
+    @Column(name = "upload_id", nullable = false)
+    private String uploadId;
+
+    @Column(name = "chunk_number", nullable = false)
+    private int number;
+
+    @Deprecated
+    MediaUploadChunkID() {}
+
+    private MediaUploadChunkID(final String uploadId, final int number) {
+        this.uploadId = uploadId;
+        this.number = number;
+    }
+
+    public static MediaUploadChunkID from(final String uploadId, final int number) {
+        return new MediaUploadChunkID(uploadId, number);
+    }
+
+    public String getUploadId() {
+        return uploadId;
+    }
+
+    public void setUploadId(String uploadId) {
+        this.uploadId = uploadId;
+    }
+
+    public int getNumber() {
+        return number;
+    }
+
+    public void setNumber(int number) {
+        this.number = number;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MediaUploadChunkID that = (MediaUploadChunkID) o;
+        return number == that.number && Objects.equals(uploadId, that.uploadId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(uploadId, number);
+    }
+}
@@ -0,0 +1,81 @@
+package com.fullcycle.catalogo.admin.infrastructure.video.persistence.upload;
+
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUploadChunk;
+
+import javax.persistence.*;
+import java.util.Objects;
+
+import static javax.persistence.FetchType.LAZY;
+
+@Entity(name = "MediaUploadChunk")
+@Table(name = "videos_media_upload_chunks")
+public class MediaUploadChunkJpaEntity {
+
+    @EmbeddedId
+    private MediaUploadChunkID id;
+
+    @MapsId("uploadId")
+    @ManyToOne(fetch = LAZY)
+    private MediaUploadJpaEntity upload;
+
+    @Column(name = "chunk_size", nullable = false)
+    private long size;
+
+    @Deprecated
+    MediaUploadChunkJpaEntity() {}
+
+    private MediaUploadChunkJpaEntity(final MediaUploadChunkID id, final MediaUploadJpaEntity upload, final long size) {
+        this.id = id;
+        this.upload = upload;
+        this.size = size;
+    }
+
+    public static MediaUploadChunkJpaEntity from(final MediaUploadJpaEntity upload, final MediaUploadChunk chunk) {
+        return new MediaUploadChunkJpaEntity(
+            MediaUploadChunkID.from(upload.getId(), chunk.number()),
+            upload,
+            chunk.size()
+        );
+    }
+
+    public MediaUploadChunk toDomain() {
+        return MediaUploadChunk.of(getId().getNumber(), getSize());
+    }
+
+    public MediaUploadChunkID getId() {
+        return id;
+    }
+
+    public void setId(MediaUploadChunkID id) {
+        this.id = id;
+    }
+
+    public MediaUploadJpaEntity getUpload() {
+        return upload;
+    }
+
+    public void setUpload(MediaUploadJpaEntity upload) {
+        this.upload = upload;
+    }
+
+    public long getSize() {
+        return size;
+    }
+
+    public void setSize(long size) {
+        this.size = size;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        MediaUploadChunkJpaEntity that = (MediaUploadChunkJpaEntity) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -0,0 +1,159 @@
+package com.fullcycle.catalogo.admin.infrastructure.video.persistence.upload;
+
+import com.fullcycle.catalogo.admin.domain.video.VideoID;
+import com.fullcycle.catalogo.admin.domain.video.VideoMediaType;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUpload;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUploadID;
+
+import javax.persistence.*;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.Set;
+
+import static javax.persistence.CascadeType.ALL;
+import static javax.persistence.EnumType.STRING;
+import static javax.persistence.FetchType.EAGER;
+
+@Entity(name = "MediaUpload")
+@Table(name = "videos_media_uploads")
+public class MediaUploadJpaEntity {
+    @Id
+    @Column(name = "id", nullable = false)
+    private String id;
+
+    @Column(name = "video_id", nullable = false)
+    private String videoId;
+
+    @Enumerated(STRING)
+    @Column(name = "media_type", nullable = false)
+    private VideoMediaType mediaType;
+
+    @Column(name = "name", nullable = false)
+    private String name;
+
+    @Column(name = "content_type", nullable = false)
+    private String contentType;
+
+    @Column(name = "created_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant createdAt;
+
+    @Column(name = "updated_at", nullable = false, columnDefinition = "DATETIME(6)")
+    private Instant updatedAt;
+
+    @OneToMany(mappedBy = "upload", cascade = ALL, fetch = EAGER, orphanRemoval = true)
+    private Set<MediaUploadChunkJpaEntity> chunks;
+
+    @Deprecated
+    MediaUploadJpaEntity() {}
+
+    private MediaUploadJpaEntity(
+        final String id,
+        final String videoId,
+        final VideoMediaType mediaType,
+        final String name,
+        final String contentType,
+        final Instant createdAt,
+        final Instant updatedAt
+    ) {
+        this.id = id;
+        this.videoId = videoId;
+        this.mediaType = mediaType;
+        this.name = name;
+        this.contentType = contentType;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.chunks = new HashSet<>();
+    }
+
+    public static MediaUploadJpaEntity from(final MediaUpload anUpload) {
+        final var entity = new MediaUploadJpaEntity(
+            anUpload.getId().getValue(),
+            anUpload.getVideoId().getValue(),
+            anUpload.getMediaType(),
+            anUpload.getName(),
+            anUpload.getContentType(),
+            anUpload.getCreatedAt(),
+            anUpload.getUpdatedAt()
+        );
+
+        anUpload.getChunks().forEach(chunk -> entity.chunks.add(MediaUploadChunkJpaEntity.from(entity, chunk)));
+        return entity;
+    }
+
+    public MediaUpload toAggregate() {
+        return MediaUpload.with(
+            MediaUploadID.from(getId()),
+            VideoID.from(getVideoId()),
+            getMediaType(),
+            getName(),
+            getContentType(),
+            getChunks().stream().map(MediaUploadChunkJpaEntity::toDomain).toList(),
+            getCreatedAt(),
+            getUpdatedAt()
+        );
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(final String id) {
+        this.id = id;
+    }
+
+    public String getVideoId() {
+        return videoId;
+    }
+
+    public void setVideoId(final String videoId) {
+        this.videoId = videoId;
+    }
+
+    public VideoMediaType getMediaType() {
+        return mediaType;
+    }
+
+    public void setMediaType(final VideoMediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(final String name) {
+        this.name = name;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(final String contentType) {
+        this.contentType = contentType;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(final Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(final Instant updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Set<MediaUploadChunkJpaEntity> getChunks() {
+        return chunks;
+    }
+
+    public void setChunks(final Set<MediaUploadChunkJpaEntity> chunks) {
+        this.chunks = chunks;
+    }
+}
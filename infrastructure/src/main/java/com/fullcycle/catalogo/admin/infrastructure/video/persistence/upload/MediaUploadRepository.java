@@ -0,0 +1,16 @@
+package com.fullcycle.catalogo.admin.infrastructure.video.persistence.upload;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import javax.persistence.LockModeType;
+import java.util.Optional;
+
+public interface MediaUploadRepository extends JpaRepository<MediaUploadJpaEntity, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select u from MediaUpload u where u.id = :id")
+    Optional<MediaUploadJpaEntity> findByIdForUpdate(@Param("id") String id);
+}
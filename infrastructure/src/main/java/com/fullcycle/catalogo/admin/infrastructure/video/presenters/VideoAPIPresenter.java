@@ -1,5 +1,6 @@
 package com.fullcycle.catalogo.admin.infrastructure.video.presenters;
 
+import com.fullcycle.catalogo.admin.application.video.media.resumable.MediaUploadOutput;
 import com.fullcycle.catalogo.admin.application.video.media.upload.UploadMediaOutput;
 import com.fullcycle.catalogo.admin.application.video.retrieve.get.VideoOutput;
 import com.fullcycle.catalogo.admin.application.video.retrieve.list.VideoListOutput;
@@ -84,4 +85,14 @@ public interface VideoAPIPresenter {
     static UploadMediaResponse present(final UploadMediaOutput output) {
         return new UploadMediaResponse(output.videoId(), output.mediaType());
     }
+
+    static MediaUploadResponse present(final MediaUploadOutput output) {
+        return new MediaUploadResponse(
+            output.id(),
+            output.videoId(),
+            output.mediaType(),
+            output.offset(),
+            output.nextChunk()
+        );
+    }
 }
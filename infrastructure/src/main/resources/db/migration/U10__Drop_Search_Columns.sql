@@ -0,0 +1,6 @@
+DROP INDEX idx_categories_name_search ON categories;
+ALTER TABLE categories DROP COLUMN name_search;
+DROP INDEX idx_genres_name_search ON genres;
+ALTER TABLE genres DROP COLUMN name_search;
+DROP INDEX idx_cast_members_name_search ON cast_members;
+ALTER TABLE cast_members DROP COLUMN name_search;
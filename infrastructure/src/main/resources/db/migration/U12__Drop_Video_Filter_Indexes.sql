@@ -0,0 +1,6 @@
+CREATE INDEX fk_vcs_category_id ON videos_categories (category_id);
+DROP INDEX idx_vcs_category_video ON videos_categories;
+CREATE INDEX fk_vgs_genre_id ON videos_genres (genre_id);
+DROP INDEX idx_vgs_genre_video ON videos_genres;
+CREATE INDEX fk_vcms_cast_member_id ON videos_cast_members (cast_member_id);
+DROP INDEX idx_vcms_cast_member_video ON videos_cast_members;
\ No newline at end of file
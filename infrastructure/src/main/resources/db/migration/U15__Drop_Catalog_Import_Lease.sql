@@ -0,0 +1 @@
+ALTER TABLE catalog_imports DROP COLUMN leased_until;
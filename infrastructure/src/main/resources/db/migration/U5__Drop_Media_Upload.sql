@@ -0,0 +1,2 @@
+DROP TABLE videos_media_upload_chunks;
+DROP TABLE videos_media_uploads;
\ No newline at end of file
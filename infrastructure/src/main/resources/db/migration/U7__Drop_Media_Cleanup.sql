@@ -0,0 +1 @@
+DROP TABLE videos_media_cleanups;
\ No newline at end of file
@@ -0,0 +1,8 @@
+DROP INDEX idx_categories_name_id ON categories;
+DROP INDEX idx_categories_created_at_id ON categories;
+DROP INDEX idx_genres_name_id ON genres;
+DROP INDEX idx_genres_created_at_id ON genres;
+DROP INDEX idx_cast_members_name_id ON cast_members;
+DROP INDEX idx_cast_members_created_at_id ON cast_members;
+DROP INDEX idx_videos_title_id ON videos;
+DROP INDEX idx_videos_created_at_id ON videos;
\ No newline at end of file
@@ -0,0 +1,14 @@
+ALTER TABLE categories ADD COLUMN name_search VARCHAR(255) NULL;
+UPDATE categories SET name_search = LOWER(TRIM(name));
+ALTER TABLE categories MODIFY COLUMN name_search VARCHAR(255) NOT NULL;
+CREATE INDEX idx_categories_name_search ON categories (name_search);
+
+ALTER TABLE genres ADD COLUMN name_search VARCHAR(255) NULL;
+UPDATE genres SET name_search = LOWER(TRIM(name));
+ALTER TABLE genres MODIFY COLUMN name_search VARCHAR(255) NOT NULL;
+CREATE INDEX idx_genres_name_search ON genres (name_search);
+
+ALTER TABLE cast_members ADD COLUMN name_search VARCHAR(255) NULL;
+UPDATE cast_members SET name_search = LOWER(TRIM(name));
+ALTER TABLE cast_members MODIFY COLUMN name_search VARCHAR(255) NOT NULL;
+CREATE INDEX idx_cast_members_name_search ON cast_members (name_search);
@@ -0,0 +1,10 @@
+CREATE TABLE catalog_imports (
+    id                CHAR(32)        NOT NULL PRIMARY KEY,
+    processed_lines   BIGINT          NOT NULL,
+    imported          BIGINT          NOT NULL,
+    skipped           BIGINT          NOT NULL,
+    rejected          BIGINT          NOT NULL,
+    created_at        DATETIME(6)     NOT NULL,
+    updated_at        DATETIME(6)     NOT NULL,
+    completed_at      DATETIME(6)     NULL
+);
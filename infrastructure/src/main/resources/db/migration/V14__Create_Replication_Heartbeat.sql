@@ -0,0 +1,6 @@
+CREATE TABLE replication_heartbeat (
+    id                INT             NOT NULL PRIMARY KEY,
+    beat_at           DATETIME(6)     NOT NULL
+);
+
+INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, CURRENT_TIMESTAMP(6));
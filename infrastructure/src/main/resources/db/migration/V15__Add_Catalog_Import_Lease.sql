@@ -0,0 +1 @@
+ALTER TABLE catalog_imports ADD COLUMN leased_until DATETIME(6) NULL;
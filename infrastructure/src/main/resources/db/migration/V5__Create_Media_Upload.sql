@@ -0,0 +1,18 @@
+CREATE TABLE videos_media_uploads (
+    id              CHAR(32)        NOT NULL PRIMARY KEY,
+    video_id        CHAR(32)        NOT NULL,
+    media_type      VARCHAR(50)     NOT NULL,
+    name            VARCHAR(255)    NOT NULL,
+    content_type    VARCHAR(255)    NOT NULL,
+    created_at      DATETIME(6)     NOT NULL,
+    updated_at      DATETIME(6)     NOT NULL,
+    CONSTRAINT fk_vmu_video_id  FOREIGN KEY (video_id) REFERENCES videos (id) ON DELETE CASCADE
+);
+
+CREATE TABLE videos_media_upload_chunks (
+    upload_id       CHAR(32)        NOT NULL,
+    chunk_number    INT             NOT NULL,
+    chunk_size      BIGINT          NOT NULL,
+    CONSTRAINT pk_vmuc_upload_chunk     PRIMARY KEY (upload_id, chunk_number),
+    CONSTRAINT fk_vmuc_upload_id        FOREIGN KEY (upload_id) REFERENCES videos_media_uploads (id) ON DELETE CASCADE
+);
@@ -0,0 +1,16 @@
+CREATE TABLE videos_media_blobs (
+    id              VARCHAR(100)    NOT NULL PRIMARY KEY,
+    checksum        VARCHAR(100)    NOT NULL,
+    size            BIGINT          NOT NULL,
+    location        VARCHAR(500)    NOT NULL,
+    content_type    VARCHAR(255)    NOT NULL,
+    created_at      DATETIME(6)     NOT NULL
+);
+
+CREATE TABLE videos_media_blob_references (
+    path            VARCHAR(500)    NOT NULL PRIMARY KEY,
+    blob_id         VARCHAR(100)    NOT NULL,
+    CONSTRAINT fk_vmbr_blob_id  FOREIGN KEY (blob_id) REFERENCES videos_media_blobs (id)
+);
+
+CREATE INDEX idx_vmbr_blob_id ON videos_media_blob_references (blob_id);
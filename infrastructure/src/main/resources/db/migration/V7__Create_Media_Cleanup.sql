@@ -0,0 +1,9 @@
+CREATE TABLE videos_media_cleanups (
+    video_id        CHAR(32)        NOT NULL PRIMARY KEY,
+    attempts        INT             NOT NULL,
+    last_error      VARCHAR(1000)   NULL,
+    next_attempt_at DATETIME(6)     NOT NULL,
+    created_at      DATETIME(6)     NOT NULL
+);
+
+CREATE INDEX idx_vmc_next_attempt_at ON videos_media_cleanups (next_attempt_at);
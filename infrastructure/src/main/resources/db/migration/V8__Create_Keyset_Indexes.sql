@@ -0,0 +1,11 @@
+CREATE INDEX idx_categories_name_id ON categories (name, id);
+CREATE INDEX idx_categories_created_at_id ON categories (created_at, id);
+
+CREATE INDEX idx_genres_name_id ON genres (name, id);
+CREATE INDEX idx_genres_created_at_id ON genres (created_at, id);
+
+CREATE INDEX idx_cast_members_name_id ON cast_members (name, id);
+CREATE INDEX idx_cast_members_created_at_id ON cast_members (created_at, id);
+
+CREATE INDEX idx_videos_title_id ON videos (title, id);
+CREATE INDEX idx_videos_created_at_id ON videos (created_at, id);
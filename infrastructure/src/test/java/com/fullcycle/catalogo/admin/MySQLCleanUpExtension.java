@@ -1,9 +1,14 @@
 package com.fullcycle.catalogo.admin;
 
 import com.fullcycle.catalogo.admin.infrastructure.castmember.persistence.CastMemberRepository;
+import com.fullcycle.catalogo.admin.infrastructure.catalog.persistence.CatalogImportRepository;
 import com.fullcycle.catalogo.admin.infrastructure.category.persistence.CategoryRepository;
 import com.fullcycle.catalogo.admin.infrastructure.genre.persistence.GenreRepository;
 import com.fullcycle.catalogo.admin.infrastructure.video.persistence.VideoRepository;
+import com.fullcycle.catalogo.admin.infrastructure.video.persistence.blob.MediaBlobReferenceRepository;
+import com.fullcycle.catalogo.admin.infrastructure.video.persistence.blob.MediaBlobRepository;
+import com.fullcycle.catalogo.admin.infrastructure.video.persistence.cleanup.MediaCleanupRepository;
+import com.fullcycle.catalogo.admin.infrastructure.video.persistence.upload.MediaUploadRepository;
 import org.junit.jupiter.api.extension.BeforeEachCallback;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.springframework.data.repository.CrudRepository;
@@ -19,6 +24,11 @@ public class MySQLCleanUpExtension implements BeforeEachCallback {
         final var appContext = SpringExtension.getApplicationContext(context);
 
         cleanUp(List.of(
+            appContext.getBean(CatalogImportRepository.class),
+            appContext.getBean(MediaCleanupRepository.class),
+            appContext.getBean(MediaBlobReferenceRepository.class),
+            appContext.getBean(MediaBlobRepository.class),
+            appContext.getBean(MediaUploadRepository.class),
             appContext.getBean(VideoRepository.class),
             appContext.getBean(CastMemberRepository.class),
             appContext.getBean(GenreRepository.class),
@@ -1,5 +1,8 @@
 package com.fullcycle.catalogo.admin;
 
+import com.fullcycle.catalogo.admin.infrastructure.configuration.CatalogExportConfiguration;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.ExistenceCacheConfiguration;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.SearchConfiguration;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
@@ -25,7 +28,12 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
     basePackages = "com.fullcycle.catalogo.admin",
     useDefaultFilters = false,
     includeFilters = {
-        @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway")
+        @ComponentScan.Filter(type = FilterType.REGEX, pattern = ".*MySQLGateway"),
+        @ComponentScan.Filter(type = FilterType.ASSIGNABLE_TYPE, classes = {
+            SearchConfiguration.class,
+            ExistenceCacheConfiguration.class,
+            CatalogExportConfiguration.class
+        })
     }
 )
 public @interface MySQLGatewayTest {
@@ -0,0 +1,140 @@
+package com.fullcycle.catalogo.admin.application.catalog.importer;
+
+import com.fullcycle.catalogo.admin.IntegrationTest;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.CastMemberRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.CategoryRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.GenreRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.VideoRecord;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberType;
+import com.fullcycle.catalogo.admin.domain.genre.GenreID;
+import com.fullcycle.catalogo.admin.domain.video.VideoGateway;
+import com.fullcycle.catalogo.admin.domain.video.VideoID;
+import com.fullcycle.catalogo.admin.domain.catalog.CatalogImport;
+import com.fullcycle.catalogo.admin.domain.catalog.CatalogImportGateway;
+import com.fullcycle.catalogo.admin.domain.catalog.CatalogImportID;
+import com.fullcycle.catalogo.admin.domain.exceptions.DomainException;
+import com.fullcycle.catalogo.admin.domain.utils.InstantUtils;
+import com.fullcycle.catalogo.admin.infrastructure.castmember.persistence.CastMemberRepository;
+import com.fullcycle.catalogo.admin.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.catalogo.admin.infrastructure.genre.persistence.GenreRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+public class ImportCatalogUseCaseIT {
+
+    @Autowired
+    private ImportCatalogUseCase useCase;
+
+    @Autowired
+    private CatalogImportGateway catalogImportGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private GenreRepository genreRepository;
+
+    @Autowired
+    private CastMemberRepository castMemberRepository;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Test
+    public void givenACatalog_whenCallsImportCatalog_thenShouldPersistAllAggregates() {
+        // given
+        final var records = List.<CatalogRecord>of(
+            new CategoryRecord(1, "filmes", "Filmes", null, true),
+            new GenreRecord(2, "acao", "Ação", true, Set.of("filmes")),
+            new CastMemberRecord(3, "wesley", "Wesley", CastMemberType.ACTOR),
+            new VideoRecord(4, "matrix", "Matrix", "Neo", 1999, 136.0, "L", false, false,
+                Set.of("filmes"), Set.of("acao"), Set.of("wesley"))
+        );
+
+        // when
+        final var actualOutput = useCase.execute(ImportCatalogCommand.with(null, records.iterator()));
+
+        // then
+        assertEquals(4, actualOutput.progress().imported());
+        assertTrue(actualOutput.errors().isEmpty());
+
+        assertEquals(1, categoryRepository.count());
+        assertEquals(1, genreRepository.count());
+        assertEquals(1, castMemberRepository.count());
+        assertEquals(Set.of(GenreID.from("acao")), videoGateway.findById(VideoID.from("matrix")).get().getGenres());
+
+        final var actualImport = catalogImportGateway.findById(CatalogImportID.from(actualOutput.progress().id())).get();
+        assertEquals(4, actualImport.getProcessedLines());
+        assertTrue(actualImport.isCompleted());
+        assertNull(actualImport.getLeasedUntil());
+    }
+
+    @Test
+    public void givenAnInterruptedImport_whenResumesIt_thenShouldImportOnlyTheRemainingLines() {
+        // given
+        final var records = IntStream.rangeClosed(1, 1200)
+            .<CatalogRecord>mapToObj(i -> new CategoryRecord(i, "c" + i, "Categoria " + i, null, true))
+            .toList();
+
+        final var firstRun = useCase.execute(ImportCatalogCommand.with(null, records.subList(0, 700).iterator()));
+        final var anImportId = firstRun.progress().id();
+
+        // a primeira execução parou sem concluir, apenas o checkpoint do primeiro lote ficou gravado
+        final var anImport = catalogImportGateway.findById(CatalogImportID.from(anImportId)).get();
+        catalogImportGateway.update(reopen(anImport, 500));
+
+        // when
+        final var actualOutput = useCase.execute(ImportCatalogCommand.with(anImportId, records.iterator()));
+
+        // then
+        assertEquals(1200, actualOutput.progress().processedLines());
+        assertEquals(1200, categoryRepository.count());
+        assertEquals(200, actualOutput.progress().skipped());
+        assertTrue(actualOutput.progress().completed());
+    }
+
+    @Test
+    public void givenAnImportRunningInAnotherExecution_whenResumesIt_thenShouldReceiveErrorAndNotImport() {
+        // given
+        final var records = List.<CatalogRecord>of(new CategoryRecord(1, "filmes", "Filmes", null, true));
+        final var anImport = catalogImportGateway.create(
+            CatalogImport.newImport().claim(InstantUtils.now().plusSeconds(60))
+        );
+        final var expectedErrorMessage = "Catalog import %s is already running".formatted(anImport.getId().getValue());
+
+        // when
+        final var actualException = assertThrows(
+            DomainException.class,
+            () -> useCase.execute(ImportCatalogCommand.with(anImport.getId().getValue(), records.iterator()))
+        );
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getErrors().get(0).message());
+        assertEquals(0, categoryRepository.count());
+        assertEquals(
+            anImport.getLeasedUntil(),
+            catalogImportGateway.findById(anImport.getId()).get().getLeasedUntil()
+        );
+    }
+
+    private static CatalogImport reopen(final CatalogImport anImport, final long aLine) {
+        return CatalogImport.with(
+            anImport.getId(),
+            aLine,
+            aLine,
+            0,
+            0,
+            anImport.getCreatedAt(),
+            anImport.getUpdatedAt(),
+            null,
+            null
+        );
+    }
+}
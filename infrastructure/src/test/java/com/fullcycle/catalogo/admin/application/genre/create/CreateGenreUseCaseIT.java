@@ -6,7 +6,7 @@ import com.fullcycle.catalogo.admin.domain.category.CategoryGateway;
 import com.fullcycle.catalogo.admin.domain.category.CategoryID;
 import com.fullcycle.catalogo.admin.domain.exceptions.NotificationException;
 import com.fullcycle.catalogo.admin.domain.genre.GenreGateway;
-import com.fullcycle.catalogo.admin.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.catalogo.admin.domain.genre.GenreID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
@@ -30,9 +30,6 @@ public class CreateGenreUseCaseIT {
     @SpyBean
     private CategoryGateway categoryGateway;
 
-    @Autowired
-    private GenreRepository genreRepository;
-
     @Test
     public void givenAValidCommand_whenCallsCreateGenre_thenShouldReturnGenreId() {
         final var filmes =
@@ -52,13 +49,13 @@ public class CreateGenreUseCaseIT {
         assertNotNull(actualOutput);
         assertNotNull(actualOutput.id());
 
-        final var actualGenre = genreRepository.findById(actualOutput.id()).get();
+        final var actualGenre = genreGateway.findById(GenreID.from(actualOutput.id())).get();
 
         assertEquals(expectedName, actualGenre.getName());
         assertEquals(expectedIsActive, actualGenre.isActive());
         assertTrue(
             expectedCategories.size() == actualGenre.getCategories().size()
-            && expectedCategories.containsAll(actualGenre.getCategoryIDs())
+            && expectedCategories.containsAll(actualGenre.getCategories())
         );
         assertNotNull(actualGenre.getCreatedAt());
         assertNotNull(actualGenre.getUpdatedAt());
@@ -79,13 +76,13 @@ public class CreateGenreUseCaseIT {
         assertNotNull(actualOutput);
         assertNotNull(actualOutput.id());
 
-        final var actualGenre = genreRepository.findById(actualOutput.id()).get();
+        final var actualGenre = genreGateway.findById(GenreID.from(actualOutput.id())).get();
 
         assertEquals(expectedName, actualGenre.getName());
         assertEquals(expectedIsActive, actualGenre.isActive());
         assertTrue(
         expectedCategories.size() == actualGenre.getCategories().size()
-                && expectedCategories.containsAll(actualGenre.getCategoryIDs())
+                && expectedCategories.containsAll(actualGenre.getCategories())
         );
         assertNotNull(actualGenre.getCreatedAt());
         assertNotNull(actualGenre.getUpdatedAt());
@@ -106,13 +103,13 @@ public class CreateGenreUseCaseIT {
         assertNotNull(actualOutput);
         assertNotNull(actualOutput.id());
 
-        final var actualGenre = genreRepository.findById(actualOutput.id()).get();
+        final var actualGenre = genreGateway.findById(GenreID.from(actualOutput.id())).get();
 
         assertEquals(expectedName, actualGenre.getName());
         assertEquals(expectedIsActive, actualGenre.isActive());
         assertTrue(
         expectedCategories.size() == actualGenre.getCategories().size()
-                && expectedCategories.containsAll(actualGenre.getCategoryIDs())
+                && expectedCategories.containsAll(actualGenre.getCategories())
         );
         assertNotNull(actualGenre.getCreatedAt());
         assertNotNull(actualGenre.getUpdatedAt());
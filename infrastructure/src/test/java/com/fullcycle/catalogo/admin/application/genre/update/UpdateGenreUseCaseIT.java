@@ -7,7 +7,7 @@ import com.fullcycle.catalogo.admin.domain.category.CategoryID;
 import com.fullcycle.catalogo.admin.domain.exceptions.NotificationException;
 import com.fullcycle.catalogo.admin.domain.genre.Genre;
 import com.fullcycle.catalogo.admin.domain.genre.GenreGateway;
-import com.fullcycle.catalogo.admin.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.catalogo.admin.domain.genre.GenreID;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.SpyBean;
@@ -30,9 +30,6 @@ public class UpdateGenreUseCaseIT {
     @SpyBean
     private CategoryGateway categoryGateway;
 
-    @Autowired
-    private GenreRepository genreRepository;
-
     @Test
     public void givenAValidCommand_whenCallsUpdateGenre_thenShouldReturnGenreId() {
         final var aGenre = genreGateway.create(Genre.newGenreWith("acao", true));
@@ -50,13 +47,13 @@ public class UpdateGenreUseCaseIT {
         assertNotNull(actualOutput);
         assertEquals(expectedId.getValue(), actualOutput.id());
 
-        final var actualGenre = genreRepository.findById(actualOutput.id()).get();
+        final var actualGenre = genreGateway.findById(GenreID.from(actualOutput.id())).get();
 
         assertEquals(expectedName, actualGenre.getName());
         assertEquals(expectedIsActive, actualGenre.isActive());
         assertTrue(
             expectedCategories.size() == actualGenre.getCategories().size()
-            && expectedCategories.containsAll(actualGenre.getCategoryIDs())
+            && expectedCategories.containsAll(actualGenre.getCategories())
         );
         assertNotNull(actualGenre.getCreatedAt());
         assertTrue(aGenre.getUpdatedAt().isBefore(actualGenre.getUpdatedAt()));
@@ -83,13 +80,13 @@ public class UpdateGenreUseCaseIT {
         assertNotNull(actualOutput);
         assertEquals(expectedId.getValue(), actualOutput.id());
 
-        final var actualGenre = genreRepository.findById(actualOutput.id()).get();
+        final var actualGenre = genreGateway.findById(GenreID.from(actualOutput.id())).get();
 
         assertEquals(expectedName, actualGenre.getName());
         assertEquals(expectedIsActive, actualGenre.isActive());
         assertTrue(
             expectedCategories.size() == actualGenre.getCategories().size()
-            && expectedCategories.containsAll(actualGenre.getCategoryIDs())
+            && expectedCategories.containsAll(actualGenre.getCategories())
         );
         assertNotNull(actualGenre.getCreatedAt());
         assertTrue(aGenre.getUpdatedAt().isBefore(actualGenre.getUpdatedAt()));
@@ -118,13 +115,13 @@ public class UpdateGenreUseCaseIT {
         assertNotNull(actualOutput);
         assertEquals(expectedId.getValue(), actualOutput.id());
 
-        final var actualGenre = genreRepository.findById(actualOutput.id()).get();
+        final var actualGenre = genreGateway.findById(GenreID.from(actualOutput.id())).get();
 
         assertEquals(expectedName, actualGenre.getName());
         assertEquals(expectedIsActive, actualGenre.isActive());
         assertTrue(
             expectedCategories.size() == actualGenre.getCategories().size()
-            && expectedCategories.containsAll(actualGenre.getCategoryIDs())
+            && expectedCategories.containsAll(actualGenre.getCategories())
         );
         assertNotNull(actualGenre.getCreatedAt());
         assertTrue(aGenre.getUpdatedAt().isBefore(actualGenre.getUpdatedAt()));
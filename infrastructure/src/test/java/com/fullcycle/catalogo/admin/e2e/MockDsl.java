@@ -159,6 +159,16 @@ public interface MockDsl {
         return list("/cast_members", page, perPage, search, sort, direction);
     }
 
+    default ResultActions listVideos(
+            final int page,
+            final int perPage,
+            final String search,
+            final String sort,
+            final String direction
+    ) throws Exception {
+        return list("/videos", page, perPage, search, sort, direction);
+    }
+
     default <T, R> List<T> mapTo(final List<R> src, final Function<R, T> mapper) {
         return src.stream().map(mapper).toList();
     }
@@ -0,0 +1,179 @@
+package com.fullcycle.catalogo.admin.e2e.batch;
+
+import com.fullcycle.catalogo.admin.E2ETest;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMember;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberGateway;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberType;
+import com.fullcycle.catalogo.admin.domain.category.Category;
+import com.fullcycle.catalogo.admin.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.admin.infrastructure.castmember.persistence.CastMemberRepository;
+import com.fullcycle.catalogo.admin.infrastructure.category.persistence.CategoryRepository;
+import org.hibernate.SessionFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Gravações em lote contra as gravações item a item, no MySQL com rewriteBatchedStatements: cada item avulso
+ * é uma transação com SELECT e INSERT, o lote prepara um único INSERT (ou SELECT ... IN e UPDATE na atualização)
+ * a cada hibernate.jdbc.batch_size itens. As asserções contam os comandos preparados pelas estatísticas
+ * do Hibernate, a vazão de cada caminho só é registrada no log por depender da máquina.
+ */
+@E2ETest
+@Testcontainers
+public class BatchInsertBenchmarkE2ETest {
+    private static final Logger LOG = LoggerFactory.getLogger(BatchInsertBenchmarkE2ETest.class);
+
+    private static final int ITEMS = 1000;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private CastMemberGateway castMemberGateway;
+
+    @Autowired
+    private CastMemberRepository castMemberRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER =
+            new MySQLContainer("mysql:latest")
+                    .withPassword("123456")
+                    .withUsername("root")
+                    .withDatabaseName("adm_videos");
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MYSQL_CONTAINER.getMappedPort(3306));
+    }
+
+    @BeforeEach
+    void setUp() {
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        this.statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        this.statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    public void givenThousandCategories_whenCreatesThemInBatch_thenShouldSendThemInJdbcBatches() {
+        final var singles = categories("Avulsa");
+        final var batch = categories("Lote");
+
+        final var single = run(() -> singles.forEach(categoryGateway::create));
+        final var created = run(() -> categoryGateway.createAll(batch));
+
+        batch.forEach(aCategory -> aCategory.update(aCategory.getName() + " atualizada", null, false));
+        final var updated = run(() -> categoryGateway.updateAll(batch));
+
+        report("categories", single, created, updated);
+        assertEquals(2L * ITEMS, categoryRepository.count());
+        assertBatched(single, created, updated);
+    }
+
+    @Test
+    public void givenThousandCastMembers_whenCreatesThemInBatch_thenShouldSendThemInJdbcBatches() {
+        final var singles = castMembers("Avulso");
+        final var batch = castMembers("Lote");
+
+        final var single = run(() -> singles.forEach(castMemberGateway::create));
+        final var created = run(() -> castMemberGateway.createAll(batch));
+
+        batch.forEach(aMember -> aMember.update(aMember.getName() + " Jr.", CastMemberType.DIRECTOR));
+        final var updated = run(() -> castMemberGateway.updateAll(batch));
+
+        report("cast_members", single, created, updated);
+        assertEquals(2L * ITEMS, castMemberRepository.count());
+        assertBatched(single, created, updated);
+    }
+
+    private void assertBatched(final Phase single, final Phase created, final Phase updated) {
+        final var batches = (ITEMS + batchSize() - 1) / batchSize();
+
+        assertEquals(ITEMS, single.inserts());
+        assertTrue(single.statements() >= ITEMS);
+
+        assertEquals(ITEMS, created.inserts());
+        assertEquals(batches, created.statements());
+
+        // o SELECT ... IN de cada lote não acontece quando as entidades já estão no cache de segundo nível
+        assertEquals(ITEMS, updated.updates());
+        assertTrue(updated.statements() >= batches && updated.statements() <= 2L * batches);
+    }
+
+    private int batchSize() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getSessionFactoryOptions()
+                .getJdbcBatchSize();
+    }
+
+    private static List<Category> categories(final String prefix) {
+        return IntStream.range(0, ITEMS)
+                .mapToObj(i -> Category.newCategoryWith("%s %04d".formatted(prefix, i), "Descrição " + i, true))
+                .toList();
+    }
+
+    private static List<CastMember> castMembers(final String prefix) {
+        return IntStream.range(0, ITEMS)
+                .mapToObj(i -> CastMember.newMember("%s %04d".formatted(prefix, i), CastMemberType.ACTOR))
+                .toList();
+    }
+
+    private Phase run(final Runnable aRunnable) {
+        statistics.clear();
+        final var start = System.nanoTime();
+        aRunnable.run();
+        return new Phase(
+            System.nanoTime() - start,
+            statistics.getPrepareStatementCount(),
+            statistics.getEntityInsertCount(),
+            statistics.getEntityUpdateCount()
+        );
+    }
+
+    private static void report(final String aTable, final Phase single, final Phase created, final Phase updated) {
+        LOG.info("{}: {} itens, um a um {} itens/s em {} comandos, em lote {} itens/s em {} comandos, atualização em lote {} itens/s em {} comandos",
+                aTable,
+                ITEMS,
+                single.throughput(),
+                single.statements(),
+                created.throughput(),
+                created.statements(),
+                updated.throughput(),
+                updated.statements());
+    }
+
+    private record Phase(long nanos, long statements, long inserts, long updates) {
+        long throughput() {
+            return Math.round(ITEMS * 1e9 / nanos);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package com.fullcycle.catalogo.admin.e2e.genre;
 
 import com.fullcycle.catalogo.admin.E2ETest;
 import com.fullcycle.catalogo.admin.domain.category.CategoryID;
+import com.fullcycle.catalogo.admin.domain.genre.GenreGateway;
 import com.fullcycle.catalogo.admin.domain.genre.GenreID;
 import com.fullcycle.catalogo.admin.e2e.MockDsl;
 import com.fullcycle.catalogo.admin.infrastructure.genre.models.UpdateGenreRequest;
@@ -36,6 +37,9 @@ public class GenreE2ETest implements MockDsl {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private GenreGateway genreGateway;
+
     @Container
     private static final MySQLContainer MYSQL_CONTAINER =
             new MySQLContainer("mysql:latest")
@@ -64,13 +68,13 @@ public class GenreE2ETest implements MockDsl {
 
         final var actualId = givenAGenre(expectedName, expectedIsActive, expectedCategories);
 
-        final var actualGenre = genreRepository.findById(actualId.getValue()).get();
+        final var actualGenre = genreGateway.findById(actualId).get();
 
         assertEquals(expectedName, actualGenre.getName());
         assertEquals(expectedIsActive, actualGenre.isActive());
         assertTrue(
-            expectedCategories.size() == actualGenre.getCategoryIDs().size()
-            && expectedCategories.containsAll(actualGenre.getCategoryIDs())
+            expectedCategories.size() == actualGenre.getCategories().size()
+            && expectedCategories.containsAll(actualGenre.getCategories())
         );
         assertNotNull(actualGenre.getCreatedAt());
         assertNotNull(actualGenre.getUpdatedAt());
@@ -90,13 +94,13 @@ public class GenreE2ETest implements MockDsl {
 
         final var actualId = givenAGenre(expectedName, expectedIsActive, expectedCategories);
 
-        final var actualGenre = genreRepository.findById(actualId.getValue()).get();
+        final var actualGenre = genreGateway.findById(actualId).get();
 
         assertEquals(expectedName, actualGenre.getName());
         assertEquals(expectedIsActive, actualGenre.isActive());
         assertTrue(
-            expectedCategories.size() == actualGenre.getCategoryIDs().size()
-            && expectedCategories.containsAll(actualGenre.getCategoryIDs())
+            expectedCategories.size() == actualGenre.getCategories().size()
+            && expectedCategories.containsAll(actualGenre.getCategories())
         );
         assertNotNull(actualGenre.getCreatedAt());
         assertNotNull(actualGenre.getUpdatedAt());
@@ -241,12 +245,12 @@ public class GenreE2ETest implements MockDsl {
 
         updateAGenre(actualId, aRequest).andExpect(status().isOk());
 
-        final var actualGenre = genreRepository.findById(actualId.getValue()).get();
+        final var actualGenre = genreGateway.findById(actualId).get();
 
         assertEquals(expectedName, actualGenre.getName());
         assertTrue(
-            expectedCategories.size() == actualGenre.getCategoryIDs().size()
-            && expectedCategories.containsAll(actualGenre.getCategoryIDs())
+            expectedCategories.size() == actualGenre.getCategories().size()
+            && expectedCategories.containsAll(actualGenre.getCategories())
         );
         assertEquals(expectedIsActive, actualGenre.isActive());
         assertNotNull(actualGenre.getCreatedAt());
@@ -272,12 +276,12 @@ public class GenreE2ETest implements MockDsl {
 
         updateAGenre(actualId, aRequest).andExpect(status().isOk());
 
-        final var actualGenre = genreRepository.findById(actualId.getValue()).get();
+        final var actualGenre = genreGateway.findById(actualId).get();
 
         assertEquals(expectedName, actualGenre.getName());
         assertTrue(
-            expectedCategories.size() == actualGenre.getCategoryIDs().size()
-            && expectedCategories.containsAll(actualGenre.getCategoryIDs())
+            expectedCategories.size() == actualGenre.getCategories().size()
+            && expectedCategories.containsAll(actualGenre.getCategories())
         );
         assertEquals(expectedIsActive, actualGenre.isActive());
         assertNotNull(actualGenre.getCreatedAt());
@@ -301,10 +305,10 @@ public class GenreE2ETest implements MockDsl {
 
         updateAGenre(actualId, aRequest).andExpect(status().isOk());
 
-        final var actualGenre = genreRepository.findById(actualId.getValue()).get();
+        final var actualGenre = genreGateway.findById(actualId).get();
 
         assertEquals(expectedName, actualGenre.getName());
-        assertEquals(expectedCategories, actualGenre.getCategoryIDs());
+        assertEquals(expectedCategories, actualGenre.getCategories());
         assertEquals(expectedIsActive, actualGenre.isActive());
         assertNotNull(actualGenre.getCreatedAt());
         assertNotNull(actualGenre.getUpdatedAt());
@@ -0,0 +1,170 @@
+package com.fullcycle.catalogo.admin.e2e.search;
+
+import com.fullcycle.catalogo.admin.E2ETest;
+import com.fullcycle.catalogo.admin.domain.pagination.SearchQuery;
+import com.fullcycle.catalogo.admin.infrastructure.castmember.CastMemberMySQLGateway;
+import com.fullcycle.catalogo.admin.infrastructure.category.CategoryMySQLGateway;
+import com.fullcycle.catalogo.admin.infrastructure.genre.GenreMySQLGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Planos das consultas de busca de categorias, gêneros e membros do elenco com uma massa de dados:
+ * nenhuma delas deve percorrer a tabela inteira (type ALL no EXPLAIN).
+ * O EXPLAIN é feito sobre o SQL que o gateway executou, com os mesmos parâmetros.
+ */
+@E2ETest
+@Testcontainers
+@Import(StatementCapture.class)
+public class SearchPlanE2ETest {
+    private static final int ROWS = 1000;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StatementCapture statementCapture;
+
+    @Autowired
+    private CategoryMySQLGateway categoryGateway;
+
+    @Autowired
+    private GenreMySQLGateway genreGateway;
+
+    @Autowired
+    private CastMemberMySQLGateway castMemberGateway;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER =
+            new MySQLContainer("mysql:latest")
+                    .withPassword("123456")
+                    .withUsername("root")
+                    .withDatabaseName("adm_videos");
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MYSQL_CONTAINER.getMappedPort(3306));
+    }
+
+    @BeforeEach
+    void setup() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            final var now = Timestamp.from(Instant.now());
+            final var categories = new ArrayList<Object[]>();
+            final var genres = new ArrayList<Object[]>();
+            final var members = new ArrayList<Object[]>();
+
+            IntStream.range(0, ROWS).forEach(i -> {
+                final var name = "%s%04d %s".formatted((char) ('a' + i % 26), i, UUID.randomUUID());
+                categories.add(new Object[]{id(), name, name, "Descrição " + name, true, now, now});
+                genres.add(new Object[]{id(), name, name, true, now, now});
+                members.add(new Object[]{id(), name, name, "ACTOR", now, now});
+            });
+
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO categories (id, name, name_search, description, active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                categories
+            );
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO genres (id, name, name_search, active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                genres
+            );
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO cast_members (id, name, name_search, type, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                members
+            );
+        });
+
+        jdbcTemplate.queryForList("ANALYZE TABLE categories, genres, cast_members");
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "categories|idx_categories_name_description",
+        "genres|idx_genres_name",
+        "cast_members|idx_cast_members_name",
+    })
+    public void givenATermWithWords_whenExplainsTheSearch_thenShouldUseTheFullTextIndex(
+        final String table,
+        final String expectedIndex
+    ) {
+        final var aPlan = explainSearch(table, "a0026");
+
+        assertEquals("fulltext", aPlan.type());
+        assertEquals(expectedIndex, aPlan.key());
+    }
+
+    @ParameterizedTest
+    @CsvSource(delimiter = '|', value = {
+        "categories|idx_categories_name_search",
+        "genres|idx_genres_name_search",
+        "cast_members|idx_cast_members_name_search",
+    })
+    public void givenASingleLetterTerm_whenExplainsTheSearch_thenShouldRangeScanTheSearchColumn(
+        final String table,
+        final String expectedIndex
+    ) {
+        final var aPlan = explainSearch(table, "q");
+
+        assertNotEquals("ALL", aPlan.type());
+        assertEquals("range", aPlan.type());
+        assertEquals(expectedIndex, aPlan.key());
+        assertTrue(aPlan.rows() < ROWS);
+    }
+
+    /**
+     * Executa a busca da primeira página pelo gateway da tabela e faz o EXPLAIN da consulta da página,
+     * sem o COUNT e sem a consulta das categorias dos gêneros.
+     */
+    private Plan explainSearch(final String table, final String terms) {
+        final var aQuery = new SearchQuery(0, 25, terms, "name", "asc");
+
+        statementCapture.clear();
+        switch (table) {
+            case "categories" -> categoryGateway.findAll(aQuery);
+            case "genres" -> genreGateway.findAll(aQuery);
+            case "cast_members" -> castMemberGateway.findAll(aQuery);
+            default -> throw new IllegalArgumentException(table);
+        }
+
+        final var aPage = statementCapture.last(sql ->
+            sql.startsWith("select") && sql.contains(" from %s ".formatted(table)) && sql.contains(" limit "));
+
+        final var row = jdbcTemplate.queryForList("EXPLAIN " + aPage.sql(), aPage.parameters().toArray()).get(0);
+        return new Plan(
+            String.valueOf(row.get("type")),
+            String.valueOf(row.get("key")),
+            ((Number) row.get("rows")).longValue()
+        );
+    }
+
+    private static String id() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+
+    private record Plan(String type, String key, long rows) {}
+}
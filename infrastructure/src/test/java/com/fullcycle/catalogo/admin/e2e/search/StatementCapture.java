@@ -0,0 +1,98 @@
+package com.fullcycle.catalogo.admin.e2e.search;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+
+/**
+ * Registra as consultas executadas pelo DataSource da aplicação com os valores dos parâmetros,
+ * para que os testes de plano executem o EXPLAIN do SQL gerado pelo Hibernate e não de uma cópia escrita à mão.
+ * Deve ser registrado com @Import no teste.
+ */
+public class StatementCapture implements BeanPostProcessor {
+    private final List<Query> queries = new CopyOnWriteArrayList<>();
+
+    @Override
+    public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+        if (bean instanceof DataSource aDataSource) {
+            return proxy(DataSource.class, aDataSource, (method, args, result) ->
+                result instanceof Connection aConnection ? connection(aConnection) : result);
+        }
+        return bean;
+    }
+
+    public void clear() {
+        queries.clear();
+    }
+
+    /**
+     * Última consulta executada cujo SQL atende ao filtro.
+     */
+    public Query last(final Predicate<String> sqlFilter) {
+        final var matches = queries.stream().filter(it -> sqlFilter.test(it.sql())).toList();
+        if (matches.isEmpty()) {
+            throw new AssertionError("No query matching the filter was executed, executed: " + queries);
+        }
+        return matches.get(matches.size() - 1);
+    }
+
+    private Connection connection(final Connection aConnection) {
+        return proxy(Connection.class, aConnection, (method, args, result) ->
+            result instanceof PreparedStatement aStatement && method.getName().equals("prepareStatement")
+                ? statement(aStatement, (String) args[0])
+                : result);
+    }
+
+    private PreparedStatement statement(final PreparedStatement aStatement, final String sql) {
+        final var parameters = new TreeMap<Integer, Object>();
+
+        return proxy(PreparedStatement.class, aStatement, (method, args, result) -> {
+            final var name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                parameters.put(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                parameters.clear();
+            } else if (name.equals("executeQuery")) {
+                queries.add(new Query(sql, parameters));
+            }
+            return result;
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T proxy(final Class<T> type, final T target, final AfterCall afterCall) {
+        final InvocationHandler handler = (proxy, method, args) -> {
+            final Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (final InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return afterCall.apply(method, args, result);
+        };
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+    }
+
+    private interface AfterCall {
+        Object apply(Method method, Object[] args, Object result);
+    }
+
+    public record Query(String sql, List<Object> parameters) {
+
+        private Query(final String sql, final Map<Integer, Object> parameters) {
+            this(sql, new ArrayList<>(parameters.values()));
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.fullcycle.catalogo.admin.e2e.search;
+
+import com.fullcycle.catalogo.admin.E2ETest;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberID;
+import com.fullcycle.catalogo.admin.domain.category.CategoryID;
+import com.fullcycle.catalogo.admin.domain.video.query.VideoSearchQuery;
+import com.fullcycle.catalogo.admin.infrastructure.video.DefaultVideoGateway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Planos da listagem de vídeos filtrada por relacionamento com uma massa de dados:
+ * os filtros são semi-joins (EXISTS) que não exigem DISTINCT nem tabela temporária,
+ * e a página ordenada por título é lida pelo índice de videos.
+ * O EXPLAIN é feito sobre o SQL que o gateway executou, com e sem o total exato, que usam consultas diferentes.
+ */
+@E2ETest
+@Testcontainers
+@Import(StatementCapture.class)
+public class VideoFilterPlanE2ETest {
+    private static final int VIDEOS = 1000;
+    private static final int RELATED = 100;
+    private static final int VIDEOS_PER_RELATED = 10;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private StatementCapture statementCapture;
+
+    @Autowired
+    private DefaultVideoGateway videoGateway;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER =
+            new MySQLContainer("mysql:latest")
+                    .withPassword("123456")
+                    .withUsername("root")
+                    .withDatabaseName("adm_videos");
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MYSQL_CONTAINER.getMappedPort(3306));
+    }
+
+    private String commonCategory;
+    private String aCastMember;
+
+    @BeforeEach
+    void setup() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            final var now = Timestamp.from(Instant.now());
+            final var videos = new ArrayList<Object[]>();
+            final var categories = new ArrayList<Object[]>();
+            final var members = new ArrayList<Object[]>();
+            final var videosCategories = new ArrayList<Object[]>();
+            final var videosMembers = new ArrayList<Object[]>();
+
+            this.commonCategory = id();
+            categories.add(new Object[]{commonCategory, "Comum", "comum", null, true, now, now});
+
+            final var related = IntStream.range(0, RELATED).mapToObj(i -> {
+                final var name = "Relacionado %03d".formatted(i);
+                final var aCategory = id();
+                final var aMember = id();
+                categories.add(new Object[]{aCategory, name, name.toLowerCase(), null, true, now, now});
+                members.add(new Object[]{aMember, name, name.toLowerCase(), "ACTOR", now, now});
+                return new String[]{aCategory, aMember};
+            }).toList();
+
+            this.aCastMember = related.get(0)[1];
+
+            IntStream.range(0, VIDEOS).forEach(i -> {
+                final var aVideo = id();
+                final var title = "%s%04d %s".formatted((char) ('a' + i % 26), i, UUID.randomUUID());
+                videos.add(new Object[]{aVideo, title, "Descrição " + title, 2022, false, false, "L", 120.0, now, now});
+
+                final var ids = related.get(i / VIDEOS_PER_RELATED);
+                videosCategories.add(new Object[]{aVideo, commonCategory});
+                videosCategories.add(new Object[]{aVideo, ids[0]});
+                videosMembers.add(new Object[]{aVideo, ids[1]});
+            });
+
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO categories (id, name, name_search, description, active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+                categories
+            );
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO cast_members (id, name, name_search, type, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)",
+                members
+            );
+            jdbcTemplate.batchUpdate(
+                "INSERT INTO videos (id, title, description, year_launched, opened, published, rating, duration, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                videos
+            );
+            jdbcTemplate.batchUpdate("INSERT INTO videos_categories (video_id, category_id) VALUES (?, ?)", videosCategories);
+            jdbcTemplate.batchUpdate("INSERT INTO videos_cast_members (video_id, cast_member_id) VALUES (?, ?)", videosMembers);
+        });
+
+        jdbcTemplate.queryForList("ANALYZE TABLE videos, categories, cast_members, videos_categories, videos_cast_members");
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void givenAFilterMatchingMostVideos_whenExplainsTheListing_thenShouldReadThePageByTheTitleIndex(
+        final boolean exactTotal
+    ) {
+        final var aListing = list(Set.of(), Set.of(CategoryID.from(commonCategory)), exactTotal);
+        final var aPlan = explain(aListing);
+
+        aPlan.forEach(row -> {
+            final var extra = String.valueOf(row.get("Extra"));
+            assertFalse(extra.contains("Using filesort"), extra);
+            assertFalse(extra.contains("Using temporary"), extra);
+        });
+
+        final var videos = rowOf(aPlan, aliasOf(aListing, "videos"));
+        assertEquals("idx_videos_title_id", videos.get("key"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {true, false})
+    public void givenASelectiveFilter_whenExplainsTheListing_thenShouldSeekTheJoinTableByTheRelatedId(
+        final boolean exactTotal
+    ) {
+        final var aListing = list(Set.of(CastMemberID.from(aCastMember)), Set.of(), exactTotal);
+        final var aPlan = explain(aListing);
+
+        final var members = rowOf(aPlan, aliasOf(aListing, "videos_cast_members"));
+        assertEquals("idx_vcms_cast_member_video", members.get("key"));
+        assertTrue(((Number) members.get("rows")).longValue() <= VIDEOS_PER_RELATED);
+    }
+
+    /**
+     * Lista a primeira página pelo gateway e retorna a consulta da página, sem o COUNT.
+     */
+    private StatementCapture.Query list(
+        final Set<CastMemberID> castMembers,
+        final Set<CategoryID> categories,
+        final boolean exactTotal
+    ) {
+        statementCapture.clear();
+        videoGateway.findAll(new VideoSearchQuery(
+            0, 25, "", "title", "asc", castMembers, categories, Set.of(), null, exactTotal
+        ));
+
+        return statementCapture.last(sql ->
+            sql.startsWith("select") && sql.contains(" from videos ") && sql.contains(" limit "));
+    }
+
+    private List<Map<String, Object>> explain(final StatementCapture.Query aQuery) {
+        return jdbcTemplate.queryForList("EXPLAIN " + aQuery.sql(), aQuery.parameters().toArray());
+    }
+
+    /**
+     * Alias gerado pelo Hibernate para a tabela, que é o nome dela no EXPLAIN.
+     */
+    private static String aliasOf(final StatementCapture.Query aQuery, final String table) {
+        final var matcher = Pattern.compile(" from %s (\\w+)".formatted(table)).matcher(aQuery.sql());
+        assertTrue(matcher.find(), aQuery.sql());
+        return matcher.group(1);
+    }
+
+    private static Map<String, Object> rowOf(final List<Map<String, Object>> aPlan, final String alias) {
+        return aPlan.stream().filter(row -> alias.equals(row.get("table"))).findFirst().orElseThrow();
+    }
+
+    private static String id() {
+        return UUID.randomUUID().toString().replace("-", "");
+    }
+}
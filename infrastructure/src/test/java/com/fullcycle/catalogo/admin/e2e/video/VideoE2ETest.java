@@ -0,0 +1,106 @@
+package com.fullcycle.catalogo.admin.e2e.video;
+
+import com.fullcycle.catalogo.admin.E2ETest;
+import com.fullcycle.catalogo.admin.domain.Fixture;
+import com.fullcycle.catalogo.admin.domain.video.Video;
+import com.fullcycle.catalogo.admin.domain.video.VideoGateway;
+import com.fullcycle.catalogo.admin.e2e.MockDsl;
+import com.fullcycle.catalogo.admin.infrastructure.video.persistence.VideoRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Year;
+import java.util.Set;
+
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.nullValue;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@E2ETest
+@Testcontainers
+public class VideoE2ETest implements MockDsl {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private VideoRepository videoRepository;
+
+    @Container
+    private static final MySQLContainer MYSQL_CONTAINER =
+            new MySQLContainer("mysql:latest")
+                    .withPassword("123456")
+                    .withUsername("root")
+                    .withDatabaseName("adm_videos");
+
+    @DynamicPropertySource
+    public static void setDatasourceProperties(final DynamicPropertyRegistry registry) {
+        registry.add("mysql.port", () -> MYSQL_CONTAINER.getMappedPort(3306));
+    }
+
+    @Override
+    public MockMvc mvc() {
+        return mvc;
+    }
+
+    @Test
+    public void asACatalogAdminIShouldBeAbleToSearchVideosSortedByRelevance() throws Exception {
+        assertTrue(MYSQL_CONTAINER.isRunning());
+        assertEquals(0, videoRepository.count());
+
+        givenAVideo("Introdução ao Kubernetes", "Deploy de microsserviços em um cluster");
+        givenAVideo("Microsserviços na prática", "Como quebrar um monolito em microsserviços");
+        givenAVideo("Aula de empreendedorismo", "Planejamento financeiro");
+
+        listVideos(0, 10, "microsserviços", "relevance", "asc")
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", equalTo(2)))
+            .andExpect(jsonPath("$.items", hasSize(2)))
+            .andExpect(jsonPath("$.items[0].title", equalTo("Microsserviços na prática")))
+            .andExpect(jsonPath("$.items[1].title", equalTo("Introdução ao Kubernetes")))
+            .andExpect(jsonPath("$.next_cursor", nullValue()));
+    }
+
+    @Test
+    public void asACatalogAdminIShouldBeAbleToSearchVideosByTheirDescription() throws Exception {
+        assertTrue(MYSQL_CONTAINER.isRunning());
+        assertEquals(0, videoRepository.count());
+
+        givenAVideo("Introdução ao Kubernetes", "Deploy de microsserviços em um cluster");
+        givenAVideo("Microsserviços na prática", "Como quebrar um monolito em microsserviços");
+
+        listVideos(0, 10, "monolito", "title", "asc")
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", equalTo(1)))
+            .andExpect(jsonPath("$.items", hasSize(1)))
+            .andExpect(jsonPath("$.items[0].title", equalTo("Microsserviços na prática")));
+    }
+
+    private void givenAVideo(final String aTitle, final String aDescription) {
+        videoGateway.create(Video.newVideo(
+            aTitle,
+            aDescription,
+            Year.of(Fixture.year()),
+            Fixture.duration(),
+            Fixture.Videos.rating(),
+            Fixture.bool(),
+            Fixture.bool(),
+            Set.of(),
+            Set.of(),
+            Set.of()
+        ));
+    }
+}
@@ -2,15 +2,21 @@ package com.fullcycle.catalogo.admin.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.catalogo.admin.ControllerTest;
+import com.fullcycle.catalogo.admin.application.BatchError;
 import com.fullcycle.catalogo.admin.application.castmember.create.CreateCastMemberOutput;
+import com.fullcycle.catalogo.admin.application.castmember.create.CreateCastMembersInBatchOutput;
 import com.fullcycle.catalogo.admin.application.castmember.create.DefaultCreateCastMemberUseCase;
+import com.fullcycle.catalogo.admin.application.castmember.create.DefaultCreateCastMembersInBatchUseCase;
 import com.fullcycle.catalogo.admin.application.castmember.delete.DefaultDeleteCastMemberUseCase;
+import com.fullcycle.catalogo.admin.application.castmember.retrive.export.DefaultExportCastMembersUseCase;
 import com.fullcycle.catalogo.admin.application.castmember.retrive.get.CastMemberOutput;
 import com.fullcycle.catalogo.admin.application.castmember.retrive.get.DefaultGetCastMemberByIdUseCase;
 import com.fullcycle.catalogo.admin.application.castmember.retrive.list.CastMemberListOutput;
 import com.fullcycle.catalogo.admin.application.castmember.retrive.list.DefaultListCastMembersUseCase;
 import com.fullcycle.catalogo.admin.application.castmember.update.DefaultUpdateCastMemberUseCase;
+import com.fullcycle.catalogo.admin.application.castmember.update.DefaultUpdateCastMembersInBatchUseCase;
 import com.fullcycle.catalogo.admin.application.castmember.update.UpdateCastMemberOutput;
+import com.fullcycle.catalogo.admin.application.castmember.update.UpdateCastMembersInBatchOutput;
 import com.fullcycle.catalogo.admin.domain.Fixture;
 import com.fullcycle.catalogo.admin.domain.castmember.CastMember;
 import com.fullcycle.catalogo.admin.domain.castmember.CastMemberID;
@@ -21,6 +27,7 @@ import com.fullcycle.catalogo.admin.domain.pagination.Pagination;
 import com.fullcycle.catalogo.admin.domain.validation.Error;
 import com.fullcycle.catalogo.admin.domain.validation.handler.Notification;
 import com.fullcycle.catalogo.admin.infrastructure.castmember.models.CreateCastMemberRequest;
+import com.fullcycle.catalogo.admin.infrastructure.castmember.models.UpdateCastMemberItemRequest;
 import com.fullcycle.catalogo.admin.infrastructure.castmember.models.UpdateCastMemberRequest;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -31,6 +38,8 @@ import java.util.List;
 import java.util.Objects;
 
 import static com.fullcycle.catalogo.admin.APITest.CAST_MEMBERS_JWT;
+import static io.vavr.API.Left;
+import static io.vavr.API.Right;
 import static org.hamcrest.Matchers.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.*;
@@ -53,6 +62,9 @@ public class CastMemberAPITest {
     @MockBean
     private DefaultCreateCastMemberUseCase createCastMemberUseCase;
 
+    @MockBean
+    private DefaultCreateCastMembersInBatchUseCase createCastMembersInBatchUseCase;
+
     @MockBean
     private DefaultDeleteCastMemberUseCase deleteCastMemberUseCase;
 
@@ -65,6 +77,12 @@ public class CastMemberAPITest {
     @MockBean
     private DefaultUpdateCastMemberUseCase updateCastMemberUseCase;
 
+    @MockBean
+    private DefaultUpdateCastMembersInBatchUseCase updateCastMembersInBatchUseCase;
+
+    @MockBean
+    private DefaultExportCastMembersUseCase exportCastMembersUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateCastMember_thenShouldReturnItsIdentifier() throws Exception {
         // given
@@ -422,4 +440,112 @@ public class CastMemberAPITest {
                 && Objects.equals(expectedDirection, aQuery.direction())
         ));
     }
+
+    @Test
+    public void givenValidCommands_whenCallsCreateCastMembersInBatch_thenShouldReturnTheIds() throws Exception {
+        final var expectedName = Fixture.name();
+        final var aInput = List.of(
+            new CreateCastMemberRequest(expectedName, CastMemberType.ACTOR),
+            new CreateCastMemberRequest(Fixture.name(), CastMemberType.DIRECTOR)
+        );
+
+        when(createCastMembersInBatchUseCase.execute(any()))
+            .thenReturn(Right(new CreateCastMembersInBatchOutput(List.of(
+                CreateCastMemberOutput.from("123"),
+                CreateCastMemberOutput.from("456")
+            ))));
+
+        final var aRequest = post("/cast_members/batch")
+            .with(CAST_MEMBERS_JWT)
+            .contentType(APPLICATION_JSON)
+            .content(mapper.writeValueAsString(aInput));
+
+        mvc.perform(aRequest)
+            .andDo(print())
+            .andExpect(status().isCreated())
+            .andExpect(jsonPath("$.items", hasSize(2)))
+            .andExpect(jsonPath("$.items[0].id", equalTo("123")))
+            .andExpect(jsonPath("$.items[1].id", equalTo("456")));
+
+        verify(createCastMembersInBatchUseCase).execute(argThat(cmds ->
+            cmds.size() == 2
+            && Objects.equals(expectedName, cmds.get(0).name())
+            && CastMemberType.DIRECTOR == cmds.get(1).type()
+        ));
+    }
+
+    @Test
+    public void givenInvalidItems_whenCallsCreateCastMembersInBatch_thenShouldReturnTheErrorsByIndex() throws Exception {
+        final var expectedErrorMessage = "'type' should not be null";
+        final var aInput = List.of(new CreateCastMemberRequest(Fixture.name(), null));
+
+        when(createCastMembersInBatchUseCase.execute(any()))
+            .thenReturn(Left(List.of(BatchError.item(0, Notification.create(new Error(expectedErrorMessage))))));
+
+        final var aRequest = post("/cast_members/batch")
+            .with(CAST_MEMBERS_JWT)
+            .contentType(APPLICATION_JSON)
+            .content(mapper.writeValueAsString(aInput));
+
+        mvc.perform(aRequest)
+            .andDo(print())
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$[0].index", equalTo(0)))
+            .andExpect(jsonPath("$[0].errors[0].message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    public void givenValidCommands_whenCallsUpdateCastMembersInBatch_thenShouldReturnTheIds() throws Exception {
+        final var expectedName = Fixture.name();
+        final var aInput = List.of(
+            new UpdateCastMemberItemRequest("123", expectedName, CastMemberType.ACTOR),
+            new UpdateCastMemberItemRequest("456", Fixture.name(), CastMemberType.DIRECTOR)
+        );
+
+        when(updateCastMembersInBatchUseCase.execute(any()))
+            .thenReturn(Right(new UpdateCastMembersInBatchOutput(List.of(
+                UpdateCastMemberOutput.from("123"),
+                UpdateCastMemberOutput.from("456")
+            ))));
+
+        final var aRequest = put("/cast_members/batch")
+            .with(CAST_MEMBERS_JWT)
+            .contentType(APPLICATION_JSON)
+            .content(mapper.writeValueAsString(aInput));
+
+        mvc.perform(aRequest)
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.items", hasSize(2)))
+            .andExpect(jsonPath("$.items[0].id", equalTo("123")))
+            .andExpect(jsonPath("$.items[1].id", equalTo("456")));
+
+        verify(updateCastMembersInBatchUseCase).execute(argThat(cmds ->
+            cmds.size() == 2
+            && Objects.equals("123", cmds.get(0).id())
+            && Objects.equals(expectedName, cmds.get(0).name())
+            && CastMemberType.DIRECTOR == cmds.get(1).type()
+        ));
+        verify(updateCastMemberUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAnUnknownItem_whenCallsUpdateCastMembersInBatch_thenShouldReturnTheErrorsByIndex() throws Exception {
+        final var expectedErrorMessage = "CastMember with ID 123 was not found";
+        final var aInput = List.of(new UpdateCastMemberItemRequest("123", Fixture.name(), CastMemberType.ACTOR));
+
+        when(updateCastMembersInBatchUseCase.execute(any()))
+            .thenReturn(Left(List.of(BatchError.item(0, Notification.create(new Error(expectedErrorMessage))))));
+
+        final var aRequest = put("/cast_members/batch")
+            .with(CAST_MEMBERS_JWT)
+            .contentType(APPLICATION_JSON)
+            .content(mapper.writeValueAsString(aInput));
+
+        mvc.perform(aRequest)
+            .andDo(print())
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$[0].index", equalTo(0)))
+            .andExpect(jsonPath("$[0].errors[0].message", equalTo(expectedErrorMessage)));
+    }
 }
@@ -0,0 +1,129 @@
+package com.fullcycle.catalogo.admin.infrastructure.api;
+
+import com.fullcycle.catalogo.admin.ControllerTest;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.ImportCatalogError;
+import com.fullcycle.catalogo.admin.application.catalog.importer.ImportCatalogCommand;
+import com.fullcycle.catalogo.admin.application.catalog.importer.ImportCatalogOutput;
+import com.fullcycle.catalogo.admin.application.catalog.importer.ImportCatalogUseCase;
+import com.fullcycle.catalogo.admin.application.catalog.retrieve.get.CatalogImportOutput;
+import com.fullcycle.catalogo.admin.application.catalog.retrieve.get.GetCatalogImportByIdUseCase;
+import com.fullcycle.catalogo.admin.domain.catalog.CatalogImport;
+import com.fullcycle.catalogo.admin.domain.catalog.CatalogImportID;
+import com.fullcycle.catalogo.admin.domain.exceptions.NotFoundException;
+import com.fullcycle.catalogo.admin.domain.validation.Error;
+import com.fullcycle.catalogo.admin.domain.validation.handler.Notification;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.fullcycle.catalogo.admin.APITest.ADMIN_JWT;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+import static org.springframework.http.MediaType.APPLICATION_JSON;
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@ControllerTest(controllers = CatalogImportAPI.class)
+public class CatalogImportAPITest {
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private ImportCatalogUseCase importCatalogUseCase;
+
+    @MockBean
+    private GetCatalogImportByIdUseCase getCatalogImportByIdUseCase;
+
+    @Test
+    public void givenANdjsonBody_whenCallsImportCatalog_thenShouldReturnTheProgressAndTheRejectedLines() throws Exception {
+        // given
+        final var aBody = """
+                {"kind":"category","id":"filmes","name":"Filmes"}
+                {"kind":"category","id":"series"
+                """;
+        final var anImport = CatalogImport.newImport().checkpoint(2, 1, 0, 1).complete();
+        final var actualRecords = new ArrayList<CatalogRecord>();
+
+        when(importCatalogUseCase.execute(any())).thenAnswer(invocation -> {
+            final ImportCatalogCommand aCommand = invocation.getArgument(0);
+            aCommand.records().forEachRemaining(actualRecords::add);
+            return ImportCatalogOutput.from(
+                anImport,
+                List.of(ImportCatalogError.with(2, Notification.create(new Error("Malformed line"))))
+            );
+        });
+
+        // when
+        final var request = post("/catalog/imports")
+            .with(ADMIN_JWT)
+            .contentType(APPLICATION_NDJSON)
+            .accept(APPLICATION_JSON)
+            .content(aBody);
+
+        final var response = mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.progress.id", equalTo(anImport.getId().getValue())))
+            .andExpect(jsonPath("$.progress.processed_lines", equalTo(2)))
+            .andExpect(jsonPath("$.progress.completed", equalTo(true)))
+            .andExpect(jsonPath("$.errors[0].line", equalTo(2)));
+
+        assertEquals(2, actualRecords.size());
+        verify(importCatalogUseCase, times(1)).execute(argThat(cmd -> cmd.importId() == null));
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsGetCatalogImport_thenShouldReturnNotFound() throws Exception {
+        // given
+        final var expectedErrorMessage = "CatalogImport with ID 123 was not found";
+
+        when(getCatalogImportByIdUseCase.execute(any()))
+            .thenThrow(NotFoundException.with(CatalogImport.class, CatalogImportID.from("123")));
+
+        // when
+        final var request = get("/catalog/imports/{id}", "123")
+            .with(ADMIN_JWT)
+            .accept(APPLICATION_JSON);
+
+        final var response = mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    public void givenAValidId_whenCallsGetCatalogImport_thenShouldReturnItsProgress() throws Exception {
+        // given
+        final var anImport = CatalogImport.newImport().checkpoint(500, 490, 0, 10);
+
+        when(getCatalogImportByIdUseCase.execute(any())).thenReturn(CatalogImportOutput.from(anImport));
+
+        // when
+        final var request = get("/catalog/imports/{id}", anImport.getId().getValue())
+            .with(ADMIN_JWT)
+            .accept(APPLICATION_JSON);
+
+        final var response = mvc.perform(request).andDo(print());
+
+        // then
+        response.andExpect(status().isOk())
+            .andExpect(jsonPath("$.processed_lines", equalTo(500)))
+            .andExpect(jsonPath("$.rejected", equalTo(10)))
+            .andExpect(jsonPath("$.completed", equalTo(false)));
+    }
+}
@@ -2,13 +2,19 @@ package com.fullcycle.catalogo.admin.infrastructure.api;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fullcycle.catalogo.admin.ControllerTest;
+import com.fullcycle.catalogo.admin.application.BatchError;
+import com.fullcycle.catalogo.admin.application.category.create.CreateCategoriesInBatchOutput;
+import com.fullcycle.catalogo.admin.application.category.create.CreateCategoriesInBatchUseCase;
 import com.fullcycle.catalogo.admin.application.category.create.CreateCategoryOutput;
 import com.fullcycle.catalogo.admin.application.category.create.CreateCategoryUseCase;
 import com.fullcycle.catalogo.admin.application.category.delete.DeleteCategoryUseCase;
+import com.fullcycle.catalogo.admin.application.category.retrieve.export.ExportCategoriesUseCase;
 import com.fullcycle.catalogo.admin.application.category.retrieve.get.CategoryOutput;
 import com.fullcycle.catalogo.admin.application.category.retrieve.get.GetCategoryByIdUseCase;
 import com.fullcycle.catalogo.admin.application.category.retrieve.list.CategoryListOutput;
 import com.fullcycle.catalogo.admin.application.category.retrieve.list.ListCategoriesUseCase;
+import com.fullcycle.catalogo.admin.application.category.update.UpdateCategoriesInBatchOutput;
+import com.fullcycle.catalogo.admin.application.category.update.UpdateCategoriesInBatchUseCase;
 import com.fullcycle.catalogo.admin.application.category.update.UpdateCategoryOutput;
 import com.fullcycle.catalogo.admin.application.category.update.UpdateCategoryUseCase;
 import com.fullcycle.catalogo.admin.domain.category.Category;
@@ -19,24 +25,31 @@ import com.fullcycle.catalogo.admin.domain.pagination.Pagination;
 import com.fullcycle.catalogo.admin.domain.validation.Error;
 import com.fullcycle.catalogo.admin.domain.validation.handler.Notification;
 import com.fullcycle.catalogo.admin.infrastructure.category.models.CreateCategoryRequest;
+import com.fullcycle.catalogo.admin.infrastructure.category.models.UpdateCategoryItemRequest;
 import com.fullcycle.catalogo.admin.infrastructure.category.models.UpdateCategoryRequest;
+import com.fullcycle.catalogo.admin.infrastructure.utils.HttpCacheUtils;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 import java.util.Objects;
+import java.util.function.Consumer;
 
 import static com.fullcycle.catalogo.admin.APITest.CATEGORIES_JWT;
 import static io.vavr.API.Left;
 import static io.vavr.API.Right;
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.http.MediaType.APPLICATION_JSON;
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+import static org.springframework.http.MediaType.APPLICATION_NDJSON_VALUE;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -50,18 +63,27 @@ public class CategoryAPITest {
     @MockBean
     private CreateCategoryUseCase createCategoryUseCase;
 
+    @MockBean
+    private CreateCategoriesInBatchUseCase createCategoriesInBatchUseCase;
+
     @MockBean
     private GetCategoryByIdUseCase getCategoryByIdUseCase;
 
     @MockBean
     private UpdateCategoryUseCase updateCategoryUseCase;
 
+    @MockBean
+    private UpdateCategoriesInBatchUseCase updateCategoriesInBatchUseCase;
+
     @MockBean
     private DeleteCategoryUseCase deleteCategoryUseCase;
 
     @MockBean
     private ListCategoriesUseCase listCategoriesUseCase;
 
+    @MockBean
+    private ExportCategoriesUseCase exportCategoriesUseCase;
+
     @Autowired
     private ObjectMapper mapper;
 
@@ -200,6 +222,64 @@ public class CategoryAPITest {
         verify(getCategoryByIdUseCase, times(1)).execute(eq(expectedId));
     }
 
+    @Test
+    public void givenAMatchingETag_whenCallsGetCategory_thenShouldReturnNotModified() throws Exception {
+        final var aCategory = Category.newCategoryWith("Filmes", "A categoria mais assistida", true);
+        final var expectedId = aCategory.getId().getValue();
+        final var expectedETag = HttpCacheUtils.eTag(aCategory.getUpdatedAt());
+
+        when(getCategoryByIdUseCase.execute(any())).thenReturn(CategoryOutput.from(aCategory));
+
+        final var request =
+                get("/categories/{id}", expectedId)
+                    .with(CATEGORIES_JWT)
+                    .header(HttpHeaders.IF_NONE_MATCH, expectedETag)
+                    .accept(APPLICATION_JSON);
+
+        mvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, expectedETag))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    public void givenCategories_whenCallsExportCategories_thenShouldStreamOneCategoryPerLine() throws Exception {
+        // given
+        final var filmes = Category.newCategoryWith("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategoryWith("Séries", null, false);
+
+        doAnswer(invocation -> {
+            final Consumer<CategoryOutput> aConsumer = invocation.getArgument(0);
+            aConsumer.accept(CategoryOutput.from(filmes));
+            aConsumer.accept(CategoryOutput.from(series));
+            return null;
+        }).when(exportCategoriesUseCase).execute(any());
+
+        final var request = get("/categories/export").with(CATEGORIES_JWT);
+
+        // when
+        final var aResult = mvc.perform(request)
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+        final var response = mvc.perform(asyncDispatch(aResult))
+            .andDo(print())
+            .andReturn()
+            .getResponse();
+
+        // then
+        final var lines = response.getContentAsString().split("\n");
+
+        assertEquals(200, response.getStatus());
+        assertEquals(APPLICATION_NDJSON_VALUE, response.getContentType());
+        assertEquals(2, lines.length);
+        assertEquals(filmes.getId().getValue(), mapper.readTree(lines[0]).get("id").asText());
+        assertEquals(series.getId().getValue(), mapper.readTree(lines[1]).get("id").asText());
+        assertFalse(mapper.readTree(lines[1]).get("is_active").asBoolean());
+    }
+
     @Test
     public void givenAInvalidId_whenCallsGetCategory_thenShouldReturnNotFound() throws Exception {
         final var expectedErrorMessage = "Category with ID 123 was not found";
@@ -395,4 +475,156 @@ public class CategoryAPITest {
                 && Objects.equals(expectedTerms, query.terms())
         ));
     }
+
+    @Test
+    public void givenACursorWithoutExactTotal_whenCallsListCategories_thenShouldForwardThemAndReturnNextCursor() throws Exception {
+        final var aCategory = Category.newCategoryWith("Movies", null, true);
+
+        final var expectedAfter = "bmFtZQphYmMKTW92aWVz";
+        final var expectedNextCursor = "bmFtZQpkZWYKU2VyaWVz";
+        final var expectedTotal = 2;
+
+        when(listCategoriesUseCase.execute(any()))
+            .thenReturn(new Pagination<>(0, 1, expectedTotal, List.of(CategoryListOutput.from(aCategory)), expectedNextCursor));
+
+        final var request = get("/categories")
+                .with(CATEGORIES_JWT)
+                .accept(APPLICATION_JSON)
+                .queryParam("perPage", "1")
+                .queryParam("after", expectedAfter)
+                .queryParam("exactTotal", "false");
+
+        mvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.total", equalTo(expectedTotal)))
+            .andExpect(jsonPath("$.next_cursor", equalTo(expectedNextCursor)))
+            .andExpect(jsonPath("$.items", hasSize(1)));
+
+        verify(listCategoriesUseCase, times(1))
+            .execute(argThat(query ->
+                Objects.equals(expectedAfter, query.after())
+                && !query.exactTotal()
+        ));
+    }
+
+    @Test
+    public void givenValidCommands_whenCallsCreateCategoriesInBatch_thenShouldReturnTheIds() throws Exception {
+        final var aInput = List.of(
+                new CreateCategoryRequest("Filmes", "A categoria mais assistida", true),
+                new CreateCategoryRequest("Séries", null, null)
+        );
+
+        when(createCategoriesInBatchUseCase.execute(any()))
+            .thenReturn(Right(new CreateCategoriesInBatchOutput(List.of(
+                CreateCategoryOutput.from("123"),
+                CreateCategoryOutput.from("456")
+            ))));
+
+        final var request = post("/categories/batch")
+                .with(CATEGORIES_JWT)
+                .contentType(APPLICATION_JSON)
+                .content(mapper.writeValueAsString(aInput));
+
+        mvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isCreated())
+            .andExpect(header().string("Content-Type", APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.items", hasSize(2)))
+            .andExpect(jsonPath("$.items[0].id", equalTo("123")))
+            .andExpect(jsonPath("$.items[1].id", equalTo("456")));
+
+        verify(createCategoriesInBatchUseCase, times(1))
+            .execute(argThat(cmds ->
+                    cmds.size() == 2
+                    && Objects.equals("Filmes", cmds.get(0).name())
+                    && Objects.equals("Séries", cmds.get(1).name())
+                    && cmds.get(1).isActive()
+        ));
+    }
+
+    @Test
+    public void givenInvalidItems_whenCallsCreateCategoriesInBatch_thenShouldReturnTheErrorsByIndex() throws Exception {
+        final var expectedErrorMessage = "'name' should not be null";
+        final var aInput = List.of(
+                new CreateCategoryRequest("Filmes", null, true),
+                new CreateCategoryRequest(null, null, true)
+        );
+
+        when(createCategoriesInBatchUseCase.execute(any()))
+            .thenReturn(Left(List.of(BatchError.item(1, Notification.create(new Error(expectedErrorMessage))))));
+
+        final var request = post("/categories/batch")
+                .with(CATEGORIES_JWT)
+                .contentType(APPLICATION_JSON)
+                .content(mapper.writeValueAsString(aInput));
+
+        mvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].index", equalTo(1)))
+            .andExpect(jsonPath("$[0].errors[0].message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    public void givenValidCommands_whenCallsUpdateCategoriesInBatch_thenShouldReturnTheIds() throws Exception {
+        final var aInput = List.of(
+                new UpdateCategoryItemRequest("123", "Filmes", "A categoria mais assistida", true),
+                new UpdateCategoryItemRequest("456", "Séries", null, null)
+        );
+
+        when(updateCategoriesInBatchUseCase.execute(any()))
+            .thenReturn(Right(new UpdateCategoriesInBatchOutput(List.of(
+                UpdateCategoryOutput.from("123"),
+                UpdateCategoryOutput.from("456")
+            ))));
+
+        final var request = put("/categories/batch")
+                .with(CATEGORIES_JWT)
+                .contentType(APPLICATION_JSON)
+                .content(mapper.writeValueAsString(aInput));
+
+        mvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isOk())
+            .andExpect(header().string("Content-Type", APPLICATION_JSON_VALUE))
+            .andExpect(jsonPath("$.items", hasSize(2)))
+            .andExpect(jsonPath("$.items[0].id", equalTo("123")))
+            .andExpect(jsonPath("$.items[1].id", equalTo("456")));
+
+        verify(updateCategoriesInBatchUseCase, times(1))
+            .execute(argThat(cmds ->
+                    cmds.size() == 2
+                    && Objects.equals("123", cmds.get(0).id())
+                    && Objects.equals("Filmes", cmds.get(0).name())
+                    && Objects.equals("456", cmds.get(1).id())
+                    && cmds.get(1).isActive()
+        ));
+        verify(updateCategoryUseCase, never()).execute(any());
+    }
+
+    @Test
+    public void givenAnUnknownItem_whenCallsUpdateCategoriesInBatch_thenShouldReturnTheErrorsByIndex() throws Exception {
+        final var expectedErrorMessage = "Category with ID 456 was not found";
+        final var aInput = List.of(
+                new UpdateCategoryItemRequest("123", "Filmes", null, true),
+                new UpdateCategoryItemRequest("456", "Séries", null, true)
+        );
+
+        when(updateCategoriesInBatchUseCase.execute(any()))
+            .thenReturn(Left(List.of(BatchError.item(1, Notification.create(new Error(expectedErrorMessage))))));
+
+        final var request = put("/categories/batch")
+                .with(CATEGORIES_JWT)
+                .contentType(APPLICATION_JSON)
+                .content(mapper.writeValueAsString(aInput));
+
+        mvc.perform(request)
+            .andDo(print())
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$", hasSize(1)))
+            .andExpect(jsonPath("$[0].index", equalTo(1)))
+            .andExpect(jsonPath("$[0].errors[0].message", equalTo(expectedErrorMessage)));
+    }
 }
@@ -5,6 +5,7 @@ import com.fullcycle.catalogo.admin.ControllerTest;
 import com.fullcycle.catalogo.admin.application.genre.create.CreateGenreOutput;
 import com.fullcycle.catalogo.admin.application.genre.create.CreateGenreUseCase;
 import com.fullcycle.catalogo.admin.application.genre.delete.DeleteGenreUseCase;
+import com.fullcycle.catalogo.admin.application.genre.retrieve.export.ExportGenresUseCase;
 import com.fullcycle.catalogo.admin.application.genre.retrieve.get.GenreOutput;
 import com.fullcycle.catalogo.admin.application.genre.retrieve.get.GetGenreByIdUseCase;
 import com.fullcycle.catalogo.admin.application.genre.retrieve.list.GenreListOutput;
@@ -61,6 +62,9 @@ public class GenreAPITest {
     @MockBean
     private ListGenreUseCase listGenreUseCase;
 
+    @MockBean
+    private ExportGenresUseCase exportGenresUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateGenre_thenShouldReturnGenreId() throws Exception {
         final var expectedName = "ação";
@@ -9,9 +9,16 @@ import com.fullcycle.catalogo.admin.application.video.delete.DeleteVideoUseCase;
 import com.fullcycle.catalogo.admin.application.video.media.get.GetMediaCommand;
 import com.fullcycle.catalogo.admin.application.video.media.get.GetMediaUseCase;
 import com.fullcycle.catalogo.admin.application.video.media.get.MediaOutput;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.MediaUploadOutput;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.chunk.UploadMediaChunkCommand;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.chunk.UploadMediaChunkUseCase;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.commit.CommitMediaUploadUseCase;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.create.CreateMediaUploadUseCase;
+import com.fullcycle.catalogo.admin.application.video.media.resumable.retrieve.GetMediaUploadUseCase;
 import com.fullcycle.catalogo.admin.application.video.media.upload.UploadMediaCommand;
 import com.fullcycle.catalogo.admin.application.video.media.upload.UploadMediaOutput;
 import com.fullcycle.catalogo.admin.application.video.media.upload.UploadMediaUseCase;
+import com.fullcycle.catalogo.admin.application.video.retrieve.export.ExportVideosUseCase;
 import com.fullcycle.catalogo.admin.application.video.retrieve.get.GetVideoByIdUseCase;
 import com.fullcycle.catalogo.admin.application.video.retrieve.get.VideoOutput;
 import com.fullcycle.catalogo.admin.application.video.retrieve.list.ListVideosUseCase;
@@ -22,17 +29,23 @@ import com.fullcycle.catalogo.admin.application.video.update.UpdateVideoUseCase;
 import com.fullcycle.catalogo.admin.domain.Fixture;
 import com.fullcycle.catalogo.admin.domain.castmember.CastMemberID;
 import com.fullcycle.catalogo.admin.domain.category.CategoryID;
+import com.fullcycle.catalogo.admin.domain.exceptions.DomainException;
 import com.fullcycle.catalogo.admin.domain.exceptions.NotFoundException;
 import com.fullcycle.catalogo.admin.domain.exceptions.NotificationException;
 import com.fullcycle.catalogo.admin.domain.genre.GenreID;
 import com.fullcycle.catalogo.admin.domain.pagination.Pagination;
+import com.fullcycle.catalogo.admin.domain.resource.Resource;
 import com.fullcycle.catalogo.admin.domain.validation.Error;
 import com.fullcycle.catalogo.admin.domain.video.Video;
 import com.fullcycle.catalogo.admin.domain.video.VideoID;
 import com.fullcycle.catalogo.admin.domain.video.VideoMediaType;
 import com.fullcycle.catalogo.admin.domain.video.VideoPreview;
-import com.fullcycle.catalogo.admin.domain.video.query.VideoSearchQuery;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUpload;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUploadID;
+import com.fullcycle.catalogo.admin.infrastructure.video.models.CreateMediaUploadRequest;
 import com.fullcycle.catalogo.admin.infrastructure.video.models.CreateVideoRequest;
+import com.fullcycle.catalogo.admin.infrastructure.utils.HashingUtils;
+import com.fullcycle.catalogo.admin.infrastructure.utils.HttpCacheUtils;
 import com.fullcycle.catalogo.admin.infrastructure.video.models.UpdateVideoRequest;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -41,6 +54,9 @@ import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.time.Instant;
 import java.time.Year;
 import java.util.ArrayList;
 import java.util.List;
@@ -50,6 +66,7 @@ import static com.fullcycle.catalogo.admin.APITest.VIDEOS_JWT;
 import static com.fullcycle.catalogo.admin.domain.utils.CollectionUtils.mapTo;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
@@ -88,6 +105,21 @@ public class VideoAPITest {
     @MockBean
     private UploadMediaUseCase uploadMediaUseCase;
 
+    @MockBean
+    private CreateMediaUploadUseCase createMediaUploadUseCase;
+
+    @MockBean
+    private UploadMediaChunkUseCase uploadMediaChunkUseCase;
+
+    @MockBean
+    private GetMediaUploadUseCase getMediaUploadUseCase;
+
+    @MockBean
+    private CommitMediaUploadUseCase commitMediaUploadUseCase;
+
+    @MockBean
+    private ExportVideosUseCase exportVideosUseCase;
+
     @Test
     public void givenAValidCommand_whenCallsCreateFull_thenShouldReturnAnId() throws Exception {
         // given
@@ -402,7 +434,34 @@ public class VideoAPITest {
             .andExpect(jsonPath("$.thumbnail_half.id", equalTo(expectedThumbHalf.id())))
             .andExpect(jsonPath("$.thumbnail_half.name", equalTo(expectedThumbHalf.name())))
             .andExpect(jsonPath("$.thumbnail_half.location", equalTo(expectedThumbHalf.location())))
-            .andExpect(jsonPath("$.thumbnail_half.checksum", equalTo(expectedThumbHalf.checksum())));
+            .andExpect(jsonPath("$.thumbnail_half.checksum", equalTo(expectedThumbHalf.checksum())))
+            .andExpect(header().string(ETAG, HttpCacheUtils.eTag(aVideo.getUpdatedAt())))
+            .andExpect(header().string(CACHE_CONTROL, "no-cache, private"));
+    }
+
+    @Test
+    public void givenAMatchingETag_whenCallsGetById_thenShouldReturnNotModified() throws Exception {
+        // given
+        final var aVideo = Fixture.video();
+        final var expectedId = aVideo.getId().getValue();
+        final var expectedETag = HttpCacheUtils.eTag(aVideo.getUpdatedAt());
+
+        when(getVideoByIdUseCase.execute(any()))
+            .thenReturn(VideoOutput.from(aVideo));
+
+        // when
+        final var aRequest = get("/videos/{id}",  expectedId)
+                .with(VIDEOS_JWT)
+                .header(IF_NONE_MATCH, expectedETag)
+                .accept(APPLICATION_JSON);
+
+        final var response = mvc.perform(aRequest);
+
+        // then
+        response
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(ETAG, expectedETag))
+            .andExpect(content().string(""));
     }
 
     @Test
@@ -699,8 +758,7 @@ public class VideoAPITest {
         final var expectedId = VideoID.unique();
         final var expectedMediaType = VideoMediaType.VIDEO;
         final var expectedResource = Fixture.Videos.resource(expectedMediaType);
-        final var expectedMedia =
-            new MediaOutput(expectedResource.name(), expectedResource.contentType(), expectedResource.content());
+        final var expectedMedia = MediaOutput.from(expectedResource);
 
         when(getMediaUseCase.execute(any())).thenReturn(expectedMedia);
 
@@ -714,9 +772,12 @@ public class VideoAPITest {
         response
             .andExpect(status().isOk())
             .andExpect(header().string(CONTENT_TYPE, expectedMedia.contentType()))
-            .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedMedia.content().length)))
+            .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedResource.content().length)))
+            .andExpect(header().string(ACCEPT_RANGES, "bytes"))
             .andExpect(header().string(CONTENT_DISPOSITION, "attachment; filename=%s".formatted(expectedMedia.name())))
-            .andExpect(content().bytes(expectedMedia.content()));
+            .andExpect(header().string(ETAG, "\"%s\"".formatted(expectedResource.checksum())))
+            .andExpect(header().string(CACHE_CONTROL, "no-cache, private"))
+            .andExpect(content().bytes(expectedResource.content()));
 
         final var captor = ArgumentCaptor.forClass(GetMediaCommand.class);
         verify(getMediaUseCase).execute(captor.capture());
@@ -726,6 +787,277 @@ public class VideoAPITest {
         assertEquals(expectedMediaType.name(), actualCmd.mediaType());
     }
 
+    @Test
+    public void givenAMatchingETag_whenCallsGetMediaByID_thenShouldReturnNotModifiedWithoutReadingContent() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.BANNER;
+        final var expectedETag = "\"abc\"";
+        final var aResource = Resource.of("abc", () -> {
+            throw new IOException("Should not read the content");
+        }, 10, "image/png", "banner.png");
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.from(aResource));
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType)
+            .header(IF_NONE_MATCH, expectedETag)
+            .with(VIDEOS_JWT);
+
+        final var response = mvc.perform(aRequest);
+
+        // then
+        response
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(ETAG, expectedETag))
+            .andExpect(content().string(""));
+    }
+
+    @Test
+    public void givenAValidRange_whenCallsGetMediaByID_thenShouldReturnPartialContent() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedLastModified = Instant.parse("2022-05-10T10:00:00Z");
+        final var aResource = Resource.of("abc", "0123456789".getBytes(), "video/mp4", "video.mp4")
+            .withLastModified(expectedLastModified);
+        final var expectedContent = "2345".getBytes();
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.from(aResource));
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType)
+            .header(RANGE, "bytes=2-5")
+            .with(VIDEOS_JWT);
+
+        final var response = mvc.perform(aRequest);
+
+        // then
+        response
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(CONTENT_TYPE, aResource.contentType()))
+            .andExpect(header().string(CONTENT_LENGTH, String.valueOf(expectedContent.length)))
+            .andExpect(header().string(CONTENT_RANGE, "bytes 2-5/10"))
+            .andExpect(header().string(ACCEPT_RANGES, "bytes"))
+            .andExpect(header().string(ETAG, "\"abc\""))
+            .andExpect(header().dateValue(LAST_MODIFIED, expectedLastModified.toEpochMilli()))
+            .andExpect(content().bytes(expectedContent));
+    }
+
+    @Test
+    public void givenOverlappingAndAdjacentRanges_whenCallsGetMediaByID_thenShouldCoalesceThem() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var aResource = Resource.of("abc", "0123456789".getBytes(), "video/mp4", "video.mp4");
+        final var expectedContent = "1234567".getBytes();
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.from(aResource));
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType)
+            .header(RANGE, "bytes=5-7,1-3,3-4")
+            .with(VIDEOS_JWT);
+
+        final var response = mvc.perform(aRequest);
+
+        // then
+        response
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(CONTENT_RANGE, "bytes 1-7/10"))
+            .andExpect(content().bytes(expectedContent));
+    }
+
+    @Test
+    public void givenDisjointRanges_whenCallsGetMediaByID_thenShouldReturnTheWholeContent() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var aResource = Resource.of("abc", "0123456789".getBytes(), "video/mp4", "video.mp4");
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.from(aResource));
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType)
+            .header(RANGE, "bytes=0-1,8-9")
+            .with(VIDEOS_JWT);
+
+        final var response = mvc.perform(aRequest);
+
+        // then
+        response
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(CONTENT_RANGE))
+            .andExpect(header().string(CONTENT_LENGTH, "10"))
+            .andExpect(content().bytes(aResource.content()));
+    }
+
+    @Test
+    public void givenAnUnknownSize_whenCallsGetMediaByIDWithRange_thenShouldIgnoreTheRange() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedContent = "0123456789".getBytes();
+        final var aResource = Resource.of(
+            "abc",
+            () -> new ByteArrayInputStream(expectedContent),
+            Resource.UNKNOWN_SIZE,
+            "video/mp4",
+            "video.mp4"
+        );
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.from(aResource));
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType)
+            .header(RANGE, "bytes=2-5")
+            .with(VIDEOS_JWT);
+
+        final var response = mvc.perform(aRequest);
+
+        // then
+        response
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(CONTENT_RANGE))
+            .andExpect(content().bytes(expectedContent));
+    }
+
+    @Test
+    public void givenASuffixRange_whenCallsGetMediaByID_thenShouldReturnTheLastBytes() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var aResource = Resource.of("abc", "0123456789".getBytes(), "video/mp4", "video.mp4");
+        final var expectedContent = "789".getBytes();
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.from(aResource));
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType)
+            .header(RANGE, "bytes=-3")
+            .with(VIDEOS_JWT);
+
+        final var response = mvc.perform(aRequest);
+
+        // then
+        response
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(CONTENT_RANGE, "bytes 7-9/10"))
+            .andExpect(content().bytes(expectedContent));
+    }
+
+    @Test
+    public void givenAnUnsatisfiableRange_whenCallsGetMediaByID_thenShouldReturnRangeNotSatisfiable() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var aResource = Resource.of("abc", "0123456789".getBytes(), "video/mp4", "video.mp4");
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.from(aResource));
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType)
+            .header(RANGE, "bytes=20-30")
+            .with(VIDEOS_JWT);
+
+        final var response = mvc.perform(aRequest);
+
+        // then
+        response
+            .andExpect(status().isRequestedRangeNotSatisfiable())
+            .andExpect(header().string(CONTENT_RANGE, "bytes */10"));
+    }
+
+    @Test
+    public void givenAnInvalidRange_whenCallsGetMediaByID_thenShouldIgnoreTheRange() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var aResource = Resource.of("abc", "0123456789".getBytes(), "video/mp4", "video.mp4");
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.from(aResource));
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType)
+            .header(RANGE, "bytes=abc")
+            .with(VIDEOS_JWT);
+
+        final var response = mvc.perform(aRequest);
+
+        // then
+        response
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(CONTENT_RANGE))
+            .andExpect(content().bytes(aResource.content()));
+    }
+
+    @Test
+    public void givenAnIfRangeMatchingTheETag_whenCallsGetMediaByIDWithRange_thenShouldReturnPartialContent() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var aResource = Resource.of("abc", "0123456789".getBytes(), "video/mp4", "video.mp4");
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.from(aResource));
+
+        // when
+        final var aRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType)
+            .header(RANGE, "bytes=6-")
+            .header(IF_RANGE, "\"abc\"")
+            .with(VIDEOS_JWT);
+
+        final var response = mvc.perform(aRequest);
+
+        // then
+        response
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(CONTENT_RANGE, "bytes 6-9/10"))
+            .andExpect(content().bytes("6789".getBytes()));
+    }
+
+    @Test
+    public void givenAnIfRangeOfAReplacedMedia_whenCallsGetMediaByIDWithRange_thenShouldReturnTheWholeContent() throws Exception {
+        // given
+        final var expectedId = VideoID.unique();
+        final var expectedMediaType = VideoMediaType.VIDEO;
+        final var expectedLastModified = Instant.parse("2022-05-10T10:00:00Z");
+        final var aResource = Resource.of("def", "0123456789".getBytes(), "video/mp4", "video.mp4")
+            .withLastModified(expectedLastModified);
+
+        when(getMediaUseCase.execute(any())).thenReturn(MediaOutput.from(aResource));
+
+        // when
+        final var anETagRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType)
+            .header(RANGE, "bytes=6-")
+            .header(IF_RANGE, "\"abc\"")
+            .with(VIDEOS_JWT);
+
+        final var aDateRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType)
+            .header(RANGE, "bytes=6-")
+            .header(IF_RANGE, "Mon, 09 May 2022 10:00:00 GMT")
+            .with(VIDEOS_JWT);
+
+        final var aMatchingDateRequest = get("/videos/{id}/medias/{type}", expectedId.getValue(), expectedMediaType)
+            .header(RANGE, "bytes=6-")
+            .header(IF_RANGE, "Tue, 10 May 2022 10:00:00 GMT")
+            .with(VIDEOS_JWT);
+
+        // then
+        mvc.perform(anETagRequest)
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(CONTENT_RANGE))
+            .andExpect(content().bytes(aResource.content()));
+
+        mvc.perform(aDateRequest)
+            .andExpect(status().isOk())
+            .andExpect(header().doesNotExist(CONTENT_RANGE))
+            .andExpect(content().bytes(aResource.content()));
+
+        mvc.perform(aMatchingDateRequest)
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(CONTENT_RANGE, "bytes 6-9/10"));
+    }
+
     @Test
     public void givenAValidVideoIDAndFile_whenCallsUploadMedia_thenShouldStoreIt() throws Exception {
         // given
@@ -765,9 +1097,10 @@ public class VideoAPITest {
 
         final var actualCmd = captor.getValue();
         assertEquals(expectedId.getValue(), actualCmd.videoId());
-        assertEquals(expectedResource.content(), actualCmd.videoResource().resource().content());
+        assertArrayEquals(expectedResource.content(), actualCmd.videoResource().resource().content());
         assertEquals(expectedResource.name(), actualCmd.videoResource().resource().name());
         assertEquals(expectedResource.contentType(), actualCmd.videoResource().resource().contentType());
+        assertEquals(HashingUtils.checksum(expectedResource.content()), actualCmd.videoResource().resource().checksum());
         assertEquals(expectedType, actualCmd.videoResource().type());
     }
 
@@ -800,4 +1133,228 @@ public class VideoAPITest {
             .andExpect(header().string(CONTENT_TYPE, APPLICATION_JSON_VALUE))
             .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenAValidCommand_whenCallsCreateMediaUpload_thenShouldReturnUploadLocation() throws Exception {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedUploadId = MediaUploadID.unique();
+        final var expectedName = "video.mp4";
+        final var expectedContentType = "video/mp4";
+
+        when(createMediaUploadUseCase.execute(any())).thenReturn(
+            new MediaUploadOutput(expectedUploadId.getValue(), expectedVideoId.getValue(), expectedType, 0L, 1)
+        );
+
+        final var aRequestBody = new CreateMediaUploadRequest(expectedName, expectedContentType);
+
+        // when
+        final var aRequest = post("/videos/{id}/medias/{type}/uploads", expectedVideoId.getValue(), expectedType)
+                .with(VIDEOS_JWT)
+                .contentType(APPLICATION_JSON)
+                .accept(APPLICATION_JSON)
+                .content(mapper.writeValueAsString(aRequestBody));
+
+        final var response = mvc.perform(aRequest);
+
+        // then
+        response
+            .andExpect(status().isCreated())
+            .andExpect(header().string(LOCATION, "/videos/%s/medias/%s/uploads/%s".formatted(
+                expectedVideoId.getValue(), expectedType.name(), expectedUploadId.getValue()
+            )))
+            .andExpect(jsonPath("$.id", equalTo(expectedUploadId.getValue())))
+            .andExpect(jsonPath("$.video_id", equalTo(expectedVideoId.getValue())))
+            .andExpect(jsonPath("$.media_type", equalTo(expectedType.name())))
+            .andExpect(jsonPath("$.offset", equalTo(0)))
+            .andExpect(jsonPath("$.next_chunk", equalTo(1)));
+
+        verify(createMediaUploadUseCase).execute(argThat(aCmd ->
+            expectedVideoId.getValue().equals(aCmd.videoId())
+                && expectedType.name().equals(aCmd.mediaType())
+                && expectedName.equals(aCmd.name())
+                && expectedContentType.equals(aCmd.contentType())
+        ));
+    }
+
+    @Test
+    public void givenAChunk_whenCallsUploadMediaChunk_thenShouldReturnNewOffset() throws Exception {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedUploadId = MediaUploadID.unique();
+        final var expectedChunk = 1;
+        final var expectedContent = "CHUNK".getBytes();
+
+        when(uploadMediaChunkUseCase.execute(any())).thenAnswer(call -> {
+            final UploadMediaChunkCommand aCmd = call.getArgument(0);
+            return new MediaUploadOutput(
+                aCmd.uploadId(),
+                aCmd.videoId(),
+                expectedType,
+                aCmd.resource().content().length,
+                aCmd.chunk() + 1
+            );
+        });
+
+        // when
+        final var aRequest = put(
+            "/videos/{id}/medias/{type}/uploads/{uploadId}/chunks/{chunk}",
+            expectedVideoId.getValue(),
+            expectedType,
+            expectedUploadId.getValue(),
+            expectedChunk
+        )
+                .with(VIDEOS_JWT)
+                .contentType(APPLICATION_OCTET_STREAM)
+                .header(CONTENT_LENGTH, expectedContent.length)
+                .accept(APPLICATION_JSON)
+                .content(expectedContent);
+
+        final var response = mvc.perform(aRequest);
+
+        // then
+        response
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id", equalTo(expectedUploadId.getValue())))
+            .andExpect(jsonPath("$.offset", equalTo(expectedContent.length)))
+            .andExpect(jsonPath("$.next_chunk", equalTo(expectedChunk + 1)));
+
+        final var captor = ArgumentCaptor.forClass(UploadMediaChunkCommand.class);
+        verify(uploadMediaChunkUseCase).execute(captor.capture());
+
+        final var actualCmd = captor.getValue();
+        assertEquals(expectedVideoId.getValue(), actualCmd.videoId());
+        assertEquals(expectedType.name(), actualCmd.mediaType());
+        assertEquals(expectedUploadId.getValue(), actualCmd.uploadId());
+        assertEquals(expectedChunk, actualCmd.chunk());
+        assertEquals(expectedContent.length, actualCmd.resource().size());
+    }
+
+    @Test
+    public void givenAnOutOfOrderChunk_whenCallsUploadMediaChunk_thenShouldReturnError() throws Exception {
+        // given
+        final var expectedErrorMessage = "Chunk 3 is out of order, next expected chunk is 1";
+
+        when(uploadMediaChunkUseCase.execute(any()))
+            .thenThrow(DomainException.with(new Error(expectedErrorMessage)));
+
+        // when
+        final var aRequest = put(
+            "/videos/{id}/medias/{type}/uploads/{uploadId}/chunks/{chunk}",
+            VideoID.unique().getValue(),
+            VideoMediaType.VIDEO,
+            MediaUploadID.unique().getValue(),
+            3
+        )
+                .with(VIDEOS_JWT)
+                .contentType(APPLICATION_OCTET_STREAM)
+                .header(CONTENT_LENGTH, 5)
+                .accept(APPLICATION_JSON)
+                .content("CHUNK".getBytes());
+
+        final var response = mvc.perform(aRequest);
+
+        // then
+        response
+            .andExpect(status().isUnprocessableEntity())
+            .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    public void givenAValidUploadId_whenCallsGetMediaUpload_thenShouldReturnOffset() throws Exception {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.TRAILER;
+        final var expectedUploadId = MediaUploadID.unique();
+        final var expectedOffset = 20;
+        final var expectedNextChunk = 3;
+
+        when(getMediaUploadUseCase.execute(any())).thenReturn(new MediaUploadOutput(
+            expectedUploadId.getValue(),
+            expectedVideoId.getValue(),
+            expectedType,
+            expectedOffset,
+            expectedNextChunk
+        ));
+
+        // when
+        final var aRequest = get(
+            "/videos/{id}/medias/{type}/uploads/{uploadId}",
+            expectedVideoId.getValue(),
+            expectedType,
+            expectedUploadId.getValue()
+        ).with(VIDEOS_JWT);
+
+        final var response = mvc.perform(aRequest);
+
+        // then
+        response
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.id", equalTo(expectedUploadId.getValue())))
+            .andExpect(jsonPath("$.offset", equalTo(expectedOffset)))
+            .andExpect(jsonPath("$.next_chunk", equalTo(expectedNextChunk)));
+    }
+
+    @Test
+    public void givenAnInvalidUploadId_whenCallsGetMediaUpload_thenShouldReturnNotFound() throws Exception {
+        // given
+        final var expectedUploadId = MediaUploadID.from("123");
+        final var expectedErrorMessage = "MediaUpload with ID 123 was not found";
+
+        when(getMediaUploadUseCase.execute(any()))
+            .thenThrow(NotFoundException.with(MediaUpload.class, expectedUploadId));
+
+        // when
+        final var aRequest = get(
+            "/videos/{id}/medias/{type}/uploads/{uploadId}",
+            VideoID.unique().getValue(),
+            VideoMediaType.VIDEO,
+            expectedUploadId.getValue()
+        ).with(VIDEOS_JWT);
+
+        final var response = mvc.perform(aRequest);
+
+        // then
+        response
+            .andExpect(status().isNotFound())
+            .andExpect(jsonPath("$.message", equalTo(expectedErrorMessage)));
+    }
+
+    @Test
+    public void givenAValidUploadId_whenCallsCommitMediaUpload_thenShouldReturnMediaLocation() throws Exception {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var expectedType = VideoMediaType.VIDEO;
+        final var expectedUploadId = MediaUploadID.unique();
+
+        when(commitMediaUploadUseCase.execute(any()))
+            .thenReturn(new UploadMediaOutput(expectedVideoId.getValue(), expectedType));
+
+        // when
+        final var aRequest = post(
+            "/videos/{id}/medias/{type}/uploads/{uploadId}/commit",
+            expectedVideoId.getValue(),
+            expectedType,
+            expectedUploadId.getValue()
+        )
+                .with(VIDEOS_JWT)
+                .accept(APPLICATION_JSON);
+
+        final var response = mvc.perform(aRequest);
+
+        // then
+        response
+            .andExpect(status().isCreated())
+            .andExpect(header().string(LOCATION, "/videos/%s/medias/%s".formatted(expectedVideoId.getValue(), expectedType.name())))
+            .andExpect(jsonPath("$.video_id", equalTo(expectedVideoId.getValue())))
+            .andExpect(jsonPath("$.media_type", equalTo(expectedType.name())));
+
+        verify(commitMediaUploadUseCase).execute(argThat(aCmd ->
+            expectedVideoId.getValue().equals(aCmd.videoId())
+                && expectedType.name().equals(aCmd.mediaType())
+                && expectedUploadId.getValue().equals(aCmd.uploadId())
+        ));
+    }
+}
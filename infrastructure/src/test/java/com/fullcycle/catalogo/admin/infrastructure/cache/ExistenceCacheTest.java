@@ -0,0 +1,139 @@
+package com.fullcycle.catalogo.admin.infrastructure.cache;
+
+import com.fullcycle.catalogo.admin.infrastructure.cache.ExistenceCache.Aggregate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExistenceCacheTest {
+    private ExistenceCache target;
+    private Set<String> persistedIds;
+    private List<List<String>> loadedIds;
+    private Function<List<String>, List<String>> loader;
+
+    @BeforeEach
+    public void setup() {
+        this.target = new ExistenceCache(true, 100, Duration.ofMinutes(10), Duration.ofMinutes(1));
+        this.persistedIds = Set.of("1", "2");
+        this.loadedIds = new ArrayList<>();
+        this.loader = ids -> {
+            loadedIds.add(ids);
+            return ids.stream().filter(persistedIds::contains).toList();
+        };
+    }
+
+    @Test
+    public void givenCheckedIds_whenCallsExistsByIdsAgain_thenShouldNotCallTheLoader() {
+        // given
+        final var expectedIds = List.of("1", "2");
+        target.existsByIds(Aggregate.CATEGORIES, List.of("1", "2", "3"), loader);
+
+        // when
+        final var actualIds = target.existsByIds(Aggregate.CATEGORIES, List.of("1", "2", "3"), loader);
+
+        // then
+        assertEquals(expectedIds, actualIds);
+        assertEquals(1, loadedIds.size());
+    }
+
+    @Test
+    public void givenCheckedIds_whenCallsMetrics_thenShouldReportExistingAndMissingIdsSeparately() {
+        // given
+        target.existsByIds(Aggregate.CATEGORIES, List.of("1", "2", "3"), loader);
+        target.existsByIds(Aggregate.CATEGORIES, List.of("1", "2", "3"), loader);
+
+        // when
+        final var actualMetrics = target.metrics();
+
+        // then
+        assertEquals(2, actualMetrics.size());
+
+        final var existing = actualMetrics.get(0);
+        assertEquals(ExistenceCache.EXISTING_CACHE_NAME, existing.name());
+        assertEquals(2, existing.size());
+        assertEquals(2, existing.stats().hitCount());
+        assertEquals(4, existing.stats().missCount());
+
+        final var missing = actualMetrics.get(1);
+        assertEquals(ExistenceCache.MISSING_CACHE_NAME, missing.name());
+        assertEquals(1, missing.size());
+        assertEquals(1, missing.stats().hitCount());
+        assertEquals(3, missing.stats().missCount());
+    }
+
+    @Test
+    public void givenSomeCheckedIds_whenCallsExistsByIds_thenShouldLoadOnlyTheUnknownIds() {
+        // given
+        target.existsByIds(Aggregate.CATEGORIES, List.of("1", "3"), loader);
+
+        // when
+        final var actualIds = target.existsByIds(Aggregate.CATEGORIES, List.of("3", "2", "1"), loader);
+
+        // then
+        assertEquals(List.of("2", "1"), actualIds);
+        assertEquals(List.of(List.of("1", "3"), List.of("2")), loadedIds);
+    }
+
+    @Test
+    public void givenAnIdCheckedForAnotherAggregate_whenCallsExistsByIds_thenShouldLoadIt() {
+        // given
+        target.existsByIds(Aggregate.CATEGORIES, List.of("1"), loader);
+
+        // when
+        target.existsByIds(Aggregate.GENRES, List.of("1"), loader);
+
+        // then
+        assertEquals(2, loadedIds.size());
+    }
+
+    @Test
+    public void givenAMissingIdCreated_whenCallsInvalidate_thenShouldLoadItAgain() {
+        // given
+        target.existsByIds(Aggregate.CAST_MEMBERS, List.of("3"), loader);
+        persistedIds = Set.of("1", "2", "3");
+
+        // when
+        target.invalidate(Aggregate.CAST_MEMBERS, "3");
+
+        // then
+        assertEquals(List.of("3"), target.existsByIds(Aggregate.CAST_MEMBERS, List.of("3"), loader));
+        assertEquals(2, loadedIds.size());
+    }
+
+    @Test
+    public void givenAnIdInvalidatedDuringTheLoad_whenCallsExistsByIds_thenShouldNotCacheTheResult() {
+        // given
+        final Function<List<String>, List<String>> invalidatingLoader = ids -> {
+            target.invalidate(Aggregate.GENRES, "1");
+            return loader.apply(ids);
+        };
+
+        // when
+        target.existsByIds(Aggregate.GENRES, List.of("1"), invalidatingLoader);
+
+        // then
+        assertEquals(0, target.size());
+    }
+
+    @Test
+    public void givenADisabledCache_whenCallsExistsByIds_thenShouldAlwaysCallTheLoader() {
+        // given
+        final var aCache = new ExistenceCache(false, 100, Duration.ofMinutes(10), Duration.ofMinutes(1));
+
+        // when
+        aCache.existsByIds(Aggregate.CATEGORIES, List.of("1"), loader);
+        aCache.existsByIds(Aggregate.CATEGORIES, List.of("1"), loader);
+
+        // then
+        assertEquals(2, loadedIds.size());
+        assertEquals(0, aCache.size());
+        assertTrue(aCache.metrics().isEmpty());
+    }
+}
@@ -8,14 +8,18 @@ import com.fullcycle.catalogo.admin.domain.castmember.CastMemberType;
 import com.fullcycle.catalogo.admin.domain.pagination.SearchQuery;
 import com.fullcycle.catalogo.admin.infrastructure.castmember.persistence.CastMemberJpaEntity;
 import com.fullcycle.catalogo.admin.infrastructure.castmember.persistence.CastMemberRepository;
+import com.fullcycle.catalogo.admin.infrastructure.utils.KeysetUtils;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 @MySQLGatewayTest
@@ -52,6 +56,7 @@ class CastMemberMySQLGatewayTest {
         final var persistedMember = castMemberRepository.findById(expectedId.getValue()).get();
 
         assertEquals(expectedName, persistedMember.getName());
+        assertEquals(expectedName.trim().toLowerCase(), persistedMember.getNameSearch());
         assertEquals(expectedType, persistedMember.getType());
         assertEquals(aMember.getCreatedAt(), persistedMember.getCreatedAt());
         assertEquals(aMember.getUpdatedAt(), persistedMember.getUpdatedAt());
@@ -88,6 +93,7 @@ class CastMemberMySQLGatewayTest {
         final var persistedMember = castMemberRepository.findById(expectedId.getValue()).get();
 
         assertEquals(expectedName, persistedMember.getName());
+        assertEquals(expectedName.trim().toLowerCase(), persistedMember.getNameSearch());
         assertEquals(expectedType, persistedMember.getType());
         assertEquals(aMember.getCreatedAt(), persistedMember.getCreatedAt());
         assertTrue(aMember.getUpdatedAt().isBefore(persistedMember.getUpdatedAt()));
@@ -192,6 +198,7 @@ class CastMemberMySQLGatewayTest {
         "jas,0,10,1,1,Jason Momoa",
         "har,0,10,1,1,Kit Harington",
         "MAR,0,10,1,1,Martin Scorsese",
+        "m,0,10,1,1,Martin Scorsese",
     })
     public void givenAValidTerm_whenCallsFindAll_shouldReturnFiltered(
         final String expectedTerms,
@@ -295,6 +302,33 @@ class CastMemberMySQLGatewayTest {
         }
     }
 
+    @Test
+    public void givenANextCursor_whenCallsFindAllAfterIt_thenShouldReturnTheNextPage() {
+        // given
+        mockMembers();
+
+        final var aFirstPage = castMemberGateway.findAll(new SearchQuery(0, 2, "", "name", "desc"));
+        assertEquals(
+            List.of("Vin Diesel", "Quentin Tarantino"),
+            aFirstPage.items().stream().map(CastMember::getName).toList()
+        );
+
+        // when
+        final var actualPage = castMemberGateway.findAll(new SearchQuery(0, 2, "", "name", "desc", aFirstPage.nextCursor()));
+
+        // then
+        assertEquals(2, actualPage.perPage());
+        assertEquals(KeysetUtils.UNKNOWN_TOTAL, actualPage.total());
+        assertEquals(
+            List.of("Martin Scorsese", "Kit Harington"),
+            actualPage.items().stream().map(CastMember::getName).toList()
+        );
+        assertNotNull(actualPage.nextCursor());
+
+        final var aLastPage = castMemberGateway.findAll(new SearchQuery(0, 2, "", "name", "desc", actualPage.nextCursor()));
+        assertEquals(List.of("Jason Momoa"), aLastPage.items().stream().map(CastMember::getName).toList());
+        assertNull(aLastPage.nextCursor());
+    }
 
     @Test
     public void givenPrePersistedCastMembers_whenCallsExistsByIds_thenShouldReturnIds() {
@@ -327,4 +361,49 @@ class CastMemberMySQLGatewayTest {
             CastMemberJpaEntity.from(CastMember.newMember("Martin Scorsese", CastMemberType.DIRECTOR))
         ));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenValidCastMembers_whenCallsCreateAll_thenShouldPersistThem() {
+        // given
+        final var expectedCount = 60;
+        final var members = IntStream.range(0, expectedCount)
+            .mapToObj(i -> CastMember.newMember(Fixture.name(), CastMemberType.ACTOR))
+            .toList();
+
+        assertEquals(0, castMemberRepository.count());
+
+        // when
+        final var actualMembers = castMemberGateway.createAll(members);
+
+        // then
+        assertEquals(expectedCount, actualMembers.size());
+        assertEquals(expectedCount, castMemberRepository.count());
+
+        final var actualEntity = castMemberRepository.findById(members.get(0).getId().getValue()).get();
+        assertEquals(members.get(0).getName(), actualEntity.getName());
+        assertEquals(CastMemberType.ACTOR, actualEntity.getType());
+    }
+
+    @Test
+    public void givenPersistedCastMembers_whenCallsUpdateAll_thenShouldUpdateThem() {
+        // given
+        final var expectedCount = 60;
+        final var members = IntStream.range(0, expectedCount)
+            .mapToObj(i -> CastMember.newMember(Fixture.name(), CastMemberType.ACTOR))
+            .toList();
+
+        castMemberRepository.saveAllAndFlush(members.stream().map(CastMemberJpaEntity::from).toList());
+        members.forEach(aMember -> aMember.update(aMember.getName() + " Jr.", CastMemberType.DIRECTOR));
+
+        // when
+        final var actualMembers = castMemberGateway.updateAll(members);
+
+        // then
+        assertEquals(expectedCount, actualMembers.size());
+        assertEquals(expectedCount, castMemberRepository.count());
+
+        final var actualEntity = castMemberRepository.findById(members.get(0).getId().getValue()).get();
+        assertEquals(members.get(0).getName(), actualEntity.getName());
+        assertEquals(CastMemberType.DIRECTOR, actualEntity.getType());
+    }
+}
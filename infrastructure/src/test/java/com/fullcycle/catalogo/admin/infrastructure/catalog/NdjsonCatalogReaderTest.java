@@ -0,0 +1,91 @@
+package com.fullcycle.catalogo.admin.infrastructure.catalog;
+
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.CastMemberRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.CategoryRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.MalformedRecord;
+import com.fullcycle.catalogo.admin.application.catalog.importer.CatalogRecord.VideoRecord;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberType;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NdjsonCatalogReaderTest {
+
+    @Test
+    public void givenAValidBody_whenReadsIt_thenShouldReturnARecordPerLine() throws Exception {
+        // given
+        final var aBody = """
+                {"kind":"category","id":"filmes","name":"Filmes","is_active":false}
+
+                {"kind":"cast_member","id":"wesley","name":"Wesley","type":"ACTOR"}
+                {"kind":"video","id":"matrix","title":"Matrix","duration":136.0,"categories":["filmes"]}
+                """;
+
+        // when
+        final var actualRecords = readAll(aBody);
+
+        // then
+        assertEquals(3, actualRecords.size());
+        assertEquals(new CategoryRecord(1, "filmes", "Filmes", null, false), actualRecords.get(0));
+        assertEquals(new CastMemberRecord(3, "wesley", "Wesley", CastMemberType.ACTOR), actualRecords.get(1));
+
+        final var aVideo = (VideoRecord) actualRecords.get(2);
+        assertEquals(4, aVideo.line());
+        assertEquals(136.0, aVideo.duration());
+        assertEquals(Set.of("filmes"), aVideo.categories());
+        assertFalse(aVideo.published());
+    }
+
+    @Test
+    public void givenInvalidLines_whenReadsThem_thenShouldReturnMalformedRecordsAndKeepReading() throws Exception {
+        // given
+        final var aBody = """
+                {"kind":"category","id":"filmes"
+                {"kind":"director","id":"nolan"}
+                {"kind":"cast_member","id":"nolan","type":"PRODUCER"}
+                {"kind":"category","id":"series","name":"Séries"}
+                """;
+
+        // when
+        final var actualRecords = readAll(aBody);
+
+        // then
+        assertEquals(4, actualRecords.size());
+        assertInstanceOf(MalformedRecord.class, actualRecords.get(0));
+        assertEquals(
+            new MalformedRecord(2, "'kind' must be one of category, genre, cast_member, video"),
+            actualRecords.get(1)
+        );
+        assertInstanceOf(MalformedRecord.class, actualRecords.get(2));
+        assertEquals(3, actualRecords.get(2).line());
+        assertEquals(new CategoryRecord(4, "series", "Séries", null, true), actualRecords.get(3));
+    }
+
+    @Test
+    public void givenAReadBody_whenCallsNext_thenShouldThrowNoSuchElement() throws Exception {
+        try (final var aReader = reader("")) {
+            assertFalse(aReader.hasNext());
+            assertThrows(NoSuchElementException.class, aReader::next);
+        }
+    }
+
+    private static List<CatalogRecord> readAll(final String aBody) throws Exception {
+        final var records = new ArrayList<CatalogRecord>();
+        try (final var aReader = reader(aBody)) {
+            aReader.forEachRemaining(records::add);
+        }
+        return records;
+    }
+
+    private static NdjsonCatalogReader reader(final String aBody) {
+        return new NdjsonCatalogReader(new ByteArrayInputStream(aBody.getBytes(StandardCharsets.UTF_8)));
+    }
+}
@@ -2,14 +2,19 @@ package com.fullcycle.catalogo.admin.infrastructure.category;
 
 import com.fullcycle.catalogo.admin.domain.category.Category;
 import com.fullcycle.catalogo.admin.domain.category.CategoryID;
+import com.fullcycle.catalogo.admin.domain.exceptions.DomainException;
 import com.fullcycle.catalogo.admin.domain.pagination.SearchQuery;
 import com.fullcycle.catalogo.admin.MySQLGatewayTest;
 import com.fullcycle.catalogo.admin.infrastructure.category.persistence.CategoryJpaEntity;
 import com.fullcycle.catalogo.admin.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.catalogo.admin.infrastructure.utils.KeysetUtils;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -22,6 +27,9 @@ public class CategoryMySQLGatewayTest {
     @Autowired
     private CategoryRepository categoryRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     public void givenAValidCategory_whenCallsCreate_thenShouldReturnANewCategory() {
         final var expectedName = "Filmes";
@@ -253,6 +261,90 @@ public class CategoryMySQLGatewayTest {
         assertEquals(series.getId(), actualResult.items().get(0).getId());
     }
 
+    @Test
+    public void givenFollowCursor_whenCallsFindAllAfterNextCursor_thenShouldReturnNextItems() {
+        final var expectedPerPage = 1;
+        final var expectedTotal = KeysetUtils.UNKNOWN_TOTAL;
+
+        final var filmes = Category.newCategoryWith("Filmes", null, true);
+        final var series = Category.newCategoryWith("Séries", null, true);
+        final var documentarios = Category.newCategoryWith("Documentários", null, true);
+
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(documentarios)
+        ));
+
+        var actualResult = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc"));
+        assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+        assertNotNull(actualResult.nextCursor());
+
+        // Próximo item a partir do cursor
+        actualResult = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor()));
+
+        assertEquals(expectedPerPage, actualResult.perPage());
+        assertEquals(expectedTotal, actualResult.total());
+        assertEquals(expectedPerPage, actualResult.items().size());
+        assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+        assertNotNull(actualResult.nextCursor());
+
+        // Último item
+        actualResult = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", actualResult.nextCursor()));
+
+        assertEquals(expectedPerPage, actualResult.items().size());
+        assertEquals(series.getId(), actualResult.items().get(0).getId());
+        assertNull(actualResult.nextCursor());
+    }
+
+    @Test
+    public void givenWithoutExactTotal_whenCallsFindAll_thenShouldEstimateTotalFromTheNextPage() {
+        final var filmes = Category.newCategoryWith("Filmes", null, true);
+        final var series = Category.newCategoryWith("Séries", null, true);
+        final var documentarios = Category.newCategoryWith("Documentários", null, true);
+
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(documentarios)
+        ));
+
+        var actualResult = categoryGateway.findAll(new SearchQuery(0, 1, "", "name", "asc", null, false));
+
+        assertEquals(0, actualResult.currentPage());
+        assertEquals(2, actualResult.total());
+        assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
+        assertNotNull(actualResult.nextCursor());
+
+        // Última página
+        actualResult = categoryGateway.findAll(new SearchQuery(2, 1, "", "name", "asc", null, false));
+
+        assertEquals(2, actualResult.currentPage());
+        assertEquals(3, actualResult.total());
+        assertEquals(series.getId(), actualResult.items().get(0).getId());
+        assertNull(actualResult.nextCursor());
+
+        // Página além da última
+        actualResult = categoryGateway.findAll(new SearchQuery(5, 1, "", "name", "asc", null, false));
+
+        assertEquals(KeysetUtils.UNKNOWN_TOTAL, actualResult.total());
+        assertTrue(actualResult.items().isEmpty());
+    }
+
+    @Test
+    public void givenAPageBeyondTheOffsetLimit_whenCallsFindAll_thenShouldThrowDomainException() {
+        final var expectedErrorMessage = "'page' is out of range for the given 'perPage'";
+
+        final var anExactQuery = new SearchQuery(Integer.MAX_VALUE, 50, "", "name", "asc");
+        final var aSliceQuery = new SearchQuery(Integer.MAX_VALUE, 50, "", "name", "asc", null, false);
+
+        var actualException = assertThrows(DomainException.class, () -> categoryGateway.findAll(anExactQuery));
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+
+        actualException = assertThrows(DomainException.class, () -> categoryGateway.findAll(aSliceQuery));
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
     @Test
     public void givenPrePersistedCategoriesAndDocAsTerms_whenCallsFindAllAndTermsMatchsCategoryName_thenShouldReturnPaginated() {
         final var expectedPage = 0;
@@ -283,6 +375,55 @@ public class CategoryMySQLGatewayTest {
         assertEquals(documentarios.getId(), actualResult.items().get(0).getId());
     }
 
+    @Test
+    public void givenPrePersistedCategoriesAndASingleLetterAsTerms_whenCallsFindAll_thenShouldReturnOnlyNamesStartingWithIt() {
+        final var expectedTotal = 1;
+
+        final var filmes = Category.newCategoryWith("Filmes", "A categoria mais assistida", true);
+        final var series = Category.newCategoryWith("Séries", "Filmes em episódios", true);
+        final var documentarios = Category.newCategoryWith("Documentários", null, true);
+
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(series),
+            CategoryJpaEntity.from(documentarios)
+        ));
+
+        assertEquals("filmes", categoryRepository.findById(filmes.getId().getValue()).get().getNameSearch());
+
+        final var query = new SearchQuery(0, 10, "F", "name", "asc");
+        final var actualResult = categoryGateway.findAll(query);
+
+        assertEquals(expectedTotal, actualResult.total());
+        assertEquals(expectedTotal, actualResult.items().size());
+        assertEquals(filmes.getId(), actualResult.items().get(0).getId());
+    }
+
+    @Test
+    public void givenPrePersistedCategoriesAndALikeWildcardAsTerms_whenCallsFindAll_thenShouldMatchItLiterally() {
+        final var expectedTotal = 1;
+
+        final var filmes = Category.newCategoryWith("Filmes", null, true);
+        final var extras = Category.newCategoryWith("_Extras", null, true);
+        final var ofertas = Category.newCategoryWith("%Ofertas", null, true);
+
+        categoryRepository.saveAll(List.of(
+            CategoryJpaEntity.from(filmes),
+            CategoryJpaEntity.from(extras),
+            CategoryJpaEntity.from(ofertas)
+        ));
+
+        var actualResult = categoryGateway.findAll(new SearchQuery(0, 10, "_", "name", "asc"));
+
+        assertEquals(expectedTotal, actualResult.total());
+        assertEquals(extras.getId(), actualResult.items().get(0).getId());
+
+        actualResult = categoryGateway.findAll(new SearchQuery(0, 10, "%", "name", "asc"));
+
+        assertEquals(expectedTotal, actualResult.total());
+        assertEquals(ofertas.getId(), actualResult.items().get(0).getId());
+    }
+
     @Test
     public void givenPrePersistedCategoriesAndMaisAssistidaAsTerms_whenCallsFindAllAndTermsMatchsCategoryDescription_thenShouldReturnPaginated() {
         final var expectedPage = 0;
@@ -339,4 +480,102 @@ public class CategoryMySQLGatewayTest {
 
         assertTrue(expectedIds.size() == actualResult.size() && expectedIds.containsAll(actualResult));
     }
+
+    @Test
+    public void givenValidCategories_whenCallsCreateAll_thenShouldInsertThemInJdbcBatches() {
+        // given
+        final var expectedCount = 120;
+
+        // um INSERT preparado por lote de hibernate.jdbc.batch_size (50) categorias, sem SELECT antes
+        final var expectedStatements = 3;
+
+        final var categories = IntStream.range(0, expectedCount)
+                .mapToObj(i -> Category.newCategoryWith("Categoria " + i, null, i % 2 == 0))
+                .toList();
+
+        final var statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        final var actualCategories = categoryGateway.createAll(categories);
+
+        // then
+        try {
+            assertEquals(expectedStatements, statistics.getPrepareStatementCount());
+            assertEquals(expectedCount, statistics.getEntityInsertCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        assertEquals(expectedCount, actualCategories.size());
+        assertEquals(expectedCount, categoryRepository.count());
+        assertEquals(categories.get(0).getId(), actualCategories.get(0).getId());
+
+        final var actualEntity = categoryRepository.findById(categories.get(1).getId().getValue()).get();
+        assertEquals("Categoria 1", actualEntity.getName());
+        assertFalse(actualEntity.isActive());
+    }
+
+    @Test
+    public void givenPersistedAndUnknownIds_whenCallsFindAllById_thenShouldReturnOnlyThePersistedOnes() {
+        // given
+        final var filmes = Category.newCategoryWith("Filmes", null, true);
+        final var series = Category.newCategoryWith("Séries", null, true);
+
+        categoryRepository.saveAllAndFlush(List.of(CategoryJpaEntity.from(filmes), CategoryJpaEntity.from(series)));
+
+        // when
+        final var actualCategories = categoryGateway.findAllById(List.of(filmes.getId(), CategoryID.from("123")));
+
+        // then
+        assertEquals(1, actualCategories.size());
+        assertEquals(filmes.getId(), actualCategories.get(0).getId());
+    }
+
+    @Test
+    public void givenPersistedCategories_whenCallsUpdateAll_thenShouldUpdateThemInJdbcBatches() {
+        // given
+        final var expectedCount = 120;
+
+        // por lote de hibernate.jdbc.batch_size (50) categorias, um SELECT ... IN e um UPDATE preparado
+        final var expectedStatements = 6;
+
+        final var categories = IntStream.range(0, expectedCount)
+                .mapToObj(i -> Category.newCategoryWith("Categoria " + i, null, true))
+                .toList();
+
+        categoryRepository.saveAllAndFlush(categories.stream().map(CategoryJpaEntity::from).toList());
+        entityManager.clear();
+
+        final var entityManagerFactory = entityManager.getEntityManager().getEntityManagerFactory();
+        entityManagerFactory.getCache().evictAll();
+
+        categories.forEach(aCategory -> aCategory.update(aCategory.getName() + " atualizada", "Descrição", false));
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        final var actualCategories = categoryGateway.updateAll(categories);
+
+        // then
+        try {
+            assertEquals(expectedStatements, statistics.getPrepareStatementCount());
+            assertEquals(expectedCount, statistics.getEntityUpdateCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        assertEquals(expectedCount, actualCategories.size());
+        assertEquals(expectedCount, categoryRepository.count());
+
+        final var actualEntity = categoryRepository.findById(categories.get(1).getId().getValue()).get();
+        assertEquals("Categoria 1 atualizada", actualEntity.getName());
+        assertEquals("Descrição", actualEntity.getDescription());
+        assertFalse(actualEntity.isActive());
+    }
 }
@@ -0,0 +1,145 @@
+package com.fullcycle.catalogo.admin.infrastructure.configuration;
+
+import com.fullcycle.catalogo.admin.IntegrationTest;
+import com.fullcycle.catalogo.admin.domain.category.Category;
+import com.fullcycle.catalogo.admin.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.admin.domain.genre.Genre;
+import com.fullcycle.catalogo.admin.domain.genre.GenreGateway;
+import org.hibernate.SessionFactory;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.cache.CacheManager;
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+@IntegrationTest
+public class ReferenceCacheConfigurationTest {
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private GenreGateway genreGateway;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CacheManager referenceCacheManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setup() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        statistics.setStatisticsEnabled(false);
+    }
+
+    @Test
+    public void givenTheReferenceCacheEnabled_whenStartsHibernate_thenShouldUseTheCacheManagerBean() {
+        assertSame(referenceCacheManager, entityManagerFactory.getProperties().get(ConfigSettings.CACHE_MANAGER));
+    }
+
+    @Test
+    public void givenACreatedCategory_whenCallsFindById_thenShouldReadItFromTheCache() {
+        // given
+        final var aCategory = categoryGateway.create(Category.newCategoryWith("Filmes", null, true));
+        statistics.clear();
+
+        // when
+        final var actualCategory = categoryGateway.findById(aCategory.getId()).get();
+
+        // then
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getDomainDataRegionStatistics(ReferenceCacheConfiguration.CATEGORIES).getHitCount());
+        assertEquals("Filmes", actualCategory.getName());
+    }
+
+    @Test
+    public void givenACachedCategory_whenCallsUpdate_thenShouldReadTheUpdatedCategory() {
+        // given
+        final var aCategory = categoryGateway.create(Category.newCategoryWith("Filmes", null, true));
+        categoryGateway.findById(aCategory.getId());
+
+        // when
+        categoryGateway.update(aCategory.update("Séries", "Episódios", true));
+
+        // then
+        final var actualCategory = categoryGateway.findById(aCategory.getId()).get();
+        assertEquals("Séries", actualCategory.getName());
+        assertEquals("Episódios", actualCategory.getDescription());
+    }
+
+    @Test
+    public void givenACachedGenre_whenCallsFindById_thenShouldReadItAndItsCategoriesFromTheCache() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategoryWith("Filmes", null, true));
+        final var aGenre = genreGateway.create(Genre.newGenreWith("Ação", true).addCategories(List.of(filmes.getId())));
+        genreGateway.findById(aGenre.getId());
+        statistics.clear();
+
+        // when
+        final var actualGenre = genreGateway.findById(aGenre.getId()).get();
+
+        // then
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(List.of(filmes.getId()), actualGenre.getCategories());
+    }
+
+    @Test
+    public void givenACachedExistsByIds_whenCallsDeleteById_thenShouldNotReturnTheDeletedId() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategoryWith("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategoryWith("Séries", null, true));
+        final var ids = List.of(filmes.getId(), series.getId());
+
+        assertEquals(2, categoryGateway.existsByIds(ids).size());
+        statistics.clear();
+
+        assertEquals(2, categoryGateway.existsByIds(ids).size());
+        assertEquals(0, statistics.getPrepareStatementCount());
+        assertEquals(1, statistics.getQueryCacheHitCount());
+
+        // when
+        categoryGateway.deleteById(filmes.getId());
+
+        // then
+        assertEquals(List.of(series.getId()), categoryGateway.existsByIds(ids));
+    }
+
+    @Test
+    public void givenAnExistsByIdsLoadedBeforeTheCreationCommits_whenCallsExistsByIdsAfterTheCommit_thenShouldReturnTheCreatedId() {
+        // given
+        final var aCategory = Category.newCategoryWith("Filmes", null, true);
+        final var ids = List.of(aCategory.getId());
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            categoryGateway.createAll(List.of(aCategory));
+
+            // outra requisição valida o id antes da confirmação e ainda não o encontra
+            assertEquals(List.of(), CompletableFuture.supplyAsync(() -> categoryGateway.existsByIds(ids)).join());
+        });
+
+        // then
+        assertEquals(ids, categoryGateway.existsByIds(ids));
+    }
+}
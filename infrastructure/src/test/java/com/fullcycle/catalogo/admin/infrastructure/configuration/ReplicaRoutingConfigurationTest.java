@@ -0,0 +1,81 @@
+package com.fullcycle.catalogo.admin.infrastructure.configuration;
+
+import com.fullcycle.catalogo.admin.IntegrationTest;
+import com.fullcycle.catalogo.admin.domain.category.Category;
+import com.fullcycle.catalogo.admin.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.admin.domain.category.CategoryID;
+import com.fullcycle.catalogo.admin.domain.pagination.SearchQuery;
+import com.fullcycle.catalogo.admin.infrastructure.datasource.ReplicaHeartbeatWorker;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.TestPropertySource;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * A réplica é outro banco H2 em memória com o mesmo schema: uma categoria gravada só nela mostra que a leitura
+ * passou pelo roteamento até a réplica em vez de ir ao primário.
+ */
+@IntegrationTest
+@TestPropertySource(properties = {
+    "datasource.replicas.enabled=true",
+    "datasource.replicas.urls=" + ReplicaRoutingConfigurationTest.REPLICA_URL
+})
+public class ReplicaRoutingConfigurationTest {
+    static final String REPLICA_URL = "jdbc:h2:mem:adm_videos_replica;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1";
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private ReplicaHeartbeatWorker heartbeatWorker;
+
+    private JdbcTemplate replica;
+
+    @BeforeEach
+    void setup() {
+        final var aDataSource = new DriverManagerDataSource(REPLICA_URL, "root", "123456");
+        Flyway.configure().dataSource(aDataSource).locations("classpath:db/migration").load().migrate();
+
+        this.replica = new JdbcTemplate(aDataSource);
+        // um heartbeat à frente do primário deixa a réplica sem atraso na verificação
+        replica.update(
+            "UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1",
+            Timestamp.from(Instant.now().plus(Duration.ofDays(1)))
+        );
+        heartbeatWorker.run();
+    }
+
+    @AfterEach
+    void cleanUp() {
+        replica.update("DELETE FROM categories");
+    }
+
+    @Test
+    public void givenACategoryOnlyInTheReplica_whenCallsFindAllWithoutTheExactTotal_thenShouldReadItFromTheReplica() {
+        // given
+        final var expectedId = CategoryID.unique();
+        final var now = Timestamp.from(Instant.now());
+        replica.update(
+            "INSERT INTO categories (id, name, name_search, description, active, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?)",
+            expectedId.getValue(), "Filmes", "filmes", null, true, now, now
+        );
+
+        // when
+        final var actualPage = categoryGateway.findAll(new SearchQuery(0, 10, "", "name", "asc", null, false));
+
+        // then
+        assertEquals(1, actualPage.total());
+        assertEquals(List.of(expectedId), actualPage.items().stream().map(Category::getId).toList());
+    }
+}
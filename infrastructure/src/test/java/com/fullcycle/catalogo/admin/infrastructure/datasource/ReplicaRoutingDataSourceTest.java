@@ -0,0 +1,175 @@
+package com.fullcycle.catalogo.admin.infrastructure.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Cada banco H2 em memória faz o papel de uma instância e responde o próprio nome na tabela instance.
+ */
+public class ReplicaRoutingDataSourceTest {
+    private DataSource primary;
+    private List<Replica> replicas;
+    private ReplicaRoutingDataSource router;
+    private ReplicaHeartbeatWorker heartbeat;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate readOnly;
+    private TransactionTemplate readWrite;
+    private String client;
+
+    @BeforeEach
+    void setup() {
+        final var now = Instant.now();
+        this.primary = instance(ReplicaRoutingDataSource.PRIMARY, now);
+        this.replicas = List.of(
+            new Replica("replica-1", instance("replica-1", now)),
+            new Replica("replica-2", instance("replica-2", now))
+        );
+        this.client = "john.doe";
+        this.router = new ReplicaRoutingDataSource(primary, replicas, Duration.ofMinutes(1), 100, () -> Optional.ofNullable(client));
+        this.router.afterPropertiesSet();
+        this.heartbeat = new ReplicaHeartbeatWorker(primary, replicas, 10000);
+
+        final var dataSource = new LazyConnectionDataSourceProxy(router);
+        final var transactionManager = new DataSourceTransactionManager(dataSource);
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.readOnly = new TransactionTemplate(transactionManager);
+        this.readOnly.setReadOnly(true);
+        this.readWrite = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    public void givenHealthyReplicas_whenReadsInReadOnlyTransactions_thenShouldAlternateBetweenThem() {
+        // given
+        heartbeat.run();
+
+        // when
+        final var actualInstances = IntStream.range(0, 4).mapToObj(i -> read()).toList();
+
+        // then
+        assertEquals(List.of("replica-1", "replica-2", "replica-1", "replica-2"), actualInstances);
+    }
+
+    @Test
+    public void givenHealthyReplicas_whenReadsInAReadWriteTransaction_thenShouldUseThePrimary() {
+        // given
+        heartbeat.run();
+
+        // when
+        final var actualInstance = readWrite.execute(status -> currentInstance());
+
+        // then
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, actualInstance);
+    }
+
+    @Test
+    public void givenReplicasNotCheckedYet_whenReads_thenShouldUseThePrimary() {
+        assertEquals(ReplicaRoutingDataSource.PRIMARY, read());
+        assertEquals(Replica.UNKNOWN_LAG, replicas.get(0).lag());
+    }
+
+    @Test
+    public void givenAClientThatJustWrote_whenReads_thenShouldReadItsWriteFromThePrimary() {
+        // given
+        heartbeat.run();
+        readWrite.executeWithoutResult(status -> jdbcTemplate.update("UPDATE instance SET name = 'primary (updated)'"));
+
+        // when
+        final var actualInstance = read();
+
+        client = "jane.doe";
+        final var anotherClientInstance = read();
+
+        // then
+        assertEquals("primary (updated)", actualInstance);
+        assertTrue(anotherClientInstance.startsWith("replica-"));
+    }
+
+    @Test
+    public void givenARolledBackWrite_whenReads_thenShouldKeepReadingFromTheReplicas() {
+        // given
+        heartbeat.run();
+        readWrite.executeWithoutResult(status -> {
+            jdbcTemplate.update("UPDATE instance SET name = 'primary (updated)'");
+            status.setRollbackOnly();
+        });
+
+        // when
+        final var actualInstance = read();
+
+        // then
+        assertTrue(actualInstance.startsWith("replica-"));
+    }
+
+    @Test
+    public void givenAReplicaBehindTheMaxLag_whenRunsTheHeartbeat_thenShouldSkipIt() {
+        // given
+        final var primaryBeat = Instant.now();
+        beat(primary, primaryBeat);
+        beat(replicas.get(0).dataSource(), primaryBeat.minusSeconds(30));
+        beat(replicas.get(1).dataSource(), primaryBeat.minusSeconds(2));
+
+        // when
+        heartbeat.run();
+
+        // then
+        assertFalse(replicas.get(0).isHealthy());
+        assertEquals(30000, replicas.get(0).lag());
+        assertTrue(replicas.get(1).isHealthy());
+        assertEquals(2000, replicas.get(1).lag());
+        assertEquals(List.of("replica-2", "replica-2"), List.of(read(), read()));
+    }
+
+    @Test
+    public void givenAnUnreachableReplica_whenRunsTheHeartbeat_thenShouldSkipIt() {
+        // given
+        new JdbcTemplate(replicas.get(1).dataSource()).execute("DROP TABLE replication_heartbeat");
+
+        // when
+        heartbeat.run();
+
+        // then
+        assertFalse(replicas.get(1).isHealthy());
+        assertEquals(Replica.UNKNOWN_LAG, replicas.get(1).lag());
+        assertEquals(List.of("replica-1", "replica-1"), List.of(read(), read()));
+    }
+
+    private String read() {
+        return readOnly.execute(status -> currentInstance());
+    }
+
+    private String currentInstance() {
+        return jdbcTemplate.queryForObject("SELECT name FROM instance", String.class);
+    }
+
+    private static DataSource instance(final String name, final Instant beatAt) {
+        final var aDataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:routing_%s_%d;DB_CLOSE_DELAY=-1".formatted(name.replace("-", "_"), System.nanoTime())
+        );
+
+        final var jdbcTemplate = new JdbcTemplate(aDataSource);
+        jdbcTemplate.execute("CREATE TABLE instance (name VARCHAR(50) NOT NULL)");
+        jdbcTemplate.update("INSERT INTO instance (name) VALUES (?)", name);
+        jdbcTemplate.execute("CREATE TABLE replication_heartbeat (id INT NOT NULL PRIMARY KEY, beat_at TIMESTAMP(6) NOT NULL)");
+        jdbcTemplate.update("INSERT INTO replication_heartbeat (id, beat_at) VALUES (1, ?)", Timestamp.from(beatAt));
+        return aDataSource;
+    }
+
+    private static void beat(final DataSource aDataSource, final Instant beatAt) {
+        new JdbcTemplate(aDataSource).update("UPDATE replication_heartbeat SET beat_at = ? WHERE id = 1", Timestamp.from(beatAt));
+    }
+}
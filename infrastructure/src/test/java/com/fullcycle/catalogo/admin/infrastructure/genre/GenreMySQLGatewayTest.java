@@ -9,13 +9,17 @@ import com.fullcycle.catalogo.admin.domain.pagination.SearchQuery;
 import com.fullcycle.catalogo.admin.infrastructure.category.CategoryMySQLGateway;
 import com.fullcycle.catalogo.admin.infrastructure.genre.persistence.GenreJpaEntity;
 import com.fullcycle.catalogo.admin.infrastructure.genre.persistence.GenreRepository;
+import com.fullcycle.catalogo.admin.infrastructure.utils.KeysetUtils;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
 
 import java.util.Comparator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -32,6 +36,9 @@ public class GenreMySQLGatewayTest {
     @Autowired
     private GenreRepository genreRepository;
 
+    @Autowired
+    private TestEntityManager entityManager;
+
     @Test
     public void testDependenciesInjected() {
         assertNotNull(categoryGateway);
@@ -212,6 +219,45 @@ public class GenreMySQLGatewayTest {
         assertNull(persistedGenre.getDeletedAt());
     }
 
+    @Test
+    public void givenAGenreWithCategories_whenCallsUpdateOnlyTheName_thenShouldIssueASingleUpdate() {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategoryWith("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategoryWith("Séries", null, true));
+        final var expectedCategories = sorted(List.of(filmes.getId(), series.getId()));
+        final var expectedName = "Ação";
+
+        final var aGenre = Genre.newGenreWith("ac", true).addCategories(expectedCategories);
+        genreRepository.saveAndFlush(GenreJpaEntity.from(aGenre));
+        entityManager.clear();
+
+        final var statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        genreGateway.update(Genre.with(aGenre).update(expectedName, true, expectedCategories));
+        entityManager.flush();
+
+        // then
+        try {
+            assertEquals(1, statistics.getEntityUpdateCount());
+            assertEquals(0, statistics.getEntityInsertCount());
+            assertEquals(0, statistics.getEntityDeleteCount());
+            assertEquals(0, statistics.getCollectionRecreateCount());
+            assertEquals(0, statistics.getCollectionRemoveCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        entityManager.clear();
+        final var persistedGenre = genreRepository.findById(aGenre.getId().getValue()).get();
+        assertEquals(expectedName, persistedGenre.getName());
+        assertIterableEquals(expectedCategories, sorted(persistedGenre.getCategoryIDs()));
+    }
+
     @Test
     public void givenAValidGenreInactive_whenCallsUpdateGenreActivating_thenShouldPersistGenre() {
         final var expectedName = "Ação";
@@ -380,6 +426,7 @@ public class GenreMySQLGatewayTest {
         "com,0,10,1,1,Comédia romântica",
         "cien,0,10,1,1,Ficção científica",
         "terr,0,10,1,1,Terror",
+        "t,0,10,1,1,Terror",
     })
     public void givenAValidTerm_whenCallsFindAll_thenShouldReturnFiltered(
         final String expectedTerms,
@@ -472,6 +519,85 @@ public class GenreMySQLGatewayTest {
         }
     }
 
+    @Test
+    public void givenANextCursor_whenCallsFindAllAfterIt_thenShouldReturnTheNextPageWithoutCounting() {
+        // given
+        mockGenres();
+        entityManager.clear();
+
+        final var aFirstPage = genreGateway.findAll(new SearchQuery(0, 2, "", "name", "asc"));
+        assertEquals(List.of("Ação", "Comédia romântica"), aFirstPage.items().stream().map(Genre::getName).toList());
+
+        final var statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // SELECT da página e as categorias dos gêneros da página, sem COUNT
+        final var expectedStatements = 2;
+
+        // when
+        final var actualPage = genreGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", aFirstPage.nextCursor()));
+
+        // then
+        try {
+            assertEquals(expectedStatements, statistics.getPrepareStatementCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        assertEquals(KeysetUtils.UNKNOWN_TOTAL, actualPage.total());
+        assertEquals(List.of("Drama", "Ficção científica"), actualPage.items().stream().map(Genre::getName).toList());
+        assertNotNull(actualPage.nextCursor());
+
+        final var aLastPage = genreGateway.findAll(new SearchQuery(0, 2, "", "name", "asc", actualPage.nextCursor()));
+        assertEquals(List.of("Terror"), aLastPage.items().stream().map(Genre::getName).toList());
+        assertNull(aLastPage.nextCursor());
+    }
+
+    @ParameterizedTest
+    @CsvSource({"1", "2", "5"})
+    public void givenPrePersistedGenresWithCategories_whenCallsFindAll_thenShouldLoadThePageWithTheSameStatements(
+        final int expectedPerPage
+    ) {
+        // given
+        final var filmes = categoryGateway.create(Category.newCategoryWith("Filmes", null, true));
+        final var series = categoryGateway.create(Category.newCategoryWith("Séries", null, true));
+        final var expectedCategories = sorted(List.of(filmes.getId(), series.getId()));
+
+        // SELECT da página, COUNT e as categorias de todos os gêneros da página
+        final var expectedStatements = 3;
+
+        genreRepository.saveAllAndFlush(Stream.of("Ação", "Comédia", "Drama", "Terror", "Suspense")
+                .map(name -> Genre.newGenreWith(name, true).addCategories(expectedCategories))
+                .map(GenreJpaEntity::from)
+                .toList());
+        entityManager.clear();
+
+        final var statistics = entityManager.getEntityManager().getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        final var aQuery = new SearchQuery(0, expectedPerPage, "", "name", "asc");
+
+        // when
+        final var actualPage = genreGateway.findAll(aQuery);
+
+        // then
+        try {
+            assertEquals(expectedStatements, statistics.getPrepareStatementCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        assertEquals(expectedPerPage, actualPage.items().size());
+        actualPage.items().forEach(actualGenre ->
+            assertIterableEquals(expectedCategories, sorted(actualGenre.getCategories())));
+    }
+
     @Test
     public void givenPrePersistedGenres_whenCallsExistsByIds_thenShouldReturnIds() {
         // given
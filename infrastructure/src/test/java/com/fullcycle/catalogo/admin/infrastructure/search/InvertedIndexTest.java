@@ -0,0 +1,102 @@
+package com.fullcycle.catalogo.admin.infrastructure.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InvertedIndexTest {
+    private InvertedIndex target;
+
+    @BeforeEach
+    public void setup() {
+        this.target = new InvertedIndex();
+        target.index("1", "Quentin Tarantino");
+        target.index("2", "Ação");
+        target.index("3", "Ficção científica");
+        target.index("4", "Comédia romântica");
+        target.index("5", "Filmes", "A categoria mais assistida");
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "taran,1",
+        "TARANTINO,1",
+        "aç,2",
+        "acao,2",
+        "cien,3",
+        "ficção cien,3",
+        "MAIS ASSISTIDA,5",
+        "r,4",
+    })
+    public void givenAValidTerm_whenCallsSearch_thenShouldReturnTheMatchingIds(final String terms, final String expectedId) {
+        // when
+        final var actualIds = target.search(terms);
+
+        // then
+        assertEquals(Set.of(expectedId), actualIds.get());
+    }
+
+    @Test
+    public void givenWordsInDifferentDocuments_whenCallsSearch_thenShouldReturnOnlyDocumentsWithAllOfThem() {
+        // when
+        final var actualIds = target.search("tarantino assistida");
+
+        // then
+        assertTrue(actualIds.get().isEmpty());
+    }
+
+    @Test
+    public void givenGramsFromDifferentWords_whenCallsSearch_thenShouldNotMatch() {
+        // given
+        target.index("6", "abc cde");
+
+        // when
+        final var actualIds = target.search("abcde");
+
+        // then
+        assertTrue(actualIds.get().isEmpty());
+    }
+
+    @Test
+    public void givenTermsWithoutWords_whenCallsSearch_thenShouldReturnEmpty() {
+        assertTrue(target.search("---").isEmpty());
+        assertTrue(target.search(null).isEmpty());
+    }
+
+    @Test
+    public void givenAnIndexedId_whenCallsIndexAgain_thenShouldReplaceItsTexts() {
+        // when
+        target.index("2", "Drama");
+
+        // then
+        assertTrue(target.search("ação").get().isEmpty());
+        assertEquals(Set.of("2"), target.search("dra").get());
+        assertEquals(5, target.size());
+    }
+
+    @Test
+    public void givenAnIndexedId_whenCallsIndexIfAbsent_thenShouldKeepTheCurrentTexts() {
+        // when
+        target.indexIfAbsent("2", "Drama");
+
+        // then
+        assertEquals(Set.of("2"), target.search("ação").get());
+        assertTrue(target.search("dra").get().isEmpty());
+    }
+
+    @Test
+    public void givenAnIndexedId_whenCallsRemove_thenShouldNotFindIt() {
+        // when
+        target.remove("1");
+        target.remove("unknown");
+
+        // then
+        assertTrue(target.search("taran").get().isEmpty());
+        assertEquals(4, target.size());
+    }
+}
@@ -0,0 +1,114 @@
+package com.fullcycle.catalogo.admin.infrastructure.search;
+
+import com.fullcycle.catalogo.admin.IntegrationTest;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMember;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberGateway;
+import com.fullcycle.catalogo.admin.domain.castmember.CastMemberType;
+import com.fullcycle.catalogo.admin.domain.category.Category;
+import com.fullcycle.catalogo.admin.domain.category.CategoryGateway;
+import com.fullcycle.catalogo.admin.domain.pagination.SearchQuery;
+import com.fullcycle.catalogo.admin.infrastructure.category.persistence.CategoryJpaEntity;
+import com.fullcycle.catalogo.admin.infrastructure.category.persistence.CategoryRepository;
+import com.fullcycle.catalogo.admin.infrastructure.search.SearchIndex.Catalog;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+@TestPropertySource(properties = "search.in-memory-index=true")
+public class SearchIndexLoaderTest {
+    @Autowired
+    private SearchIndexLoader searchIndexLoader;
+
+    @Autowired
+    private SearchIndex searchIndex;
+
+    @Autowired
+    private CategoryGateway categoryGateway;
+
+    @Autowired
+    private CastMemberGateway castMemberGateway;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    public void givenCategoriesSavedOutsideTheGateway_whenCallsLoad_thenShouldFindThemThroughTheIndex() {
+        // given
+        final var documentarios = Category.newCategoryWith("Documentários", "Histórias reais", true);
+        categoryRepository.saveAndFlush(CategoryJpaEntity.from(documentarios));
+
+        assertTrue(searchIndex.find(Catalog.CATEGORIES, "documentarios").get().isEmpty());
+
+        // when
+        searchIndexLoader.load();
+
+        // then
+        assertEquals(Set.of(documentarios.getId().getValue()), searchIndex.find(Catalog.CATEGORIES, "documentarios").get());
+
+        final var actualPage = categoryGateway.findAll(new SearchQuery(0, 10, "historias", "name", "asc"));
+        assertEquals(1, actualPage.total());
+        assertEquals(documentarios.getId(), actualPage.items().get(0).getId());
+    }
+
+    @Test
+    public void givenACastMemberCreatedByTheGateway_whenCallsFindAll_thenShouldResolveItThroughTheIndex() {
+        // given
+        final var aMember = castMemberGateway.create(CastMember.newMember("Martin Scorsese", CastMemberType.DIRECTOR));
+
+        // when
+        final var actualPage = castMemberGateway.findAll(new SearchQuery(0, 10, "SCORS", "name", "asc"));
+
+        // then
+        assertEquals(Set.of(aMember.getId().getValue()), searchIndex.find(Catalog.CAST_MEMBERS, "scors").get());
+        assertEquals(1, actualPage.total());
+        assertEquals(aMember.getId(), actualPage.items().get(0).getId());
+    }
+
+    @Test
+    public void givenAnUpdatedAndDeletedCategory_whenCallsFind_thenShouldFollowTheGatewayWrites() {
+        // given
+        final var aCategory = categoryGateway.create(Category.newCategoryWith("Filmes", null, true));
+
+        // when
+        categoryGateway.update(aCategory.update("Séries", null, true));
+
+        // then
+        assertTrue(searchIndex.find(Catalog.CATEGORIES, "filmes").get().isEmpty());
+        assertEquals(Set.of(aCategory.getId().getValue()), searchIndex.find(Catalog.CATEGORIES, "series").get());
+
+        // when
+        categoryGateway.deleteById(aCategory.getId());
+
+        // then
+        assertTrue(searchIndex.find(Catalog.CATEGORIES, "series").get().isEmpty());
+        assertTrue(categoryGateway.findAll(new SearchQuery(0, 10, "series", "name", "asc")).items().isEmpty());
+    }
+
+    @Test
+    public void givenAnUpdateRolledBack_whenCallsFind_thenShouldKeepTheCommittedTexts() {
+        // given
+        final var aCategory = categoryGateway.create(Category.newCategoryWith("Animações", null, true));
+        final var anId = aCategory.getId().getValue();
+
+        // when
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            categoryGateway.updateAll(List.of(aCategory.update("Novelas", null, true)));
+            status.setRollbackOnly();
+        });
+
+        // then
+        assertEquals(Set.of(anId), searchIndex.find(Catalog.CATEGORIES, "animacoes").get());
+        assertTrue(searchIndex.find(Catalog.CATEGORIES, "novelas").get().isEmpty());
+    }
+}
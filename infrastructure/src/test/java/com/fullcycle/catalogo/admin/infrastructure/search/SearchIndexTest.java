@@ -0,0 +1,54 @@
+package com.fullcycle.catalogo.admin.infrastructure.search;
+
+import com.fullcycle.catalogo.admin.infrastructure.search.SearchIndex.Catalog;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SearchIndexTest {
+
+    @Test
+    public void givenAnIndexNotLoadedYet_whenCallsFind_thenShouldSearchTheDatabase() {
+        // given
+        final var searchIndex = new SearchIndex(true, 10);
+        searchIndex.index(Catalog.CATEGORIES, "123", "Filmes");
+
+        // when
+        final var actualIds = searchIndex.find(Catalog.CATEGORIES, "filmes");
+
+        // then
+        assertFalse(searchIndex.isLoaded());
+        assertEquals(Optional.empty(), actualIds);
+        assertEquals(1, searchIndex.size(Catalog.CATEGORIES));
+    }
+
+    @Test
+    public void givenALoadedIndex_whenCallsFind_thenShouldReturnTheMatchingIds() {
+        // given
+        final var searchIndex = new SearchIndex(true, 10);
+        searchIndex.index(Catalog.CATEGORIES, "123", "Filmes");
+
+        // when
+        searchIndex.markLoaded();
+
+        // then
+        assertEquals(Optional.of(Set.of("123")), searchIndex.find(Catalog.CATEGORIES, "filmes"));
+        assertEquals(Optional.of(Set.of()), searchIndex.find(Catalog.CATEGORIES, "series"));
+    }
+
+    @Test
+    public void givenADisabledIndex_whenCallsFind_thenShouldSearchTheDatabase() {
+        // given
+        final var searchIndex = new SearchIndex(false, 10);
+        searchIndex.markLoaded();
+
+        // when
+        final var actualIds = searchIndex.find(Catalog.CATEGORIES, "filmes");
+
+        // then
+        assertEquals(Optional.empty(), actualIds);
+    }
+}
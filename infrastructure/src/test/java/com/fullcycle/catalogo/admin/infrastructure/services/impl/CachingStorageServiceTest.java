@@ -0,0 +1,167 @@
+package com.fullcycle.catalogo.admin.infrastructure.services.impl;
+
+import com.fullcycle.catalogo.admin.domain.Fixture;
+import com.fullcycle.catalogo.admin.domain.resource.Resource;
+import com.fullcycle.catalogo.admin.infrastructure.services.local.InMemoryStorageService;
+import com.google.common.base.Ticker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.fullcycle.catalogo.admin.domain.video.VideoMediaType.VIDEO;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CachingStorageServiceTest {
+    private static final Duration TIME_TO_LIVE = Duration.ofSeconds(30);
+
+    private InMemoryStorageService storageService;
+
+    @BeforeEach
+    public void setup() {
+        this.storageService = spy(new InMemoryStorageService());
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void givenAnImage_whenCallsGetTwice_thenShouldReadTheStorageOnce(final boolean offHeap) throws Exception {
+        // given
+        final var target = new CachingStorageService(storageService, 1024, 1024, TIME_TO_LIVE, offHeap);
+        final var expectedName = "videoId-123/type-BANNER";
+        final var expectedContent = "BANNER".getBytes();
+        final var expectedChecksum = "abc";
+
+        storageService.store(expectedName, Resource.of(expectedChecksum, expectedContent, "image/png", "banner"));
+
+        // when
+        target.get(expectedName);
+        final var actualResource = target.get(expectedName).get();
+
+        // then
+        verify(storageService, times(1)).get(expectedName);
+        assertArrayEquals(expectedContent, actualResource.content());
+        assertEquals(expectedChecksum, actualResource.checksum());
+        assertEquals("image/png", actualResource.contentType());
+        assertEquals(expectedContent.length, actualResource.size());
+
+        try (final var in = actualResource.openStream(1, 3)) {
+            assertArrayEquals("ANN".getBytes(), in.readAllBytes());
+        }
+
+        assertEquals(1, target.stats().hitCount());
+        assertEquals(1, target.stats().missCount());
+
+        final var actualMetrics = target.metrics();
+        assertEquals(1, actualMetrics.size());
+        assertEquals(CachingStorageService.CACHE_NAME, actualMetrics.get(0).name());
+        assertEquals(1, actualMetrics.get(0).size());
+        assertEquals(1, actualMetrics.get(0).stats().hitCount());
+    }
+
+    @Test
+    public void givenAVideo_whenCallsGet_thenShouldNotCacheIt() {
+        // given
+        final var target = new CachingStorageService(storageService, 1024 * 1024, 1024 * 1024, TIME_TO_LIVE, false);
+        final var expectedName = "videoId-123/type-VIDEO";
+
+        storageService.store(expectedName, Fixture.Videos.resource(VIDEO));
+
+        // when
+        target.get(expectedName);
+        target.get(expectedName);
+
+        // then
+        verify(storageService, times(2)).get(expectedName);
+        assertEquals(0, target.size());
+    }
+
+    @Test
+    public void givenACachedImage_whenCallsStore_thenShouldInvalidateIt() {
+        // given
+        final var target = new CachingStorageService(storageService, 1024, 1024, TIME_TO_LIVE, false);
+        final var expectedName = "videoId-123/type-BANNER";
+        final var expectedContent = "NOVO".getBytes();
+
+        target.store(expectedName, Resource.of("1", "ANTIGO".getBytes(), "image/png", "banner"));
+        target.get(expectedName);
+
+        // when
+        target.store(expectedName, Resource.of("2", expectedContent, "image/png", "banner"));
+
+        // then
+        final var actualResource = target.get(expectedName).get();
+        assertArrayEquals(expectedContent, actualResource.content());
+        assertEquals("2", actualResource.checksum());
+    }
+
+    @Test
+    public void givenACachedImage_whenCallsDeleteAll_thenShouldInvalidateIt() {
+        // given
+        final var target = new CachingStorageService(storageService, 1024, 1024, TIME_TO_LIVE, false);
+        final var expectedName = "videoId-123/type-THUMBNAIL";
+
+        target.store(expectedName, Resource.of("1", "THUMB".getBytes(), "image/png", "thumb"));
+        target.get(expectedName);
+
+        // when
+        target.deleteAll(List.of(expectedName));
+
+        // then
+        assertTrue(target.get(expectedName).isEmpty());
+        assertEquals(0, target.size());
+    }
+
+    @Test
+    public void givenImagesBeyondTheLimit_whenCallsGet_thenShouldEvictByBytes() {
+        // given
+        final var target = new CachingStorageService(storageService, 10, 10, TIME_TO_LIVE, false);
+
+        target.store("a", Resource.of("1", "123456".getBytes(), "image/png", "a"));
+        target.store("b", Resource.of("2", "123456".getBytes(), "image/png", "b"));
+
+        // when
+        target.get("a");
+        target.get("b");
+
+        // then
+        assertEquals(1, target.size());
+        assertEquals(1, target.stats().evictionCount());
+    }
+
+    @Test
+    public void givenAnImageReplacedByAnotherInstance_whenCallsGetAfterTheTimeToLive_thenShouldReadTheNewContent() {
+        // given
+        final var now = new AtomicLong();
+        final var ticker = new Ticker() {
+            @Override
+            public long read() {
+                return now.get();
+            }
+        };
+        final var target = new CachingStorageService(storageService, 1024, 1024, TIME_TO_LIVE, false, ticker);
+        final var expectedName = "videoId-123/type-BANNER";
+        final var expectedContent = "NOVO".getBytes();
+
+        storageService.store(expectedName, Resource.of("1", "ANTIGO".getBytes(), "image/png", "banner"));
+        target.get(expectedName);
+
+        // a outra instância grava direto no storage, sem passar por este cache
+        storageService.store(expectedName, Resource.of("2", expectedContent, "image/png", "banner"));
+
+        // when
+        final var beforeExpiration = target.get(expectedName).get();
+        now.addAndGet(TIME_TO_LIVE.plusMillis(1).toNanos());
+        final var afterExpiration = target.get(expectedName).get();
+
+        // then
+        assertEquals("1", beforeExpiration.checksum());
+        assertEquals("2", afterExpiration.checksum());
+        assertArrayEquals(expectedContent, afterExpiration.content());
+        verify(storageService, times(2)).get(expectedName);
+    }
+}
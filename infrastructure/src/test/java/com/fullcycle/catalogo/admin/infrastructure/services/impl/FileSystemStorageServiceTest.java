@@ -0,0 +1,220 @@
+package com.fullcycle.catalogo.admin.infrastructure.services.impl;
+
+import com.fullcycle.catalogo.admin.domain.Fixture;
+import com.fullcycle.catalogo.admin.domain.resource.Resource;
+import com.fullcycle.catalogo.admin.infrastructure.utils.HashingUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static com.fullcycle.catalogo.admin.domain.video.VideoMediaType.BANNER;
+import static com.fullcycle.catalogo.admin.domain.video.VideoMediaType.VIDEO;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileSystemStorageServiceTest {
+    @TempDir
+    private Path root;
+
+    private FileSystemStorageService target;
+
+    @BeforeEach
+    public void setup() {
+        this.target = new FileSystemStorageService(root);
+    }
+
+    @Test
+    public void givenValidResource_whenCallsStore_thenShouldStoreIt() {
+        // given
+        final var expectedResource = Fixture.Videos.resource(VIDEO);
+        final var expectedName = "videoId-123/type-VIDEO";
+
+        // when
+        final var actualChecksum = target.store(expectedName, expectedResource);
+
+        // then
+        assertEquals(expectedResource.checksum(), actualChecksum);
+        assertTrue(Files.isRegularFile(root.resolve(expectedName)));
+
+        final var actualResource = target.get(expectedName).get();
+        assertArrayEquals(expectedResource.content(), actualResource.content());
+        assertEquals(expectedResource.checksum(), actualResource.checksum());
+        assertEquals(expectedResource.contentType(), actualResource.contentType());
+        assertEquals(expectedResource.size(), actualResource.size());
+        assertEquals(expectedName, actualResource.name());
+    }
+
+    @Test
+    public void givenStreamedResource_whenCallsStore_thenShouldStoreItWithComputedChecksum() {
+        // given
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var expectedName = "videoId-123/type-VIDEO";
+        final var aResource = Resource.of(
+            () -> new ByteArrayInputStream(expectedContent),
+            expectedContent.length,
+            "video/mp4",
+            "video"
+        );
+
+        // when
+        final var actualChecksum = target.store(expectedName, aResource);
+
+        // then
+        assertEquals(expectedChecksum, actualChecksum);
+
+        final var actualResource = target.get(expectedName).get();
+        assertArrayEquals(expectedContent, actualResource.content());
+        assertEquals(expectedChecksum, actualResource.checksum());
+    }
+
+    @Test
+    public void givenAnExistingName_whenCallsStore_thenShouldReplaceIt() {
+        // given
+        final var expectedName = "videoId-123/type-BANNER";
+        final var expectedContent = "NOVO".getBytes();
+
+        target.store(expectedName, Resource.of("1", "ANTIGO".getBytes(), "image/png", "banner"));
+
+        // when
+        target.store(expectedName, Resource.of("2", expectedContent, "image/png", "banner"));
+
+        // then
+        final var actualResource = target.get(expectedName).get();
+        assertArrayEquals(expectedContent, actualResource.content());
+        assertEquals("2", actualResource.checksum());
+        assertEquals(List.of(expectedName), target.list("videoId-123"));
+    }
+
+    @Test
+    public void givenAStoredResource_whenCallsStoreWithIt_thenShouldCopyTheFile() {
+        // given
+        final var expectedContent = new byte[64 * 1024];
+        new Random(42).nextBytes(expectedContent);
+
+        target.store("videoId-123/uploads/1/composed", Resource.of(
+            () -> new ByteArrayInputStream(expectedContent),
+            expectedContent.length,
+            "video/mp4",
+            "video"
+        ));
+
+        final var aSource = target.get("videoId-123/uploads/1/composed").get();
+
+        // when
+        final var actualChecksum = target.store("videoId-123/type-VIDEO", aSource);
+
+        // then
+        assertEquals(aSource.checksum(), actualChecksum);
+        assertArrayEquals(expectedContent, target.get("videoId-123/type-VIDEO").get().content());
+    }
+
+    @Test
+    public void givenAStoredResource_whenOpensARange_thenShouldReadOnlyThatRegion() throws Exception {
+        // given
+        final var expectedContent = new byte[32 * 1024 * 1024];
+        new Random(42).nextBytes(expectedContent);
+
+        target.store("videoId-123/type-VIDEO", Resource.of("abc", expectedContent, "video/mp4", "video"));
+        final var aResource = target.get("videoId-123/type-VIDEO").get();
+
+        // when
+        final byte[] actualSmallRange;
+        try (final var in = aResource.openStream(100, 1024)) {
+            actualSmallRange = in.readAllBytes();
+        }
+
+        final byte[] actualLargeRange;
+        try (final var in = aResource.openStream(1024, expectedContent.length)) {
+            actualLargeRange = in.readAllBytes();
+        }
+
+        // then
+        assertArrayEquals(Arrays.copyOfRange(expectedContent, 100, 1124), actualSmallRange);
+        assertArrayEquals(Arrays.copyOfRange(expectedContent, 1024, expectedContent.length), actualLargeRange);
+    }
+
+    @Test
+    public void givenInvalidName_whenCallsGet_thenShouldReturnEmpty() {
+        // when
+        final var actualResource = target.get("videoId-123/type-VIDEO");
+
+        // then
+        assertTrue(actualResource.isEmpty());
+    }
+
+    @Test
+    public void givenANameOutsideTheRoot_whenCallsGet_thenShouldThrowError() {
+        // when
+        final var actualException =
+            assertThrows(IllegalArgumentException.class, () -> target.get("../passwd"));
+
+        // then
+        assertEquals("Invalid storage name: ../passwd", actualException.getMessage());
+    }
+
+    @Test
+    public void givenValidPrefix_whenCallsList_thenShouldRetrieveOnlyThatFolder() {
+        // given
+        final var expectedNames = List.of(
+            "videoId-1/type-BANNER",
+            "videoId-1/type-VIDEO",
+            "videoId-1/uploads/abc/1"
+        );
+
+        expectedNames.forEach(name -> target.store(name, Fixture.Videos.resource(VIDEO)));
+        target.store("videoId-2/type-VIDEO", Fixture.Videos.resource(VIDEO));
+
+        // when
+        final var actualNames = target.list("videoId-1/");
+
+        // then
+        assertTrue(expectedNames.size() == actualNames.size() && actualNames.containsAll(expectedNames));
+        assertEquals(List.of("videoId-1/uploads/abc/1"), target.list("videoId-1/uploads/abc/"));
+        assertEquals(List.of("videoId-2/type-VIDEO"), target.list("videoId-2"));
+        assertTrue(target.list("videoId-3").isEmpty());
+    }
+
+    @Test
+    public void givenValidNames_whenCallsDeleteAll_thenShouldDeleteFilesAndEmptyFolders() {
+        // given
+        target.store("videoId-1/type-VIDEO", Fixture.Videos.resource(VIDEO));
+        target.store("videoId-1/type-BANNER", Fixture.Videos.resource(BANNER));
+        target.store("videoId-2/type-VIDEO", Fixture.Videos.resource(VIDEO));
+
+        // when
+        target.deleteAll(target.list("videoId-1/"));
+
+        // then
+        assertTrue(target.get("videoId-1/type-VIDEO").isEmpty());
+        assertFalse(Files.exists(root.resolve("videoId-1")));
+        assertEquals(List.of("videoId-2/type-VIDEO"), target.list(""));
+    }
+
+    @Test
+    public void givenStoredSources_whenCallsCompose_thenShouldConcatenateThemInOrder() {
+        // given
+        final var expectedContent = "PART1PART2".getBytes();
+        final var expectedContentType = "video/mp4";
+
+        target.store("uploads/1", Resource.of("1", "PART1".getBytes(), "application/octet-stream", "1"));
+        target.store("uploads/2", Resource.of("2", "PART2".getBytes(), "application/octet-stream", "2"));
+
+        // when
+        final var actualChecksum = target.compose("uploads/composed", List.of("uploads/1", "uploads/2"), expectedContentType);
+
+        // then
+        assertEquals(HashingUtils.checksum(expectedContent), actualChecksum);
+
+        final var actualResource = target.get("uploads/composed").get();
+        assertArrayEquals(expectedContent, actualResource.content());
+        assertEquals(expectedContentType, actualResource.contentType());
+        assertEquals(actualChecksum, actualResource.checksum());
+    }
+}
@@ -3,18 +3,27 @@ package com.fullcycle.catalogo.admin.infrastructure.services.impl;
 import com.fullcycle.catalogo.admin.domain.Fixture;
 import com.fullcycle.catalogo.admin.domain.resource.Resource;
 import com.fullcycle.catalogo.admin.domain.video.VideoMediaType;
+import com.fullcycle.catalogo.admin.infrastructure.utils.HashingUtils;
 import com.google.api.gax.paging.Page;
+import com.google.cloud.ReadChannel;
 import com.google.cloud.storage.Blob;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
+import com.google.cloud.storage.CopyWriter;
 import com.google.cloud.storage.Storage;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
 import java.util.List;
+import java.util.stream.IntStream;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -54,6 +63,42 @@ public class GoogleCloudStorageServiceTest {
         Assertions.assertEquals(expectedResource.checksum(), actualBlob.getCrc32cToHexString());
     }
 
+    @Test
+    public void givenStreamedResource_whenCallsStore_thenShouldStreamItAndReturnChecksum() throws Exception {
+        // given
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var expectedId = "video";
+        final var aResource = Resource.of(
+            () -> new ByteArrayInputStream(expectedContent),
+            expectedContent.length,
+            "video/mp4",
+            expectedId
+        );
+
+        when(storage.createFrom(any(BlobInfo.class), any(InputStream.class)))
+            .thenAnswer(answer -> {
+                answer.getArgument(1, InputStream.class).readAllBytes();
+                return null;
+            });
+
+        // when
+        final var actualChecksum = this.target.store(expectedId, aResource);
+
+        // then
+        Assertions.assertEquals(expectedChecksum, actualChecksum);
+
+        final var capturer = ArgumentCaptor.forClass(BlobInfo.class);
+
+        verify(storage, times(1)).createFrom(capturer.capture(), any(InputStream.class));
+        verify(storage, never()).create(any(BlobInfo.class), any(byte[].class));
+
+        final var actualBlob = capturer.getValue();
+        Assertions.assertEquals(this.bucket, actualBlob.getBlobId().getBucket());
+        Assertions.assertEquals(expectedId, actualBlob.getBlobId().getName());
+        Assertions.assertEquals(aResource.contentType(), actualBlob.getContentType());
+    }
+
     @Test
     public void givenResource_whenCallsGet_thenShouldRetrieveIt() {
         // given
@@ -69,8 +114,36 @@ public class GoogleCloudStorageServiceTest {
         // then
         Assertions.assertEquals(expectedResource.checksum(), actualContent.checksum());
         Assertions.assertEquals(expectedResource.name(), actualContent.name());
-        Assertions.assertEquals(expectedResource.content(), actualContent.content());
+        Assertions.assertEquals(expectedResource.size(), actualContent.size());
+        Assertions.assertArrayEquals(expectedResource.content(), actualContent.content());
         Assertions.assertEquals(expectedResource.contentType(), actualContent.contentType());
+
+        verify(blob, never()).getContent();
+    }
+
+    @Test
+    public void givenResource_whenCallsOpenStreamWithRange_thenShouldSeekAndLimitTheReader() throws Exception {
+        // given
+        final var expectedResource = Resource.of("abc", "0123456789".getBytes(), "video/mp4", "video");
+        final var expectedId = expectedResource.name();
+
+        final var reader = readerOf("2345".getBytes());
+        final Blob blob = mockBlob(expectedResource);
+        doReturn(reader).when(blob).reader();
+        doReturn(blob).when(storage).get(eq(bucket), eq(expectedId));
+
+        // when
+        final byte[] actualContent;
+        try (final var in = target.get(expectedId).get().openStream(2, 4)) {
+            actualContent = in.readAllBytes();
+        }
+
+        // then
+        Assertions.assertArrayEquals("2345".getBytes(), actualContent);
+
+        verify(reader, times(1)).seek(eq(2L));
+        verify(reader, times(1)).limit(eq(6L));
+        verify(blob, never()).getContent();
     }
 
     @Test
@@ -117,13 +190,89 @@ public class GoogleCloudStorageServiceTest {
         Assertions.assertTrue(expectedIds.size() == actualIds.size() && actualIds.containsAll(expectedIds));
     }
 
+    @Test
+    public void givenAResourceFromTheSameBucket_whenCallsStore_thenShouldCopyItServerSide() {
+        // given
+        final var aResource = Fixture.Videos.resource(VideoMediaType.VIDEO);
+        final var sourceName = "uploads/composed";
+        final var expectedId = "video";
+
+        final var sourceBlob = mockBlob(aResource);
+        when(sourceBlob.getBucket()).thenReturn(bucket);
+        when(sourceBlob.getBlobId()).thenReturn(BlobId.of(bucket, sourceName));
+        doReturn(sourceBlob).when(storage).get(eq(bucket), eq(sourceName));
+
+        final var copiedBlob = mockBlob(aResource);
+        final var copyWriter = mock(CopyWriter.class);
+        when(copyWriter.getResult()).thenReturn(copiedBlob);
+        when(storage.copy(any())).thenReturn(copyWriter);
+
+        final var aSource = target.get(sourceName).orElseThrow();
+
+        // when
+        final var actualChecksum = target.store(expectedId, aSource);
+
+        // then
+        Assertions.assertEquals(aResource.checksum(), actualChecksum);
+
+        final var capturer = ArgumentCaptor.forClass(Storage.CopyRequest.class);
+        verify(storage, times(1)).copy(capturer.capture());
+        verify(storage, never()).createFrom(any(BlobInfo.class), any(InputStream.class));
+        verify(sourceBlob, never()).reader();
+
+        final var actualRequest = capturer.getValue();
+        Assertions.assertEquals(sourceName, actualRequest.getSource().getName());
+        Assertions.assertEquals(expectedId, actualRequest.getTarget().getName());
+        Assertions.assertEquals(aResource.contentType(), actualRequest.getTarget().getContentType());
+    }
+
+    @Test
+    public void givenMoreSourcesThanTheComposeLimit_whenCallsCompose_thenShouldComposeInBatches() {
+        // given
+        final var expectedName = "composed";
+        final var expectedChecksum = "checksum";
+        final var sources = IntStream.rangeClosed(1, 40).mapToObj(String::valueOf).toList();
+
+        final var composedBlob = mock(Blob.class);
+        when(composedBlob.getCrc32cToHexString()).thenReturn(expectedChecksum);
+        when(storage.compose(any())).thenReturn(composedBlob);
+
+        // when
+        final var actualChecksum = target.compose(expectedName, sources, "video/mp4");
+
+        // then
+        Assertions.assertEquals(expectedChecksum, actualChecksum);
+
+        final var capturer = ArgumentCaptor.forClass(Storage.ComposeRequest.class);
+        verify(storage, times(2)).compose(capturer.capture());
+
+        final var firstBatch = capturer.getAllValues().get(0).getSourceBlobs();
+        Assertions.assertEquals(32, firstBatch.size());
+        Assertions.assertEquals("1", firstBatch.get(0).getName());
+
+        final var secondBatch = capturer.getAllValues().get(1).getSourceBlobs();
+        Assertions.assertEquals(9, secondBatch.size());
+        Assertions.assertEquals(expectedName, secondBatch.get(0).getName());
+        Assertions.assertEquals("33", secondBatch.get(1).getName());
+        Assertions.assertEquals(expectedName, capturer.getAllValues().get(1).getTarget().getName());
+    }
+
     private Blob mockBlob(final Resource resource) {
         final var blob1 = mock(Blob.class);
         when(blob1.getBlobId()).thenReturn(BlobId.of(bucket, resource.name()));
         when(blob1.getCrc32cToHexString()).thenReturn(resource.checksum());
-        when(blob1.getContent()).thenReturn(resource.content());
+        when(blob1.getSize()).thenReturn(resource.size());
+        when(blob1.reader()).thenAnswer(invocation -> readerOf(resource.content()));
         when(blob1.getContentType()).thenReturn(resource.contentType());
         when(blob1.getName()).thenReturn(resource.name());
         return blob1;
     }
-}
\ No newline at end of file
+
+    private ReadChannel readerOf(final byte[] content) throws IOException {
+        final var source = Channels.newChannel(new ByteArrayInputStream(content));
+        final var reader = mock(ReadChannel.class);
+        when(reader.isOpen()).thenReturn(true);
+        when(reader.read(any())).thenAnswer(invocation -> source.read(invocation.getArgument(0)));
+        return reader;
+    }
+}
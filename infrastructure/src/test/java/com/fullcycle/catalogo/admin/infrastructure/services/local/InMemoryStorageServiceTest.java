@@ -1,16 +1,21 @@
 package com.fullcycle.catalogo.admin.infrastructure.services.local;
 
 import com.fullcycle.catalogo.admin.domain.Fixture;
+import com.fullcycle.catalogo.admin.domain.resource.Resource;
 import com.fullcycle.catalogo.admin.domain.utils.IDUtils;
+import com.fullcycle.catalogo.admin.infrastructure.utils.HashingUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayInputStream;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 
 import static com.fullcycle.catalogo.admin.domain.video.VideoMediaType.VIDEO;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class InMemoryStorageServiceTest {
@@ -34,6 +39,32 @@ public class InMemoryStorageServiceTest {
         assertEquals(expectedResource, target.getStorage().get(expectedName));
     }
 
+    @Test
+    public void givenStreamedResource_whenCallsStore_thenShouldStoreItWithComputedChecksum() {
+        // given
+        final var expectedContent = "Conteudo".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var expectedName = IDUtils.uuid();
+        final var aResource = Resource.of(
+            () -> new ByteArrayInputStream(expectedContent),
+            expectedContent.length,
+            "video/mp4",
+            "video"
+        );
+
+        // when
+        final var actualChecksum = target.store(expectedName, aResource);
+
+        // then
+        assertEquals(expectedChecksum, actualChecksum);
+
+        final var actualStored = target.getStorage().get(expectedName);
+        assertEquals(expectedChecksum, actualStored.checksum());
+        assertArrayEquals(expectedContent, actualStored.content());
+        assertEquals(aResource.contentType(), actualStored.contentType());
+        assertEquals(aResource.name(), actualStored.name());
+    }
+
     @Test
     public void givenValidResource_whenCallsGet_thenShouldRetrieveIt() {
         // given
@@ -115,4 +146,115 @@ public class InMemoryStorageServiceTest {
         assertEquals(2, target.getStorage().size());
         assertEquals(images, target.getStorage().keySet());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void givenStoredSources_whenCallsCompose_thenShouldConcatenateThemInOrder() {
+        // given
+        final var expectedName = "composed_" + IDUtils.uuid();
+        final var expectedContentType = "video/mp4";
+        final var expectedContent = "PART1PART2".getBytes();
+
+        target.store("part_1", Resource.of("1", "PART1".getBytes(), "application/octet-stream", "1"));
+        target.store("part_2", Resource.of("2", "PART2".getBytes(), "application/octet-stream", "2"));
+
+        // when
+        final var actualChecksum = target.compose(expectedName, List.of("part_1", "part_2"), expectedContentType);
+
+        // then
+        final var actualResource = target.getStorage().get(expectedName);
+        assertArrayEquals(expectedContent, actualResource.content());
+        assertEquals(expectedContentType, actualResource.contentType());
+        assertEquals(actualChecksum, actualResource.checksum());
+    }
+
+    @Test
+    public void givenSiblingFolders_whenCallsList_thenShouldRetrieveOnlyThePrefixFolderInOrder() {
+        // given
+        final var expectedNames = List.of(
+            "videoId-1/type-BANNER",
+            "videoId-1/type-VIDEO",
+            "videoId-1/uploads/abc/1"
+        );
+
+        expectedNames.forEach(name -> target.store(name, Fixture.Videos.resource(VIDEO)));
+        target.store("videoId-0/type-VIDEO", Fixture.Videos.resource(VIDEO));
+        target.store("videoId-10/type-VIDEO", Fixture.Videos.resource(VIDEO));
+
+        // when
+        final var actualNames = target.list("videoId-1/");
+
+        // then
+        assertEquals(expectedNames, actualNames);
+    }
+
+    @Test
+    public void givenACapacity_whenCallsStoreBeyondIt_thenShouldThrowError() {
+        // given
+        final var aStorage = new InMemoryStorageService(10);
+        final var expectedErrorMessage = "In-memory storage capacity of 10 bytes exceeded storing b";
+
+        aStorage.store("a", Resource.of("1", "123456".getBytes(), "image/png", "a"));
+
+        // when
+        final var actualException = assertThrows(
+            IllegalStateException.class,
+            () -> aStorage.store("b", Resource.of("2", "123456".getBytes(), "image/png", "b"))
+        );
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertEquals(6, aStorage.getUsedBytes());
+        assertTrue(aStorage.get("b").isEmpty());
+    }
+
+    @Test
+    public void givenACapacity_whenCallsStoreWithAStreamBeyondIt_thenShouldStopReadingAtTheLimit() {
+        // given
+        final var aStorage = new InMemoryStorageService(10);
+        final var aContent = new ByteArrayInputStream(new byte[1024]);
+        final var expectedErrorMessage = "In-memory storage capacity of 10 bytes exceeded storing a";
+
+        // when
+        final var actualException = assertThrows(
+            IllegalStateException.class,
+            () -> aStorage.store("a", Resource.of(() -> aContent, Resource.UNKNOWN_SIZE, "video/mp4", "a"))
+        );
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+        assertEquals(1024 - 11, aContent.available());
+        assertEquals(0, aStorage.getUsedBytes());
+    }
+
+    @Test
+    public void givenACapacity_whenCallsStoreReplacingAName_thenShouldDiscountThePreviousContent() {
+        // given
+        final var aStorage = new InMemoryStorageService(10);
+        aStorage.store("a", Resource.of("1", "123456".getBytes(), "image/png", "a"));
+
+        // when
+        aStorage.store("a", Resource.of("2", "12345678".getBytes(), "image/png", "a"));
+        aStorage.store("a", Resource.of(() -> new ByteArrayInputStream("1234567890".getBytes()), 10, "image/png", "a"));
+
+        // then
+        assertEquals(10, aStorage.getUsedBytes());
+        assertArrayEquals("1234567890".getBytes(), aStorage.get("a").get().content());
+    }
+
+    @Test
+    public void givenACapacity_whenCallsDeleteAll_thenShouldReleaseTheBytes() {
+        // given
+        final var aStorage = new InMemoryStorageService(10);
+
+        aStorage.store("a", Resource.of("1", "123456".getBytes(), "image/png", "a"));
+        aStorage.store("a", Resource.of("2", "1234".getBytes(), "image/png", "a"));
+        assertEquals(4, aStorage.getUsedBytes());
+
+        // when
+        aStorage.deleteAll(List.of("a"));
+        aStorage.store("b", Resource.of("3", "1234567890".getBytes(), "image/png", "b"));
+
+        // then
+        assertEquals(10, aStorage.getUsedBytes());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,152 @@
+package com.fullcycle.catalogo.admin.infrastructure.video;
+
+import com.fullcycle.catalogo.admin.IntegrationTest;
+import com.fullcycle.catalogo.admin.domain.resource.Resource;
+import com.fullcycle.catalogo.admin.domain.video.MediaResourceGateway;
+import com.fullcycle.catalogo.admin.domain.video.VideoID;
+import com.fullcycle.catalogo.admin.domain.video.VideoResource;
+import com.fullcycle.catalogo.admin.infrastructure.services.StorageService;
+import com.fullcycle.catalogo.admin.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.catalogo.admin.infrastructure.utils.HashingUtils;
+import com.fullcycle.catalogo.admin.infrastructure.video.persistence.blob.MediaBlobReferenceRepository;
+import com.fullcycle.catalogo.admin.infrastructure.video.persistence.blob.MediaBlobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+import static com.fullcycle.catalogo.admin.domain.video.VideoMediaType.BANNER;
+import static com.fullcycle.catalogo.admin.domain.video.VideoMediaType.VIDEO;
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+@TestPropertySource(properties = "storage.catalogo-videos.content-addressed=true")
+public class DefaultMediaResourceGatewayContentAddressedTest {
+    @Autowired
+    private StorageService storageService;
+
+    @Autowired
+    private MediaResourceGateway gateway;
+
+    @Autowired
+    private MediaBlobRepository blobRepository;
+
+    @Autowired
+    private MediaBlobReferenceRepository referenceRepository;
+
+    @BeforeEach
+    public void setUp() {
+        storageService().reset();
+    }
+
+    @Test
+    public void givenAnAlreadyStoredContent_whenCallsStoreImage_thenShouldOnlyReferenceIt() {
+        // given
+        final var expectedContent = "BANNER".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var aVideoId = VideoID.unique();
+        final var anotherVideoId = VideoID.unique();
+
+        final var expectedLocation = gateway.storeImage(
+            aVideoId,
+            VideoResource.of(Resource.of(expectedChecksum, expectedContent, "image/png", "banner.png"), BANNER)
+        ).location();
+
+        // o conteúdo não deve ser lido novamente
+        final var aDuplicatedResource = Resource.of(expectedChecksum, () -> {
+            throw new IOException("Should not transfer the content");
+        }, expectedContent.length, "image/png", "banner.png");
+
+        // when
+        final var actualMedia = gateway.storeImage(anotherVideoId, VideoResource.of(aDuplicatedResource, BANNER));
+
+        // then
+        assertTrue(expectedLocation.startsWith("blobs/%s-%d/".formatted(expectedChecksum, expectedContent.length)));
+        assertEquals(expectedChecksum, actualMedia.checksum());
+        assertEquals(expectedLocation, actualMedia.location());
+
+        assertEquals(1, storageService().getStorage().size());
+        assertTrue(storageService().getStorage().containsKey(expectedLocation));
+        assertEquals(1, blobRepository.count());
+        assertEquals(2, referenceRepository.count());
+
+        assertArrayEquals(expectedContent, gateway.getResource(aVideoId, BANNER).get().content());
+        assertArrayEquals(expectedContent, gateway.getResource(anotherVideoId, BANNER).get().content());
+    }
+
+    @Test
+    public void givenStreamedResources_whenCallsStoreAudioVideo_thenShouldStoreASingleBlob() {
+        // given
+        final var expectedContent = "VIDEO".getBytes();
+        final var expectedChecksum = HashingUtils.checksum(expectedContent);
+        final var expectedFolder = "blobs/%s-%d/".formatted(expectedChecksum, expectedContent.length);
+
+        // when
+        final var aMedia = gateway.storeAudioVideo(VideoID.unique(), VideoResource.of(streamed(expectedContent), VIDEO));
+        final var anotherMedia = gateway.storeAudioVideo(VideoID.unique(), VideoResource.of(streamed(expectedContent), VIDEO));
+
+        // then
+        assertEquals(expectedChecksum, aMedia.checksum());
+        assertTrue(aMedia.rawLocation().startsWith(expectedFolder));
+        assertEquals(aMedia.rawLocation(), anotherMedia.rawLocation());
+
+        // os arquivos de staging são removidos após a gravação
+        assertEquals(1, storageService().getStorage().size());
+        assertTrue(storageService().getStorage().containsKey(aMedia.rawLocation()));
+    }
+
+    @Test
+    public void givenASharedBlob_whenCallsClearResources_thenShouldDeleteItOnlyAfterTheLastReference() {
+        // given
+        final var expectedContent = "TRAILER".getBytes();
+        final var aVideoId = VideoID.unique();
+        final var anotherVideoId = VideoID.unique();
+
+        final var expectedLocation = gateway.storeAudioVideo(aVideoId, VideoResource.of(streamed(expectedContent), VIDEO)).rawLocation();
+        gateway.storeAudioVideo(anotherVideoId, VideoResource.of(streamed(expectedContent), VIDEO));
+
+        // when
+        gateway.clearResources(aVideoId);
+
+        // then
+        assertTrue(gateway.getResource(aVideoId, VIDEO).isEmpty());
+        assertTrue(storageService().getStorage().containsKey(expectedLocation));
+        assertArrayEquals(expectedContent, gateway.getResource(anotherVideoId, VIDEO).get().content());
+
+        // when
+        gateway.clearResources(anotherVideoId);
+
+        // then
+        assertTrue(storageService().getStorage().isEmpty());
+        assertEquals(0, blobRepository.count());
+        assertEquals(0, referenceRepository.count());
+    }
+
+    @Test
+    public void givenAReplacedMedia_whenCallsStoreImage_thenShouldReleaseThePreviousBlob() {
+        // given
+        final var expectedContent = "NOVO".getBytes();
+        final var aVideoId = VideoID.unique();
+
+        gateway.storeImage(aVideoId, VideoResource.of(streamed("ANTIGO".getBytes()), BANNER));
+
+        // when
+        final var expectedLocation = gateway.storeImage(aVideoId, VideoResource.of(streamed(expectedContent), BANNER)).location();
+
+        // then
+        assertEquals(1, storageService().getStorage().size());
+        assertTrue(storageService().getStorage().containsKey(expectedLocation));
+        assertArrayEquals(expectedContent, gateway.getResource(aVideoId, BANNER).get().content());
+    }
+
+    private Resource streamed(final byte[] content) {
+        return Resource.of(() -> new ByteArrayInputStream(content), content.length, "application/octet-stream", "file");
+    }
+
+    private InMemoryStorageService storageService() {
+        return (InMemoryStorageService) storageService;
+    }
+}
\ No newline at end of file
@@ -1,6 +1,8 @@
 package com.fullcycle.catalogo.admin.infrastructure.video;
 
 import com.fullcycle.catalogo.admin.IntegrationTest;
+import com.fullcycle.catalogo.admin.domain.Fixture;
+import com.fullcycle.catalogo.admin.domain.resource.Resource;
 import com.fullcycle.catalogo.admin.domain.video.MediaResourceGateway;
 import com.fullcycle.catalogo.admin.domain.video.VideoID;
 import com.fullcycle.catalogo.admin.domain.video.VideoMediaType;
@@ -14,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 
 import java.util.ArrayList;
+import java.util.Set;
 
 import static com.fullcycle.catalogo.admin.domain.Fixture.Videos.mediaType;
 import static com.fullcycle.catalogo.admin.domain.Fixture.Videos.resource;
@@ -125,6 +128,28 @@ public class DefaultMediaResourceGatewayTest {
         );
     }
 
+    @Test
+    public void givenValidVideoIds_whenCallsClearAllResources_thenShouldDeleteOnlyThem() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var videoThree = VideoID.unique();
+
+        final var expectedValue = "videoId-%s/type-%s".formatted(videoThree.getValue(), VideoMediaType.VIDEO.name());
+
+        storageService().store("videoId-%s/type-%s".formatted(videoOne.getValue(), VideoMediaType.VIDEO.name()), resource(mediaType()));
+        storageService().store("videoId-%s/type-%s".formatted(videoOne.getValue(), VideoMediaType.BANNER.name()), resource(mediaType()));
+        storageService().store("videoId-%s/type-%s".formatted(videoTwo.getValue(), VideoMediaType.VIDEO.name()), resource(mediaType()));
+        storageService().store(expectedValue, resource(mediaType()));
+
+        // when
+        this.gateway.clearAllResources(Set.of(videoOne, videoTwo));
+
+        // then
+        assertEquals(1, storageService().getStorage().size());
+        Assertions.assertTrue(storageService().getStorage().containsKey(expectedValue));
+    }
+
     @Test
     public void givenValidVideoId_whenCallsGetResources_thenShouldReturnIt() {
         // given
@@ -174,7 +199,52 @@ public class DefaultMediaResourceGatewayTest {
         assertTrue(actualResult.isEmpty());
     }
 
+    @Test
+    public void givenStoredChunks_whenCallsComposeChunks_thenShouldReturnTheConcatenatedResource() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var anUpload = Fixture.Videos.upload(expectedVideoId, VideoMediaType.VIDEO)
+                .registerChunk(1, 4)
+                .registerChunk(2, 2);
+
+        final var expectedContent = "VIDEO!".getBytes();
+        final var expectedUploadFolder = "videoId-%s/uploads/%s/".formatted(expectedVideoId.getValue(), anUpload.getId().getValue());
+
+        assertEquals(4, gateway.storeChunk(anUpload, 1, Resource.of("c1", "VIDE".getBytes(), "application/octet-stream", "1")));
+        assertEquals(2, gateway.storeChunk(anUpload, 2, Resource.of("c2", "O!".getBytes(), "application/octet-stream", "2")));
+
+        // when
+        final var actualResource = gateway.composeChunks(anUpload);
+
+        // then
+        assertArrayEquals(expectedContent, actualResource.content());
+        assertEquals(anUpload.getName(), actualResource.name());
+        assertEquals(anUpload.getContentType(), actualResource.contentType());
+        assertEquals(3, storageService().list(expectedUploadFolder).size());
+    }
+
+    @Test
+    public void givenStoredChunks_whenCallsClearChunks_thenShouldDeleteOnlyTheUploadFolder() {
+        // given
+        final var expectedVideoId = VideoID.unique();
+        final var anUpload = Fixture.Videos.upload(expectedVideoId, VideoMediaType.VIDEO).registerChunk(1, 4);
+
+        gateway.storeChunk(anUpload, 1, Resource.of("c1", "VIDE".getBytes(), "application/octet-stream", "1"));
+        gateway.storeAudioVideo(expectedVideoId, VideoResource.of(resource(VideoMediaType.TRAILER), VideoMediaType.TRAILER));
+
+        assertEquals(2, storageService().getStorage().size());
+
+        // when
+        gateway.clearChunks(anUpload);
+
+        // then
+        assertEquals(1, storageService().getStorage().size());
+        assertTrue(storageService().getStorage().containsKey(
+            "videoId-%s/type-%s".formatted(expectedVideoId.getValue(), VideoMediaType.TRAILER.name())
+        ));
+    }
+
     private InMemoryStorageService storageService() {
         return (InMemoryStorageService) storageService;
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
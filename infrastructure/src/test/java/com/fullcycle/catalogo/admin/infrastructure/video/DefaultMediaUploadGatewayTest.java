@@ -0,0 +1,164 @@
+package com.fullcycle.catalogo.admin.infrastructure.video;
+
+import com.fullcycle.catalogo.admin.IntegrationTest;
+import com.fullcycle.catalogo.admin.domain.Fixture;
+import com.fullcycle.catalogo.admin.domain.video.Video;
+import com.fullcycle.catalogo.admin.domain.video.VideoGateway;
+import com.fullcycle.catalogo.admin.domain.video.VideoMediaType;
+import com.fullcycle.catalogo.admin.domain.video.upload.MediaUploadID;
+import com.fullcycle.catalogo.admin.infrastructure.video.persistence.upload.MediaUploadRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.Year;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+public class DefaultMediaUploadGatewayTest {
+    @Autowired
+    private DefaultMediaUploadGateway mediaUploadGateway;
+
+    @Autowired
+    private VideoGateway videoGateway;
+
+    @Autowired
+    private MediaUploadRepository mediaUploadRepository;
+
+    private Video video;
+
+    @BeforeEach
+    void setup() {
+        video = videoGateway.create(Video.newVideo(
+            Fixture.title(),
+            Fixture.Videos.description(),
+            Year.of(Fixture.year()),
+            Fixture.duration(),
+            Fixture.Videos.rating(),
+            Fixture.bool(),
+            Fixture.bool(),
+            Set.of(),
+            Set.of(),
+            Set.of()
+        ));
+    }
+
+    @Test
+    public void testInjection() {
+        assertNotNull(mediaUploadGateway);
+        assertNotNull(videoGateway);
+        assertNotNull(mediaUploadRepository);
+    }
+
+    @Test
+    public void givenAValidUpload_whenCallsCreate_thenShouldPersistIt() {
+        // given
+        final var anUpload = Fixture.Videos.upload(video.getId(), VideoMediaType.VIDEO);
+
+        assertEquals(0, mediaUploadRepository.count());
+
+        // when
+        final var actualUpload = mediaUploadGateway.create(anUpload);
+
+        // then
+        assertEquals(1, mediaUploadRepository.count());
+
+        assertEquals(anUpload.getId(), actualUpload.getId());
+        assertEquals(video.getId(), actualUpload.getVideoId());
+        assertEquals(anUpload.getMediaType(), actualUpload.getMediaType());
+        assertEquals(anUpload.getName(), actualUpload.getName());
+        assertEquals(anUpload.getContentType(), actualUpload.getContentType());
+        assertFalse(actualUpload.hasChunks());
+    }
+
+    @Test
+    public void givenAnUploadWithNewChunks_whenCallsUpdate_thenShouldPersistTheChunks() {
+        // given
+        final var anUpload = mediaUploadGateway.create(Fixture.Videos.upload(video.getId(), VideoMediaType.VIDEO));
+
+        final var expectedOffset = 30L;
+        final var expectedNextChunk = 3;
+
+        // when
+        mediaUploadGateway.update(anUpload.registerChunk(1, 10).registerChunk(2, 20));
+
+        // then
+        final var actualUpload = mediaUploadGateway.findById(anUpload.getId()).orElseThrow();
+
+        assertEquals(2, actualUpload.getChunks().size());
+        assertEquals(expectedOffset, actualUpload.offset());
+        assertEquals(expectedNextChunk, actualUpload.nextChunk());
+    }
+
+    @Test
+    public void givenAnUploadWithAReplacedChunk_whenCallsUpdate_thenShouldKeepOnlyTheLatestChunk() {
+        // given
+        final var anUpload = mediaUploadGateway.create(
+            Fixture.Videos.upload(video.getId(), VideoMediaType.VIDEO).registerChunk(1, 10).registerChunk(2, 20)
+        );
+
+        // when
+        mediaUploadGateway.update(anUpload.registerChunk(2, 5));
+
+        // then
+        final var actualUpload = mediaUploadGateway.findById(anUpload.getId()).orElseThrow();
+
+        assertEquals(2, actualUpload.getChunks().size());
+        assertEquals(15L, actualUpload.offset());
+    }
+
+    @Test
+    public void givenAPersistedUpload_whenCallsUpdateWithAChange_thenShouldApplyItOverTheStoredState() {
+        // given
+        final var anUpload = mediaUploadGateway.create(
+            Fixture.Videos.upload(video.getId(), VideoMediaType.VIDEO).registerChunk(1, 10)
+        );
+
+        // when
+        final var actualOutput = mediaUploadGateway.update(anUpload.getId(), upload -> upload.registerChunk(2, 20));
+
+        // then
+        assertTrue(actualOutput.isPresent());
+        assertEquals(30L, actualOutput.get().offset());
+
+        final var actualUpload = mediaUploadGateway.findById(anUpload.getId()).orElseThrow();
+        assertEquals(2, actualUpload.getChunks().size());
+        assertEquals(30L, actualUpload.offset());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsUpdateWithAChange_thenShouldReturnEmpty() {
+        // when
+        final var actualOutput = mediaUploadGateway.update(MediaUploadID.from("123"), upload -> upload.registerChunk(1, 10));
+
+        // then
+        assertTrue(actualOutput.isEmpty());
+    }
+
+    @Test
+    public void givenAPersistedUpload_whenCallsDeleteById_thenShouldDeleteIt() {
+        // given
+        final var anUpload = mediaUploadGateway.create(
+            Fixture.Videos.upload(video.getId(), VideoMediaType.VIDEO).registerChunk(1, 10)
+        );
+
+        assertEquals(1, mediaUploadRepository.count());
+
+        // when
+        mediaUploadGateway.deleteById(anUpload.getId());
+
+        // then
+        assertEquals(0, mediaUploadRepository.count());
+    }
+
+    @Test
+    public void givenAnInvalidId_whenCallsFindById_thenShouldReturnEmpty() {
+        // when
+        final var actualUpload = mediaUploadGateway.findById(MediaUploadID.from("empty"));
+
+        // then
+        assertTrue(actualUpload.isEmpty());
+    }
+}
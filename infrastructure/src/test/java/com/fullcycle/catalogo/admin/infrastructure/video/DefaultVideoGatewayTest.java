@@ -8,6 +8,7 @@ import com.fullcycle.catalogo.admin.domain.castmember.CastMemberID;
 import com.fullcycle.catalogo.admin.domain.category.Category;
 import com.fullcycle.catalogo.admin.domain.category.CategoryGateway;
 import com.fullcycle.catalogo.admin.domain.category.CategoryID;
+import com.fullcycle.catalogo.admin.domain.exceptions.DomainException;
 import com.fullcycle.catalogo.admin.domain.genre.Genre;
 import com.fullcycle.catalogo.admin.domain.genre.GenreGateway;
 import com.fullcycle.catalogo.admin.domain.genre.GenreID;
@@ -16,7 +17,11 @@ import com.fullcycle.catalogo.admin.domain.video.VideoID;
 import com.fullcycle.catalogo.admin.domain.video.media.AudioVideoMedia;
 import com.fullcycle.catalogo.admin.domain.video.media.ImageMedia;
 import com.fullcycle.catalogo.admin.domain.video.query.VideoSearchQuery;
+import com.fullcycle.catalogo.admin.infrastructure.configuration.properties.catalog.CatalogExportProperties;
+import com.fullcycle.catalogo.admin.infrastructure.utils.KeysetUtils;
 import com.fullcycle.catalogo.admin.infrastructure.video.persistence.VideoRepository;
+import com.fullcycle.catalogo.admin.infrastructure.video.persistence.cleanup.MediaCleanupRepository;
+import org.hibernate.SessionFactory;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -24,7 +29,10 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.EntityManagerFactory;
 import java.time.Year;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -46,6 +54,15 @@ public class DefaultVideoGatewayTest {
     @Autowired
     private VideoRepository videoRepository;
 
+    @Autowired
+    private MediaCleanupRepository cleanupRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private CatalogExportProperties exportProperties;
+
     private CastMember member;
     private CastMember johnDoe;
 
@@ -371,6 +388,7 @@ public class DefaultVideoGatewayTest {
 
         // then
         assertEquals(0, videoRepository.count());
+        assertTrue(cleanupRepository.existsById(aVideo.getId().getValue()));
     }
 
     @Test
@@ -476,6 +494,58 @@ public class DefaultVideoGatewayTest {
         assertEquals(expectedThumbHalf.name(), actualVideo.getThumbnailHalf().get().name());
     }
 
+    @Test
+    public void givenAVideoWithMediaAndRelations_whenCallsFindById_thenShouldLoadItWithTwoStatements() {
+        // given
+        final var expectedStatements = 2;
+        final var expectedCategories = Set.of(aulas.getId(), lives.getId());
+        final var expectedGenres = Set.of(business.getId(), tech.getId());
+        final var expectedMembers = Set.of(member.getId(), johnDoe.getId());
+
+        final var aVideo = videoGateway.create(
+            Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                expectedCategories,
+                expectedGenres,
+                expectedMembers
+            )
+            .updatedVideoMedia(AudioVideoMedia.with("123", "video", "/media/video"))
+            .updateTrailerMedia(AudioVideoMedia.with("123", "trailer", "/media/trailer"))
+            .updateBannerMedia(ImageMedia.with("123", "banner", "/media/banner"))
+            .updateThumbnailMedia(ImageMedia.with("123", "thumb", "/media/thumb"))
+            .updateThumbnailHalfMedia(ImageMedia.with("123", "thumbHalf", "/media/thumbHalf"))
+        );
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        final var actualVideo = videoGateway.findById(aVideo.getId()).get();
+
+        // then
+        try {
+            assertEquals(expectedStatements, statistics.getPrepareStatementCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        assertEquals(expectedCategories, actualVideo.getCategories());
+        assertEquals(expectedGenres, actualVideo.getGenres());
+        assertEquals(expectedMembers, actualVideo.getMembers());
+        assertEquals("video", actualVideo.getVideo().get().name());
+        assertEquals("trailer", actualVideo.getTrailer().get().name());
+        assertEquals("banner", actualVideo.getBanner().get().name());
+        assertEquals("thumb", actualVideo.getThumbnail().get().name());
+        assertEquals("thumbHalf", actualVideo.getThumbnailHalf().get().name());
+    }
+
     @Test
     public void givenAnInvalidVideoId_whenCallsFindById_thenShouldReturnIt() {
         // given
@@ -839,6 +909,275 @@ public class DefaultVideoGatewayTest {
         assertEquals(expectedVideo, actualPage.items().get(0).title());
     }
 
+    @Test
+    public void givenANextCursor_whenCallsFindAllAfterIt_thenShouldReturnTheNextPage() {
+        // given
+        mockVideos();
+
+        final var expectedPerPage = 2;
+        final var expectedTotal = KeysetUtils.UNKNOWN_TOTAL;
+
+        final var aFirstPage = videoGateway.findAll(new VideoSearchQuery(
+            0, expectedPerPage, "", "title", "asc", Set.of(), Set.of(), Set.of()
+        ));
+
+        assertNotNull(aFirstPage.nextCursor());
+
+        // when
+        final var actualPage = videoGateway.findAll(new VideoSearchQuery(
+            0, expectedPerPage, "", "title", "asc", Set.of(), Set.of(), Set.of(), aFirstPage.nextCursor()
+        ));
+
+        // then
+        assertEquals(expectedPerPage, actualPage.perPage());
+        assertEquals(expectedTotal, actualPage.total());
+        assertEquals(2, actualPage.items().size());
+        assertEquals("Não cometa esses erros ao trabalhar com Microsserviços", actualPage.items().get(0).title());
+        assertEquals("System Design no Mercado Livre na prática", actualPage.items().get(1).title());
+        assertNull(actualPage.nextCursor());
+    }
+
+    @Test
+    public void givenANextCursorAndFilters_whenCallsFindAllAfterIt_thenShouldKeepFiltering() {
+        // given
+        mockVideos();
+
+        final var aFirstPage = videoGateway.findAll(new VideoSearchQuery(
+            0, 1, "", "title", "desc", Set.of(), Set.of(aulas.getId()), Set.of()
+        ));
+
+        assertEquals("Aula de empreendedorismo", aFirstPage.items().get(0).title());
+
+        // when
+        final var actualPage = videoGateway.findAll(new VideoSearchQuery(
+            0, 1, "", "title", "desc", Set.of(), Set.of(aulas.getId()), Set.of(), aFirstPage.nextCursor()
+        ));
+
+        // then
+        assertEquals(KeysetUtils.UNKNOWN_TOTAL, actualPage.total());
+        assertEquals(1, actualPage.items().size());
+        assertEquals("21.1 Implementação dos testes integrados do findAll", actualPage.items().get(0).title());
+        assertNull(actualPage.nextCursor());
+    }
+
+    @Test
+    public void givenWithoutExactTotal_whenCallsFindAll_thenShouldReturnThePageWithAnEstimatedTotal() {
+        // given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(
+            1, 1, "", "title", "asc", Set.of(), Set.of(), Set.of(tech.getId()), null, false
+        );
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        assertEquals(1, actualPage.currentPage());
+        assertEquals(2, actualPage.total());
+        assertEquals(1, actualPage.items().size());
+        assertEquals("System Design no Mercado Livre na prática", actualPage.items().get(0).title());
+        assertNull(actualPage.nextCursor());
+    }
+
+    @Test
+    public void givenRelevanceSortWithoutFullText_whenCallsFindAll_thenShouldSortByTitle() {
+        // given
+        mockVideos();
+
+        final var aQuery = new VideoSearchQuery(
+            0, 2, "", DefaultVideoGateway.RELEVANCE, "asc", Set.of(), Set.of(), Set.of()
+        );
+
+        // when
+        final var actualPage = videoGateway.findAll(aQuery);
+
+        // then
+        assertEquals(4, actualPage.total());
+        assertEquals(2, actualPage.items().size());
+        assertEquals("21.1 Implementação dos testes integrados do findAll", actualPage.items().get(0).title());
+        assertEquals("Aula de empreendedorismo", actualPage.items().get(1).title());
+        assertNotNull(actualPage.nextCursor());
+    }
+
+    @Test
+    public void givenACursorOfAnotherSort_whenCallsFindAll_thenShouldThrowDomainException() {
+        // given
+        mockVideos();
+
+        final var expectedErrorMessage = "'after' is not a valid cursor for the given sort";
+
+        final var aFirstPage = videoGateway.findAll(new VideoSearchQuery(
+            0, 1, "", "title", "asc", Set.of(), Set.of(), Set.of()
+        ));
+
+        final var aQuery = new VideoSearchQuery(
+            0, 1, "", "createdAt", "asc", Set.of(), Set.of(), Set.of(), aFirstPage.nextCursor()
+        );
+
+        // when
+        final var actualException = assertThrows(DomainException.class, () -> videoGateway.findAll(aQuery));
+
+        // then
+        assertEquals(expectedErrorMessage, actualException.getMessage());
+    }
+
+    @Test
+    public void givenAVideoWithRelationsAndMedia_whenCallsUpdateOnlyTheTitle_thenShouldIssueASingleUpdate() {
+        // given
+        final var aVideo = videoGateway.create(
+            Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(aulas.getId(), lives.getId()),
+                Set.of(business.getId(), tech.getId()),
+                Set.of(member.getId(), johnDoe.getId())
+            )
+            .updatedVideoMedia(AudioVideoMedia.with("123", "video", "/media/video"))
+            .updateBannerMedia(ImageMedia.with("123", "banner", "/media/banner"))
+        );
+
+        final var expectedTitle = "System Design no Mercado Livre na prática";
+        final var storedVideo = videoGateway.findById(aVideo.getId()).get();
+        final var updatedVideo = storedVideo.update(
+            expectedTitle,
+            storedVideo.getDescription(),
+            storedVideo.getLaunchedAt(),
+            storedVideo.getDuration(),
+            storedVideo.getRating(),
+            storedVideo.isOpened(),
+            storedVideo.isPublished(),
+            storedVideo.getCategories(),
+            storedVideo.getGenres(),
+            storedVideo.getMembers()
+        );
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        final var actualVideo = videoGateway.update(updatedVideo);
+
+        // then
+        try {
+            assertEquals(1, statistics.getEntityUpdateCount());
+            assertEquals(0, statistics.getEntityInsertCount());
+            assertEquals(0, statistics.getEntityDeleteCount());
+            assertEquals(0, statistics.getCollectionRecreateCount());
+            assertEquals(0, statistics.getCollectionRemoveCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        final var persistedVideo = videoGateway.findById(aVideo.getId()).get();
+        assertEquals(expectedTitle, actualVideo.getTitle());
+        assertEquals(expectedTitle, persistedVideo.getTitle());
+        assertEquals(storedVideo.getCategories(), persistedVideo.getCategories());
+        assertEquals(storedVideo.getGenres(), persistedVideo.getGenres());
+        assertEquals(storedVideo.getMembers(), persistedVideo.getMembers());
+        assertEquals("video", persistedVideo.getVideo().get().name());
+        assertEquals("banner", persistedVideo.getBanner().get().name());
+    }
+
+    @Test
+    public void givenAVideoWithCategories_whenCallsUpdateReplacingOneCategory_thenShouldWriteOnlyTheChangedRows() {
+        // given
+        final var aVideo = videoGateway.create(
+            Video.newVideo(
+                Fixture.title(),
+                Fixture.Videos.description(),
+                Year.of(Fixture.year()),
+                Fixture.duration(),
+                Fixture.Videos.rating(),
+                Fixture.bool(),
+                Fixture.bool(),
+                Set.of(aulas.getId()),
+                Set.of(business.getId(), tech.getId()),
+                Set.of(member.getId())
+            )
+        );
+
+        final var expectedCategories = Set.of(lives.getId());
+        final var expectedGenres = Set.of(tech.getId());
+        final var storedVideo = videoGateway.findById(aVideo.getId()).get();
+        final var updatedVideo = storedVideo.update(
+            storedVideo.getTitle(),
+            storedVideo.getDescription(),
+            storedVideo.getLaunchedAt(),
+            storedVideo.getDuration(),
+            storedVideo.getRating(),
+            storedVideo.isOpened(),
+            storedVideo.isPublished(),
+            expectedCategories,
+            expectedGenres,
+            storedVideo.getMembers()
+        );
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+
+        // when
+        videoGateway.update(updatedVideo);
+
+        // then
+        try {
+            assertEquals(1, statistics.getEntityUpdateCount());
+            assertEquals(1, statistics.getEntityInsertCount());
+            assertEquals(2, statistics.getEntityDeleteCount());
+        } finally {
+            statistics.setStatisticsEnabled(false);
+        }
+
+        final var persistedVideo = videoGateway.findById(aVideo.getId()).get();
+        assertEquals(expectedCategories, persistedVideo.getCategories());
+        assertEquals(expectedGenres, persistedVideo.getGenres());
+        assertEquals(Set.of(member.getId()), persistedVideo.getMembers());
+    }
+
+    @Test
+    public void givenMoreVideosThanTheChunkSize_whenCallsExportAll_thenShouldExportAllVideosWithTheirRelations() {
+        // given
+        mockVideos();
+
+        final var expectedVideos = videoRepository.findAll().stream()
+            .map(it -> videoGateway.findById(VideoID.from(it.getId())).get())
+            .sorted(Comparator.comparing(it -> it.getId().getValue()))
+            .toList();
+
+        final var chunkSize = exportProperties.getChunkSize();
+        exportProperties.setChunkSize(3);
+
+        final var actualVideos = new ArrayList<Video>();
+
+        // when
+        try {
+            videoGateway.exportAll(actualVideos::add);
+        } finally {
+            exportProperties.setChunkSize(chunkSize);
+        }
+
+        // then
+        assertEquals(4, actualVideos.size());
+
+        for (int i = 0; i < expectedVideos.size(); i++) {
+            final var expectedVideo = expectedVideos.get(i);
+            final var actualVideo = actualVideos.get(i);
+
+            assertEquals(expectedVideo.getId(), actualVideo.getId());
+            assertEquals(expectedVideo.getTitle(), actualVideo.getTitle());
+            assertEquals(expectedVideo.getCategories(), actualVideo.getCategories());
+            assertEquals(expectedVideo.getGenres(), actualVideo.getGenres());
+            assertEquals(expectedVideo.getMembers(), actualVideo.getMembers());
+        }
+    }
+
     private void mockVideos() {
         videoGateway.create(Video.newVideo(
             "System Design no Mercado Livre na prática",
@@ -892,4 +1231,4 @@ public class DefaultVideoGatewayTest {
             Set.of(johnDoe.getId())
         ));
     }
-}
\ No newline at end of file
+}
\ No newline at end of file
@@ -0,0 +1,162 @@
+package com.fullcycle.catalogo.admin.infrastructure.video;
+
+import com.fullcycle.catalogo.admin.IntegrationTest;
+import com.fullcycle.catalogo.admin.domain.Fixture;
+import com.fullcycle.catalogo.admin.domain.video.MediaResourceGateway;
+import com.fullcycle.catalogo.admin.domain.video.VideoID;
+import com.fullcycle.catalogo.admin.domain.video.VideoResource;
+import com.fullcycle.catalogo.admin.infrastructure.services.StorageService;
+import com.fullcycle.catalogo.admin.infrastructure.services.local.InMemoryStorageService;
+import com.fullcycle.catalogo.admin.infrastructure.video.persistence.cleanup.MediaCleanupRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static com.fullcycle.catalogo.admin.domain.video.VideoMediaType.BANNER;
+import static com.fullcycle.catalogo.admin.domain.video.VideoMediaType.VIDEO;
+import static org.junit.jupiter.api.Assertions.*;
+
+@IntegrationTest
+public class MediaCleanupWorkerTest {
+    @Autowired
+    private StorageService storageService;
+
+    @Autowired
+    private MediaResourceGateway resourceGateway;
+
+    @Autowired
+    private DefaultMediaCleanupGateway cleanupGateway;
+
+    @Autowired
+    private MediaCleanupRepository cleanupRepository;
+
+    @Autowired
+    private MediaCleanupWorker worker;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    public void setUp() {
+        storageService().reset();
+    }
+
+    @Test
+    public void givenScheduledVideos_whenCallsDrain_thenShouldClearThemInOneBatch() {
+        // given
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        final var videoThree = VideoID.unique();
+
+        resourceGateway.storeAudioVideo(videoOne, VideoResource.of(Fixture.Videos.resource(VIDEO), VIDEO));
+        resourceGateway.storeImage(videoOne, VideoResource.of(Fixture.Videos.resource(BANNER), BANNER));
+        resourceGateway.storeAudioVideo(videoTwo, VideoResource.of(Fixture.Videos.resource(VIDEO), VIDEO));
+        resourceGateway.storeAudioVideo(videoThree, VideoResource.of(Fixture.Videos.resource(VIDEO), VIDEO));
+
+        cleanupGateway.schedule(videoOne);
+        cleanupGateway.schedule(videoTwo);
+        cleanupGateway.schedule(videoTwo);
+
+        // when
+        final var actualProcessed = worker.drain();
+
+        // then
+        assertEquals(2, actualProcessed);
+        assertEquals(0, cleanupRepository.count());
+        assertEquals(1, storageService().getStorage().size());
+        assertTrue(storageService().getStorage().keySet().stream().allMatch(name -> name.contains(videoThree.getValue())));
+    }
+
+    @Test
+    public void givenAFailedCleanup_whenCallsDrain_thenShouldRetryItLater() {
+        // given
+        final var aVideoId = VideoID.unique();
+        final var expectedError = "Storage indisponível";
+
+        cleanupGateway.schedule(aVideoId);
+
+        // when
+        cleanupGateway.fail(aVideoId, expectedError);
+        final var actualProcessed = worker.drain();
+
+        // then
+        assertEquals(0, actualProcessed);
+
+        final var actualCleanup = cleanupRepository.findById(aVideoId.getValue()).get();
+        assertEquals(1, actualCleanup.getAttempts());
+        assertEquals(expectedError, actualCleanup.getLastError());
+        assertTrue(actualCleanup.getNextAttemptAt().isAfter(Instant.now()));
+        assertEquals(1, cleanupGateway.backlog());
+    }
+
+    @Test
+    public void givenAClaimedCleanup_whenCallsClaimAgain_thenShouldNotReturnIt() {
+        // given
+        final var aVideoId = VideoID.unique();
+        cleanupGateway.schedule(aVideoId);
+
+        // when
+        final var actualFirstClaim = cleanupGateway.claim(10);
+        final var actualSecondClaim = cleanupGateway.claim(10);
+
+        // then
+        assertEquals(1, actualFirstClaim.size());
+        assertTrue(actualFirstClaim.contains(aVideoId));
+        assertTrue(actualSecondClaim.isEmpty());
+    }
+
+    @Test
+    public void givenACleanupLockedByAnotherInstance_whenCallsClaim_thenShouldSkipItWithoutWaiting() throws Exception {
+        // given
+        final var videoOne = VideoID.unique();
+        final var videoTwo = VideoID.unique();
+        cleanupGateway.schedule(videoOne);
+        cleanupGateway.schedule(videoTwo);
+
+        final var lockedVideo = new CompletableFuture<VideoID>();
+        final var locked = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+
+        // a outra instância mantém a primeira limpeza bloqueada enquanto processa
+        final var anotherInstance = CompletableFuture.runAsync(() -> new TransactionTemplate(transactionManager)
+            .executeWithoutResult(status -> {
+                final var aCleanup = cleanupRepository.findDue(Instant.now(), PageRequest.of(0, 1)).get(0);
+                lockedVideo.complete(aCleanup.toVideoId());
+                locked.countDown();
+                await(release);
+            }));
+
+        assertTrue(locked.await(5, TimeUnit.SECONDS));
+
+        // when
+        final var actualClaim = assertTimeoutPreemptively(Duration.ofMillis(500), () -> cleanupGateway.claim(10));
+        release.countDown();
+        anotherInstance.get(5, TimeUnit.SECONDS);
+
+        // then
+        final var expectedVideo = lockedVideo.get().equals(videoOne) ? videoTwo : videoOne;
+        assertEquals(Set.of(expectedVideo), actualClaim);
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private InMemoryStorageService storageService() {
+        return (InMemoryStorageService) storageService;
+    }
+}